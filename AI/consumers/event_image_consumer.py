@@ -26,6 +26,7 @@ except Exception as e:  # pragma: no cover
 from models.event_image_models import EventAssetGenerateMessage
 from services.google_image_service import google_image_service
 from services.event_image_callback import event_image_callback_service
+from utils.stream_expiry import fail_expired, ttl_from_env
 
 
 load_dotenv()
@@ -44,6 +45,8 @@ class EventImageConsumer:
         self.consumer_id: str = os.getenv("REDIS_CONSUMER_ID", default_consumer)
         self.stream_key: str = os.getenv("EVENT_ASSET_STREAM_KEY", "event.asset.generate")
         self.dead_stream: str = os.getenv("EVENT_ASSET_DEAD_STREAM", "event.asset.dead")
+        # BE STREAM_EVENT_ASSET_TTL (3분) 과 동일
+        self.stream_ttl_sec: int = ttl_from_env("EVENT_ASSET_STREAM_TTL_SEC", 180)
 
         self.client: redis.Redis = redis.from_url(self.redis_url, decode_responses=True)
 
@@ -163,6 +166,16 @@ class EventImageConsumer:
         data = cls._deserialize_fields(fields)
         return EventAssetGenerateMessage.model_validate(data)
 
+    async def _fail_expired(self, fields: Dict[str, str]) -> None:
+        """만료된 요청은 생성 없이 FAIL 콜백만 보내 에셋을 실패 처리한다."""
+        data = self._deserialize_fields(fields)
+        await event_image_callback_service.send_callback_to_spring({
+            "assetId": int(data["eventAssetId"]),
+            "result": "FAIL",
+            "assetUrl": None,
+            "type": "IMAGE",
+        })
+
     async def process_image(self, req: EventAssetGenerateMessage) -> Tuple[str, str | None]:
         # 최소 1개 이상의 사용자 이미지가 있어야 생성 허용
         try:
@@ -283,6 +296,12 @@ class EventImageConsumer:
                         )
                     except Exception:
                         pass
+                    # 만료된 요청은 생성 없이 FAIL 콜백을 한꺼번에 보내고 한 번에 ACK
+                    expired_ids, messages = await fail_expired(
+                        self.stream_key, messages, self.stream_ttl_sec, self._fail_expired, "이벤트이미지컨슈머"
+                    )
+                    if expired_ids:
+                        await self.client.xack(self.stream_key, self.group, *expired_ids)
                     for message_id, fields in messages:
                         try:
                             await self.handle_message(message_id, fields)
@@ -29,6 +29,8 @@ from models.menuboard_generate_models import (
 )
 from services import google_image_service, gpt_service
 from services.menuboard_generate_callback import menuboard_generate_callback_service
+from services.menu_snapshot_service import menu_snapshot_service
+from utils.stream_expiry import fail_expired, ttl_from_env
 
 
 load_dotenv()
@@ -48,6 +50,8 @@ class MenuboardGenerateConsumer:
         self.consumer_id: str = os.getenv("REDIS_CONSUMER_ID", default_consumer)
         self.stream_key: str = os.getenv("MENU_POSTER_STREAM_KEY", "menu.poster.generate")
         self.dead_stream: str = os.getenv("MENU_POSTER_DEAD_STREAM", "menu.poster.dead")
+        # BE STREAM_MENU_POSTER_TTL (3분) 과 동일
+        self.stream_ttl_sec: int = ttl_from_env("MENU_POSTER_STREAM_TTL_SEC", 180)
 
         self.client: redis.Redis = redis.from_url(self.redis_url, decode_responses=True)
 
@@ -109,7 +113,7 @@ class MenuboardGenerateConsumer:
             data["menu"] = data.get("menuItems")
 
         # 3) 문자열로 온 복합 필드를 배열로 파싱
-        for k in ("menu", "referenceImages"):
+        for k in ("menu", "menuRefs", "referenceImages"):
             val = data.get(k)
             if isinstance(val, str):
                 try:
@@ -130,6 +134,16 @@ class MenuboardGenerateConsumer:
         data = cls._deserialize_fields(fields)
         return MenuPosterGenerateMessage.model_validate(data)
 
+    async def _fail_expired(self, fields: Dict[str, str]) -> None:
+        """만료된 요청은 생성 없이 FAIL 콜백만 보내 에셋을 실패 처리한다."""
+        data = self._deserialize_fields(fields)
+        await menuboard_generate_callback_service.send_callback_to_spring({
+            "assetId": int(data["menuPosterAssetId"]),
+            "result": "FAIL",
+            "assetUrl": None,
+            "type": data.get("type"),
+        })
+
     async def process_image(self, req: MenuPosterGenerateMessage) -> Tuple[str, str | None]:
         if not google_image_service.is_available():
             self.logger.warning("[메뉴판컨슈머] GoogleImageService unavailable. GOOGLE_API_KEY 또는 라이브러리 확인 필요")
@@ -218,8 +232,9 @@ class MenuboardGenerateConsumer:
             except Exception:
                 pass
 
-            # 모델 검증
+            # 모델 검증 (menuRefs -> 메뉴 스냅샷 캐시 조회로 menu 채움)
             try:
+                await menu_snapshot_service.fill_menu(self.client, pre_data)
                 req = MenuPosterGenerateMessage.model_validate(pre_data)
             except Exception as ve:
                 self.logger.exception(f"[메뉴판컨슈머] validation error: id={message_id}, data={pre_data}")
@@ -290,6 +305,12 @@ class MenuboardGenerateConsumer:
                         self.logger.info(f"[메뉴판컨슈머] xreadgroup: count={len(messages)}, ids={mid_list}")
                     except Exception:
                         pass
+                    # 만료된 요청은 생성 없이 FAIL 콜백을 한꺼번에 보내고 한 번에 ACK
+                    expired_ids, messages = await fail_expired(
+                        self.stream_key, messages, self.stream_ttl_sec, self._fail_expired, "메뉴판컨슈머"
+                    )
+                    if expired_ids:
+                        await self.client.xack(self.stream_key, self.group, *expired_ids)
                     for message_id, fields in messages:
                         try:
                             await self.handle_message(message_id, fields)
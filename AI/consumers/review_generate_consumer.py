@@ -50,6 +50,8 @@ from services import (
 )
 from services.google_image_service import google_image_service
 from services.review_generate_callback import review_generate_callback
+from services.menu_snapshot_service import menu_snapshot_service
+from utils.stream_expiry import fail_expired, ttl_from_env
 
 def _load_enhancer():
     """Robust loader for luma_prompt_enhancer regardless of layout."""
@@ -153,6 +155,8 @@ class ReviewGenerateConsumer:
         self.consumer_id: str = os.getenv("REDIS_CONSUMER_ID", default_consumer)
         self.stream_key: str = os.getenv("REVIEW_ASSET_STREAM_KEY", "review.asset.generate")
         self.dead_stream: str = os.getenv("REVIEW_ASSET_DEAD_STREAM", "review.asset.dead")
+        # BE STREAM_REVIEW_ASSET_TTL (5분) 과 동일
+        self.stream_ttl_sec: int = ttl_from_env("REVIEW_ASSET_STREAM_TTL_SEC", 300)
 
         self.client: redis.Redis = redis.from_url(self.redis_url, decode_responses=True)
 
@@ -176,7 +180,7 @@ class ReviewGenerateConsumer:
             data = json.loads(fields["payload"])  # 단일 JSON 필드
         else:
             data = dict(fields)
-        for k in ("menu", "referenceImages"):
+        for k in ("menu", "menuRefs", "referenceImages"):
             val = data.get(k)
             if isinstance(val, str):
                 try:
@@ -190,6 +194,12 @@ class ReviewGenerateConsumer:
         data = cls._deserialize_fields(fields)
         return GenerateRequest.model_validate(data)
 
+    async def resolve_message(self, fields: Dict[str, str]) -> GenerateRequest:
+        """역직렬화 후 menuRefs 를 메뉴 스냅샷 캐시에서 조회해 menu 를 채우고 검증한다."""
+        data = self._deserialize_fields(fields)
+        await menu_snapshot_service.fill_menu(self.client, data)
+        return GenerateRequest.model_validate(data)
+
     async def _send_callback(self, review_asset_id: int, result: str, asset_url: str | None, type_str: str) -> Dict[str, Any]:
         callback_data = {
             "reviewAssetId": review_asset_id,
@@ -199,6 +209,11 @@ class ReviewGenerateConsumer:
         }
         return await review_generate_callback.send_callback_to_spring(callback_data)
 
+    async def _fail_expired(self, fields: Dict[str, str]) -> None:
+        """만료된 요청은 생성 없이 FAIL 콜백만 보내 에셋을 실패 처리한다."""
+        data = self._deserialize_fields(fields)
+        await self._send_callback(int(data["reviewAssetId"]), "FAIL", None, data.get("type"))
+
     async def process_image(self, req: GenerateRequest) -> Tuple[str, str | None]:
         # 최소 1개 이상의 사용자 이미지가 있어야 생성 허용
         try:
@@ -371,7 +386,7 @@ class ReviewGenerateConsumer:
             self.logger.debug(
                 f"[리뷰컨슈머] 메시지 처리 시작: id={message_id}, keys={list(fields.keys())}"
             )
-            req = self.parse_message(fields)
+            req = await self.resolve_message(fields)
             t = (req.type or "").upper()
 
             if t == "IMAGE":
@@ -475,6 +490,12 @@ class ReviewGenerateConsumer:
                     f"[리뷰컨슈머] 스트림 수신: stream='{self.stream_key}', 개수={total_messages}"
                 )
                 for _, messages in result:
+                    # 만료된 요청은 생성 없이 FAIL 콜백을 한꺼번에 보내고 한 번에 ACK
+                    expired_ids, messages = await fail_expired(
+                        self.stream_key, messages, self.stream_ttl_sec, self._fail_expired, "리뷰컨슈머"
+                    )
+                    if expired_ids:
+                        await self.client.xack(self.stream_key, self.group, *expired_ids)
                     for message_id, fields in messages:
                         try:
                             # 메시지 개별 처리 및 ACK
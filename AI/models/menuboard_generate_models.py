@@ -16,6 +16,11 @@ class MenuItem(BaseModel):
     imageUrl: str = Field(..., description="메뉴 이미지 URL")
 
 
+class MenuRef(BaseModel):
+    id: int = Field(..., description="메뉴 ID")
+    version: int = Field(0, description="메뉴 스냅샷 버전 (수정 시각 ms)")
+
+
 class MenuPosterGenerateMessage(BaseModel):
     menuPosterAssetId: int = Field(..., description="포스터 생성 요청의 식별자 (menu_poster.id)")
     type: str = Field(..., description="생성 타입 (IMAGE 고정)")
@@ -25,7 +30,8 @@ class MenuPosterGenerateMessage(BaseModel):
     requestedAt: str = Field(..., description="요청 시각 (ISO8601)")
     expireAt: str = Field(..., description="만료 시각 (ISO8601)")
     retryCount: int = Field(default=0, description="재시도 횟수")
-    menu: List[MenuItem] = Field(default_factory=list, description="포함할 메뉴 상세 정보 목록")
+    menuRefs: List[MenuRef] = Field(default_factory=list, description="포함할 메뉴 ID + 버전 목록")
+    menu: List[MenuItem] = Field(default_factory=list, description="포함할 메뉴 상세 정보 목록 (menuRefs 를 스냅샷 캐시에서 조회해 채움)")
     referenceImages: List[str] = Field(default_factory=list, description="참고 이미지 URL 목록")
 
 
@@ -16,6 +16,11 @@ class Menu(BaseModel):
     imageUrl: str = Field(..., description="메뉴 이미지 URL")
 
 
+class MenuRef(BaseModel):
+    id: int = Field(..., description="메뉴 ID")
+    version: int = Field(0, description="메뉴 스냅샷 버전 (수정 시각 ms)")
+
+
 class GenerateRequest(BaseModel):
     reviewAssetId: int = Field(..., description="리뷰 에셋 생성 요청의 식별자")
     type: str = Field(..., description="생성할 에셋 타입 (IMAGE 또는 SHORTS_RAY_2 또는 SHORTS_GEN_4)")
@@ -25,7 +30,8 @@ class GenerateRequest(BaseModel):
     requestedAt: str = Field(..., description="요청 발생 시각 (ISO8601)")
     expireAt: str = Field(..., description="메시지 유효 기간 (ISO8601)")
     retryCount: int = Field(default=0, description="재시도 횟수")
-    menu: List[Menu] = Field(..., description="선택한 메뉴 상세 정보 목록")
+    menuRefs: List[MenuRef] = Field(default_factory=list, description="선택한 메뉴 ID + 버전 목록")
+    menu: List[Menu] = Field(..., description="선택한 메뉴 상세 정보 목록 (menuRefs 를 스냅샷 캐시에서 조회해 채움)")
     referenceImages: List[str] = Field(..., min_length=1, max_length=3, description="참고 이미지 URL 목록 (최소 1개, 최대 3개)")
 
 
@@ -0,0 +1,75 @@
+"""
+메뉴 스냅샷 조회 서비스
+
+BE는 생성 요청 메시지에 메뉴 상세 대신 menuRefs([{id, version}])만 싣고,
+메뉴 상세는 Redis `menu:{id}:snapshot` 키(JSON: id, version, name, description, imageUrl)에 적재한다.
+컨슈머는 메시지를 검증하기 전에 이 서비스로 menuRefs 를 메뉴 상세 목록으로 바꾼다.
+"""
+
+from __future__ import annotations
+
+import json
+import logging
+from typing import Any, Dict, List
+
+
+class MenuSnapshotNotFoundError(RuntimeError):
+    """메시지가 참조하는 메뉴 스냅샷이 캐시에 없을 때"""
+
+
+class MenuSnapshotService:
+    KEY_PATTERN = "menu:{id}:snapshot"
+
+    def __init__(self) -> None:
+        self.logger = logging.getLogger(__name__)
+
+    @staticmethod
+    def _parse_refs(raw: Any) -> List[Dict[str, Any]]:
+        if raw is None:
+            return []
+        if isinstance(raw, str):
+            raw = json.loads(raw)
+        return [ref for ref in raw if isinstance(ref, dict) and ref.get("id") is not None]
+
+    async def resolve(self, client, menu_refs: Any) -> List[Dict[str, Any]]:
+        """menuRefs 를 메뉴 상세 목록(id, name, description, imageUrl)으로 변환 (요청 순서 유지)"""
+        refs = self._parse_refs(menu_refs)
+        if not refs:
+            return []
+
+        keys = [self.KEY_PATTERN.format(id=ref["id"]) for ref in refs]
+        values = await client.mget(keys)
+
+        menus: List[Dict[str, Any]] = []
+        missing: List[Any] = []
+        for ref, value in zip(refs, values):
+            if value is None:
+                missing.append(ref["id"])
+                continue
+            snapshot = json.loads(value)
+            if int(snapshot.get("version", 0)) != int(ref.get("version", 0)):
+                # BE는 메시지를 만들 때 스냅샷 버전을 메뉴 수정 시각과 맞춰 적재한다.
+                # 다르면 요청 이후 메뉴가 수정되어 다른 요청이 스냅샷을 덮어쓴 것이므로, 최신 스냅샷으로 생성한다.
+                self.logger.info(
+                    f"[MenuSnapshot] 요청 이후 메뉴가 수정됨: id={ref['id']}, "
+                    f"snapshot={snapshot.get('version')}, requested={ref.get('version')}"
+                )
+            menus.append({
+                "id": snapshot.get("id", ref["id"]),
+                "name": snapshot.get("name"),
+                "description": snapshot.get("description") or "",
+                "imageUrl": snapshot.get("imageUrl") or "",
+            })
+
+        if missing:
+            raise MenuSnapshotNotFoundError(f"메뉴 스냅샷 없음: menuIds={missing}")
+        return menus
+
+    async def fill_menu(self, client, data: Dict[str, Any]) -> Dict[str, Any]:
+        """역직렬화된 메시지에 menuRefs 가 있으면 menu 필드를 스냅샷으로 채운다. (menu 가 이미 있으면 그대로 사용)"""
+        if "menuRefs" in data and not data.get("menu"):
+            data["menu"] = await self.resolve(client, data.get("menuRefs"))
+        return data
+
+
+menu_snapshot_service = MenuSnapshotService()
@@ -0,0 +1,116 @@
+"""
+스트림 메시지 만료 판정 및 컨슈머 연결 테스트
+
+실행: AI 디렉터리에서 `python -m unittest discover -s tests`
+"""
+
+from __future__ import annotations
+
+import asyncio
+import importlib.util
+import os
+import sys
+import time
+import unittest
+from unittest import mock
+
+sys.path.insert(0, os.path.abspath(os.path.join(os.path.dirname(__file__), "..")))
+
+from utils.stream_expiry import expired_count, fail_expired, is_expired  # noqa: E402
+
+_CONSUMER_DEPS = all(importlib.util.find_spec(m) is not None for m in ("redis", "pydantic", "dotenv"))
+
+
+def _message_id(added_ms: float) -> str:
+    return f"{int(added_ms)}-0"
+
+
+class IsExpiredTest(unittest.TestCase):
+
+    def test_ID_시각과_TTL_이_지나면_만료된다(self):
+        now = time.time() * 1000
+        self.assertTrue(is_expired(_message_id(now - 181_000), {}, 180, now))
+        self.assertFalse(is_expired(_message_id(now - 10_000), {}, 180, now))
+
+    def test_재발행된_메시지는_expireAt_필드로_만료된다(self):
+        now = time.time() * 1000
+        fields = {"expireAt": "2020-01-01T00:00:00Z"}
+        self.assertTrue(is_expired(_message_id(now), fields, 180, now))
+        self.assertFalse(is_expired(_message_id(now), {"expireAt": "2999-01-01T00:00:00Z"}, 180, now))
+
+    def test_TTL_이_0_이하면_만료시키지_않는다(self):
+        self.assertFalse(is_expired("1-0", {"expireAt": "2020-01-01T00:00:00Z"}, 0))
+
+    def test_형식이_잘못된_값은_만료로_보지_않는다(self):
+        now = time.time() * 1000
+        self.assertFalse(is_expired("not-an-id", {"expireAt": "yesterday"}, 180, now))
+
+
+class FailExpiredTest(unittest.TestCase):
+
+    def test_만료된_메시지만_FAIL_콜백을_보내고_나머지는_그대로_반환한다(self):
+        fail = mock.AsyncMock()
+        fresh_id = _message_id(time.time() * 1000)
+        messages = [("1-0", {"a": "1"}), (fresh_id, {"a": "2"}), ("2-0", {"a": "3"})]
+
+        expired_ids, fresh = asyncio.run(fail_expired("stream:test:batch", messages, 180, fail, "test"))
+
+        self.assertEqual(expired_ids, ["1-0", "2-0"])
+        self.assertEqual(fresh, [(fresh_id, {"a": "2"})])
+        self.assertEqual(fail.await_count, 2)
+        self.assertEqual(expired_count("stream:test:batch"), 2)
+
+    def test_콜백이_실패해도_만료_메시지는_ACK_대상에_포함한다(self):
+        fail = mock.AsyncMock(side_effect=[RuntimeError("callback"), None])
+        messages = [("1-0", {"a": "1"}), ("2-0", {"a": "2"})]
+
+        expired_ids, fresh = asyncio.run(fail_expired("stream:test:error", messages, 180, fail, "test"))
+
+        self.assertEqual(expired_ids, ["1-0", "2-0"])
+        self.assertEqual(fresh, [])
+
+    def test_만료된_메시지가_없으면_콜백과_집계를_하지_않는다(self):
+        fail = mock.AsyncMock()
+        messages = [(_message_id(time.time() * 1000), {"a": "1"})]
+
+        expired_ids, fresh = asyncio.run(fail_expired("stream:test:fresh", messages, 180, fail, "test"))
+
+        self.assertEqual(expired_ids, [])
+        self.assertEqual(fresh, messages)
+        fail.assert_not_awaited()
+        self.assertEqual(expired_count("stream:test:fresh"), 0)
+
+
+@unittest.skipUnless(_CONSUMER_DEPS, "redis/pydantic/dotenv 미설치")
+class MenuboardConsumerExpiryWiringTest(unittest.TestCase):
+
+    def test_만료된_메시지는_생성_없이_FAIL_콜백_후_한_번에_ACK_한다(self):
+        from consumers import menuboard_generate_consumer as module
+
+        consumer = module.MenuboardGenerateConsumer()
+        consumer.client = mock.AsyncMock()
+        consumer.client.xreadgroup.side_effect = [
+            [(consumer.stream_key, [
+                ("1-0", {"menuPostAssetId": "7", "type": "IMAGE"}),
+                ("2-0", {"menuPostAssetId": "8", "type": "IMAGE"}),
+            ])],
+            asyncio.CancelledError(),
+        ]
+        consumer.ensure_consumer_group = mock.AsyncMock()
+        consumer.handle_message = mock.AsyncMock()
+
+        with mock.patch.object(module.menuboard_generate_callback_service, "send_callback_to_spring",
+                               new=mock.AsyncMock()) as send_callback:
+            with self.assertRaises(asyncio.CancelledError):
+                asyncio.run(consumer.run_forever())
+
+        send_callback.assert_has_awaits([
+            mock.call({"assetId": 7, "result": "FAIL", "assetUrl": None, "type": "IMAGE"}),
+            mock.call({"assetId": 8, "result": "FAIL", "assetUrl": None, "type": "IMAGE"}),
+        ], any_order=True)
+        consumer.handle_message.assert_not_awaited()
+        consumer.client.xack.assert_awaited_once_with(consumer.stream_key, consumer.group, "1-0", "2-0")
+
+
+if __name__ == "__main__":
+    unittest.main()
@@ -0,0 +1,107 @@
+"""
+스트림 메시지 만료 판정 유틸
+
+BE는 생성 요청 메시지를 스트림 TTL(RedisStreamKey.ttl())과 expireAt 필드로 만료시킨다.
+사용자가 이미 기다리지 않는 요청에 생성 비용을 쓰지 않도록, 컨슈머는 메시지를 역직렬화하기 전에 이 유틸로 만료를 판정한다.
+
+- 메시지 ID 의 추가 시각(ms) + TTL 이 지났으면 만료 (필드 파싱 없음)
+- 재시도로 다시 발행된 메시지는 ID 가 새로 부여되므로 원본 expireAt 필드(ISO-8601)로도 판정
+- TTL 이 0 이하인 스트림은 만료시키지 않는다. (BE 와 동일)
+- 한 번에 읽은 메시지 중 만료된 것은 FAIL 콜백을 동시에 보내고, 스트림별 만료 건수를 누적한다.
+"""
+
+from __future__ import annotations
+
+import asyncio
+import logging
+import os
+import time
+from collections import Counter
+from datetime import datetime, timezone
+from typing import Awaitable, Callable, Dict, List, Optional, Sequence, Tuple
+
+logger = logging.getLogger(__name__)
+
+REASON_TIMEOUT = "TIMEOUT"
+
+Message = Tuple[str, Dict[str, str]]
+
+# 스트림별 만료 처리 건수 (프로세스 누적)
+_expired_counts: Counter[str] = Counter()
+
+
+def ttl_from_env(name: str, default_sec: int) -> int:
+    """스트림 TTL(초)을 환경 변수에서 읽는다. (BE RedisConstants.STREAM_*_TTL 과 같은 값을 기본값으로 사용)"""
+    try:
+        return int(os.getenv(name, str(default_sec)))
+    except ValueError:
+        return default_sec
+
+
+def _parse_expire_at(value: str) -> Optional[float]:
+    try:
+        parsed = datetime.fromisoformat(value.strip().replace("Z", "+00:00"))
+    except (AttributeError, ValueError):
+        return None
+    if parsed.tzinfo is None:
+        parsed = parsed.replace(tzinfo=timezone.utc)
+    return parsed.timestamp() * 1000
+
+
+def is_expired(message_id: str, fields: Dict[str, str], ttl_sec: int, now_ms: Optional[float] = None) -> bool:
+    """메시지 ID 시각 또는 expireAt 필드 기준으로 만료 여부를 판정한다."""
+    if ttl_sec <= 0:
+        return False
+    now_ms = time.time() * 1000 if now_ms is None else now_ms
+
+    try:
+        added_ms = int(str(message_id).split("-", 1)[0])
+        if added_ms + ttl_sec * 1000 < now_ms:
+            return True
+    except ValueError:
+        pass
+
+    expire_at = fields.get("expireAt")
+    if expire_at:
+        expire_at_ms = _parse_expire_at(expire_at)
+        return expire_at_ms is not None and expire_at_ms < now_ms
+    return False
+
+
+def expired_count(stream_key: str) -> int:
+    """이 프로세스가 스트림에서 만료 처리한 누적 메시지 수"""
+    return _expired_counts[stream_key]
+
+
+async def fail_expired(
+    stream_key: str,
+    messages: Sequence[Message],
+    ttl_sec: int,
+    fail: Callable[[Dict[str, str]], Awaitable[None]],
+    tag: str,
+) -> Tuple[List[str], List[Message]]:
+    """
+    한 번에 읽은 메시지에서 만료된 메시지를 골라 fail 콜백(에셋 FAIL 콜백 전송)을 동시에 호출한다.
+    반환값은 (ACK 할 만료 메시지 ID 목록, 생성할 메시지 목록)이다. 호출 측은 만료 ID 를 XACK 한 번으로 확인한다.
+    콜백 전송 실패는 로그만 남기고 만료 ID 에 포함한다. (기존 에러 처리 경로와 같이 재시도 없이 ACK)
+    """
+    now_ms = time.time() * 1000
+    expired: List[Message] = []
+    fresh: List[Message] = []
+    for message in messages:
+        (expired if is_expired(message[0], message[1], ttl_sec, now_ms) else fresh).append(message)
+    if not expired:
+        return [], fresh
+
+    expired_ids = [message_id for message_id, _ in expired]
+    results = await asyncio.gather(*(fail(fields) for _, fields in expired), return_exceptions=True)
+    for message_id, result in zip(expired_ids, results):
+        if isinstance(result, BaseException):
+            logger.error(f"[{tag}] 만료 요청 FAIL 콜백 실패: id={message_id}, error={result}")
+
+    _expired_counts[stream_key] += len(expired)
+    logger.warning(
+        f"[{tag}] 만료된 요청 생성 생략: count={len(expired)}, ids={expired_ids}, "
+        f"reason={REASON_TIMEOUT}, total={_expired_counts[stream_key]}"
+    )
+    return expired_ids, fresh
@@ -0,0 +1,44 @@
+package com.a609.eatda.domain.auth.config;
+
+import com.domain.auth.config.PublicEndpoint;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요청마다 호출되는 공개 경로 매칭 비용 측정
+ * <p>
+ * 전체 요청의 대부분을 차지하는 에셋 폴링 경로는 인증이 필요한 경로라, 정확 일치와 모든 패턴 매칭을 거친 뒤 불일치로 끝나는 최악의 경우다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicEndpointBenchmark {
+
+    @Param({
+            "/api/reviews/assets/42/result",
+            "/api/events/assets/300/result",
+            "/api/menu-posters/assets/7/result",
+            "/api/auth/sign-in",
+            "/api/reviews/feed"
+    })
+    private String requestPath;
+
+    @Benchmark
+    public boolean matches() {
+        return PublicEndpoint.matches(requestPath);
+    }
+}
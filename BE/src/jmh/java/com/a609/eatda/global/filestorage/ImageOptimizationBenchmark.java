@@ -0,0 +1,105 @@
+package com.a609.eatda.global.filestorage;
+
+import com.global.utils.ImageOptimizationUtils;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 업로드 이미지 최적화의 메모리 사용량 측정 - 메모리 버퍼 방식({@code optimize})과 파일 직접 기록 방식({@code optimizeTo}) 비교
+ * <p>
+ * gc 프로파일러의 {@code gc.alloc.rate.norm}이 이미지 1장당 할당 바이트이다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class ImageOptimizationBenchmark {
+
+    // 휴대폰 카메라 원본 해상도 / 목표 해상도 근처
+    @Param({"4032x3024", "1280x960"})
+    private String resolution;
+
+    @Param({"true", "false"})
+    private boolean convertToWebp;
+
+    private MockMultipartFile upload;
+    private Path outputDir;
+    private Path target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        upload = new MockMultipartFile("file", "photo.jpg", "image/jpeg",
+                createJpeg(Integer.parseInt(size[0]), Integer.parseInt(size[1])));
+        outputDir = Files.createTempDirectory("image-bench-");
+    }
+
+    @Setup(Level.Invocation)
+    public void newTarget() {
+        target = outputDir.resolve(System.nanoTime() + (convertToWebp ? ".webp" : ".jpeg"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(outputDir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(outputDir);
+    }
+
+    @Benchmark
+    public long bufferedThenCopy() throws IOException {
+        try (InputStream optimized = ImageOptimizationUtils.optimize(upload, convertToWebp)) {
+            return Files.copy(optimized, target);
+        }
+    }
+
+    @Benchmark
+    public long streamedToFile() throws IOException {
+        ImageOptimizationUtils.optimizeTo(upload, convertToWebp, target);
+        return Files.size(target);
+    }
+
+    private static byte[] createJpeg(final int width, final int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "jpeg", output);
+            return output.toByteArray();
+        }
+    }
+}
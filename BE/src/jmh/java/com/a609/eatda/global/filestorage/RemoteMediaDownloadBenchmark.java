@@ -0,0 +1,120 @@
+package com.a609.eatda.global.filestorage;
+
+import com.global.config.FileStorageProperties;
+import com.global.filestorage.RemoteMediaDownloader;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 원격 영상 다운로드 비교 - 호출마다 HttpClient 생성(기존) vs 공유 HttpClient + 파일 채널 기록
+ * <p>
+ * 로컬 스텁 서버(JDK HttpServer)가 지정한 크기의 mp4 응답을 내려준다. 작은 파일일수록 연결/클라이언트 생성 비용 차이가 드러난다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RemoteMediaDownloadBenchmark {
+
+    private static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    @Param({"256", "8192"})
+    private int sizeKb;
+
+    private HttpServer server;
+    private URI uri;
+    private FileStorageProperties properties;
+    private HttpClient sharedClient;
+    private RemoteMediaDownloader sharedDownloader;
+    private Path outputDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] payload = new byte[sizeKb * 1024];
+        ThreadLocalRandom.current().nextBytes(payload);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/video.mp4", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "video/mp4");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/video.mp4");
+
+        properties = new FileStorageProperties();
+        properties.getVideo().setMaxConnectionsPerHost(8);
+        sharedClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getVideo().getRequestTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        sharedDownloader = new RemoteMediaDownloader(sharedClient, properties);
+        outputDir = Files.createTempDirectory("download-bench-");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.stop(0);
+        sharedClient.close();
+        try (var files = Files.list(outputDir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(outputDir);
+    }
+
+    @Benchmark
+    public long newClientPerDownload() throws Exception {
+        try (HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(properties.getVideo().getRequestTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build()) {
+            return download(new RemoteMediaDownloader(client, properties));
+        }
+    }
+
+    @Benchmark
+    public long sharedClient() throws Exception {
+        return download(sharedDownloader);
+    }
+
+    private long download(final RemoteMediaDownloader downloader) throws Exception {
+        Path target = outputDir.resolve(Thread.currentThread().threadId() + ".part");
+        return downloader.fetch(uri, 0L, response -> downloader.writeTo(response.body(), target, 0L, MAX_BYTES));
+    }
+}
@@ -0,0 +1,105 @@
+package com.a609.eatda.global.redis;
+
+import static com.global.redis.constants.RedisConstants.REDIS_XADD_SCRIPT;
+
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.publisher.RedisStreamFieldPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Redis Stream 발행 처리량 비교 - 매번 스크립트 본문을 보내는 EVAL(기존) vs EVALSHA + UTF-8 직접 인코딩
+ * <p>
+ * 로컬 Redis 가 필요하다. ({@code -Dbench.redis.host}, {@code -Dbench.redis.port}, 기본 localhost:6379) 발행 대상은
+ * MAXLEN 10 인 {@link RedisStreamKey#TEST_RETRY} 스트림이다.
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RedisStreamPublishBenchmark {
+
+    private static final RedisStreamKey STREAM = RedisStreamKey.TEST_RETRY;
+    private static final RedisSerializer<String> SERIALIZER = new StringRedisSerializer();
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private RedisStreamFieldPublisher publisher;
+    private Map<String, String> fields;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        publisher = new RedisStreamFieldPublisher(redisTemplate, new SimpleMeterRegistry());
+
+        fields = new LinkedHashMap<>();
+        fields.put("reviewAssetId", "123456");
+        fields.put("type", "SHORTS");
+        fields.put("prompt", "매콤한 떡볶이와 바삭한 튀김이 어우러진 분식집 리뷰 영상");
+        fields.put("imageUrls", "[\"https://example.com/a.webp\",\"https://example.com/b.webp\"]");
+        fields.put("expireAt", Instant.now().plusSeconds(300).toString());
+        fields.put("retryCount", "0");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete(STREAM.value());
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public Object evalWithScriptBody() {
+        byte[][] keysAndArgs = new byte[3 + fields.size() * 2][];
+        keysAndArgs[0] = SERIALIZER.serialize(STREAM.value());
+        keysAndArgs[1] = SERIALIZER.serialize(String.valueOf(STREAM.maxLen()));
+        keysAndArgs[2] = SERIALIZER.serialize("0");
+        int index = 3;
+        for (Map.Entry<String, String> entry : fields.entrySet()) {
+            keysAndArgs[index++] = SERIALIZER.serialize(entry.getKey());
+            keysAndArgs[index++] = SERIALIZER.serialize(entry.getValue());
+        }
+        return redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                REDIS_XADD_SCRIPT.getBytes(StandardCharsets.UTF_8), ReturnType.VALUE, 1, keysAndArgs));
+    }
+
+    @Benchmark
+    public void evalSha() {
+        publisher.publish(STREAM, fields);
+    }
+}
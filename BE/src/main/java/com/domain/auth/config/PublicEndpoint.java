@@ -1,7 +1,13 @@
 package com.domain.auth.config;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 @RequiredArgsConstructor
 public enum PublicEndpoint {
@@ -33,22 +39,45 @@ public enum PublicEndpoint {
     THUMBNAIL("/api/reviews/thumbnail"),
 
     // REVIEW
+    // 결과 조회(/assets/{id}/result)는 요청자의 가게/사용자 기준으로 소유권을 확인하므로 인증이 필요하다.
     REVIEW_ASSET_CALLBACK("/api/reviews/assets/callback"),
-    REVIEW_ASSET_POLLING("/api/reviews/asset/*/result"),
 
     // Menu Poster
     MENU_POSTER_CALLBACK("/api/menu-posters/assets/callback"),
-    MENU_POSTER_POLLING("/api/menu-posters/asset/*/result"),
 
     // Event
-    EVENT_ASSET_CALLBACK("/api/events/assets/callback"),
-    EVENT_ASSET_POLLING("/api/events/asset/*/result");
+    EVENT_ASSET_CALLBACK("/api/events/assets/callback");
 
     private final String path;
 
+    /**
+     * 와일드카드가 없는 경로는 해시 조회로, 패턴 경로는 애플리케이션 시작 시 한 번 파싱한 {@link PathPattern}으로 매칭한다.
+     */
+    private static final Set<String> EXACT_PATHS = Arrays.stream(values())
+            .map(endpoint -> endpoint.path)
+            .filter(path -> !isPattern(path))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final List<PathPattern> PATH_PATTERNS = Arrays.stream(values())
+            .map(endpoint -> endpoint.path)
+            .filter(PublicEndpoint::isPattern)
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
     public static boolean matches(final String requestPath) {
-        return Arrays.stream(values())
-                .anyMatch(endpoint -> endpoint.path.equals(requestPath));
+        if (EXACT_PATHS.contains(requestPath)) {
+            return true;
+        }
+        if (PATH_PATTERNS.isEmpty()) {
+            return false;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(requestPath);
+        for (PathPattern pattern : PATH_PATTERNS) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static String[] getAllPaths() {
@@ -56,4 +85,8 @@ public enum PublicEndpoint {
                 .map(endpoint -> endpoint.path)
                 .toArray(String[]::new);
     }
+
+    private static boolean isPattern(final String path) {
+        return path.indexOf('*') >= 0 || path.indexOf('{') >= 0 || path.indexOf('?') >= 0;
+    }
 }
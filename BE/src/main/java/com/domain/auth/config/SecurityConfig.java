@@ -2,6 +2,7 @@ package com.domain.auth.config;
 
 import com.domain.auth.jwt.JwtAuthenticationFilter;
 import com.domain.auth.jwt.JwtExceptionFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +35,8 @@ public class SecurityConfig {
                         .authenticationEntryPoint(customAuthenticationEntryPoint)
                         .accessDeniedHandler(customAccessDeniedHandler))
                 .authorizeHttpRequests(authorize -> authorize
+                        // SSE 응답 완료 시의 비동기 디스패치는 최초 요청에서 이미 인증되었다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PublicEndpoint.getAllPaths()).permitAll()
                         .anyRequest().authenticated()
                 )
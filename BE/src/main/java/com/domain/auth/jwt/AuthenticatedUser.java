@@ -0,0 +1,31 @@
+package com.domain.auth.jwt;
+
+import com.domain.user.constants.Role;
+import java.security.Principal;
+
+/**
+ * 서명된 액세스 토큰의 클레임만으로 구성되는 인증 주체
+ * <p>
+ * 컨트롤러에서는 {@code @AuthenticationPrincipal}로 주입받아 사용하며, 사용자 ID / 역할 / 대표 가게 ID를 DB 조회 없이 제공한다.
+ *
+ * @param userId  사용자 ID
+ * @param email   사용자 이메일 (토큰 subject)
+ * @param role    사용자 역할
+ * @param storeId 대표 가게 ID (MAKER가 아니거나 가게가 없으면 null)
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String email,
+        Role role,
+        Long storeId
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isMaker() {
+        return role == Role.MAKER;
+    }
+}
@@ -16,16 +16,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
                                     final FilterChain filterChain)
             throws ServletException, IOException {
         extractJwtFromRequest(request)
-                .map(jwtUtils::extractClaims)
-                .filter(jwtUtils::isAccessToken)
-                .map(jwtUtils::getAuthentication)
+                .flatMap(verifiedTokenCache::resolve)
                 .ifPresent(SecurityContextHolder.getContext()::setAuthentication);
 
         filterChain.doFilter(request, response);
@@ -17,6 +17,8 @@ public enum JwtConstants {
     CLAIM_TYPE("type"),
     CLAIM_NAME("name"),
     CLAIM_ROLE("role"),
+    CLAIM_USER_ID("userId"),
+    CLAIM_STORE_ID("storeId"),
 
     // Token type
     TOKEN_TYPE_ACCESS("access"),
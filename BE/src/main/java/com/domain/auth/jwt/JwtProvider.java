@@ -1,12 +1,16 @@
 package com.domain.auth.jwt;
 
+import com.domain.store.entity.Store;
+import com.domain.user.constants.Role;
 import com.domain.user.entity.User;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.security.Key;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -39,6 +43,8 @@ public class JwtProvider {
                 .setSubject(user.getEmail())
                 .claim(JwtConstants.CLAIM_TYPE.getValue(), JwtConstants.TOKEN_TYPE_ACCESS.getValue())
                 .claim(JwtConstants.CLAIM_ROLE.getValue(), user.getRole())
+                .claim(JwtConstants.CLAIM_USER_ID.getValue(), user.getId())
+                .claim(JwtConstants.CLAIM_STORE_ID.getValue(), resolvePrimaryStoreId(user))
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key)
@@ -58,4 +64,24 @@ public class JwtProvider {
                 .signWith(key)
                 .compact();
     }
+
+    /**
+     * MAKER의 대표 가게(삭제되지 않은 가게 중 ID가 가장 작은 가게) ID를 반환한다. 가게가 없거나 MAKER가 아니면 null
+     * <p>
+     * stores 컬렉션은 순서가 보장되지 않으므로 첫 번째 원소 대신 최소 ID를 사용해 재발급마다 같은 가게가 선택되도록 한다.
+     */
+    private Long resolvePrimaryStoreId(final User user) {
+        if (user.getRole() != Role.MAKER) {
+            return null;
+        }
+        List<Store> stores = user.getStores();
+        if (stores == null) {
+            return null;
+        }
+        return stores.stream()
+                .filter(store -> !store.isDeleted())
+                .map(Store::getId)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
 }
@@ -5,6 +5,7 @@ import com.global.constants.ErrorCode;
 import com.global.exception.ApiException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -24,12 +25,17 @@ import org.springframework.stereotype.Component;
 public class JwtUtils {
 
     private Key key;
+    private JwtParser parser;
     private final JwtProperties jwtProperties;
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecretKey());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        // 파서는 불변이며 스레드 안전하므로 요청마다 새로 만들지 않고 재사용한다.
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String extractToken(final String header) {
@@ -41,10 +47,7 @@ public class JwtUtils {
 
     public Claims extractClaims(final String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody();
         } catch (SecurityException | MalformedJwtException | ExpiredJwtException | UnsupportedJwtException |
                  IllegalArgumentException e) {
@@ -66,8 +69,21 @@ public class JwtUtils {
     }
 
     public Authentication getAuthentication(final Claims claims) {
-        String email = claims.getSubject();
+        AuthenticatedUser principal = extractPrincipal(claims);
+        return new UsernamePasswordAuthenticationToken(principal, "",
+                AuthorityUtils.createAuthorityList(principal.role().name()));
+    }
+
+    /**
+     * 액세스 토큰 클레임으로부터 인증 주체를 생성한다. 사용자 ID 클레임이 없는(구버전) 토큰은 재발급을 유도하기 위해 거부한다.
+     */
+    public AuthenticatedUser extractPrincipal(final Claims claims) {
+        Long userId = claims.get(JwtConstants.CLAIM_USER_ID.getValue(), Long.class);
         String role = claims.get(JwtConstants.CLAIM_ROLE.getValue(), String.class);
-        return new UsernamePasswordAuthenticationToken(email, "", AuthorityUtils.createAuthorityList(role));
+        if (Objects.isNull(userId) || Objects.isNull(role)) {
+            throw new ApiException(ErrorCode.INVALID_TOKEN);
+        }
+        Long storeId = claims.get(JwtConstants.CLAIM_STORE_ID.getValue(), Long.class);
+        return new AuthenticatedUser(userId, claims.getSubject(), Role.valueOf(role), storeId);
     }
 }
@@ -0,0 +1,146 @@
+package com.domain.auth.jwt;
+
+import com.domain.user.constants.Role;
+import com.domain.user.repository.EaterRepository;
+import com.domain.user.repository.MakerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 인증 정보 캐시
+ * <p>
+ * 같은 토큰으로 반복되는 요청(에셋 상태 폴링 등)은 HMAC 검증과 클레임 파싱 없이 캐시된 {@link Authentication}을 사용한다.
+ * 키는 토큰 원문 대신 SHA-256 해시를 사용한다. 힙 덤프나 캐시 내용 로그에 유효한 토큰이 그대로 남지 않게 한다.
+ * <p>
+ * 캐시에 없는 토큰은 탈퇴(삭제)한 사용자인지 DB에서 확인한 뒤 저장한다. 각 항목은 토큰의 {@code exp} 시각과
+ * {@link #MAXIMUM_CACHE_TTL} 중 이른 시각에 만료되므로, 탈퇴한 사용자의 토큰도 최대 이 시간 안에 거부된다.
+ * <p>
+ * 적중/미스/용량 초과 제거 횟수는 {@code auth.token.cache.*} 메트릭으로 노출된다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration MAXIMUM_CACHE_TTL = Duration.ofMinutes(5);
+
+    private static final String METRIC_HITS = "auth.token.cache.hits";
+    private static final String METRIC_MISSES = "auth.token.cache.misses";
+    private static final String METRIC_EVICTIONS = "auth.token.cache.evictions";
+
+    private final JwtUtils jwtUtils;
+    private final MakerRepository makerRepository;
+    private final EaterRepository eaterRepository;
+    private final Counter hits;
+    private final Counter misses;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public VerifiedTokenCache(final JwtUtils jwtUtils, final MakerRepository makerRepository,
+                              final EaterRepository eaterRepository, final MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.makerRepository = makerRepository;
+        this.eaterRepository = eaterRepository;
+        this.hits = meterRegistry.counter(METRIC_HITS);
+        this.misses = meterRegistry.counter(METRIC_MISSES);
+
+        Counter evictions = meterRegistry.counter(METRIC_EVICTIONS);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfter(new TokenExpiry())
+                .<String, CachedAuthentication>evictionListener((cacheKey, value, cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 액세스 토큰의 인증 정보를 반환한다. 캐시에 없으면 서명을 검증하고, 탈퇴하지 않은 사용자의 액세스 토큰인 경우에만 캐시에 저장한다.
+     *
+     * @param token Bearer 접두사를 제거한 토큰
+     * @return 액세스 토큰이 아니거나 탈퇴한 사용자의 토큰이면 빈 값
+     */
+    public Optional<Authentication> resolve(final String token) {
+        String cacheKey = hash(token);
+        CachedAuthentication cached = cache.getIfPresent(cacheKey);
+        if (Objects.nonNull(cached) && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            hits.increment();
+            return Optional.of(cached.authentication());
+        }
+        misses.increment();
+
+        Claims claims = jwtUtils.extractClaims(token);
+        if (!jwtUtils.isAccessToken(claims)) {
+            return Optional.empty();
+        }
+
+        Authentication authentication = jwtUtils.getAuthentication(claims);
+        if (!isActiveUser((AuthenticatedUser) authentication.getPrincipal())) {
+            return Optional.empty();
+        }
+
+        Date expiration = claims.getExpiration();
+        if (Objects.nonNull(expiration)) {
+            long expiresAtMillis = Math.min(expiration.getTime(),
+                    System.currentTimeMillis() + MAXIMUM_CACHE_TTL.toMillis());
+            cache.put(cacheKey, new CachedAuthentication(authentication, expiresAtMillis));
+        }
+        return Optional.of(authentication);
+    }
+
+    private boolean isActiveUser(final AuthenticatedUser principal) {
+        if (principal.role() == Role.EATER) {
+            return eaterRepository.existsByIdAndDeletedFalse(principal.userId());
+        }
+        return makerRepository.existsByIdAndDeletedFalse(principal.userId());
+    }
+
+    private String hash(final String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
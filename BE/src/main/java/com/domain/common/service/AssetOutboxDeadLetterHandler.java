@@ -0,0 +1,98 @@
+package com.domain.common.service;
+
+import com.domain.event.repository.EventAssetRepository;
+import com.domain.menu.repository.MenuPosterAssetRepository;
+import com.domain.review.repository.ReviewAssetRepository;
+import com.global.constants.Status;
+import com.global.notification.AssetCompletedEvent;
+import com.global.notification.AssetDomain;
+import com.global.outbox.StreamOutboxDeadLetterHandler;
+import com.global.redis.constants.RedisStreamKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발행을 포기한 에셋 생성 요청 실패 처리
+ * <p>
+ * AI 서버가 메시지를 받지 못했으므로 콜백이 오지 않는다. 아직 PENDING 인 에셋을 FAIL 로 바꾸고 완료 이벤트를 발행해 폴링/SSE 대기를 끝낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetOutboxDeadLetterHandler implements StreamOutboxDeadLetterHandler {
+
+    private static final String FIELD_TYPE = "type";
+
+    private static final String METRIC_FAILED = "stream.outbox.dead.letter.assets.failed";
+    private static final String TAG_DOMAIN = "domain";
+
+    private final ReviewAssetRepository reviewAssetRepository;
+    private final EventAssetRepository eventAssetRepository;
+    private final MenuPosterAssetRepository menuPosterAssetRepository;
+    private final AssetStatusCacheService assetStatusCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    @Transactional
+    public void handle(final RedisStreamKey streamKey, final Map<String, String> fields) {
+        AssetDomain domain = toDomain(streamKey);
+        if (domain == null) {
+            log.warn("[AssetDeadLetter] 에셋 생성 스트림이 아님 - stream: {}", streamKey.value());
+            return;
+        }
+
+        Long assetId = parseAssetId(fields.get(assetIdField(domain)));
+        if (assetId == null) {
+            log.error("[AssetDeadLetter] 에셋 ID 없음 - stream: {}, fields: {}", streamKey.value(), fields);
+            return;
+        }
+
+        List<Long> ids = List.of(assetId);
+        int updated = switch (domain) {
+            case REVIEW -> reviewAssetRepository.updateStatusIfCurrent(ids, Status.PENDING, Status.FAIL);
+            case EVENT -> eventAssetRepository.updateStatusIfCurrent(ids, Status.PENDING, Status.FAIL);
+            case MENU_POSTER -> menuPosterAssetRepository.updateStatusIfCurrent(ids, Status.PENDING, Status.FAIL);
+        };
+        if (updated == 0) {
+            log.info("[AssetDeadLetter] 이미 완료된 에셋 - domain: {}, assetId: {}", domain, assetId);
+            return;
+        }
+
+        assetStatusCacheService.evict(domain, assetId);
+        eventPublisher.publishEvent(new AssetCompletedEvent(domain, assetId, Status.FAIL, fields.get(FIELD_TYPE), ""));
+        meterRegistry.counter(METRIC_FAILED, TAG_DOMAIN, domain.name()).increment();
+        log.warn("[AssetDeadLetter] 발행 실패로 에셋 실패 처리 - domain: {}, assetId: {}", domain, assetId);
+    }
+
+    private AssetDomain toDomain(final RedisStreamKey streamKey) {
+        return switch (streamKey) {
+            case REVIEW_ASSET -> AssetDomain.REVIEW;
+            case EVENT_ASSET -> AssetDomain.EVENT;
+            case MENU_POSTER -> AssetDomain.MENU_POSTER;
+            default -> null;
+        };
+    }
+
+    private String assetIdField(final AssetDomain domain) {
+        return switch (domain) {
+            case REVIEW -> "reviewAssetId";
+            case EVENT -> "eventAssetId";
+            case MENU_POSTER -> "menuPostAssetId";
+        };
+    }
+
+    private Long parseAssetId(final String value) {
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.domain.common.service;
+
+import static com.global.redis.constants.RedisConstants.CACHE_ASSET_STATUS_TTL;
+
+import com.global.constants.Status;
+import com.global.notification.AssetDomain;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 에셋 생성 상태 write-through 캐시
+ * <p>
+ * 에셋 상태는 PENDING → SUCCESS/FAIL로 최대 두 번만 바뀌므로, 생성 시점과 콜백 처리 시점에 Redis 해시를 갱신하고 결과 조회(폴링)는
+ * 캐시에서 응답한다. 캐시 적중 횟수는 {@code asset.status.cache.db.reads.avoided} 메트릭으로 노출된다.
+ * <p>
+ * 조회 경로의 캐시 미스 보충({@link #backfill})은 완료(SUCCESS/FAIL) 상태만 기록한다. DB 에서 읽은 PENDING 을 쓰면 그 사이 커밋된
+ * 콜백 결과를 덮어써 TTL 동안 PENDING 이 남을 수 있기 때문이다. 완료 상태는 다시 바뀌지 않으므로 덮어써도 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetStatusCacheService {
+
+    private static final String CACHE_KEY_PATTERN = "asset:%s:%d:status";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_PATH = "path";
+    private static final String FIELD_THUMBNAIL = "thumbnail";
+    private static final String FIELD_OWNER = "owner";
+
+    private static final String METRIC_DB_READS_AVOIDED = "asset.status.cache.db.reads.avoided";
+    private static final String METRIC_MISSES = "asset.status.cache.misses";
+    private static final String TAG_DOMAIN = "domain";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시된 에셋 상태
+     *
+     * @param ownerId 권한 검증용 소유자 ID (이벤트: 가게 사장(메이커) ID, 메뉴 포스터: 작성자 ID, 리뷰: 미사용)
+     */
+    public record CachedAssetStatus(
+            Status status,
+            String type,
+            String path,
+            String thumbnailPath,
+            Long ownerId
+    ) {
+    }
+
+    /**
+     * 상태 조회 - 캐시 적중/미스를 메트릭으로 기록한다.
+     */
+    public Optional<CachedAssetStatus> get(final AssetDomain domain, final Long assetId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(generateKey(domain, assetId));
+            if (entries.isEmpty()) {
+                counter(METRIC_MISSES, domain).increment();
+                return Optional.empty();
+            }
+            counter(METRIC_DB_READS_AVOIDED, domain).increment();
+            return Optional.of(fromHash(entries));
+        } catch (Exception e) {
+            // 캐시 장애 시 DB 조회로 대체한다.
+            log.warn("[AssetStatusCache] 조회 실패 - domain: {}, assetId: {}", domain, assetId, e);
+            counter(METRIC_MISSES, domain).increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 상태 저장 - 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 상태가 캐시에 남지 않도록 한다.
+     */
+    public void put(final AssetDomain domain, final Long assetId, final CachedAssetStatus status) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(domain, assetId, status);
+                }
+            });
+            return;
+        }
+        write(domain, assetId, status);
+    }
+
+    /**
+     * 캐시 미스 후 DB 에서 읽은 상태 보충 - 완료 상태만 기록하고 PENDING 은 다음 조회도 DB 에서 읽도록 둔다.
+     */
+    public void backfill(final AssetDomain domain, final Long assetId, final CachedAssetStatus status) {
+        if (status.status().isPending()) {
+            return;
+        }
+        put(domain, assetId, status);
+    }
+
+    /**
+     * 상태 삭제 - DB 에서 직접 상태를 바꾼 경우 다음 조회가 DB 에서 읽도록 한다. (트랜잭션 안이면 커밋 이후)
+     */
+    public void evict(final AssetDomain domain, final Long assetId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictQuietly(generateKey(domain, assetId));
+                }
+            });
+            return;
+        }
+        evictQuietly(generateKey(domain, assetId));
+    }
+
+    private void write(final AssetDomain domain, final Long assetId, final CachedAssetStatus status) {
+        String key = generateKey(domain, assetId);
+        try {
+            redisTemplate.opsForHash().putAll(key, toHash(status));
+            redisTemplate.expire(key, CACHE_ASSET_STATUS_TTL);
+        } catch (Exception e) {
+            // 기존 값이 남아 있으면 잘못된 상태를 응답할 수 있으므로 삭제를 시도한다.
+            log.warn("[AssetStatusCache] 저장 실패 - key: {}", key, e);
+            evictQuietly(key);
+        }
+    }
+
+    private void evictQuietly(final String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("[AssetStatusCache] 삭제 실패 - key: {}", key, e);
+        }
+    }
+
+    private Map<String, String> toHash(final CachedAssetStatus status) {
+        Map<String, String> hash = new HashMap<>();
+        hash.put(FIELD_STATUS, status.status().name());
+        hash.put(FIELD_TYPE, Objects.toString(status.type(), ""));
+        hash.put(FIELD_PATH, Objects.toString(status.path(), ""));
+        hash.put(FIELD_THUMBNAIL, Objects.toString(status.thumbnailPath(), ""));
+        hash.put(FIELD_OWNER, Objects.toString(status.ownerId(), ""));
+        return hash;
+    }
+
+    private CachedAssetStatus fromHash(final Map<Object, Object> entries) {
+        return new CachedAssetStatus(
+                Status.valueOf((String) entries.get(FIELD_STATUS)),
+                emptyToNull(entries.get(FIELD_TYPE)),
+                emptyToNull(entries.get(FIELD_PATH)),
+                emptyToNull(entries.get(FIELD_THUMBNAIL)),
+                Optional.ofNullable(emptyToNull(entries.get(FIELD_OWNER))).map(Long::valueOf).orElse(null)
+        );
+    }
+
+    private String emptyToNull(final Object value) {
+        return Objects.isNull(value) || value.toString().isEmpty() ? null : value.toString();
+    }
+
+    private Counter counter(final String name, final AssetDomain domain) {
+        return meterRegistry.counter(name, TAG_DOMAIN, domain.name());
+    }
+
+    private String generateKey(final AssetDomain domain, final Long assetId) {
+        return String.format(CACHE_KEY_PATTERN, domain.name().toLowerCase(), assetId);
+    }
+}
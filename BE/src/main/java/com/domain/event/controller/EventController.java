@@ -9,6 +9,7 @@ import static com.global.constants.SuccessCode.EVENT_DELETED;
 import static com.global.constants.SuccessCode.EVENT_LIST_RETRIEVED;
 import static com.global.constants.SuccessCode.EVENT_REGISTERED;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.event.dto.request.EventAssetCreateRequest;
 import com.domain.event.dto.request.EventFinalizeRequest;
 import com.domain.event.dto.response.ActiveStoreEventResponse;
@@ -24,12 +25,12 @@ import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.ApiResponseFactory;
 import com.global.dto.response.AssetResultResponse;
 import com.global.dto.response.BaseResponse;
+import com.global.filestorage.FileDownloadResponder;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -42,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -51,20 +53,21 @@ public class EventController {
 
     private final EventService eventService;
     private final EventMapper eventMapper;
+    private final FileDownloadResponder fileDownloadResponder;
 
     @PostMapping(value = "/assets/request", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BaseResponse> requestEventAsset(
             @Valid @ModelAttribute final EventAssetCreateRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
         log.info("===== [Controller] requestEventAsset START =====");
         log.info("BaseRequest: title={}, type={}, startDate={}, endDate={}, prompt.length={}, imageCount={}",
                 request.title(), request.type(), request.startDate(), request.endDate(),
                 request.prompt() == null ? 0 : request.prompt().length(),
                 request.image() != null ? request.image().size() : 0);
-        log.info("makerEmail(principal): {}", email);
+        log.info("makerId(principal): {}", maker.userId());
 
-        EventAssetRequestResponse response = eventService.requestEventAsset(request, email);
+        EventAssetRequestResponse response = eventService.requestEventAsset(request, maker);
 
         log.info("===== [Controller] requestEventAsset END =====");
         return ApiResponseFactory.success(EVENT_ASSET_REQUESTED, response);
@@ -82,9 +85,9 @@ public class EventController {
     @GetMapping("/assets/{eventAssetId}/result")
     public ResponseEntity<BaseResponse> getEventAssetResult(
             @PathVariable("eventAssetId") final Long eventAssetId,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
-        AssetResultResponse response = eventService.getEventAssetStatus(eventAssetId, email);
+        AssetResultResponse response = eventService.getEventAssetStatus(eventAssetId, maker.userId());
 
         // response에 assetUrl이 있으면 SUCCESS, 빈 문자열이면 PENDING
         SuccessCode successCode = !response.path().isEmpty()
@@ -94,10 +97,18 @@ public class EventController {
         return ApiResponseFactory.success(successCode, response);
     }
 
+    @GetMapping(value = "/assets/{eventAssetId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEventAssetCompletion(
+            @PathVariable("eventAssetId") final Long eventAssetId,
+            @AuthenticationPrincipal final AuthenticatedUser maker
+    ) {
+        return eventService.subscribeEventAssetCompletion(eventAssetId, maker.userId());
+    }
+
     @PostMapping("/finalize")
     public ResponseEntity<BaseResponse> finalizeEvent(
             @Valid @RequestBody final EventFinalizeRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
         EventFinalizeResponse response = eventService.finalizeEvent(request);
 
@@ -107,23 +118,19 @@ public class EventController {
     @GetMapping("/assets/download")
     public ResponseEntity<Resource> downloadEventAsset(
             @RequestParam("eventAssetId") final Long eventAssetId,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
-        Resource resource = eventService.downloadEventAsset(eventAssetId, email);
+        Resource resource = eventService.downloadEventAsset(eventAssetId, maker.userId());
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf("image/webp"))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"event_" + eventAssetId + ".webp\"")
-                .body(resource);
+        return fileDownloadResponder.attachment(resource, "event_" + eventAssetId, MediaType.valueOf("image/webp"));
     }
 
     @GetMapping("/my")
     public ResponseEntity<BaseResponse> getMyEvents(
             @RequestParam(value = "lastEventId", required = false) final Long lastEventId,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
-        List<MyEventResponse> response = eventService.getMyEvents(lastEventId, email);
+        List<MyEventResponse> response = eventService.getMyEvents(lastEventId, maker.userId());
 
         return ApiResponseFactory.success(EVENT_LIST_RETRIEVED, response);
     }
@@ -140,9 +147,9 @@ public class EventController {
     @DeleteMapping("/{eventId}")
     public ResponseEntity<BaseResponse> deleteEvent(
             @PathVariable("eventId") final Long eventId,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
-        eventService.deleteEvent(eventId, email);
+        eventService.deleteEvent(eventId, maker.userId());
 
         return ApiResponseFactory.success(EVENT_DELETED);
     }
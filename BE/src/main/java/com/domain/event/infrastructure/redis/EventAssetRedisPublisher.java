@@ -2,14 +2,16 @@ package com.domain.event.infrastructure.redis;
 
 import com.domain.event.dto.redis.EventAssetGenerateMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.redis.publisher.RedisStreamDelayQueue;
+import com.global.redis.publisher.RedisStreamFieldPublisher;
 import com.global.redis.publisher.RedisStreamPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 public class EventAssetRedisPublisher extends RedisStreamPublisher<EventAssetGenerateMessage> {
-    public EventAssetRedisPublisher(RedisTemplate<String, Object> redisTemplate,
+    public EventAssetRedisPublisher(RedisStreamFieldPublisher fieldPublisher,
+                                    RedisStreamDelayQueue delayQueue,
                                     ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper);
+        super(fieldPublisher, delayQueue, objectMapper);
     }
 }
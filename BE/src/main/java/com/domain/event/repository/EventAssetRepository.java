@@ -1,11 +1,14 @@
 package com.domain.event.repository;
 
 import com.domain.event.entity.EventAsset;
+import com.global.constants.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,4 +34,11 @@ public interface EventAssetRepository extends JpaRepository<EventAsset, Long> {
 
     // Event 삭제 시 EventAsset도 함께 조회하기 위한 메서드
     Optional<EventAsset> findByEventId(Long eventId);
+
+    // 현재 상태가 expected 인 에셋만 일괄로 상태 변경 (변경된 에셋 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EventAsset ea SET ea.status = :status WHERE ea.id IN :ids AND ea.status = :expected")
+    int updateStatusIfCurrent(@Param("ids") Collection<Long> ids,
+                              @Param("expected") Status expected,
+                              @Param("status") Status status);
 }
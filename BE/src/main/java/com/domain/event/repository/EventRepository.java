@@ -19,12 +19,12 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // 내 이벤트 목록 조회 (deleted = false 조건 추가)
     @Query("SELECT e FROM Event e " +
             "LEFT JOIN FETCH EventAsset ea ON ea.event = e " +
-            "WHERE e.store.maker.email = :email " +
+            "WHERE e.store.maker.id = :makerId " +
             "AND e.store.deleted = false " +
             "AND e.deleted = false " +  // Event 자체의 deleted 체크 추가
             "AND (:lastEventId IS NULL OR e.id < :lastEventId) " +
             "ORDER BY e.id DESC")
-    List<Event> findMyEventsWithCursor(@Param("email") String email,
+    List<Event> findMyEventsWithCursor(@Param("makerId") Long makerId,
                                        @Param("lastEventId") Long lastEventId,
                                        Pageable pageable);
 
@@ -1,5 +1,6 @@
 package com.domain.event.service;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.event.dto.request.EventAssetCreateRequest;
 import com.domain.event.dto.request.EventFinalizeRequest;
 import com.domain.event.dto.response.ActiveStoreEventResponse;
@@ -11,24 +12,27 @@ import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
 import java.util.List;
 import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface EventService {
 
-    EventAssetRequestResponse requestEventAsset(EventAssetCreateRequest request, String makerEmail);
+    EventAssetRequestResponse requestEventAsset(EventAssetCreateRequest request, AuthenticatedUser maker);
 
     void handleEventAssetCallback(AssetCallbackRequest<?> request);
 
-    AssetResultResponse getEventAssetStatus(Long assetId, String makerEmail);
+    AssetResultResponse getEventAssetStatus(Long assetId, Long makerId);
+
+    SseEmitter subscribeEventAssetCompletion(Long assetId, Long makerId);
 
     EventFinalizeResponse finalizeEvent(EventFinalizeRequest request);
 
-    Resource downloadEventAsset(Long assetId, String makerEmail);
+    Resource downloadEventAsset(Long assetId, Long makerId);
 
-    List<MyEventResponse> getMyEvents(Long lastEventId, String makerEmail);
+    List<MyEventResponse> getMyEvents(Long lastEventId, Long makerId);
 
     List<ActiveStoreEventResponse> getActiveEvents(Long lastEventId);
 
-    void deleteEvent(Long eventId, String makerEmail);
+    void deleteEvent(Long eventId, Long makerId);
 
     List<Event> getEvents(Long storeId);
 }
@@ -1,5 +1,6 @@
 package com.domain.event.service.impl;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.event.dto.redis.EventAssetGenerateMessage;
 import com.domain.event.dto.request.EventAssetCreateRequest;
 import com.domain.event.dto.request.EventFinalizeRequest;
@@ -13,11 +14,11 @@ import com.domain.event.infrastructure.redis.EventAssetRedisPublisher;
 import com.domain.event.repository.EventAssetRepository;
 import com.domain.event.repository.EventRepository;
 import com.domain.event.service.EventService;
+import com.domain.common.service.AssetStatusCacheService;
+import com.domain.common.service.AssetStatusCacheService.CachedAssetStatus;
 import com.domain.event.validator.EventValidator;
 import com.domain.store.entity.Store;
 import com.domain.store.repository.StoreRepository;
-import com.domain.user.entity.User;
-import com.domain.user.repository.MakerRepository;
 import com.global.constants.AssetType;
 import com.global.constants.ErrorCode;
 import com.global.constants.PagingConstants;
@@ -26,6 +27,13 @@ import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
+import com.global.filestorage.ImageUploadExecutor;
+import com.global.notification.AssetCompletedEvent;
+import com.global.outbox.StreamOutboxService;
+import com.global.redis.admission.RedisStreamAdmissionControl;
+import com.global.notification.AssetCompletionNotifier;
+import com.global.notification.AssetDomain;
+import com.global.notification.AssetGenerationMetrics;
 import com.global.redis.constants.RedisStreamKey;
 import com.global.utils.AssetValidator;
 import java.time.LocalDate;
@@ -33,15 +41,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
@@ -55,88 +67,99 @@ public class EventServiceImpl implements EventService {
     private final EventAssetRepository eventAssetRepository;
     private final FileStorageService fileStorageService;
     private final EventAssetRedisPublisher eventAssetRedisPublisher;
-    private final MakerRepository makerRepository;
-
+    private final AssetCompletionNotifier assetCompletionNotifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssetStatusCacheService assetStatusCacheService;
+    private final ImageUploadExecutor imageUploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final StreamOutboxService streamOutboxService;
+    private final RedisStreamAdmissionControl redisStreamAdmissionControl;
+    private final AssetGenerationMetrics assetGenerationMetrics;
+
+    /**
+     * 이벤트 에셋 생성 요청 - 이미지 업로드는 트랜잭션 밖에서 병렬로 처리하고, 엔티티 생성과 메시지 발행만 트랜잭션으로 묶는다.
+     */
     @Override
-    @Transactional
     public EventAssetRequestResponse requestEventAsset(final EventAssetCreateRequest request,
-                                                       final String makerEmail) {
+                                                       final AuthenticatedUser maker) {
 
         log.info("===== [Service] requestEventAsset START =====");
 
-        log.info("Step1: Find maker by email={}", makerEmail);
-        User maker = makerRepository.findByEmailAndDeletedFalse(makerEmail)
-                .orElseThrow(() -> {
-                    log.warn("Step1-ERROR: maker not found or deleted");
-                    return new ApiException(ErrorCode.FORBIDDEN);
-                });
-        log.info("Step1: OK - makerId={}", maker.getId());
-
-        // Step2: 매장 선택
-        log.info("Step2: Get first store from maker");
-        Store store = maker.getStores().getFirst();
-        log.info("Step2: OK - storeId={}", store.getId());
-
-        // Step3: 이미지 유효성 검사
-        log.info("Step3: Validate images - count={}", request.image() != null ? request.image().size() : 0);
+        // Step1: 토큰 클레임의 대표 가게 사용 (사용자/가게 조회 생략)
+        log.info("Step1: Resolve maker store from token - makerId={}", maker.userId());
+        Long storeId = requireStoreId(maker);
+        log.info("Step1: OK - storeId={}", storeId);
+
+        // Step2: 이미지 유효성 검사
+        log.info("Step2: Validate images - count={}", request.image() != null ? request.image().size() : 0);
         AssetValidator.validateImages(Objects.requireNonNull(request.image()));
-        log.info("Step3: OK");
+        log.info("Step2: OK");
 
-        // Step4: 날짜 파싱
-        log.info("Step4: Parse dates - start={}, end={}", request.startDate(), request.endDate());
+        // Step3: 날짜 파싱
+        log.info("Step3: Parse dates - start={}, end={}", request.startDate(), request.endDate());
         LocalDate startDate = LocalDate.parse(request.startDate());
         LocalDate endDate = LocalDate.parse(request.endDate());
-        log.info("Step4: OK");
+        log.info("Step3: OK");
 
-        // Step5: 날짜 범위 검증
-        log.info("Step5: Validate date range");
+        // Step4: 날짜 범위 검증
+        log.info("Step4: Validate date range");
         EventValidator.validateDateRange(startDate, endDate);
-        log.info("Step5: OK");
-
-        // Step6: 이벤트 생성
-        log.info("Step6: Create pending event");
-        Event event = createPendingEvent(request.title(), store, startDate, endDate);
-        log.info("Step6: OK - eventId={}", event.getId());
+        log.info("Step4: OK");
 
-        // Step7: 이벤트 에셋 생성
-        log.info("Step7: Create pending event asset");
-        EventAsset eventAsset = createPendingEventAsset(event, request);
-        log.info("Step7: OK - eventAssetId={}", eventAsset.getId());
+        // 스트림 적체 확인 (한도 초과 시 업로드 전에 Retry-After 로 거절)
+        redisStreamAdmissionControl.admit(RedisStreamKey.EVENT_ASSET);
 
-        // Step8: WEBP 변환 여부 결정
-        log.info("Step8: Determine if images should convert to WEBP");
+        // Step5: WEBP 변환 여부 결정
+        log.info("Step5: Determine if images should convert to WEBP");
         boolean convertToWebp = shouldConvertToWebp(request.type());
-        log.info("Step8: OK - convertToWebp={}", convertToWebp);
+        log.info("Step5: OK - convertToWebp={}", convertToWebp);
 
-        // Step9: 이미지 업로드
-        log.info("Step9: Upload images to path={}", IMAGE_BASE_PATH + maker.getEmail());
-        List<String> uploadedImageUrls = uploadImages(request.image(), IMAGE_BASE_PATH + maker.getEmail(),
+        // Step6: 이미지 업로드 (트랜잭션 밖, 병렬 처리)
+        log.info("Step6: Upload images to path={}", IMAGE_BASE_PATH + maker.email());
+        List<String> uploadedImageUrls = uploadImages(request.image(), IMAGE_BASE_PATH + maker.email(),
                 convertToWebp);
-        log.info("Step9: OK - uploadedImageCount={}", uploadedImageUrls.size());
-
-        // Step10: 메시지 생성
-        log.info("Step10: Create EventAssetGenerateMessage");
-        EventAssetGenerateMessage message = EventAssetGenerateMessage.of(
-                eventAsset.getId(),
-                AssetType.IMAGE,
-                request.prompt(),
-                store.getId(),
-                maker.getId(),
-                request.title(),
-                startDate,
-                endDate,
-                uploadedImageUrls
-        );
-        log.info("Step10: OK");
-
-        log.info("[EventServiceImpl]: {}", uploadedImageUrls);
-        // Step11: 메시지 발행
-        log.info("Step11: Publish message to Redis stream={}", RedisStreamKey.EVENT_ASSET);
-        eventAssetRedisPublisher.publish(RedisStreamKey.EVENT_ASSET, message);
-        log.info("Step11: OK");
+        log.info("Step6: OK - uploadedImageCount={}", uploadedImageUrls.size());
+
+        EventAssetRequestResponse response = transactionTemplate.execute(status -> {
+            Store store = storeRepository.getReferenceById(storeId);
+
+            // Step7: 이벤트 생성
+            log.info("Step7: Create pending event");
+            Event event = createPendingEvent(request.title(), store, startDate, endDate);
+            log.info("Step7: OK - eventId={}", event.getId());
+
+            // Step8: 이벤트 에셋 생성
+            log.info("Step8: Create pending event asset");
+            EventAsset eventAsset = createPendingEventAsset(event, request);
+            cacheAssetStatus(eventAsset);
+            log.info("Step8: OK - eventAssetId={}", eventAsset.getId());
+
+            // Step9: 메시지 생성
+            log.info("Step9: Create EventAssetGenerateMessage");
+            EventAssetGenerateMessage message = EventAssetGenerateMessage.of(
+                    eventAsset.getId(),
+                    AssetType.IMAGE,
+                    request.prompt(),
+                    storeId,
+                    maker.userId(),
+                    request.title(),
+                    startDate,
+                    endDate,
+                    uploadedImageUrls
+            );
+            log.info("Step9: OK");
+
+            log.info("[EventServiceImpl]: {}", uploadedImageUrls);
+            // Step10: 메시지 저장 (커밋 이후 아웃박스 릴레이가 발행)
+            log.info("Step10: Enqueue message to outbox for stream={}", RedisStreamKey.EVENT_ASSET);
+            streamOutboxService.enqueue(RedisStreamKey.EVENT_ASSET, eventAssetRedisPublisher, message);
+            log.info("Step10: OK");
+
+            return EventAssetRequestResponse.from(event, eventAsset);
+        });
 
         log.info("===== [Service] requestEventAsset END =====");
-        return EventAssetRequestResponse.from(event, eventAsset);
+        return response;
     }
 
     @Override
@@ -148,26 +171,69 @@ public class EventServiceImpl implements EventService {
         AssetValidator.validateCallbackRequest(asset, request);
         Status status = Status.fromString(request.result());
         asset.processCallback(status, request.assetUrl());
+        cacheAssetStatus(asset);
+        assetGenerationMetrics.recordCompleted(AssetDomain.EVENT, status, asset.getCreatedAt());
+
+        eventPublisher.publishEvent(
+                AssetCompletedEvent.of(AssetDomain.EVENT, asset.getId(), status, asset.getType(), asset.getPath()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeEventAssetCompletion(Long assetId, Long makerId) {
+        return assetCompletionNotifier.subscribe(AssetDomain.EVENT, assetId, () -> {
+            EventAsset asset = eventAssetRepository.findByIdWithStore(assetId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.ASSET_NOT_FOUND, assetId));
+            EventValidator.validateOwnership(makerId, asset);
+
+            return asset.isPending()
+                    ? null
+                    : AssetCompletedEvent.of(AssetDomain.EVENT, assetId, asset.getStatus(), asset.getType(),
+                            asset.getPath());
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
-    public AssetResultResponse getEventAssetStatus(Long assetId, String makerEmail) {
-        User maker = makerRepository.findByEmailAndDeletedFalse(makerEmail)
-                .orElseThrow(() -> new ApiException(ErrorCode.FORBIDDEN));
+    public AssetResultResponse getEventAssetStatus(Long assetId, Long makerId) {
+        Optional<CachedAssetStatus> cached = assetStatusCacheService.get(AssetDomain.EVENT, assetId);
+        if (cached.isPresent()) {
+            EventValidator.validateOwnerId(makerId, cached.get().ownerId());
+            return toAssetResultResponse(assetId, cached.get().status(), AssetType.valueOf(cached.get().type()),
+                    cached.get().path());
+        }
 
         EventAsset asset = eventAssetRepository.findByIdWithStore(assetId)
                 .orElseThrow(() -> new ApiException(ErrorCode.ASSET_NOT_FOUND, assetId));
 
-        EventValidator.validateOwnership(maker, asset);
+        EventValidator.validateOwnership(makerId, asset);
+        assetStatusCacheService.backfill(AssetDomain.EVENT, asset.getId(), toCachedStatus(asset));
 
-        return switch (asset.getStatus()) {
-            case SUCCESS -> new AssetResultResponse(asset.getType(), asset.getPath());
-            case PENDING -> new AssetResultResponse(asset.getType(), "");
+        return toAssetResultResponse(assetId, asset.getStatus(), asset.getType(), asset.getPath());
+    }
+
+    private AssetResultResponse toAssetResultResponse(Long assetId, Status status, AssetType type, String path) {
+        return switch (status) {
+            case SUCCESS -> new AssetResultResponse(type, path);
+            case PENDING -> new AssetResultResponse(type, "");
             case FAIL -> throw new ApiException(ErrorCode.ASSET_URL_REQUIRED, assetId);
         };
     }
 
+    private void cacheAssetStatus(final EventAsset asset) {
+        assetStatusCacheService.put(AssetDomain.EVENT, asset.getId(), toCachedStatus(asset));
+    }
+
+    private CachedAssetStatus toCachedStatus(final EventAsset asset) {
+        return new CachedAssetStatus(
+                asset.getStatus(),
+                Objects.toString(asset.getType(), null),
+                asset.getPath(),
+                null,
+                asset.getEvent().getStore().getMaker().getId()
+        );
+    }
+
     @Override
     @Transactional
     public EventFinalizeResponse finalizeEvent(final EventFinalizeRequest request) {
@@ -190,14 +256,11 @@ public class EventServiceImpl implements EventService {
 
     @Override
     @Transactional(readOnly = true)
-    public Resource downloadEventAsset(Long assetId, String makerEmail) {
-        User maker = makerRepository.findByEmailAndDeletedFalse(makerEmail)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
-
+    public Resource downloadEventAsset(Long assetId, Long makerId) {
         EventAsset asset = eventAssetRepository.findByIdWithStore(assetId)
                 .orElseThrow(() -> new ApiException(ErrorCode.ASSET_NOT_FOUND, assetId));
 
-        EventValidator.validateOwnership(maker, asset);
+        EventValidator.validateOwnership(makerId, asset);
 
         if (asset.getPath() == null || asset.getPath().isBlank()) {
             throw new ApiException(ErrorCode.ASSET_URL_REQUIRED, assetId);
@@ -222,12 +285,13 @@ public class EventServiceImpl implements EventService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<MyEventResponse> getMyEvents(Long lastEventId, String makerEmail) {
-        User maker = makerRepository.findByEmailAndDeletedFalse(makerEmail)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
+    public List<MyEventResponse> getMyEvents(Long lastEventId, Long makerId) {
+        if (Objects.isNull(makerId)) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED);
+        }
 
         List<Event> events = eventRepository.findMyEventsWithCursor(
-                makerEmail,
+                makerId,
                 lastEventId,
                 PageRequest.of(0, PagingConstants.DEFAULT_SIZE.value)
         );
@@ -290,14 +354,11 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    public void deleteEvent(Long eventId, String makerEmail) {
-        User maker = makerRepository.findByEmailAndDeletedFalse(makerEmail)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
-
+    public void deleteEvent(Long eventId, Long makerId) {
         Event event = eventRepository.findByIdAndDeletedFalse(eventId)
                 .orElseThrow(() -> new ApiException(ErrorCode.EVENT_NOT_FOUND, eventId));
 
-        EventValidator.validateOwnership(maker, event);
+        EventValidator.validateOwnership(makerId, event);
 
         // 소프트 삭제
         event.delete();
@@ -309,6 +370,22 @@ public class EventServiceImpl implements EventService {
         return eventRepository.findByStoreIdAndStatus(storeId, Status.SUCCESS);
     }
 
+    /**
+     * 토큰의 대표 가게 ID를 반환한다. 토큰 발급 이후 가게가 삭제되거나 소유자가 바뀐 경우를 막기 위해 요청마다 소유 여부를 확인한다.
+     */
+    private Long requireStoreId(final AuthenticatedUser maker) {
+        if (Objects.isNull(maker.storeId())) {
+            log.warn("Step1-ERROR: maker has no store claim - makerId={}", maker.userId());
+            throw new ApiException(ErrorCode.FORBIDDEN);
+        }
+        if (!storeRepository.existsByIdAndMakerIdAndDeletedFalse(maker.storeId(), maker.userId())) {
+            log.warn("Step1-ERROR: store not owned by maker - makerId={}, storeId={}", maker.userId(),
+                    maker.storeId());
+            throw new ApiException(ErrorCode.STORE_NOT_FOUND, maker.storeId());
+        }
+        return maker.storeId();
+    }
+
     private Event createPendingEvent(final String title, final Store store, final LocalDate startDate,
                                      final LocalDate endDate) {
         return eventRepository.save(Event.createPending(title, store, startDate, endDate));
@@ -320,14 +397,12 @@ public class EventServiceImpl implements EventService {
 
     private List<String> uploadImages(final List<MultipartFile> images, final String relativeBase,
                                       final boolean convertToWebp) {
-        return images.stream()
-                .map(file -> fileStorageService.storeEventAndMenuPosterImage(
-                        file,
-                        relativeBase,
-                        file.getOriginalFilename(),
-                        false
-                ))
-                .toList();
+        return imageUploadExecutor.uploadAll(images, file -> fileStorageService.storeEventAndMenuPosterImage(
+                file,
+                relativeBase,
+                file.getOriginalFilename(),
+                false
+        ));
     }
 
     private boolean shouldConvertToWebp(String type) {
@@ -2,13 +2,13 @@ package com.domain.event.validator;
 
 import com.domain.event.entity.Event;
 import com.domain.event.entity.EventAsset;
-import com.domain.user.entity.User;
 import com.global.constants.AssetType;
 import com.global.constants.ErrorCode;
 import com.global.exception.ApiException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Component
 public class EventValidator {
@@ -21,14 +21,18 @@ public class EventValidator {
         }
     }
 
-    public static void validateOwnership(User maker, Event event) {
-        if (!event.getStore().getMaker().getId().equals(maker.getId())) {
+    public static void validateOwnership(Long makerId, Event event) {
+        validateOwnerId(makerId, event.getStore().getMaker().getId());
+    }
+
+    public static void validateOwnerId(Long makerId, Long ownerId) {
+        if (Objects.isNull(makerId) || !Objects.equals(ownerId, makerId)) {
             throw new ApiException(ErrorCode.FORBIDDEN);
         }
     }
 
-    public static void validateOwnership(User maker, EventAsset asset) {
-        validateOwnership(maker, asset.getEvent());
+    public static void validateOwnership(Long makerId, EventAsset asset) {
+        validateOwnership(makerId, asset.getEvent());
     }
 
     public static void validatePendingStatus(Event event) {
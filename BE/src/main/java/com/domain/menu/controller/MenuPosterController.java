@@ -1,5 +1,6 @@
 package com.domain.menu.controller;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.menu.dto.request.*;
 import com.domain.menu.dto.response.*;
 import com.domain.menu.mapper.MenuPosterMapper;
@@ -17,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -32,9 +34,9 @@ public class MenuPosterController {
     @PostMapping(value = "/assets/request", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BaseResponse> requestMenuPosterAsset(
             @Valid @ModelAttribute final MenuPosterAssetCreateRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser eater
     ) {
-        MenuPosterAssetRequestResponse response = menuPosterService.requestMenuPosterAsset(request, email);
+        MenuPosterAssetRequestResponse response = menuPosterService.requestMenuPosterAsset(request, eater);
         return ApiResponseFactory.success(SuccessCode.POSTER_REQUESTED, response);
     }
 
@@ -49,9 +51,9 @@ public class MenuPosterController {
     @GetMapping("/assets/{assetId}/result")
     public ResponseEntity<BaseResponse> getMenuPosterAssetResult(
             @PathVariable("assetId") final Long assetId,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser eater
     ) {
-        AssetResultResponse response = menuPosterService.getMenuPosterAssetStatus(assetId, email);
+        AssetResultResponse response = menuPosterService.getMenuPosterAssetStatus(assetId, eater.userId());
 
         // response에 assetUrl이 있으면 SUCCESS, 빈 문자열이면 PENDING
         SuccessCode successCode = !response.path().isEmpty()
@@ -61,6 +63,14 @@ public class MenuPosterController {
         return ApiResponseFactory.success(successCode, response);
     }
 
+    @GetMapping(value = "/assets/{assetId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMenuPosterAssetCompletion(
+            @PathVariable("assetId") final Long assetId,
+            @AuthenticationPrincipal final AuthenticatedUser eater
+    ) {
+        return menuPosterService.subscribeMenuPosterAssetCompletion(assetId, eater.userId());
+    }
+
     @PostMapping("/finalize")
     public ResponseEntity<BaseResponse> finalizeMenuPoster(
             @Valid @RequestBody final MenuPosterFinalizeRequest request
@@ -72,38 +82,37 @@ public class MenuPosterController {
     @PostMapping("/send")
     public ResponseEntity<BaseResponse> sendMenuPosterToMaker(
             @Valid @RequestBody final SendMenuPosterRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser eater
     ) {
-        menuPosterService.sendMenuPosterToMaker(request.menuPosterId(), email);
+        menuPosterService.sendMenuPosterToMaker(request.menuPosterId(), eater.userId());
         return ApiResponseFactory.success(SuccessCode.POSTER_SENT);
     }
 
     @PostMapping("/adopted")
     public ResponseEntity<BaseResponse> adoptMenuPosters(
             @Valid @RequestBody final AdoptMenuPostersRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
-        AdoptMenuPostersResponse response = menuPosterService.adoptMenuPosters(request, email);
+        AdoptMenuPostersResponse response = menuPosterService.adoptMenuPosters(request, maker.userId());
         return ApiResponseFactory.success(SuccessCode.POSTERS_ADOPTED, response);
     }
 
     @DeleteMapping("/adopted")
     public ResponseEntity<BaseResponse> releaseMenuPosters(
             @Valid @RequestBody final ReleaseMenuPosterRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser maker
     ) {
-        ReleaseMenuPosterResponse response = menuPosterService.releaseMenuPosters(request, email);
+        ReleaseMenuPosterResponse response = menuPosterService.releaseMenuPosters(request, maker.userId());
         return ApiResponseFactory.success(SuccessCode.POSTER_RELEASE, response);
     }
 
 
     @GetMapping("/{storeId}/adopted")
     public ResponseEntity<BaseResponse> getAdoptedMenuPosters(
-            @PathVariable Long storeId,
-            @AuthenticationPrincipal String email) {
+            @PathVariable Long storeId) {
 
         List<AdoptedMenuPosterResponse> adoptedPosters =
-                menuPosterService.getAdoptedMenuPosters(storeId, email);
+                menuPosterService.getAdoptedMenuPosters(storeId);
 
         return ApiResponseFactory.success(
                 SuccessCode.ADOPTED_POSTERS_FOUND,
@@ -112,14 +121,15 @@ public class MenuPosterController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<BaseResponse> getMyMenuPosters(@AuthenticationPrincipal final String email) {
+    public ResponseEntity<BaseResponse> getMyMenuPosters(@AuthenticationPrincipal final AuthenticatedUser eater) {
         return ApiResponseFactory.success(SuccessCode.POSTER_GET,
-                menuPosterMapper.toResponse(menuPosterService.getMyMenuPosters(email)));
+                menuPosterMapper.toResponse(menuPosterService.getMyMenuPosters(eater.userId())));
     }
 
     @GetMapping("/received")
-    public ResponseEntity<BaseResponse> getRevceivedMenuPosters(@AuthenticationPrincipal final String email) {
+    public ResponseEntity<BaseResponse> getRevceivedMenuPosters(
+            @AuthenticationPrincipal final AuthenticatedUser maker) {
         return ApiResponseFactory.success(SuccessCode.POSTER_GET,
-                menuPosterMapper.toResponse(menuPosterService.getReceivedMenuPosters(email)));
+                menuPosterMapper.toResponse(menuPosterService.getReceivedMenuPosters(maker.userId(), maker.storeId())));
     }
 }
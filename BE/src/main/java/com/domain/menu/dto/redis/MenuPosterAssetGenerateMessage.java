@@ -23,28 +23,20 @@ public class MenuPosterAssetGenerateMessage extends AbstractRedisStreamMessage {
     private final String prompt;
     private final Long storeId;
     private final Long userId;
-    private final List<MenuItem> menuItems;  // Menu 엔티티 → MenuItem DTO로 변경
+    private final List<MenuRef> menuRefs;  // 메뉴 ID + 버전 (상세는 메뉴 스냅샷 캐시에서 조회)
     private final List<String> referenceImages;
     private final Instant requestedAt;
 
-    // MenuItem 내부 레코드 추가
-    public static record MenuItem(
-            Long id,
-            String name,
-            String description,
-            String imageUrl
-    ) {}
-
     public static MenuPosterAssetGenerateMessage of(
             Long menuPostAssetId,
             AssetType type,
             String prompt,
             Long storeId,
             Long userId,
-            List<MenuItem> menuItems,  // 파라미터 타입 변경
+            List<MenuRef> menuRefs,
             List<String> referenceImages
     ) {
-        validateRequiredFields(menuPostAssetId, type, prompt, storeId, userId, menuItems, referenceImages);
+        validateRequiredFields(menuPostAssetId, type, prompt, storeId, userId, menuRefs, referenceImages);
 
         Instant requestedAt = Instant.now();
 
@@ -54,7 +46,7 @@ public class MenuPosterAssetGenerateMessage extends AbstractRedisStreamMessage {
                 .prompt(prompt)
                 .storeId(storeId)
                 .userId(userId)
-                .menuItems(menuItems)  // 필드명 변경
+                .menuRefs(menuRefs)
                 .referenceImages(referenceImages)
                 .requestedAt(requestedAt)
                 .expireAt(calculateExpireAt(STREAM_EVENT_ASSET_TTL))
@@ -70,7 +62,7 @@ public class MenuPosterAssetGenerateMessage extends AbstractRedisStreamMessage {
             String prompt,
             Long storeId,
             Long userId,
-            List<MenuItem> menuItems,  // 파라미터 타입 변경
+            List<MenuRef> menuRefs,
             List<String> imageUrls
     ) {
         if (Objects.isNull(menuPostAssetId) ||
@@ -78,7 +70,7 @@ public class MenuPosterAssetGenerateMessage extends AbstractRedisStreamMessage {
                 Objects.isNull(prompt) || prompt.isBlank() ||
                 Objects.isNull(storeId) ||
                 Objects.isNull(userId) ||
-                Objects.isNull(menuItems) || menuItems.isEmpty() ||  // 빈 리스트 체크 추가
+                Objects.isNull(menuRefs) || menuRefs.isEmpty() ||  // 빈 리스트 체크 추가
                 Objects.isNull(imageUrls) || imageUrls.isEmpty()) {  // 빈 리스트 체크 추가
             throw new ApiException(ErrorCode.REQUIRED_MENU_FIELDS_MISSING);
         }
@@ -0,0 +1,13 @@
+package com.domain.menu.dto.redis;
+
+/**
+ * 생성 요청 스트림 메시지에 담기는 메뉴 참조
+ * <p>
+ * 메뉴 상세(이름, 설명, 이미지 URL)는 메시지에 싣지 않고, AI 서버가 {@code menu:{id}:snapshot} 캐시에서 읽는다.
+ * version 은 메시지를 만들 때 본 메뉴의 수정 시각(ms)으로, 캐시의 스냅샷과 비교해 변경 여부를 확인하는 데 쓴다.
+ */
+public record MenuRef(
+        Long id,
+        long version
+) {
+}
@@ -1,7 +1,23 @@
 package com.domain.menu.repository;
 
 import com.domain.menu.entity.MenuPosterAsset;
+import com.global.constants.Status;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface MenuPosterAssetRepository extends CrudRepository<MenuPosterAsset, Long> {
+
+    /**
+     * 현재 상태가 expected 인 에셋만 일괄로 상태 변경
+     *
+     * @return 변경된 에셋 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MenuPosterAsset a SET a.status = :status WHERE a.id IN :ids AND a.status = :expected")
+    int updateStatusIfCurrent(@Param("ids") Collection<Long> ids,
+                              @Param("expected") Status expected,
+                              @Param("status") Status status);
 }
@@ -1,9 +1,25 @@
 package com.domain.menu.repository;
 
 import com.domain.menu.entity.Menu;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
     List<Menu> findByStoreId(Long storeId);
+
+    /**
+     * 메뉴 스냅샷 버전 비교용 수정 시각만 조회 (엔티티 로딩 없음)
+     */
+    List<MenuModifiedAt> findModifiedAtByIdIn(Collection<Long> ids);
+
+    interface MenuModifiedAt {
+
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
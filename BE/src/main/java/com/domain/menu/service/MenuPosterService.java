@@ -1,5 +1,6 @@
 package com.domain.menu.service;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.menu.dto.request.AdoptMenuPostersRequest;
 import com.domain.menu.dto.request.MenuPosterAssetCreateRequest;
 import com.domain.menu.dto.request.MenuPosterFinalizeRequest;
@@ -9,27 +10,30 @@ import com.domain.menu.entity.MenuPoster;
 import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface MenuPosterService {
 
     MenuPosterAssetRequestResponse requestMenuPosterAsset(final MenuPosterAssetCreateRequest request,
-                                                          final String eaterMail);
+                                                          final AuthenticatedUser eater);
 
     void handleMenuPosterAssetCallback(final AssetCallbackRequest<?> request);
 
-    AssetResultResponse getMenuPosterAssetStatus(final Long assetId, final String eaterMail);
+    AssetResultResponse getMenuPosterAssetStatus(final Long assetId, final Long eaterId);
+
+    SseEmitter subscribeMenuPosterAssetCompletion(final Long assetId, final Long eaterId);
 
     MenuPosterFinalizeResponse finalizeMenuPoster(final MenuPosterFinalizeRequest request);
 
-    void sendMenuPosterToMaker(final Long menuPosterId, final String eaterEmail);
+    void sendMenuPosterToMaker(final Long menuPosterId, final Long eaterId);
 
-    AdoptMenuPostersResponse adoptMenuPosters(final AdoptMenuPostersRequest request, final String makerEmail);
+    AdoptMenuPostersResponse adoptMenuPosters(final AdoptMenuPostersRequest request, final Long makerId);
 
-    ReleaseMenuPosterResponse releaseMenuPosters(ReleaseMenuPosterRequest request, String makerEmail);
+    ReleaseMenuPosterResponse releaseMenuPosters(ReleaseMenuPosterRequest request, Long makerId);
 
-    List<MenuPoster> getMyMenuPosters(String email);
+    List<MenuPoster> getMyMenuPosters(Long eaterId);
 
-    List<MenuPoster> getReceivedMenuPosters(String email);
+    List<MenuPoster> getReceivedMenuPosters(Long makerId, Long storeId);
 
-    List<AdoptedMenuPosterResponse> getAdoptedMenuPosters(Long storeId, String eaterEmail);
+    List<AdoptedMenuPosterResponse> getAdoptedMenuPosters(Long storeId);
 }
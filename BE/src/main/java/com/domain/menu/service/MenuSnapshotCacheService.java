@@ -0,0 +1,236 @@
+package com.domain.menu.service;
+
+import static com.global.redis.constants.RedisConstants.CACHE_MENU_SNAPSHOT_TTL;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_PROCESSING_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_SERIALIZATION_FAILED;
+
+import com.domain.menu.dto.redis.MenuRef;
+import com.domain.menu.entity.Menu;
+import com.domain.menu.repository.MenuRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+/**
+ * AI 서버와 공유하는 메뉴 스냅샷 read-through 캐시
+ * <p>
+ * 생성 요청 메시지는 메뉴 상세 대신 {@link MenuRef}(ID + 버전)만 싣고, AI 서버는 {@code menu:{id}:snapshot} 키의 JSON
+ * ({@code id, version, name, description, imageUrl})을 읽어 메뉴 정보를 얻는다. 메뉴가 많을수록 스트림 메모리와 발행 비용이
+ * 메시지마다 반복되지 않는다.
+ * <ul>
+ *     <li>캐시에 있는 메뉴는 DB 에서 수정 시각만 읽어 스냅샷 버전과 비교한다. 같으면 TTL 만 연장해, 메시지가 소비되기 전에
+ *     스냅샷이 만료되지 않도록 한다.</li>
+ *     <li>없거나 버전이 다른(수정/삭제된) 메뉴만 DB 에서 읽어 다시 적재한다. 메뉴 수정 경로가 따로 캐시를 지우지 않아도 오래된
+ *     스냅샷이 메시지에 실리지 않는다. 적중/미스/버전 불일치는 {@code menu.snapshot.cache.hits/misses/stale} 메트릭으로
+ *     노출된다.</li>
+ *     <li>메시지가 참조하는 스냅샷이 없으면 AI 서버가 처리할 수 없으므로, 적재 실패는 요청 실패로 전파한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenuSnapshotCacheService {
+
+    private static final String CACHE_KEY_PATTERN = "menu:%d:snapshot";
+
+    private static final String METRIC_HITS = "menu.snapshot.cache.hits";
+    private static final String METRIC_MISSES = "menu.snapshot.cache.misses";
+    private static final String METRIC_STALE = "menu.snapshot.cache.stale";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MenuRepository menuRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시에 저장되는 메뉴 스냅샷 (AI 서버와 공유하는 스펙)
+     */
+    public record MenuSnapshot(
+            Long id,
+            long version,
+            String name,
+            String description,
+            String imageUrl
+    ) {
+
+        static MenuSnapshot from(final Menu menu) {
+            return new MenuSnapshot(menu.getId(), versionOf(menu.getCreatedAt(), menu.getUpdatedAt()), menu.getName(),
+                    menu.getDescription(), menu.getImageUrl());
+        }
+
+        MenuRef toRef() {
+            return new MenuRef(id, version);
+        }
+    }
+
+    /**
+     * 스냅샷 버전 - 마지막 수정 시각(ms), 수정된 적이 없으면 생성 시각
+     */
+    private static long versionOf(final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        LocalDateTime modifiedAt = Objects.nonNull(updatedAt) ? updatedAt : createdAt;
+        return Objects.isNull(modifiedAt) ? 0L : modifiedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 메뉴 ID 목록을 참조로 변환 - 캐시에 없거나 버전이 현재 메뉴와 다른 메뉴만 DB 에서 읽어 적재한다.
+     * <p>
+     * 존재하지 않는 메뉴 ID 는 결과에서 빠지며, 결과 순서는 요청 순서를 따른다.
+     */
+    public List<MenuRef> resolve(final List<Long> menuIds) {
+        if (Objects.isNull(menuIds) || menuIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> distinctIds = menuIds.stream().filter(Objects::nonNull).distinct().toList();
+        List<String> cached = read(distinctIds);
+        Map<Long, Long> versions = currentVersions(distinctIds);
+
+        Map<Long, MenuRef> refs = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        int stale = 0;
+        for (int i = 0; i < distinctIds.size(); i++) {
+            Long menuId = distinctIds.get(i);
+            Long version = versions.get(menuId);
+            if (Objects.isNull(version)) {
+                continue;  // 존재하지 않는 메뉴
+            }
+            MenuSnapshot snapshot = parse(cached.get(i));
+            if (Objects.nonNull(snapshot) && snapshot.version() == version) {
+                refs.put(menuId, snapshot.toRef());
+                continue;
+            }
+            if (Objects.nonNull(snapshot)) {
+                stale++;
+            }
+            missedIds.add(menuId);
+        }
+
+        int hits = refs.size();
+        if (hits > 0) {
+            touch(refs.keySet());
+        }
+        if (!missedIds.isEmpty()) {
+            cache(menuRepository.findAllById(missedIds)).forEach(ref -> refs.put(ref.id(), ref));
+        }
+        meterRegistry.counter(METRIC_HITS).increment(hits);
+        meterRegistry.counter(METRIC_MISSES).increment(missedIds.size());
+        meterRegistry.counter(METRIC_STALE).increment(stale);
+
+        return distinctIds.stream()
+                .map(refs::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 이미 조회한 메뉴를 캐시에 적재하고 참조로 변환 (DB 재조회 없음)
+     * <p>
+     * 메시지는 커밋 이후 발행되므로 스냅샷은 즉시 적재한다. 트랜잭션이 롤백되어도 남는 스냅샷은 실제 메뉴 정보라 무해하다.
+     */
+    public List<MenuRef> cache(final Collection<Menu> menus) {
+        if (Objects.isNull(menus) || menus.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        List<MenuRef> refs = new ArrayList<>(menus.size());
+        for (Menu menu : menus) {
+            MenuSnapshot snapshot = MenuSnapshot.from(menu);
+            entries.put(generateKey(snapshot.id()), toJson(snapshot));
+            refs.add(snapshot.toRef());
+        }
+
+        try {
+            Expiration expiration = Expiration.from(CACHE_MENU_SNAPSHOT_TTL);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands()
+                        .set(bytes(key), bytes(value), expiration, SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            throw new RuntimeException(ERROR_REDIS_PROCESSING_FAILED, e);
+        }
+        return refs;
+    }
+
+    private Map<Long, Long> currentVersions(final List<Long> menuIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        menuRepository.findModifiedAtByIdIn(menuIds).forEach(menu ->
+                versions.put(menu.getId(), versionOf(menu.getCreatedAt(), menu.getUpdatedAt())));
+        return versions;
+    }
+
+    private List<String> read(final List<Long> menuIds) {
+        List<String> keys = menuIds.stream().map(this::generateKey).toList();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (Objects.nonNull(values) && values.size() == keys.size()) {
+                return values;
+            }
+        } catch (Exception e) {
+            // 캐시 장애 시 DB 조회 후 다시 적재를 시도한다.
+            log.warn("[MenuSnapshotCache] 조회 실패 - menuIds: {}", menuIds, e);
+        }
+        return new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+
+    private void touch(final Collection<Long> menuIds) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                menuIds.forEach(menuId -> connection.keyCommands()
+                        .expire(bytes(generateKey(menuId)), CACHE_MENU_SNAPSHOT_TTL.toSeconds()));
+                return null;
+            });
+        } catch (Exception e) {
+            // 남은 TTL 이 충분하므로 연장 실패는 요청을 막지 않는다.
+            log.warn("[MenuSnapshotCache] TTL 연장 실패 - menuIds: {}", menuIds, e);
+        }
+    }
+
+    private MenuSnapshot parse(final String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, MenuSnapshot.class);
+        } catch (JsonProcessingException e) {
+            // 형식이 맞지 않는 값은 미스로 보고 다시 적재한다.
+            log.warn("[MenuSnapshotCache] 역직렬화 실패 - value: {}", value, e);
+            return null;
+        }
+    }
+
+    private String toJson(final MenuSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(ERROR_SERIALIZATION_FAILED, e);
+        }
+    }
+
+    private String generateKey(final Long menuId) {
+        return String.format(CACHE_KEY_PATTERN, menuId);
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
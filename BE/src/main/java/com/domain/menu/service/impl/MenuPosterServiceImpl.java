@@ -1,6 +1,10 @@
 package com.domain.menu.service.impl;
 
+import com.domain.auth.jwt.AuthenticatedUser;
+import com.domain.common.service.AssetStatusCacheService;
+import com.domain.common.service.AssetStatusCacheService.CachedAssetStatus;
 import com.domain.menu.dto.redis.MenuPosterAssetGenerateMessage;
+import com.domain.menu.dto.redis.MenuRef;
 import com.domain.menu.dto.request.AdoptMenuPostersRequest;
 import com.domain.menu.dto.request.MenuPosterAssetCreateRequest;
 import com.domain.menu.dto.request.MenuPosterFinalizeRequest;
@@ -16,12 +20,12 @@ import com.domain.menu.repository.AdoptedMenuPosterRepository;
 import com.domain.menu.repository.MenuPosterAssetRepository;
 import com.domain.menu.repository.MenuPosterRepository;
 import com.domain.menu.service.MenuPosterService;
+import com.domain.menu.service.MenuSnapshotCacheService;
 import com.domain.menu.validator.MenuValidator;
 import com.domain.store.entity.Store;
 import com.domain.store.repository.StoreRepository;
 import com.domain.user.entity.User;
 import com.domain.user.repository.EaterRepository;
-import com.domain.user.repository.MakerRepository;
 import com.global.constants.AssetType;
 import com.global.constants.ErrorCode;
 import com.global.constants.Status;
@@ -30,15 +34,26 @@ import com.global.dto.response.AssetResultResponse;
 import com.global.entity.BaseEntity;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
+import com.global.filestorage.ImageUploadExecutor;
+import com.global.notification.AssetCompletedEvent;
+import com.global.notification.AssetCompletionNotifier;
+import com.global.notification.AssetDomain;
+import com.global.notification.AssetGenerationMetrics;
+import com.global.outbox.StreamOutboxService;
+import com.global.redis.admission.RedisStreamAdmissionControl;
 import com.global.redis.constants.RedisStreamKey;
 import com.global.utils.AssetValidator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
@@ -48,53 +63,62 @@ public class MenuPosterServiceImpl implements MenuPosterService {
 
     private final StoreRepository storeRepository;
     private final EaterRepository eaterRepository;
-    private final MakerRepository makerRepository;
     private final MenuPosterRepository menuPosterRepository;
     private final MenuPosterAssetRepository menuPosterAssetRepository;
     private final AdoptedMenuPosterRepository adoptedMenuPosterRepository;
     private final MenuValidator menuValidator;
     private final MenuPosterAssetRedisPublisher menuPosterAssetRedisPublisher;
     private final FileStorageService fileStorageService;
-
+    private final AssetCompletionNotifier assetCompletionNotifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssetStatusCacheService assetStatusCacheService;
+    private final ImageUploadExecutor imageUploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final StreamOutboxService streamOutboxService;
+    private final RedisStreamAdmissionControl redisStreamAdmissionControl;
+    private final AssetGenerationMetrics assetGenerationMetrics;
+    private final MenuSnapshotCacheService menuSnapshotCacheService;
+
+    /**
+     * 메뉴 포스터 에셋 생성 요청 - 이미지 업로드는 트랜잭션 밖에서 병렬로 처리하고, 엔티티 생성과 메시지 발행만 트랜잭션으로 묶는다.
+     */
     @Override
-    @Transactional
     public MenuPosterAssetRequestResponse requestMenuPosterAsset(MenuPosterAssetCreateRequest request,
-                                                                 String eaterMail) {
-        User eater = validateEater(eaterMail);
-        Store store = validateStore(request.storeId());
-
+                                                                 AuthenticatedUser principal) {
         AssetValidator.validateImages(request.image());
-
-        List<Menu> menus = menuValidator.validateMenusBelongToStore(request.menuIds(), store);
-        MenuPoster menuPoster = createPendingPoster(eater, store);
-
-        connectMenusToMenuPoster(menuPoster, menus);
-        MenuPosterAsset menuPosterAsset = createPendingAsset(menuPoster, request);
+        redisStreamAdmissionControl.admit(RedisStreamKey.MENU_POSTER);
 
         boolean convertToWebp = shouldConvertToWebp(request.type());
-        List<String> uploadedImageUrls = uploadImages(request.image(), IMAGE_BASE_PATH + eater.getEmail(), false);
-        List<MenuPosterAssetGenerateMessage.MenuItem> menuItems = menus.stream()
-                .map(m -> new MenuPosterAssetGenerateMessage.MenuItem(
-                        m.getId(),
-                        m.getName(),
-                        m.getDescription(),
-                        m.getImageUrl()
-                ))
-                .toList();
-
-        MenuPosterAssetGenerateMessage message = MenuPosterAssetGenerateMessage.of(
-                menuPosterAsset.getId(),
-                AssetType.IMAGE,
-                request.prompt(),
-                store.getId(),
-                eater.getId(),
-                menuItems,  // MenuItem DTO 리스트 전달
-                uploadedImageUrls
-        );
-        log.info("[MenuPosterServiceImpl]: message={}", uploadedImageUrls.toString());
-        menuPosterAssetRedisPublisher.publish(RedisStreamKey.MENU_POSTER, message);
-
-        return MenuPosterAssetRequestResponse.from(menuPosterAsset);
+        List<String> uploadedImageUrls = uploadImages(request.image(), IMAGE_BASE_PATH + principal.email(), false);
+
+        return transactionTemplate.execute(status -> {
+            User eater = eaterRepository.getReferenceById(principal.userId());
+            Store store = validateStore(request.storeId());
+
+            List<Menu> menus = menuValidator.validateMenusBelongToStore(request.menuIds(), store);
+            MenuPoster menuPoster = createPendingPoster(eater, store);
+
+            connectMenusToMenuPoster(menuPoster, menus);
+            MenuPosterAsset menuPosterAsset = createPendingAsset(menuPoster, request);
+            cacheAssetStatus(menuPosterAsset, principal.userId());
+
+            // 검증에서 읽은 메뉴를 스냅샷 캐시에 적재하고 메시지에는 ID + 버전만 싣는다
+            List<MenuRef> menuRefs = menuSnapshotCacheService.cache(menus);
+
+            MenuPosterAssetGenerateMessage message = MenuPosterAssetGenerateMessage.of(
+                    menuPosterAsset.getId(),
+                    AssetType.IMAGE,
+                    request.prompt(),
+                    store.getId(),
+                    principal.userId(),
+                    menuRefs,
+                    uploadedImageUrls
+            );
+            log.info("[MenuPosterServiceImpl]: message={}", uploadedImageUrls.toString());
+            streamOutboxService.enqueue(RedisStreamKey.MENU_POSTER, menuPosterAssetRedisPublisher, message);
+
+            return MenuPosterAssetRequestResponse.from(menuPosterAsset);
+        });
     }
 
     @Override
@@ -109,23 +133,68 @@ public class MenuPosterServiceImpl implements MenuPosterService {
         log.info("Success 처리 중: assetId={}", asset.getId());
         asset.processCallback(status, request.assetUrl());
         log.info("Success 완료 중: assetId={}", asset.getId());
+        cacheAssetStatus(asset, asset.getMenuPoster().getUser().getId());
+        assetGenerationMetrics.recordCompleted(AssetDomain.MENU_POSTER, status, asset.getCreatedAt());
+
+        eventPublisher.publishEvent(AssetCompletedEvent.of(
+                AssetDomain.MENU_POSTER, asset.getId(), status, asset.getType(), asset.getPath()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeMenuPosterAssetCompletion(Long assetId, Long eaterId) {
+        return assetCompletionNotifier.subscribe(AssetDomain.MENU_POSTER, assetId, () -> {
+            MenuPosterAsset asset = validateAsset(assetId);
+            menuValidator.validatePosterOwnership(eaterId, asset);
+
+            return asset.isPending()
+                    ? null
+                    : AssetCompletedEvent.of(AssetDomain.MENU_POSTER, assetId, asset.getStatus(), asset.getType(),
+                            asset.getPath());
+        });
     }
 
     @Override
     @Transactional
-    public AssetResultResponse getMenuPosterAssetStatus(Long assetId, String eaterMail) {
-        User eater = validateEater(eaterMail);
+    public AssetResultResponse getMenuPosterAssetStatus(Long assetId, Long eaterId) {
+        Optional<CachedAssetStatus> cached = assetStatusCacheService.get(AssetDomain.MENU_POSTER, assetId);
+        if (cached.isPresent()) {
+            menuValidator.validatePosterOwnerId(eaterId, cached.get().ownerId());
+            return toAssetResultResponse(assetId, cached.get().status(), AssetType.valueOf(cached.get().type()),
+                    cached.get().path());
+        }
+
         MenuPosterAsset asset = validateAsset(assetId);
 
-        menuValidator.validatePosterOwnership(eater, asset);
+        menuValidator.validatePosterOwnership(eaterId, asset);
+        assetStatusCacheService.backfill(AssetDomain.MENU_POSTER, asset.getId(),
+                toCachedStatus(asset, asset.getMenuPoster().getUser().getId()));
+
+        return toAssetResultResponse(assetId, asset.getStatus(), asset.getType(), asset.getPath());
+    }
 
-        return switch (asset.getStatus()) {
-            case SUCCESS -> new AssetResultResponse(asset.getType(), asset.getPath());
-            case PENDING -> new AssetResultResponse(asset.getType(), "");
+    private AssetResultResponse toAssetResultResponse(Long assetId, Status status, AssetType type, String path) {
+        return switch (status) {
+            case SUCCESS -> new AssetResultResponse(type, path);
+            case PENDING -> new AssetResultResponse(type, "");
             case FAIL -> throw new ApiException(ErrorCode.ASSET_URL_REQUIRED, assetId);
         };
     }
 
+    private void cacheAssetStatus(final MenuPosterAsset asset, final Long ownerId) {
+        assetStatusCacheService.put(AssetDomain.MENU_POSTER, asset.getId(), toCachedStatus(asset, ownerId));
+    }
+
+    private CachedAssetStatus toCachedStatus(final MenuPosterAsset asset, final Long ownerId) {
+        return new CachedAssetStatus(
+                asset.getStatus(),
+                Objects.toString(asset.getType(), null),
+                asset.getPath(),
+                null,
+                ownerId
+        );
+    }
+
     @Override
     @Transactional
     public MenuPosterFinalizeResponse finalizeMenuPoster(MenuPosterFinalizeRequest request) {
@@ -143,11 +212,9 @@ public class MenuPosterServiceImpl implements MenuPosterService {
 
     @Override
     @Transactional
-    public void sendMenuPosterToMaker(Long menuPosterId, String eaterEmail) {
-        User eater = validateEater(eaterEmail);
-
+    public void sendMenuPosterToMaker(Long menuPosterId, Long eaterId) {
         MenuPoster menuPoster = validateMenuPoster(menuPosterId);
-        menuValidator.validatePosterOwnership(eater, menuPoster);
+        menuValidator.validatePosterOwnership(eaterId, menuPoster);
         menuValidator.validateNotSent(menuPoster);
         menuValidator.validateSuccessStatus(menuPoster);
 
@@ -156,11 +223,10 @@ public class MenuPosterServiceImpl implements MenuPosterService {
 
     @Override
     @Transactional
-    public AdoptMenuPostersResponse adoptMenuPosters(AdoptMenuPostersRequest request, String makerEmail) {
-        User maker = validateMater(makerEmail);
+    public AdoptMenuPostersResponse adoptMenuPosters(AdoptMenuPostersRequest request, Long makerId) {
         Store store = validateStore(request.storeId());
 
-        menuValidator.validateStoreOwnership(maker, store);
+        menuValidator.validateStoreOwnership(makerId, store);
         menuValidator.validateMenuPosterCount(request.menuPosterIds());
 
         List<MenuPoster> menuPosters = menuPosterRepository.findAllById(request.menuPosterIds());
@@ -186,11 +252,10 @@ public class MenuPosterServiceImpl implements MenuPosterService {
     }
 
     @Override
-    public ReleaseMenuPosterResponse releaseMenuPosters(ReleaseMenuPosterRequest request, String makerEmail) {
-        User maker = validateMater(makerEmail);
+    public ReleaseMenuPosterResponse releaseMenuPosters(ReleaseMenuPosterRequest request, Long makerId) {
         Store store = validateStore(request.storeId());
 
-        menuValidator.validateStoreOwnership(maker, store);
+        menuValidator.validateStoreOwnership(makerId, store);
 
         MenuPoster menuPoster = menuPosterRepository.findByIdAndDeletedFalse(request.menuPosterId())
                 .orElseThrow(() -> new ApiException(ErrorCode.MENU_POSTER_NOT_FOUND));
@@ -213,22 +278,22 @@ public class MenuPosterServiceImpl implements MenuPosterService {
     }
 
     @Override
-    public List<MenuPoster> getMyMenuPosters(final String email) {
-        return menuPosterRepository.findByUserIdAndStatus(getEaterId(email), Status.SUCCESS);
+    public List<MenuPoster> getMyMenuPosters(final Long eaterId) {
+        return menuPosterRepository.findByUserIdAndStatus(eaterId, Status.SUCCESS);
     }
 
     @Override
-    public List<MenuPoster> getReceivedMenuPosters(final String email) {
-        return menuPosterRepository.findByStoreIdAndStatus(getStoreId(email), Status.SUCCESS);
+    public List<MenuPoster> getReceivedMenuPosters(final Long makerId, final Long storeId) {
+        // 토큰의 가게 ID는 발급 이후 가게가 삭제되거나 소유자가 바뀌었을 수 있으므로 요청마다 확인한다.
+        if (Objects.isNull(storeId) || !storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, makerId)) {
+            throw new ApiException(ErrorCode.STORE_NOT_FOUND);
+        }
+        return menuPosterRepository.findByStoreIdAndStatus(storeId, Status.SUCCESS);
     }
 
     @Override
-    public List<AdoptedMenuPosterResponse> getAdoptedMenuPosters(Long storeId, String eaterEmail) {
-        validateEater(eaterEmail);
-        Store store = validateStore(storeId);
-
-        eaterRepository.findByEmailAndDeletedFalse(eaterEmail)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+    public List<AdoptedMenuPosterResponse> getAdoptedMenuPosters(Long storeId) {
+        validateStore(storeId);
 
         List<AdoptedMenuPoster> adoptedPosters =
                 adoptedMenuPosterRepository.findByStoreIdOrderByAdoptedAtDesc(storeId);
@@ -249,22 +314,6 @@ public class MenuPosterServiceImpl implements MenuPosterService {
                 .toList();
     }
 
-    private User validateEater(final String eaterEmail) {
-        return eaterRepository.findByEmailAndDeletedFalse(eaterEmail)
-                .orElseThrow(() -> {
-                    log.warn("[MenuPosterService] 권한 없음 - eaterEmail: {}", eaterEmail);
-                    return new ApiException(ErrorCode.FORBIDDEN);
-                });
-    }
-
-    private User validateMater(final String makerEmail) {
-        return makerRepository.findByEmailAndDeletedFalse(makerEmail)
-                .orElseThrow(() -> {
-                    log.warn("[MenuPosterService] 권한 없음 - makerEmail: {}", makerEmail);
-                    return new ApiException(ErrorCode.FORBIDDEN);
-                });
-    }
-
     private Store validateStore(final Long storeId) {
         return storeRepository.findById(storeId)
                 .orElseThrow(() -> {
@@ -305,14 +354,12 @@ public class MenuPosterServiceImpl implements MenuPosterService {
 
     private List<String> uploadImages(final List<MultipartFile> images, final String relativeBase,
                                       final boolean convertToWebp) {
-        return images.stream()
-                .map(file -> fileStorageService.storeEventAndMenuPosterImage(
-                        file,
-                        relativeBase,
-                        file.getOriginalFilename(),
-                        false
-                ))
-                .toList();
+        return imageUploadExecutor.uploadAll(images, file -> fileStorageService.storeEventAndMenuPosterImage(
+                file,
+                relativeBase,
+                file.getOriginalFilename(),
+                false
+        ));
     }
 
     private boolean shouldConvertToWebp(String type) {
@@ -328,22 +375,4 @@ public class MenuPosterServiceImpl implements MenuPosterService {
             menuPoster.getMenuPosterMenus().add(menuPosterMenu);
         }
     }
-
-    private Long getEaterId(String email) {
-        return eaterRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getId();
-    }
-
-    private Long getMakerId(String email) {
-        return makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getId();
-    }
-
-    private Long getStoreId(String email) {
-        return makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getStores().getFirst().getId();
-    }
 }
@@ -5,7 +5,6 @@ import com.domain.menu.entity.MenuPoster;
 import com.domain.menu.entity.MenuPosterAsset;
 import com.domain.menu.repository.MenuRepository;
 import com.domain.store.entity.Store;
-import com.domain.user.entity.User;
 import com.global.constants.AssetType;
 import com.global.constants.ErrorCode;
 import com.global.exception.ApiException;
@@ -14,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -81,21 +81,27 @@ public class MenuValidator {
         }
     }
 
-    public void validateStoreOwnership(User maker, Store store) {
-        if (!store.getMaker().getId().equals(maker.getId())) {
+    public void validateStoreOwnership(Long makerId, Store store) {
+        if (!store.getMaker().getId().equals(makerId)) {
             log.warn("[MenuPosterService] 가게 소유자가 아님");
             throw new ApiException(ErrorCode.FORBIDDEN);
         }
     }
 
-    public void validatePosterOwnership(User eater, MenuPoster poster) {
-        if (!poster.getUser().getId().equals(eater.getId())) {
+    public void validatePosterOwnership(Long eaterId, MenuPoster poster) {
+        if (!poster.getUser().getId().equals(eaterId)) {
             throw new ApiException(ErrorCode.FORBIDDEN);
         }
     }
 
-    public void validatePosterOwnership(User eater, MenuPosterAsset asset) {
-        validatePosterOwnership(eater, asset.getMenuPoster());
+    public void validatePosterOwnership(Long eaterId, MenuPosterAsset asset) {
+        validatePosterOwnership(eaterId, asset.getMenuPoster());
+    }
+
+    public void validatePosterOwnerId(Long eaterId, Long ownerId) {
+        if (!Objects.equals(ownerId, eaterId)) {
+            throw new ApiException(ErrorCode.FORBIDDEN);
+        }
     }
 
     public void validateForFinalization(MenuPosterAsset asset) {
@@ -1,5 +1,6 @@
 package com.domain.review.controller;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.review.dto.request.ReviewAssetCallbackRequest;
 import com.domain.review.dto.request.ReviewAssetCreateRequest;
 import com.domain.review.dto.request.ReviewFinalizeRequest;
@@ -54,6 +55,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -107,9 +109,9 @@ public class ReviewController {
     @PostMapping(value = "/assets", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BaseResponse> requestReviewAsset(
             @ModelAttribute final ReviewAssetCreateRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser user
     ) {
-        ReviewAssetRequestResponse response = reviewService.requestReviewAsset(request, email);
+        ReviewAssetRequestResponse response = reviewService.requestReviewAsset(request, user);
         return ApiResponseFactory.success(SuccessCode.REVIEW_ASSET_REQUESTED, response);
     }
 
@@ -194,6 +196,21 @@ public class ReviewController {
         return ApiResponseFactory.success(SuccessCode.REVIEW_ASSET_GENERATION_SUCCESS, response);
     }
 
+    @Operation(
+            summary = "리뷰 에셋 생성 완료 구독",
+            description = """
+                    결과 조회 API를 반복 호출하는 대신 SSE 연결로 생성 완료를 기다립니다.
+                    생성이 끝나면 `asset-result` 이벤트(status, type, path)를 한 번 전송하고 연결을 종료합니다.
+                    """
+    )
+    @ApiInternalServerError
+    @GetMapping(value = "/assets/{reviewAssetId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReviewAssetCompletion(
+            @PathVariable @ExcludeFromLogging final Long reviewAssetId,
+            @AuthenticationPrincipal final AuthenticatedUser eater) {
+        return reviewService.subscribeReviewAssetCompletion(reviewAssetId, eater.userId());
+    }
+
     @Operation(
             summary = "3단계 - 리뷰 최종 등록",
             description = """
@@ -231,9 +248,9 @@ public class ReviewController {
     @PostMapping("/finalize")
     public ResponseEntity<BaseResponse> finalizeReview(
             @Valid @RequestBody final ReviewFinalizeRequest request,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser user
     ) {
-        ReviewFinalizeResponse response = reviewService.finalizeReview(request, email);
+        ReviewFinalizeResponse response = reviewService.finalizeReview(request, user.userId());
         return ApiResponseFactory.success(SuccessCode.REVIEW_REGISTERED, response);
     }
 
@@ -255,14 +272,13 @@ public class ReviewController {
             @RequestParam(defaultValue = "500")
             Integer distance,
             @RequestParam(required = false)
-            Long lastReviewId,
-            @AuthenticationPrincipal final String email
+            Long lastReviewId
     ) {
         log.info("Review feed request - lat: {}, lon: {}, distance: {}m, lastReviewId: {}",
                 request.latitude(), request.longitude(), distance, lastReviewId);
 
         ReviewFeedResult<ReviewFeedResponse> result = reviewService.getReviewFeed(
-                request, distance, lastReviewId, email
+                request, distance, lastReviewId
         );
 
         String code = result.nearbyReviewsFound() ? "FEED_FETCHED" : "FEED_FALLBACK";
@@ -280,7 +296,7 @@ public class ReviewController {
      * 리뷰 상세 정보 조회
      *
      * @param reviewId 조회할 리뷰 ID (필수)
-     * @param email    현재 로그인한 사용자 email (인증 시 자동 주입, 스크랩 여부 판단용)
+     * @param user     현재 로그인한 사용자 (인증 시 자동 주입, 스크랩 여부 판단용)
      * @return 리뷰 상세 정보
      */
     @ApiUnauthorizedError
@@ -292,11 +308,11 @@ public class ReviewController {
             @NotNull(message = "리뷰 ID는 필수입니다")
             @Positive(message = "리뷰 ID는 양수여야 합니다")
             Long reviewId,
-            @AuthenticationPrincipal String email
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
         log.info("Review detail request - reviewId: {}", reviewId);
 
-        ReviewDetailResponse reviewDetail = reviewService.getReviewDetail(reviewId, email);
+        ReviewDetailResponse reviewDetail = reviewService.getReviewDetail(reviewId, user.userId());
 
         SuccessResponse<ReviewDetailResponse> response = SuccessResponse.of(
                 "REVIEW_DETAIL_FETCHED",
@@ -318,13 +334,13 @@ public class ReviewController {
     public ResponseEntity<BaseResponse> getMyReviews(
             @RequestParam(required = false) Long lastReviewId,
             @RequestParam(defaultValue = "20") int pageSize,
-            @AuthenticationPrincipal String eaterEmail
+            @AuthenticationPrincipal AuthenticatedUser eater
     ) {
         log.info("My reviews request - lastReviewId: {}, pageSize: {}",
                 lastReviewId, pageSize);
 
         // 서비스 호출
-        ReviewFeedResult<MyReviewResponse> result = reviewService.getMyReviews(lastReviewId, pageSize, eaterEmail);
+        ReviewFeedResult<MyReviewResponse> result = reviewService.getMyReviews(lastReviewId, pageSize, eater.userId());
 
         // 응답 생성
         Map<String, Object> responseData = new HashMap<>();
@@ -344,8 +360,8 @@ public class ReviewController {
     /**
      * 리뷰 스크랩 토글 (추가/해제)
      *
-     * @param reviewId   스크랩할 리뷰 ID (필수)
-     * @param eaterEmail 현재 로그인한 사용자 이메일 (필수)
+     * @param reviewId 스크랩할 리뷰 ID (필수)
+     * @param eater    현재 로그인한 사용자 (필수)
      * @return 스크랩 결과 (스크랩 여부, 현재 스크랩 수)
      */
     @ApiUnauthorizedError
@@ -357,13 +373,13 @@ public class ReviewController {
             @NotNull(message = "리뷰 ID는 필수입니다")
             @Positive(message = "리뷰 ID는 양수여야 합니다")
             Long reviewId,
-            @AuthenticationPrincipal String eaterEmail
+            @AuthenticationPrincipal AuthenticatedUser eater
     ) {
         log.info("Scrap toggle request - reviewId: {}", reviewId);
 
         try {
             // 서비스 호출
-            ReviewScrapResult result = reviewScrapService.toggleScrap(reviewId, eaterEmail);
+            ReviewScrapResult result = reviewScrapService.toggleScrap(reviewId, eater.email());
 
             // 응답 메시지 분기
             String message = result.isNewScrap()
@@ -403,8 +419,8 @@ public class ReviewController {
     /**
      * 리뷰 삭제
      *
-     * @param reviewId   삭제할 리뷰 ID (필수)
-     * @param eaterEmail 현재 로그인한 사용자 이메일 (필수)
+     * @param reviewId 삭제할 리뷰 ID (필수)
+     * @param eater    현재 로그인한 사용자 (필수)
      * @return 삭제 완료 응답
      */
     @ApiUnauthorizedError
@@ -416,13 +432,13 @@ public class ReviewController {
             @NotNull(message = "리뷰 ID는 필수입니다")
             @Positive(message = "리뷰 ID는 양수여야 합니다")
             Long reviewId,
-            @AuthenticationPrincipal String eaterEmail
+            @AuthenticationPrincipal AuthenticatedUser eater
     ) {
         log.info("Delete review request - reviewId: {}", reviewId);
 
         try {
             // 서비스 호출 (작성자 확인 및 삭제 처리)
-            reviewService.removeReview(reviewId, eaterEmail);
+            reviewService.removeReview(reviewId, eater.userId());
 
             // 성공 응답
             SuccessResponse<?> response = SuccessResponse.of(
@@ -457,14 +473,14 @@ public class ReviewController {
     }
 
     @GetMapping("/scraps")
-    public ResponseEntity<BaseResponse> getMyScrapReviews(@AuthenticationPrincipal String email) {
-        List<Review> scraps = reviewScrapService.getScrapReviews(email);
+    public ResponseEntity<BaseResponse> getMyScrapReviews(@AuthenticationPrincipal AuthenticatedUser user) {
+        List<Review> scraps = reviewScrapService.getScrapReviews(user.userId());
         return ApiResponseFactory.success(SuccessCode.REVIEW_SCRAP_LIST, reviewMapper.toScrapResponse(scraps));
     }
 
     @GetMapping("/received")
-    public ResponseEntity<BaseResponse> getMyReceivedReviews(@AuthenticationPrincipal String email) {
-        List<Review> reviews = reviewService.getMyReceivedReviews(email);
+    public ResponseEntity<BaseResponse> getMyReceivedReviews(@AuthenticationPrincipal AuthenticatedUser user) {
+        List<Review> reviews = reviewService.getMyReceivedReviews(user.userId(), user.storeId());
         return ApiResponseFactory.success(SuccessCode.REVIEW_RECEIVED_LIST, reviewMapper.toReceivedResponse(reviews));
     }
 
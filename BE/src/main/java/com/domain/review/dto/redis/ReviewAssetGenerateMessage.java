@@ -2,6 +2,7 @@ package com.domain.review.dto.redis;
 
 import static com.global.redis.constants.RedisConstants.STREAM_REVIEW_ASSET_TTL;
 
+import com.domain.menu.dto.redis.MenuRef;
 import com.domain.review.constants.ReviewAssetType;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.global.redis.constants.RetryFailReason;
@@ -14,8 +15,9 @@ import lombok.Builder;
 
 /**
  * 리뷰 에셋 생성 스트림 메시지 (스펙 준수)
- * - menu/referenceImages는 컬렉션 타입으로 보유하고,
+ * - menuRefs/referenceImages는 컬렉션 타입으로 보유하고,
  *   퍼블리셔가 Redis에 넣을 때 JSON 문자열로 직렬화한다.
+ * - 메뉴 상세는 싣지 않고 ID + 버전만 보낸다. (AI 서버는 메뉴 스냅샷 캐시에서 조회)
  */
 @Builder(access = AccessLevel.PRIVATE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -27,8 +29,8 @@ public record ReviewAssetGenerateMessage(
         Long userId,                       // 사용자 ID
         Instant requestedAt,               // 요청 시각 (UTC, ISO-8601)
 
-        // ===== 스펙: menu (상세 객체 배열) / referenceImages (문자열 배열) =====
-        List<MenuItem> menu,               // 선택한 메뉴 상세 정보 목록
+        // ===== 스펙: menuRefs (메뉴 참조 배열) / referenceImages (문자열 배열) =====
+        List<MenuRef> menuRefs,            // 선택한 메뉴 ID + 버전 목록
         List<String> referenceImages,      // 참고 이미지 URL 목록
 
         // ===== Retry 관련 =====
@@ -47,7 +49,7 @@ public record ReviewAssetGenerateMessage(
             String prompt,
             Long storeId,
             Long userId,
-            List<MenuItem> menu,
+            List<MenuRef> menuRefs,
             List<String> referenceImages
     ) {
         // 운영 시 검증 활성화 권장
@@ -63,7 +65,7 @@ public record ReviewAssetGenerateMessage(
                 storeId,
                 userId,
                 now,              // requestedAt
-                menu,
+                menuRefs,
                 referenceImages,  // 스펙 필드명 준수
                 expireAt,
                 0,                // retryCount
@@ -85,14 +87,4 @@ public record ReviewAssetGenerateMessage(
     @Override public int getRetryCount() { return retryCount; }
     @Override public Instant getNextRetryAt() { return nextRetryAt; }
     @Override public RetryFailReason getRetryFailReason() { return retryFailReason; }
-
-    /**
-     * 메뉴 상세 스펙 객체
-     */
-    public record MenuItem(
-            Long id,
-            String name,
-            String description,
-            String imageUrl
-    ) {}
 }
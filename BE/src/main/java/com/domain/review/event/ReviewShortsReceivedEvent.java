@@ -0,0 +1,17 @@
+package com.domain.review.event;
+
+import java.time.Instant;
+
+/**
+ * 숏츠 생성 완료 콜백 수신 - 원격 URL만 기록된 상태이며, 커밋 이후 수집 워커가 다운로드/썸네일 추출을 수행한다.
+ */
+public record ReviewShortsReceivedEvent(
+        Long reviewAssetId,
+        String sourceUrl,
+        String ownerEmail,
+        Instant receivedAt
+) {
+    public static ReviewShortsReceivedEvent of(Long reviewAssetId, String sourceUrl, String ownerEmail) {
+        return new ReviewShortsReceivedEvent(reviewAssetId, sourceUrl, ownerEmail, Instant.now());
+    }
+}
@@ -2,16 +2,18 @@ package com.domain.review.publisher;
 
 import com.domain.review.dto.redis.ReviewAssetGenerateMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.redis.publisher.RedisStreamDelayQueue;
+import com.global.redis.publisher.RedisStreamFieldPublisher;
 import com.global.redis.publisher.RedisStreamPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Component("reviewAssetRedisStreamWriter")
 public class ReviewAssetRedisStreamPublisher
         extends RedisStreamPublisher<ReviewAssetGenerateMessage> {
 
-    public ReviewAssetRedisStreamPublisher(final RedisTemplate<String, Object> redisTemplate,
+    public ReviewAssetRedisStreamPublisher(final RedisStreamFieldPublisher fieldPublisher,
+                                           final RedisStreamDelayQueue delayQueue,
                                            final ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper);
+        super(fieldPublisher, delayQueue, objectMapper);
     }
 }
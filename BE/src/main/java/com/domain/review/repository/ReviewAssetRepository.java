@@ -1,12 +1,55 @@
 package com.domain.review.repository;
 
+import com.domain.review.constants.ReviewAssetType;
 import com.domain.review.entity.ReviewAsset;
+import com.global.constants.Status;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 리뷰 에셋 데이터베이스 접근을 위한 Repository 인터페이스
  */
 public interface ReviewAssetRepository extends JpaRepository<ReviewAsset, Long> {
     Optional<ReviewAsset> findById(Long id);
+
+    boolean existsByIdAndStatus(Long id, Status status);
+
+    /**
+     * 콜백으로 원격 URL은 받았지만 아직 수집(다운로드/썸네일)이 끝나지 않은 숏츠 에셋 조회
+     */
+    @Query("""
+            SELECT a FROM ReviewAsset a
+            JOIN FETCH a.review r
+            JOIN FETCH r.user
+            WHERE a.status = :status
+              AND a.type IN :types
+              AND a.shortsUrl IS NOT NULL
+            ORDER BY a.id
+            """)
+    List<ReviewAsset> findAwaitingIngest(@Param("status") Status status,
+                                         @Param("types") Collection<ReviewAssetType> types,
+                                         Pageable pageable);
+
+    /**
+     * 아직 결과를 받지 못한 에셋만 일괄로 상태 변경 (숏츠 수집 대기 중인 에셋은 제외)
+     *
+     * @return 변경된 에셋 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ReviewAsset a
+            SET a.status = :status
+            WHERE a.id IN :ids
+              AND a.status = :expected
+              AND a.shortsUrl IS NULL
+            """)
+    int updateStatusIfCurrent(@Param("ids") Collection<Long> ids,
+                              @Param("expected") Status expected,
+                              @Param("status") Status status);
 }
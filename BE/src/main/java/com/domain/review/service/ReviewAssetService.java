@@ -1,8 +1,8 @@
 package com.domain.review.service;
 
+import com.domain.menu.dto.redis.MenuRef;
 import com.domain.review.constants.ReviewAssetType;
 import com.domain.review.dto.redis.ReviewAssetGenerateMessage;
-import com.domain.review.dto.redis.ReviewAssetGenerateMessage.MenuItem;
 import com.global.config.FileStorageProperties;
 import com.global.filestorage.FileUrlResolver;
 import java.util.List;
@@ -24,7 +24,7 @@ public class ReviewAssetService {
             String prompt,
             long storeId,
             long userId,
-            List<MenuItem> menu,
+            List<MenuRef> menuRefs,
             List<String> referenceImagesLocalPaths  // 로컬 파일 시스템 경로 배열
     ) {
         // 컨테이너 내부 베이스(/root/eatda), 호스트 베이스(/home/ubuntu/eatda/test)
@@ -57,7 +57,7 @@ public class ReviewAssetService {
                 prompt,
                 storeId,
                 userId,
-                menu,
+                menuRefs,
                 resolvedReferences
         );
     }
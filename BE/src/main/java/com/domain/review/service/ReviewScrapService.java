@@ -7,6 +7,6 @@ import java.util.List;
 public interface ReviewScrapService {
     ReviewScrapResult toggleScrap(Long reviewId, String eaterEmail);
 
-    List<Review> getScrapReviews(String email);
+    List<Review> getScrapReviews(Long userId);
 
 }
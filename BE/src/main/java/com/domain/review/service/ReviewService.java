@@ -1,6 +1,7 @@
 package com.domain.review.service;
 
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.review.dto.request.ReviewAssetCallbackRequest;
 import com.domain.review.dto.request.ReviewAssetCreateRequest;
 import com.domain.review.dto.request.ReviewFinalizeRequest;
@@ -14,39 +15,55 @@ import com.domain.review.dto.response.ReviewFeedResult;
 import com.domain.review.dto.response.ReviewFinalizeResponse;
 import com.domain.review.entity.Review;
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface ReviewService {
 
     /**
      * 1단계 - 리뷰 에셋 생성 요청 처리
      */
-    ReviewAssetRequestResponse requestReviewAsset(ReviewAssetCreateRequest request, String eaterEmail);
+    ReviewAssetRequestResponse requestReviewAsset(ReviewAssetCreateRequest request, AuthenticatedUser eater);
 
     /**
      * 2단계 - FastAPI 콜백 처리 (에셋 생성 완료 후 상태/URL 반영)
      */
     void handleReviewAssetCallback(ReviewAssetCallbackRequest request);
 
+    /**
+     * 2단계 - 숏츠 수집(다운로드/썸네일 추출) 완료 반영
+     */
+    void completeShortsIngest(Long reviewAssetId, String shortsUrl, String thumbnailPath);
+
+    /**
+     * 2단계 - 숏츠 수집 실패 반영
+     */
+    void failShortsIngest(Long reviewAssetId);
+
     /**
      * 3단계 - 리뷰 에셋 결과 조회
      */
     ReviewAssetResultResponse getReviewAssetResult(Long reviewAssetId);
 
+    /**
+     * 3단계 - 리뷰 에셋 생성 완료 구독 (SSE)
+     */
+    SseEmitter subscribeReviewAssetCompletion(Long reviewAssetId, Long eaterId);
+
     /**
      * 4단계 - 리뷰 최종 등록
      */
-    ReviewFinalizeResponse finalizeReview(ReviewFinalizeRequest request, String eaterEmail);
+    ReviewFinalizeResponse finalizeReview(ReviewFinalizeRequest request, Long eaterId);
 
     ReviewFeedResult<ReviewFeedResponse> getReviewFeed(ReviewLocationRequest request, Integer distance,
-                                                       Long lastReviewId, String email);
+                                                       Long lastReviewId);
 
-    ReviewDetailResponse getReviewDetail(Long reviewId, String email);
+    ReviewDetailResponse getReviewDetail(Long reviewId, Long userId);
 
-    ReviewFeedResult<MyReviewResponse> getMyReviews(Long lastReviewId, int pageSize, String eaterEmail);
+    ReviewFeedResult<MyReviewResponse> getMyReviews(Long lastReviewId, int pageSize, Long eaterId);
 
-    void removeReview(Long reviewId, String eaterEmail);
+    void removeReview(Long reviewId, Long eaterId);
 
-    List<Review> getMyReceivedReviews(String email);
+    List<Review> getMyReceivedReviews(Long makerId, Long storeId);
 
     List<Review> getReviews(Long storeId);
 }
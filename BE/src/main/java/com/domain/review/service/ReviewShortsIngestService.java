@@ -0,0 +1,19 @@
+package com.domain.review.service;
+
+import com.domain.review.event.ReviewShortsReceivedEvent;
+
+/**
+ * AI 결과 숏츠 수집 - 원격 영상을 한 번만 내려받고, 로컬 파일에서 썸네일을 추출한 뒤 에셋을 완료 처리한다.
+ */
+public interface ReviewShortsIngestService {
+
+    /**
+     * 콜백 트랜잭션 커밋 이후 수집 작업을 워커 풀에 넣는다. 이미 처리 중인 에셋이면 무시한다.
+     */
+    void submit(ReviewShortsReceivedEvent event);
+
+    /**
+     * 서버 재시작이나 큐 포화로 누락된 수집 작업을 다시 넣는다.
+     */
+    void recoverPending();
+}
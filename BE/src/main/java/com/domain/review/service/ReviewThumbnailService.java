@@ -5,4 +5,9 @@ import java.nio.file.Path;
 public interface ReviewThumbnailService {
 
     Path extractThumbnail(final String videoUrl, final String filePath, final String fileName);
+
+    /**
+     * 이미 내려받은 로컬 비디오 파일에서 썸네일을 추출한다. (원격 URL을 다시 읽지 않는다)
+     */
+    Path extractThumbnail(final Path videoFile, final String filePath, final String fileName);
 }
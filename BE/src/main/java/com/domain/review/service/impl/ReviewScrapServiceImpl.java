@@ -56,10 +56,8 @@ public class ReviewScrapServiceImpl implements ReviewScrapService {
     }
 
     @Override
-    public List<Review> getScrapReviews(final String email) {
-        User user = eaterRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-        return reviewRepository.findAllScrappedByUserId(user.getId());
+    public List<Review> getScrapReviews(final Long userId) {
+        return reviewRepository.findAllScrappedByUserId(userId);
     }
 
     /**
@@ -3,10 +3,15 @@ package com.domain.review.service.impl;
 import static com.global.constants.ErrorCode.FORBIDDEN;
 import static com.global.constants.ErrorCode.STORE_NOT_FOUND;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.common.entity.Poi;
 import com.domain.common.service.SpatialSearchService;
+import com.domain.menu.dto.redis.MenuRef;
 import com.domain.menu.entity.Menu;
 import com.domain.menu.repository.MenuRepository;
+import com.domain.menu.service.MenuSnapshotCacheService;
+import com.domain.common.service.AssetStatusCacheService;
+import com.domain.common.service.AssetStatusCacheService.CachedAssetStatus;
 import com.domain.review.constants.ReviewAssetType;
 import com.domain.review.dto.redis.ReviewAssetGenerateMessage;
 import com.domain.review.dto.request.ReviewAssetCallbackRequest;
@@ -26,43 +31,54 @@ import com.domain.review.entity.Review;
 import com.domain.review.entity.ReviewAsset;
 import com.domain.review.entity.ReviewMenu;
 import com.domain.review.entity.ReviewScrap;
+import com.domain.review.event.ReviewShortsReceivedEvent;
 import com.domain.review.mapper.ReviewMapper;
-import com.domain.review.publisher.ReviewAssetRedisPublisher;
+import com.domain.review.publisher.ReviewAssetRedisStreamPublisher;
 import com.domain.review.repository.ReviewAssetRepository;
 import com.domain.review.repository.ReviewMenuRepository;
 import com.domain.review.repository.ReviewRepository;
 import com.domain.review.service.ReviewAssetService;
 import com.domain.review.service.ReviewService;
-import com.domain.review.service.ReviewThumbnailService;
 import com.domain.review.validator.ReviewValidator;
 import com.domain.store.entity.Store;
 import com.domain.store.repository.StoreRepository;
 import com.domain.user.entity.User;
 import com.domain.user.repository.EaterRepository;
-import com.domain.user.repository.MakerRepository;
-import com.global.config.FileStorageProperties;
 import com.global.constants.ErrorCode;
 import com.global.constants.PagingConstants;
 import com.global.constants.Status;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
 import com.global.filestorage.FileUrlResolver;
+import com.global.filestorage.ImageStoredEvent;
+import com.global.filestorage.ImageVariant;
+import com.global.filestorage.ImageVariantRegistry;
+import com.global.filestorage.ImageUploadExecutor;
+import com.global.notification.AssetCompletedEvent;
+import com.global.notification.AssetCompletionNotifier;
+import com.global.notification.AssetDomain;
+import com.global.notification.AssetGenerationMetrics;
+import com.global.outbox.StreamOutboxService;
+import com.global.redis.admission.RedisStreamAdmissionControl;
+import com.global.redis.constants.RedisStreamKey;
 import com.global.utils.AssetValidator;
-import java.net.URI;
-import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
@@ -70,55 +86,67 @@ import org.springframework.web.multipart.MultipartFile;
 public class ReviewServiceImpl implements ReviewService {
 
     private static final String IMAGE_BASE_PATH = "reviews/";
-    private static final String DATA_DIR = "data";
-    private static final String SHORTS_DIR = "shorts";
+    private static final ImageVariant FEED_IMAGE_VARIANT = ImageVariant.W480;  // 모바일 피드 카드 폭
 
     // === Repository 및 의존성 주입 ===
     private final ReviewRepository reviewRepository;
     private final ReviewAssetRepository reviewAssetRepository;
     private final ReviewMenuRepository reviewMenuRepository;
     private final EaterRepository eaterRepository;
-    private final MakerRepository makerRepository;
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final ReviewMapper reviewMapper;
-    private final ReviewAssetRedisPublisher reviewAssetRedisPublisher;
+    private final ReviewAssetRedisStreamPublisher reviewAssetRedisStreamPublisher;
     private final FileStorageService fileStorageService;
     private final SpatialSearchService spatialSearchService;
     private final ReviewAssetService reviewAssetService;
 
-    private final ReviewThumbnailService reviewThumbnailService;
-    private final FileStorageProperties fileStorageProperties;
     private final FileUrlResolver fileUrlResolver;
+    private final AssetCompletionNotifier assetCompletionNotifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssetStatusCacheService assetStatusCacheService;
+    private final ImageUploadExecutor imageUploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final StreamOutboxService streamOutboxService;
+    private final ImageVariantRegistry imageVariantRegistry;
+    private final RedisStreamAdmissionControl redisStreamAdmissionControl;
+    private final AssetGenerationMetrics assetGenerationMetrics;
+    private final MenuSnapshotCacheService menuSnapshotCacheService;
 
     // @formatter:off
     /**
      * 리뷰 에셋 생성 요청 처리
-     * 1. 리뷰/에셋 엔티티 생성
-     * 2. 이미지 업로드
-     * 3. Redis Stream 메시지 발행
+     * 1. 요청/이미지 검증 및 스트림 적체 확인 (한도 초과 시 Retry-After 로 거절)
+     * 2. 이미지 업로드 (트랜잭션 밖, 병렬 처리)
+     * 3. 리뷰/에셋 엔티티 생성 및 Redis Stream 메시지 아웃박스 저장 (트랜잭션)
+     * 4. 커밋 이후 아웃박스 릴레이가 메시지 발행
      */
     // @formatter:on
     @Override
-    @Transactional
     public ReviewAssetRequestResponse requestReviewAsset(final ReviewAssetCreateRequest request,
-                                                         final String eaterEmail) {
-        User eater = findEaterByEmail(eaterEmail);
-        Store store = storeRepository.findById(request.storeId())
-                .orElseThrow(() -> new ApiException(STORE_NOT_FOUND));
+                                                         final AuthenticatedUser principal) {
         ReviewValidator.validateCreateRequest(request);
         AssetValidator.validateImages(request.image());
-        Review review = createPendingReview(store, eater);
-        ReviewAsset reviewAsset = createPendingReviewAsset(review, request);
+        redisStreamAdmissionControl.admit(RedisStreamKey.REVIEW_ASSET);
 
         // 타입에 따라 WebP 변환 여부 결정
         boolean convertToWebp = shouldConvertToWebp(request.type());
         // 변환 여부를 넘겨서 업로드
-        List<String> uploadedImageUrls = uploadImages(request.image(), IMAGE_BASE_PATH + eater.getEmail(),
+        List<String> uploadedImageUrls = uploadImages(request.image(), IMAGE_BASE_PATH + principal.email(),
                 false);
-        publishReviewAssetMessage(reviewAsset, eater.getId(), request, store, uploadedImageUrls); // Redis 메시지 발행
 
-        return reviewMapper.toRequestResponse(review, reviewAsset);
+        return transactionTemplate.execute(status -> {
+            User eater = eaterRepository.getReferenceById(principal.userId());
+            Store store = storeRepository.findById(request.storeId())
+                    .orElseThrow(() -> new ApiException(STORE_NOT_FOUND));
+            Review review = createPendingReview(store, eater);
+            ReviewAsset reviewAsset = createPendingReviewAsset(review, request);
+            cacheAssetStatus(reviewAsset);
+
+            enqueueReviewAssetMessage(reviewAsset, principal.userId(), request, store, uploadedImageUrls); // 아웃박스 저장 (커밋 후 발행)
+
+            return reviewMapper.toRequestResponse(review, reviewAsset);
+        });
     }
 
     /**
@@ -135,6 +163,60 @@ public class ReviewServiceImpl implements ReviewService {
         asset.updateStatus(status);
 
         updateAssetUrlIfSuccess(request, status, asset);
+        cacheAssetStatus(asset);
+
+        if (!asset.getStatus().isPending()) {
+            publishCompleted(asset);
+        }
+    }
+
+    /**
+     * 숏츠 수집 완료 - 로컬 영상/썸네일 URL을 반영하고 성공 처리한다.
+     */
+    @Override
+    @Transactional
+    public void completeShortsIngest(final Long reviewAssetId, final String shortsUrl, final String thumbnailPath) {
+        ReviewAsset asset = findPendingAsset(reviewAssetId);
+        if (Objects.isNull(asset)) {
+            return;
+        }
+        asset.updateShortsUrl(shortsUrl);
+        asset.updateThumbnailPath(thumbnailPath);
+        asset.updateStatus(Status.SUCCESS);
+
+        cacheAssetStatus(asset);
+        publishCompleted(asset);
+    }
+
+    /**
+     * 숏츠 수집 실패 - 에셋을 실패 처리한다.
+     */
+    @Override
+    @Transactional
+    public void failShortsIngest(final Long reviewAssetId) {
+        ReviewAsset asset = findPendingAsset(reviewAssetId);
+        if (Objects.isNull(asset)) {
+            return;
+        }
+        asset.updateStatus(Status.FAIL);
+
+        cacheAssetStatus(asset);
+        publishCompleted(asset);
+    }
+
+    /**
+     * 리뷰 에셋 생성 완료 구독 - 이미 완료된 에셋이면 즉시 결과를 전송한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeReviewAssetCompletion(final Long reviewAssetId, final Long eaterId) {
+        return assetCompletionNotifier.subscribe(AssetDomain.REVIEW, reviewAssetId, () -> {
+            ReviewAsset asset = reviewAssetRepository.findById(reviewAssetId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_ASSET_NOT_FOUND, reviewAssetId));
+            ReviewValidator.checkOwner(eaterId, asset.getReview());
+
+            return asset.getStatus().isPending() ? null : toCompletedEvent(asset);
+        });
     }
 
     // === 내부 헬퍼 메서드 ===
@@ -144,10 +226,16 @@ public class ReviewServiceImpl implements ReviewService {
      */
     @Override
     public ReviewAssetResultResponse getReviewAssetResult(final Long reviewAssetId) {
+        Optional<CachedAssetStatus> cached = assetStatusCacheService.get(AssetDomain.REVIEW, reviewAssetId);
+        if (cached.isPresent()) {
+            return toAssetResultResponse(reviewAssetId, cached.get());
+        }
+
         ReviewAsset asset = reviewAssetRepository.findById(reviewAssetId)
                 .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_ASSET_NOT_FOUND, reviewAssetId));
 
         if (!asset.getStatus().isSuccess()) {
+            backfillAssetStatus(asset);
             throw new ApiException(ErrorCode.REVIEW_ASSET_NOT_READY, reviewAssetId);
         }
 
@@ -175,6 +263,7 @@ public class ReviewServiceImpl implements ReviewService {
             default -> throw new ApiException(ErrorCode.REVIEW_TYPE_INVALID, reviewAssetId);
         }
 
+        backfillAssetStatus(asset);
         return reviewMapper.toAssetResultResponse(asset);
     }
 
@@ -183,16 +272,15 @@ public class ReviewServiceImpl implements ReviewService {
      */
     @Override
     @Transactional
-    public ReviewFinalizeResponse finalizeReview(final ReviewFinalizeRequest request, final String eaterEmail) {
+    public ReviewFinalizeResponse finalizeReview(final ReviewFinalizeRequest request, final Long eaterId) {
         // 조회
-        User eater = findEaterByEmail(eaterEmail);
         Review review = reviewRepository.findById(request.reviewId())
                 .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_NOT_FOUND, request.reviewId()));
         ReviewAsset asset = reviewAssetRepository.findById(request.reviewAssetId())
                 .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_ASSET_NOT_FOUND, request.reviewAssetId()));
 
         // 검증
-        ReviewValidator.checkOwner(eater, review);
+        ReviewValidator.checkOwner(eaterId, review);
         ReviewValidator.checkReviewAssetReady(asset);
         ReviewValidator.checkAssetMatches(asset, request);
 
@@ -212,10 +300,8 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional(readOnly = true)
     public ReviewFeedResult<ReviewFeedResponse> getReviewFeed(final ReviewLocationRequest request,
                                                               final Integer distance,
-                                                              final Long lastReviewId,
-                                                              final String email) {
-        // 1. 검증
-        validatedToken(email);
+                                                              final Long lastReviewId) {
+        // 1. 검증 (사용자 식별은 인증 필터에서 토큰 클레임으로 완료됨)
         ReviewValidator.validateLocationRequest(request, distance);
 
         // 2. POI 조회
@@ -243,9 +329,7 @@ public class ReviewServiceImpl implements ReviewService {
      */
     @Override
     @Transactional(readOnly = true)
-    public ReviewDetailResponse getReviewDetail(final Long reviewId, final String email) {
-        validatedToken(email);
-
+    public ReviewDetailResponse getReviewDetail(final Long reviewId, final Long userId) {
         // 1. 리뷰 조회 (연관 엔티티 포함)
         Review review = reviewRepository.findByIdWithDetails(reviewId)
                 .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_NOT_FOUND));
@@ -257,7 +341,7 @@ public class ReviewServiceImpl implements ReviewService {
         List<ReviewScrap> scraps = review.getScraps();
         int scrapCount = scraps.size();
         boolean isScrapped = scraps.stream()
-                .anyMatch(scrap -> scrap.getUser().getEmail().equals(email));
+                .anyMatch(scrap -> scrap.getUser().getId().equals(userId));
 
         // 4. 응답 생성
         return buildReviewDetailResponse(review, scrapCount, isScrapped);
@@ -269,9 +353,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public ReviewFeedResult<MyReviewResponse> getMyReviews(final Long lastReviewId, final int pageSize,
-                                                           final String eaterEmail) {
-        User eater = findEaterByEmail(eaterEmail);
-
+                                                           final Long eaterId) {
         if (pageSize <= 0 || pageSize > PagingConstants.MAX_SIZE.value) {
             throw new ApiException(ErrorCode.VALIDATION_ERROR);
         }
@@ -279,7 +361,7 @@ public class ReviewServiceImpl implements ReviewService {
         try {
             // 요청된 사이즈보다 1개 더 가져와서 hasNext 판단
             Pageable pageable = PageRequest.of(0, pageSize + 1);
-            List<Review> reviews = reviewRepository.findMyReviews(eater.getId(), lastReviewId, pageable);
+            List<Review> reviews = reviewRepository.findMyReviews(eaterId, lastReviewId, pageable);
 
             // hasNext 판단 및 응답 생성
             boolean hasNext = reviews.size() > pageSize;
@@ -299,19 +381,20 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     @Transactional
-    public void removeReview(final Long reviewId, final String eaterEmail) {
+    public void removeReview(final Long reviewId, final Long eaterId) {
         try {
-            User eater = findEaterByEmail(eaterEmail);
-
             Review review = reviewRepository.findById(reviewId)
                     .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_NOT_FOUND));
 
-            if (!review.getUser().getId().equals(eater.getId())) {
+            if (!review.getUser().getId().equals(eaterId)) {
                 throw new ApiException(FORBIDDEN);
             }
 
             reviewRepository.deleteById(reviewId);
-            log.info("Review ID {} successfully deleted by User ID {}", reviewId, eater.getId());
+            if (Objects.nonNull(review.getReviewAsset())) {
+                imageVariantRegistry.unregister(Collections.singletonList(review.getReviewAsset().getImageUrl()));
+            }
+            log.info("Review ID {} successfully deleted by User ID {}", reviewId, eaterId);
         } catch (ApiException e) {
             throw e;
         } catch (Exception e) {
@@ -320,10 +403,11 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    public List<Review> getMyReceivedReviews(final String email) {
-        User maker = makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-        long storeId = maker.getStores().getFirst().getId();
+    public List<Review> getMyReceivedReviews(final Long makerId, final Long storeId) {
+        // 토큰의 가게 ID는 발급 이후 가게가 삭제되거나 소유자가 바뀌었을 수 있으므로 요청마다 확인한다.
+        if (Objects.isNull(storeId) || !storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, makerId)) {
+            throw new ApiException(STORE_NOT_FOUND);
+        }
         return reviewRepository.findByStoreIdAndStatusOrderByCreatedAtDesc(storeId, Status.SUCCESS);
     }
 
@@ -384,8 +468,9 @@ public class ReviewServiceImpl implements ReviewService {
         PaginationResult<Review> paginationResult = applyPagination(reviews);
 
         // 응답 생성
+        Set<String> withFeedVariant = findFeedVariants(paginationResult.content());
         List<ReviewFeedResponse> feedResponses = paginationResult.content().stream()
-                .map(this::buildNearbyReviewResponse)
+                .map(review -> buildNearbyReviewResponse(review, withFeedVariant))
                 .toList();
 
         return ReviewFeedResult.nearbyReviews(feedResponses, paginationResult.hasNext());
@@ -404,8 +489,9 @@ public class ReviewServiceImpl implements ReviewService {
 
         PaginationResult<Review> paginationResult = applyPagination(reviews);
 
+        Set<String> withFeedVariant = findFeedVariants(paginationResult.content());
         List<ReviewFeedResponse> feedResponses = paginationResult.content().stream()
-                .map(this::buildFallbackReviewResponse)
+                .map(review -> buildFallbackReviewResponse(review, withFeedVariant))
                 .toList();
 
         return ReviewFeedResult.fallbackReviews(feedResponses, paginationResult.hasNext());
@@ -429,7 +515,7 @@ public class ReviewServiceImpl implements ReviewService {
     /**
      * 근처 리뷰 응답 생성
      */
-    private ReviewFeedResponse buildNearbyReviewResponse(Review review) {
+    private ReviewFeedResponse buildNearbyReviewResponse(Review review, Set<String> withFeedVariant) {
         ReviewAsset asset = review.getReviewAsset();
 
         return ReviewFeedResponse.builder()
@@ -437,7 +523,7 @@ public class ReviewServiceImpl implements ReviewService {
                 .storeName(review.getStore().getName())
                 .description(review.getDescription())
                 .menuNames(extractMenuNames(review))
-                .imageUrl(asset != null ? asset.getImageUrl() : null)
+                .imageUrl(toFeedImageUrl(asset, withFeedVariant))
                 .shortsUrl(asset != null ? asset.getShortsUrl() : null)
                 .thumbnailUrl(asset != null ? asset.getThumbnailPath() : null)
                 .build();
@@ -446,7 +532,7 @@ public class ReviewServiceImpl implements ReviewService {
     /**
      * 전체 피드 리뷰 응답 생성
      */
-    private ReviewFeedResponse buildFallbackReviewResponse(Review review) {
+    private ReviewFeedResponse buildFallbackReviewResponse(Review review, Set<String> withFeedVariant) {
         validateReviewIntegrity(review);
         ReviewAsset asset = review.getReviewAsset();
 
@@ -455,12 +541,33 @@ public class ReviewServiceImpl implements ReviewService {
                 .storeName(review.getStore().getName())
                 .description(review.getDescription())
                 .menuNames(extractMenuNames(review))
-                .imageUrl(asset != null ? asset.getImageUrl() : null)
+                .imageUrl(toFeedImageUrl(asset, withFeedVariant))
                 .shortsUrl(asset != null ? asset.getShortsUrl() : null)
                 .thumbnailUrl(asset != null ? asset.getThumbnailPath() : null)
                 .build();
     }
 
+    /**
+     * 페이지의 이미지 중 피드 변형이 생성된 원본 URL 목록 (페이지당 Redis 조회 1회)
+     */
+    private Set<String> findFeedVariants(List<Review> reviews) {
+        List<String> imageUrls = reviews.stream()
+                .map(Review::getReviewAsset)
+                .filter(Objects::nonNull)
+                .map(ReviewAsset::getImageUrl)
+                .toList();
+        return imageVariantRegistry.findGenerated(imageUrls, FEED_IMAGE_VARIANT);
+    }
+
+    private String toFeedImageUrl(ReviewAsset asset, Set<String> withFeedVariant) {
+        if (asset == null || asset.getImageUrl() == null) {
+            return null;
+        }
+        return withFeedVariant.contains(asset.getImageUrl())
+                ? fileUrlResolver.toVariantUrl(asset.getImageUrl(), FEED_IMAGE_VARIANT)
+                : asset.getImageUrl();
+    }
+
     /**
      * 내 리뷰 응답 생성
      */
@@ -556,14 +663,81 @@ public class ReviewServiceImpl implements ReviewService {
      */
     private List<String> uploadImages(final List<MultipartFile> images, final String relativeBase,
                                       final boolean convertToWebp) {
-        return images.stream()
-                .map(file -> fileStorageService.storeImage(
-                        file,
-                        relativeBase,
-                        file.getOriginalFilename(),
-                        convertToWebp
-                ))
-                .toList();
+        return imageUploadExecutor.uploadAll(images, file -> fileStorageService.storeImage(
+                file,
+                relativeBase,
+                file.getOriginalFilename(),
+                convertToWebp
+        ));
+    }
+
+    /**
+     * 캐시된 상태로 결과 응답 생성 - 검증을 통과한 성공 상태만 캐시되므로 URL 검증은 생략한다.
+     */
+    private ReviewAssetResultResponse toAssetResultResponse(final Long reviewAssetId, final CachedAssetStatus cached) {
+        if (!cached.status().isSuccess()) {
+            throw new ApiException(ErrorCode.REVIEW_ASSET_NOT_READY, reviewAssetId);
+        }
+
+        ReviewAssetType type = ReviewAssetType.valueOf(cached.type());
+        return type == ReviewAssetType.IMAGE
+                ? new ReviewAssetResultResponse(type, cached.path(), null, null)
+                : new ReviewAssetResultResponse(type, null, cached.path(), cached.thumbnailPath());
+    }
+
+    /**
+     * 수집 결과를 반영할 에셋 조회 - 이미 완료된 에셋이면 null (중복 수집 결과 무시)
+     */
+    private ReviewAsset findPendingAsset(final Long reviewAssetId) {
+        ReviewAsset asset = reviewAssetRepository.findById(reviewAssetId)
+                .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_ASSET_NOT_FOUND, reviewAssetId));
+        if (!asset.getStatus().isPending()) {
+            log.warn("이미 완료된 숏츠 에셋 수집 결과 무시 - reviewAssetId: {}, status: {}", reviewAssetId, asset.getStatus());
+            return null;
+        }
+        return asset;
+    }
+
+    private void cacheAssetStatus(final ReviewAsset asset) {
+        if (asset.getStatus().isSuccess() && Objects.isNull(asset.getType())) {
+            return; // 타입을 알 수 없는 성공 결과는 DB 조회 경로에서 검증한다.
+        }
+        assetStatusCacheService.put(AssetDomain.REVIEW, asset.getId(), toCachedStatus(asset));
+    }
+
+    /**
+     * 조회 경로의 캐시 미스 보충 - 완료 상태만 기록한다. (PENDING 을 쓰면 그 사이 반영된 콜백 결과를 덮어쓸 수 있다)
+     */
+    private void backfillAssetStatus(final ReviewAsset asset) {
+        if (asset.getStatus().isSuccess() && Objects.isNull(asset.getType())) {
+            return;
+        }
+        assetStatusCacheService.backfill(AssetDomain.REVIEW, asset.getId(), toCachedStatus(asset));
+    }
+
+    private CachedAssetStatus toCachedStatus(final ReviewAsset asset) {
+        String path = Objects.nonNull(asset.getShortsUrl()) ? asset.getShortsUrl() : asset.getImageUrl();
+        return new CachedAssetStatus(
+                asset.getStatus(),
+                Objects.toString(asset.getType(), null),
+                path,
+                asset.getThumbnailPath(),
+                null
+        );
+    }
+
+    /**
+     * 에셋 완료 알림 발행 및 요청 접수(리뷰 생성)부터 완료까지의 소요 시간 기록
+     */
+    private void publishCompleted(final ReviewAsset asset) {
+        assetGenerationMetrics.recordCompleted(AssetDomain.REVIEW, asset.getStatus(),
+                asset.getReview().getCreatedAt());
+        eventPublisher.publishEvent(toCompletedEvent(asset));
+    }
+
+    private AssetCompletedEvent toCompletedEvent(final ReviewAsset asset) {
+        String path = Objects.nonNull(asset.getShortsUrl()) ? asset.getShortsUrl() : asset.getImageUrl();
+        return AssetCompletedEvent.of(AssetDomain.REVIEW, asset.getId(), asset.getStatus(), asset.getType(), path);
     }
 
     private void updateAssetUrlIfSuccess(final ReviewAssetCallbackRequest request,
@@ -586,31 +760,18 @@ public class ReviewServiceImpl implements ReviewService {
 
         switch (type) {
             case IMAGE -> {
+                if (Objects.nonNull(asset.getImageUrl()) && !asset.getImageUrl().equals(url)) {
+                    imageVariantRegistry.unregister(List.of(asset.getImageUrl()));
+                }
                 asset.updateImageUrl(url);
+                eventPublisher.publishEvent(ImageStoredEvent.of(url));
             }
             case SHORTS_RAY_2, SHORTS_GEN_4 -> {
-                // 1) SHORTS URL 저장
-                log.info("AI URL: {}", url);
-                String downloadedVideoPath = fileStorageService.storeVideoFromUrl(url, DATA_DIR,
-                        SHORTS_DIR);
-                log.info("Downloaded video path: {}", downloadedVideoPath);
-                asset.updateShortsUrl(fileUrlResolver.toPublicUrl(downloadedVideoPath));
-                log.info("Downloaded publicUrl {}", asset.getShortsUrl());
-
-                // 2) 썸네일 생성 대상 경로/파일명 구성: {baseDir}/data/shorts/{email}/{fileName}.jpg
-                final String email = asset.getReview().getUser().getEmail();
-                final Path baseDir = fileStorageProperties.getBaseDirPath();
-                final Path targetDir = baseDir
-                        .resolve(DATA_DIR)
-                        .resolve(SHORTS_DIR)
-                        .resolve(email);
-
-                final String fileName = deriveBaseName(url, "shorts-" + asset.getId());
-                // 3) ffmpeg로 썸네일 추출
-                final Path savedPath = reviewThumbnailService.extractThumbnail(url, targetDir.toString(), fileName);
-
-                // 4) 퍼블릭 URL로 변환해서 엔티티에 저장
-                asset.updateThumbnailPath(fileUrlResolver.toPublicUrl(savedPath.toString()));
+                // 원격 URL만 기록하고 PENDING 유지 - 다운로드/썸네일 추출은 커밋 이후 수집 워커가 처리한다.
+                asset.updateShortsUrl(url);
+                asset.updateStatus(Status.PENDING);
+                eventPublisher.publishEvent(ReviewShortsReceivedEvent.of(
+                        asset.getId(), url, asset.getReview().getUser().getEmail()));
             }
             default -> throw new ApiException(ErrorCode.REVIEW_TYPE_INVALID, asset.getId());
         }
@@ -631,22 +792,14 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     /**
-     * Redis Stream 내 리뷰 에셋 생성 요청 메시지 발행
+     * 리뷰 에셋 생성 요청 메시지를 아웃박스에 저장 (커밋 이후 Redis Stream 발행)
      */
-    private void publishReviewAssetMessage(final ReviewAsset reviewAsset, final long userId,
+    private void enqueueReviewAssetMessage(final ReviewAsset reviewAsset, final long userId,
                                            final ReviewAssetCreateRequest request,
                                            final Store store, final List<String> uploadedImageUrls) {
 
-        // 메뉴 상세 객체 배열로 변환 (스펙: id/name/description/imageUrl)
-        List<ReviewAssetGenerateMessage.MenuItem> menuItems =
-                menuRepository.findAllById(request.menuIds()).stream()
-                        .map(m -> new ReviewAssetGenerateMessage.MenuItem(
-                                m.getId(),
-                                m.getName(),
-                                m.getDescription(),
-                                m.getImageUrl() // 엔티티 필드명에 맞게 조정 필요
-                        ))
-                        .toList();
+        // 메뉴 상세 대신 ID + 버전만 싣는다 (캐시에 없는 메뉴만 DB 조회)
+        List<MenuRef> menuRefs = menuSnapshotCacheService.resolve(request.menuIds());
 
         ReviewAssetGenerateMessage message = reviewAssetService.prepareForRedis(
                 reviewAsset.getId(),
@@ -654,11 +807,11 @@ public class ReviewServiceImpl implements ReviewService {
                 request.prompt(),
                 store.getId(),
                 userId,
-                menuItems,
+                menuRefs,
                 uploadedImageUrls
         );
 
-        reviewAssetRedisPublisher.publish(message);
+        streamOutboxService.enqueue(RedisStreamKey.REVIEW_ASSET, reviewAssetRedisStreamPublisher, message);
     }
 
     // IMAGE일 때만 true, SHORTS 계열은 false
@@ -666,35 +819,6 @@ public class ReviewServiceImpl implements ReviewService {
         return type == ReviewAssetType.IMAGE;
     }
 
-    private void validatedToken(final String email) {
-        boolean isEater = eaterRepository.findByEmailAndDeletedFalse(email).isPresent();
-        boolean isMaker = makerRepository.findByEmailAndDeletedFalse(email).isPresent();
-
-        if (!isEater && !isMaker) {
-            throw new ApiException(FORBIDDEN);
-        }
-    }
-
-    private User findEaterByEmail(final String eaterEmail) {
-        return eaterRepository.findByEmailAndDeletedFalse(eaterEmail)
-                .orElseThrow(() -> new ApiException(FORBIDDEN));
-    }
-
-    // URL에서 파일명(확장자 제거)을 추출. 실패 시 fallbackName 사용
-    private String deriveBaseName(String url, String fallbackName) {
-        try {
-            String path = new URI(url).getPath();
-            if (path == null || path.isBlank()) {
-                return fallbackName;
-            }
-            String name = path.substring(path.lastIndexOf('/') + 1);
-            int dot = name.lastIndexOf('.');
-            return (dot > 0 ? name.substring(0, dot) : name);
-        } catch (Exception e) {
-            return fallbackName;
-        }
-    }
-
     private List<Review> fetchReviewsWithAssets(List<Long> storeIds, Long lastReviewId) {
         Pageable pageable = PageRequest.of(0,
                 PagingConstants.DEFAULT_SIZE.value + PagingConstants.BUFFER.value);
@@ -0,0 +1,251 @@
+package com.domain.review.service.impl;
+
+import static com.global.config.AsyncConfig.MEDIA_INGEST_EXECUTOR;
+import static com.global.redis.constants.RedisConstants.LOCK_SHORTS_INGEST_KEY;
+import static com.global.redis.constants.RedisConstants.LOCK_SHORTS_INGEST_TTL;
+import static com.global.redis.constants.RedisConstants.REDIS_UNLOCK_SCRIPT;
+
+import com.domain.review.constants.ReviewAssetType;
+import com.domain.review.entity.ReviewAsset;
+import com.domain.review.event.ReviewShortsReceivedEvent;
+import com.domain.review.repository.ReviewAssetRepository;
+import com.domain.review.service.ReviewService;
+import com.domain.review.service.ReviewShortsIngestService;
+import com.domain.review.service.ReviewThumbnailService;
+import com.global.config.FileStorageProperties;
+import com.global.constants.Status;
+import com.global.filestorage.FileStorageService;
+import com.global.filestorage.FileUrlResolver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 숏츠 수집 워커
+ * <p>
+ * 콜백은 원격 URL만 기록하고 바로 응답하며, 이 워커가 {@code mediaIngestExecutor}에서 다운로드(이어받기) → 로컬 파일 썸네일 추출 →
+ * 에셋 완료 처리를 수행한다. 수집 대기/소요 시간은 {@code review.shorts.ingest.*} 메트릭으로 노출된다.
+ * <p>
+ * 복구 스케줄러는 모든 인스턴스에서 실행되므로, 제출 전에 Redis 잠금({@code SET NX PX})으로 에셋을 점유해 한 인스턴스만 수집한다.
+ * 잠금은 수집이 끝나면 해제되고, 인스턴스가 중간에 죽으면 TTL 이 지난 뒤 다른 인스턴스의 복구 스케줄러가 다시 점유한다.
+ */
+@Slf4j
+@Service
+public class ReviewShortsIngestServiceImpl implements ReviewShortsIngestService {
+
+    private static final String DATA_DIR = "data";
+    private static final String SHORTS_DIR = "shorts";
+    private static final Set<ReviewAssetType> SHORTS_TYPES =
+            EnumSet.of(ReviewAssetType.SHORTS_RAY_2, ReviewAssetType.SHORTS_GEN_4);
+    private static final int RECOVERY_BATCH_SIZE = 50;
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(REDIS_UNLOCK_SCRIPT, Long.class);
+
+    private static final String METRIC_QUEUE_WAIT = "review.shorts.ingest.queue.wait";
+    private static final String METRIC_LATENCY = "review.shorts.ingest.latency";
+    private static final String METRIC_IN_FLIGHT = "review.shorts.ingest.in.flight";
+    private static final String METRIC_REJECTED = "review.shorts.ingest.rejected";
+    private static final String METRIC_CLAIM_CONFLICT = "review.shorts.ingest.claim.conflict";
+    private static final String TAG_OUTCOME = "outcome";
+
+    private final ReviewService reviewService;
+    private final ReviewAssetRepository reviewAssetRepository;
+    private final ReviewThumbnailService reviewThumbnailService;
+    private final FileStorageService fileStorageService;
+    private final FileStorageProperties fileStorageProperties;
+    private final FileUrlResolver fileUrlResolver;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+
+    // 큐에 들어갔거나 처리 중인 에셋 ID - 같은 인스턴스 안의 중복 제출은 Redis 조회 없이 막는다.
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    // 잠금 소유자 - 다른 인스턴스가 잡은 잠금을 해제하지 않도록 값으로 저장한다.
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    public ReviewShortsIngestServiceImpl(final ReviewService reviewService,
+                                         final ReviewAssetRepository reviewAssetRepository,
+                                         final ReviewThumbnailService reviewThumbnailService,
+                                         final FileStorageService fileStorageService,
+                                         final FileStorageProperties fileStorageProperties,
+                                         final FileUrlResolver fileUrlResolver,
+                                         final StringRedisTemplate redisTemplate,
+                                         final MeterRegistry meterRegistry,
+                                         @Qualifier(MEDIA_INGEST_EXECUTOR) final Executor executor) {
+        this.reviewService = reviewService;
+        this.reviewAssetRepository = reviewAssetRepository;
+        this.reviewThumbnailService = reviewThumbnailService;
+        this.fileStorageService = fileStorageService;
+        this.fileStorageProperties = fileStorageProperties;
+        this.fileUrlResolver = fileUrlResolver;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+
+        Gauge.builder(METRIC_IN_FLIGHT, inFlight, Set::size).register(meterRegistry);
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void submit(final ReviewShortsReceivedEvent event) {
+        Long assetId = event.reviewAssetId();
+        if (!inFlight.add(assetId)) {
+            log.debug("[ShortsIngest] 이미 처리 중인 에셋 - reviewAssetId: {}", assetId);
+            return;
+        }
+        if (!tryClaim(assetId)) {
+            inFlight.remove(assetId);
+            return;
+        }
+
+        Instant submittedAt = Instant.now();
+        try {
+            executor.execute(() -> {
+                meterRegistry.timer(METRIC_QUEUE_WAIT).record(Duration.between(submittedAt, Instant.now()));
+                try {
+                    // 점유 전에 읽은 목록으로 제출된 경우, 다른 인스턴스가 이미 끝낸 에셋이면 다시 받지 않는다.
+                    if (reviewAssetRepository.existsByIdAndStatus(assetId, Status.PENDING)) {
+                        ingest(event);
+                    }
+                } finally {
+                    release(assetId);
+                    inFlight.remove(assetId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            release(assetId);
+            inFlight.remove(assetId);
+            meterRegistry.counter(METRIC_REJECTED).increment();
+            log.warn("[ShortsIngest] 수집 큐 포화, 복구 스케줄러에서 재시도 - reviewAssetId: {}", event.reviewAssetId());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    public void recoverPending() {
+        List<ReviewAsset> awaiting = reviewAssetRepository.findAwaitingIngest(
+                Status.PENDING, SHORTS_TYPES, PageRequest.of(0, RECOVERY_BATCH_SIZE));
+
+        List<ReviewAsset> missed = awaiting.stream()
+                .filter(asset -> !inFlight.contains(asset.getId()))
+                .toList();
+        if (missed.isEmpty()) {
+            return;
+        }
+
+        log.info("[ShortsIngest] 누락된 수집 작업 재등록 - count: {}", missed.size());
+        missed.forEach(asset -> submit(ReviewShortsReceivedEvent.of(
+                asset.getId(), asset.getShortsUrl(), asset.getReview().getUser().getEmail())));
+    }
+
+    /**
+     * 다운로드 → 썸네일 추출 → 완료 처리. 실패하면 에셋을 FAIL로 전환한다.
+     */
+    private void ingest(final ReviewShortsReceivedEvent event) {
+        Long assetId = event.reviewAssetId();
+        String outcome = Status.SUCCESS.name();
+        try {
+            // 1) 영상 다운로드 (중단 시 이어받기)
+            String videoPath = fileStorageService.storeVideoFromUrl(event.sourceUrl(), DATA_DIR, SHORTS_DIR);
+            log.info("[ShortsIngest] 다운로드 완료 - reviewAssetId: {}, path: {}", assetId, videoPath);
+
+            // 2) 썸네일 대상 경로: {baseDir}/data/shorts/{email}/thumbnail/{fileName}.jpg
+            Path targetDir = fileStorageProperties.getBaseDirPath()
+                    .resolve(DATA_DIR)
+                    .resolve(SHORTS_DIR)
+                    .resolve(event.ownerEmail());
+            String fileName = deriveBaseName(event.sourceUrl(), "shorts-" + assetId);
+
+            // 3) 내려받은 로컬 파일에서 썸네일 추출 (원격 URL을 다시 읽지 않는다)
+            Path thumbnailPath = reviewThumbnailService.extractThumbnail(Path.of(videoPath), targetDir.toString(),
+                    fileName);
+
+            // 4) 퍼블릭 URL로 변환해서 에셋 완료 처리
+            reviewService.completeShortsIngest(assetId, fileUrlResolver.toPublicUrl(videoPath),
+                    fileUrlResolver.toPublicUrl(thumbnailPath.toString()));
+        } catch (Exception e) {
+            outcome = Status.FAIL.name();
+            log.error("[ShortsIngest] 수집 실패 - reviewAssetId: {}, url: {}", assetId, event.sourceUrl(), e);
+            failQuietly(assetId);
+        } finally {
+            meterRegistry.timer(METRIC_LATENCY, TAG_OUTCOME, outcome)
+                    .record(Duration.between(event.receivedAt(), Instant.now()));
+        }
+    }
+
+    /**
+     * 에셋 수집을 점유한다. 다른 인스턴스가 점유 중이거나 Redis 를 사용할 수 없으면 false - 복구 스케줄러가 다시 시도한다.
+     */
+    private boolean tryClaim(final Long assetId) {
+        try {
+            boolean claimed = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey(assetId), lockOwner, LOCK_SHORTS_INGEST_TTL));
+            if (!claimed) {
+                meterRegistry.counter(METRIC_CLAIM_CONFLICT).increment();
+                log.debug("[ShortsIngest] 다른 인스턴스가 처리 중인 에셋 - reviewAssetId: {}", assetId);
+            }
+            return claimed;
+        } catch (Exception e) {
+            log.warn("[ShortsIngest] 수집 점유 실패, 복구 스케줄러에서 재시도 - reviewAssetId: {} ({})", assetId,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(final Long assetId) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(assetId)), lockOwner);
+        } catch (Exception e) {
+            // 해제하지 못한 잠금은 TTL 이 지나면 사라진다.
+            log.warn("[ShortsIngest] 수집 점유 해제 실패 - reviewAssetId: {} ({})", assetId, e.getMessage());
+        }
+    }
+
+    private String lockKey(final Long assetId) {
+        return LOCK_SHORTS_INGEST_KEY.formatted(assetId);
+    }
+
+    private void failQuietly(final Long assetId) {
+        try {
+            reviewService.failShortsIngest(assetId);
+        } catch (Exception e) {
+            // 상태 전환에 실패하면 PENDING으로 남아 복구 스케줄러가 다시 수집한다.
+            log.error("[ShortsIngest] 실패 상태 반영 실패 - reviewAssetId: {}", assetId, e);
+        }
+    }
+
+    private String deriveBaseName(final String url, final String fallbackName) {
+        try {
+            String path = new URI(url).getPath();
+            if (path == null || path.isBlank()) {
+                return fallbackName;
+            }
+            String name = path.substring(path.lastIndexOf('/') + 1);
+            int dot = name.lastIndexOf('.');
+            String baseName = dot > 0 ? name.substring(0, dot) : name;
+            // '/'로 끝나는 URL은 파일명이 비어 있으므로 대체 이름을 사용한다.
+            return baseName.isBlank() ? fallbackName : baseName;
+        } catch (Exception e) {
+            return fallbackName;
+        }
+    }
+}
@@ -3,15 +3,21 @@ package com.domain.review.service.impl;
 import com.domain.review.service.ReviewThumbnailService;
 import com.global.constants.ErrorCode;
 import com.global.exception.ApiException;
+import com.global.filestorage.MediaProcessRunner;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class ReviewThumbnailServiceImpl implements ReviewThumbnailService {
 
     private static final String FFMPEG = "ffmpeg";
@@ -20,6 +26,10 @@ public class ReviewThumbnailServiceImpl implements ReviewThumbnailService {
     private static final int WIDTH = 720;
     private static final int JPEG_QUALITY = 3;
     private static final long NETWORK_TIMEOUT_MICROS = 10_000_000L;
+    private static final String FFMPEG_JOB_THUMBNAIL = "thumbnail";
+    private static final Duration THUMBNAIL_TIMEOUT = Duration.ofSeconds(30);
+
+    private final MediaProcessRunner mediaProcessRunner;
 
     /**
      * 0초 프레임을 JPEG로 추출해서 EC2 로컬 디스크에 저장
@@ -32,6 +42,33 @@ public class ReviewThumbnailServiceImpl implements ReviewThumbnailService {
     public Path extractThumbnail(final String videoUrl, final String filePath, final String fileName) {
         validateURL(videoUrl);
 
+        return extract(List.of(
+                "-rw_timeout", String.valueOf(NETWORK_TIMEOUT_MICROS),  // 네트워크 10초(마이크로초)
+                "-ss", "0",                                             // 0초 프레임
+                "-i", videoUrl                                          // 입력
+        ), filePath, fileName);
+    }
+
+    /**
+     * 로컬 비디오 파일의 0초 프레임을 JPEG로 추출
+     *
+     * @param videoFile 입력 비디오 파일
+     * @param fileName  저장 파일명
+     * @return 저장된 경로
+     */
+    @Override
+    public Path extractThumbnail(final Path videoFile, final String filePath, final String fileName) {
+        if (Objects.isNull(videoFile) || !Files.isRegularFile(videoFile)) {
+            throw new ApiException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        return extract(List.of(
+                "-ss", "0",                                             // 0초 프레임
+                "-i", videoFile.toAbsolutePath().toString()             // 입력
+        ), filePath, fileName);
+    }
+
+    private Path extract(final List<String> input, final String filePath, final String fileName) {
         Path out = Path.of(filePath, THUMBNAIL_PATH, fileName + EXTENSION);
 
         try {
@@ -40,21 +77,21 @@ public class ReviewThumbnailServiceImpl implements ReviewThumbnailService {
             throw new ApiException(ErrorCode.THUMBNAIL_PATH_ERROR, out);
         }
 
-        List<String> cmd = List.of(
+        List<String> cmd = new ArrayList<>(List.of(
                 FFMPEG,
                 "-y",                                                   //  파일이 있으면 덮어쓰기
                 "-hide_banner",
                 "-loglevel", "error",
-                "-nostdin",
-                "-rw_timeout", String.valueOf(NETWORK_TIMEOUT_MICROS),  // 네트워크 10초(마이크로초)
-                "-ss", "0",                                             // 0초 프레임
-                "-i", videoUrl,                                         // 입력
+                "-nostdin"
+        ));
+        cmd.addAll(input);
+        cmd.addAll(List.of(
                 "-frames:v", "1",                                       // 한 프레임만
                 "-vf", "scale=" + WIDTH + ":-1",                        // 가로 고정, 세로 비율 유지
                 "-q:v", String.valueOf(JPEG_QUALITY),                   // JPEG 품질 (작은 값일 수록 고화질)
                 "-f", "mjpeg",                                          // 명시적으로 JPEG 컨테이너
                 out.toAbsolutePath().toString()                         // 파일로 바로 저장
-        );
+        ));
 
         run(cmd);
         return out;
@@ -62,13 +99,17 @@ public class ReviewThumbnailServiceImpl implements ReviewThumbnailService {
 
     private void run(final List<String> command) {
         try {
-            Process proc = new ProcessBuilder(command)
-                    .redirectErrorStream(true)
-                    .start();
-            int code = proc.waitFor();
-            if (code != 0) {
+            MediaProcessRunner.Result result = mediaProcessRunner.run(FFMPEG_JOB_THUMBNAIL, command, THUMBNAIL_TIMEOUT);
+            if (!result.isSuccess()) {
+                log.warn("썸네일 추출 실패 - exitCode: {}, timedOut: {}, output: {}",
+                        result.exitCode(), result.timedOut(), result.output());
                 throw new ApiException(ErrorCode.THUMBNAIL_GENERATE_ERROR);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.THUMBNAIL_GENERATE_ERROR);
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new ApiException(ErrorCode.THUMBNAIL_GENERATE_ERROR);
         }
@@ -10,7 +10,6 @@ import com.domain.review.dto.request.ReviewFinalizeRequest;
 import com.domain.review.dto.request.ReviewLocationRequest;
 import com.domain.review.entity.Review;
 import com.domain.review.entity.ReviewAsset;
-import com.domain.user.entity.User;
 import com.global.constants.ErrorCode;
 import com.global.constants.SearchDistance;
 import com.global.constants.Status;
@@ -70,8 +69,8 @@ public class ReviewValidator {
         }
     }
 
-    public static void checkOwner(final User eater, final Review review) {
-        if (!Objects.equals(eater.getId(), review.getUser().getId())) {
+    public static void checkOwner(final Long eaterId, final Review review) {
+        if (!Objects.equals(eaterId, review.getUser().getId())) {
             throw new ApiException(ErrorCode.REVIEW_OWNER_MISMATCH);
         }
     }
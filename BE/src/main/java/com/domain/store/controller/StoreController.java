@@ -1,5 +1,6 @@
 package com.domain.store.controller;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.store.dto.request.StoreNearbyRequest;
 import com.domain.store.dto.response.StoreNearbyResponse;
 import com.domain.store.entity.Store;
@@ -41,7 +42,7 @@ public class StoreController {
     @PostMapping("/test")
     public Long createTestStore(final Authentication authentication) {
 
-        String email = (String) authentication.getPrincipal();
+        String email = authentication.getName();
 
         User eater = eaterRepository.findByEmailAndDeletedFalse(email)
                 .orElseThrow(() -> new IllegalArgumentException("해당 이메일의 사용자가 존재하지 않습니다."));
@@ -67,12 +68,12 @@ public class StoreController {
     public ResponseEntity<BaseResponse> getNearbyStores(
             @Valid StoreNearbyRequest request,
             @RequestParam(required = false) Integer distance,
-            @AuthenticationPrincipal final String email
+            @AuthenticationPrincipal final AuthenticatedUser user
     ) {
         // 로그 추가
         log.info("Received params - lat: {}, lon: {}, dist: {}", request.latitude(), request.longitude(), distance);
 
-        StoreNearbyResponse response = storeService.getNearbyStores(request, email);
+        StoreNearbyResponse response = storeService.getNearbyStores(request, user.email());
 
         return ApiResponseFactory.success(SuccessCode.NEARBY_STORES_FOUND, response);
     }
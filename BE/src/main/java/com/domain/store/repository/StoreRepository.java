@@ -27,4 +27,6 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      */
     @Query("SELECT p FROM Store p WHERE p.h3Index10 IN :h3Indexes")
     List<Store> findByH3Index10In(@Param("h3Indexes") List<Long> h3Indexes);
+
+    boolean existsByIdAndMakerIdAndDeletedFalse(Long id, Long makerId);
 }
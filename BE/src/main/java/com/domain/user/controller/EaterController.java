@@ -1,5 +1,6 @@
 package com.domain.user.controller;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.user.dto.request.EaterCheckEmailRequest;
 import com.domain.user.dto.request.EaterCheckNicknameRequest;
 import com.domain.user.dto.request.EaterSignUpRequest;
@@ -59,13 +60,13 @@ public class EaterController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<BaseResponse> getProfile(@AuthenticationPrincipal String email) {
+    public ResponseEntity<BaseResponse> getProfile(@AuthenticationPrincipal AuthenticatedUser eater) {
         return ApiResponseFactory.success(SuccessCode.PROFILE_GET,
                 eaterMapper.toResponse(
-                        eaterService.getNickname(email),
-                        eaterService.countMyReviews(email),
-                        eaterService.countMyScrapReviews(email),
-                        eaterService.countMyMenuPosters(email)
+                        eaterService.getNickname(eater.userId()),
+                        eaterService.countMyReviews(eater.userId()),
+                        eaterService.countMyScrapReviews(eater.userId()),
+                        eaterService.countMyMenuPosters(eater.userId())
                 ));
     }
 }
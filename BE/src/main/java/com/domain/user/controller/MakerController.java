@@ -1,5 +1,6 @@
 package com.domain.user.controller;
 
+import com.domain.auth.jwt.AuthenticatedUser;
 import com.domain.user.dto.request.MakerCheckEmailRequest;
 import com.domain.user.dto.request.MakerSignUpBaseRequest;
 import com.domain.user.dto.request.MakerSignUpMenuRequest;
@@ -60,8 +61,8 @@ public class MakerController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<BaseResponse> getProfile(@AuthenticationPrincipal String email) {
+    public ResponseEntity<BaseResponse> getProfile(@AuthenticationPrincipal AuthenticatedUser maker) {
         return ApiResponseFactory.success(SuccessCode.PROFILE_GET,
-                makerService.getProfile(email));
+                makerService.getProfile(maker.userId()));
     }
 }
@@ -21,9 +21,9 @@ public interface MakerRepository extends JpaRepository<User, Long>, UserReposito
     FROM User u
     JOIN u.stores s
     LEFT JOIN s.menuPosters m
-    WHERE u.email = :email 
+    WHERE u.id = :makerId 
     AND u.deleted = false
     GROUP BY s.id, s.name
     """)
-    Optional<MakerGetProfileResponse> getProfileByEmail(@Param("email") String email);
+    Optional<MakerGetProfileResponse> getProfileById(@Param("makerId") Long makerId);
 }
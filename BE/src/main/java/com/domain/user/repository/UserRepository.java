@@ -14,6 +14,10 @@ public interface UserRepository {
 
     Optional<User> findByEmailAndDeletedFalse(String email);
 
+    Optional<User> findByIdAndDeletedFalse(Long id);
+
+    boolean existsByIdAndDeletedFalse(Long id);
+
     Optional<User> findByNicknameAndDeletedFalse(String nickname);
 
 }
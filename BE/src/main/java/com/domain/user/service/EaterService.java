@@ -13,11 +13,11 @@ public interface EaterService {
 
     void validateNicknameAvailable(EaterCheckNicknameRequest request);
 
-    Long countMyReviews(String email);
+    Long countMyReviews(Long eaterId);
 
-    Long countMyScrapReviews(String email);
+    Long countMyScrapReviews(Long eaterId);
 
-    Long countMyMenuPosters(String email);
+    Long countMyMenuPosters(Long eaterId);
 
-    String getNickname(String email);
+    String getNickname(Long eaterId);
 }
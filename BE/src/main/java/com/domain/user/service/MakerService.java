@@ -15,13 +15,13 @@ public interface MakerService {
 
     void validateEmailAvailable(MakerCheckEmailRequest request);
 
-    Long countReceivedReviews(String email);
+    Long countReceivedReviews(Long makerId, Long storeId);
 
-    Long countMyEvents(String email);
+    Long countMyEvents(Long makerId, Long storeId);
 
-    Long countMyMenuPosters(String email);
+    Long countMyMenuPosters(Long makerId, Long storeId);
 
-    String getStoreName(String email);
-    Long getStoreId(String email);
-    MakerGetProfileResponse getProfile(String email);
+    String getStoreName(Long makerId, Long storeId);
+
+    MakerGetProfileResponse getProfile(Long makerId);
 }
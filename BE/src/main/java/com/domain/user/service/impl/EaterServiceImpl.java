@@ -66,23 +66,23 @@ public class EaterServiceImpl implements EaterService {
     }
 
     @Override
-    public Long countMyReviews(final String email) {
-        return reviewRepository.countByUserIdAndStatus(getEaterId(email), Status.SUCCESS);
+    public Long countMyReviews(final Long eaterId) {
+        return reviewRepository.countByUserIdAndStatus(eaterId, Status.SUCCESS);
     }
 
     @Override
-    public Long countMyScrapReviews(final String email) {
-        return reviewScrapRepository.countByUserId(getEaterId(email));
+    public Long countMyScrapReviews(final Long eaterId) {
+        return reviewScrapRepository.countByUserId(eaterId);
     }
 
     @Override
-    public Long countMyMenuPosters(final String email) {
-        return menuPosterRepository.countByUserIdAndStatus(getEaterId(email), Status.SUCCESS);
+    public Long countMyMenuPosters(final Long eaterId) {
+        return menuPosterRepository.countByUserIdAndStatus(eaterId, Status.SUCCESS);
     }
 
     @Override
-    public String getNickname(final String email) {
-        return eaterRepository.findByEmailAndDeletedFalse(email)
+    public String getNickname(final Long eaterId) {
+        return eaterRepository.findByIdAndDeletedFalse(eaterId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
                 .getNickname();
     }
@@ -134,10 +134,4 @@ public class EaterServiceImpl implements EaterService {
             throw new ApiException(ErrorCode.NICKNAME_DUPLICATED, nickname);
         }
     }
-
-    private Long getEaterId(String email) {
-        return eaterRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getId();
-    }
 }
@@ -27,6 +27,7 @@ import com.global.utils.geo.H3Utils;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -103,41 +104,34 @@ public class MakerServiceImpl implements MakerService {
     }
 
     @Override
-    public Long countReceivedReviews(final String email) {
-        return reviewRepository.countByStoreIdAndStatus(getStorerId(email), Status.SUCCESS);
+    public Long countReceivedReviews(final Long makerId, final Long storeId) {
+        validateOwnedStore(makerId, storeId);
+        return reviewRepository.countByStoreIdAndStatus(storeId, Status.SUCCESS);
     }
 
     @Override
-    public Long countMyEvents(final String email) {
-        return eventRepository.countByStoreIdAndStatus(getStorerId(email), Status.SUCCESS);
+    public Long countMyEvents(final Long makerId, final Long storeId) {
+        validateOwnedStore(makerId, storeId);
+        return eventRepository.countByStoreIdAndStatus(storeId, Status.SUCCESS);
     }
 
     @Override
-    public Long countMyMenuPosters(final String email) {
-        return menuPosterRepository.countByStoreIdAndStatus(getStorerId(email), Status.SUCCESS);
+    public Long countMyMenuPosters(final Long makerId, final Long storeId) {
+        validateOwnedStore(makerId, storeId);
+        return menuPosterRepository.countByStoreIdAndStatus(storeId, Status.SUCCESS);
     }
 
     @Override
-    public String getStoreName(final String email) {
-        return makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getStores()
-                .getFirst()
+    public String getStoreName(final Long makerId, final Long storeId) {
+        validateOwnedStore(makerId, storeId);
+        return storeRepository.findById(storeId)
+                .orElseThrow(() -> new ApiException(ErrorCode.STORE_NOT_FOUND))
                 .getName();
     }
 
     @Override
-    public Long getStoreId(String email) {
-        return makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getStores()
-                .getFirst()
-                .getId();
-    }
-
-    @Override
-    public MakerGetProfileResponse getProfile(String email) {
-        return makerRepository.getProfileByEmail(email)
+    public MakerGetProfileResponse getProfile(final Long makerId) {
+        return makerRepository.getProfileById(makerId)
                 .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
     }
 
@@ -175,20 +169,21 @@ public class MakerServiceImpl implements MakerService {
      * @param email 중복 확인할 이메일
      */
     // @formatter:on
+    /**
+     * 토큰의 가게 ID가 아직 이 사장님의 삭제되지 않은 가게인지 확인한다. (토큰 발급 이후 삭제/양도 대비)
+     */
+    private void validateOwnedStore(final Long makerId, final Long storeId) {
+        if (Objects.isNull(storeId) || !storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, makerId)) {
+            throw new ApiException(ErrorCode.STORE_NOT_FOUND);
+        }
+    }
+
     private void validateDuplicateEmail(final String email) {
         if (makerRepository.existsByEmail(email)) {
             throw new ApiException(ErrorCode.EMAIL_DUPLICATED, email);
         }
     }
 
-    private Long getStorerId(String email) {
-        return makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getStores()
-                .getFirst()
-                .getId();
-    }
-
     private void publishStoreCreatedEvent(Store store, MakerSignUpBaseRequest request) {
         try {
             StoreCreatedEvent event = StoreCreatedEvent.of(
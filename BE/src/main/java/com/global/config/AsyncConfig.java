@@ -1,15 +1,28 @@
 package com.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String IMAGE_PROCESSING_EXECUTOR = "imageProcessingExecutor";
+    public static final String OUTBOX_RELAY_EXECUTOR = "outboxRelayExecutor";
+    public static final String MEDIA_INGEST_EXECUTOR = "mediaIngestExecutor";
+    public static final String IMAGE_VARIANT_EXECUTOR = "imageVariantExecutor";
+
+    private static final int IMAGE_QUEUE_CAPACITY_PER_CORE = 4;
+    private static final int IMAGE_VARIANT_QUEUE_CAPACITY = 100;
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -20,4 +33,75 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 업로드 이미지 디코딩/인코딩 전용 풀 - CPU 작업이므로 코어 수만큼만 스레드를 둔다.
+     * 큐가 가득 차면 요청 스레드가 직접 처리(CallerRunsPolicy)하여 작업이 무한히 쌓이지 않도록 한다.
+     */
+    @Bean(name = IMAGE_PROCESSING_EXECUTOR)
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(cores * IMAGE_QUEUE_CAPACITY_PER_CORE);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("ImageProcessing-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 커밋 이후 아웃박스 메시지 발행 전용 풀 - Redis I/O 대기가 대부분이다.
+     * 큐가 가득 차면 요청 스레드가 직접 발행한다. (이미 커밋된 이후라 메시지는 아웃박스에 남아 있다)
+     */
+    @Bean(name = OUTBOX_RELAY_EXECUTOR)
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("OutboxRelay-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * AI 결과 영상 다운로드 + 썸네일 추출 전용 풀 - 네트워크/ffmpeg 대기가 길어 스레드 수를 작게 유지한다.
+     * 큐가 가득 차면 거절하고, 거절된 작업은 수집 복구 스케줄러가 다시 넣는다. (대기 중인 에셋은 DB에 남아 있다)
+     * 큐 길이/활성 스레드는 actuator의 {@code executor.*{name=mediaIngestExecutor}} 메트릭으로 노출된다.
+     */
+    @Bean(name = MEDIA_INGEST_EXECUTOR)
+    public ThreadPoolTaskExecutor mediaIngestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("MediaIngest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 반응형 변형 생성 전용 풀 - 업로드 응답과 무관한 부가 작업이므로 업로드 풀과 분리하고 스레드를 코어의 절반으로 제한한다.
+     * 큐가 가득 차면 작업을 버린다. (변형이 없으면 원본 URL이 사용되므로 요청 스레드가 대신 처리하지 않는다)
+     */
+    @Bean(name = IMAGE_VARIANT_EXECUTOR)
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(IMAGE_VARIANT_QUEUE_CAPACITY);
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("[ImageVariant] 변형 생성 큐 포화, 작업 생략 - queued: {}", pool.getQueue().size()));
+        executor.setThreadNamePrefix("ImageVariant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
 }
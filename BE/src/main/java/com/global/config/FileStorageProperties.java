@@ -40,6 +40,16 @@ public class FileStorageProperties {
      */
     private String hostBaseDir;
 
+    /**
+     * 다운로드를 앞단 nginx에 넘길 내부 location 경로 (예: /_protected/) - 비어 있으면 애플리케이션이 직접 전송
+     */
+    private String accelRedirectPrefix = "";
+
+    /**
+     * 이미지를 내용 주소(SHA-256) 저장소에 한 번만 기록하고 요청 경로에는 하드링크로 연결할지 여부
+     */
+    private boolean contentAddressed = false;
+
     /**
      * 영상 관련 설정
      */
@@ -81,6 +91,12 @@ public class FileStorageProperties {
         @Min(1)
         private int requestTimeoutSec = 20;
 
+        /**
+         * 호스트별 동시 다운로드 연결 수 상한
+         */
+        @Min(1)
+        private int maxConnectionsPerHost = 4;
+
         /**
          * 허용 MIME 목록
          */
@@ -0,0 +1,45 @@
+package com.global.config;
+
+import com.global.config.FileStorageProperties.Video;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MediaHttpClientConfig {
+
+    public static final String MEDIA_HTTP_CLIENT = "mediaHttpClient";
+    public static final String MEDIA_HTTP_CLIENT_EXECUTOR = "mediaHttpClientExecutor";
+
+    /**
+     * 원격 미디어 다운로드 응답 처리용 가상 스레드 실행기 - 컨텍스트 종료 시 HttpClient 이후에 닫힌다.
+     */
+    @Bean(name = MEDIA_HTTP_CLIENT_EXECUTOR, destroyMethod = "close")
+    public ExecutorService mediaHttpClientExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * 원격 미디어 다운로드 전용 공유 HttpClient - 연결 풀을 다운로드 간에 재사용한다.
+     * <p>
+     * HTTP/2를 우선 사용하고(미지원 서버는 HTTP/1.1로 협상), 응답 처리는 가상 스레드에서 수행한다. 리다이렉트는 스킴 검증을 위해 직접
+     * 처리하므로 자동으로 따라가지 않는다. 호스트별 연결 수 제한은 {@code RemoteMediaDownloader}가 담당한다.
+     * <p>
+     * 유휴 연결 유지 시간은 JVM 옵션 {@code -Djdk.httpclient.keepalive.timeout}으로 지정한다. (Dockerfile, bootRun) JDK 가 클래스
+     * 초기화 시점에 한 번만 읽으므로 실행 중에 시스템 프로퍼티를 바꿔도 적용이 보장되지 않는다.
+     */
+    @Bean(name = MEDIA_HTTP_CLIENT)
+    public HttpClient mediaHttpClient(final FileStorageProperties properties,
+                                      @Qualifier(MEDIA_HTTP_CLIENT_EXECUTOR) final ExecutorService executor) {
+        Video video = properties.getVideo();
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(video.getRequestTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+    }
+}
@@ -132,6 +132,10 @@ public enum ErrorCode {
             HttpStatus.INTERNAL_SERVER_ERROR.value()),
     THUMBNAIL_PATH_ERROR("THUMBNAIL_PATH_ERROR", "썸네일 생성 경로 생성에 에러가 발생했습니다.", HttpStatus.BAD_REQUEST.value()),
 
+    // AI 생성 요청 수용 제어
+    AI_GENERATION_BUSY("AI_GENERATION_BUSY", "생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            HttpStatus.SERVICE_UNAVAILABLE.value()),
+
     // 외부 서비스 통신 관련
     EXTERNAL_SERVICE_ERROR("EXTERNAL_SERVICE_ERROR", "외부 서비스 연동 중 오류가 발생했습니다.",
             HttpStatus.INTERNAL_SERVER_ERROR.value());
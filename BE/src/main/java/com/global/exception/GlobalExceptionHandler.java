@@ -11,6 +11,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -33,6 +34,18 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e.getErrorCode(), e.getDetails());
     }
 
+    /**
+     * 일시적 과부하 - Retry-After 헤더(초)를 포함한다.
+     */
+    @ExceptionHandler(RetryAfterException.class)
+    public ResponseEntity<BaseResponse> handleRetryAfterException(final RetryAfterException e) {
+        ErrorCode code = e.getErrorCode();
+        var body = ErrorResponse.of(code.getCode(), code.getMessage(), code.getStatus());
+        return ResponseEntity.status(code.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(body);
+    }
+
     /**
      * 전역 비즈니스 예외 처리
      */
@@ -0,0 +1,20 @@
+package com.global.exception;
+
+import com.global.constants.ErrorCode;
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 일시적인 과부하로 요청을 받을 수 없을 때 사용하는 예외. 응답에 {@code Retry-After} 헤더로 재시도 대기 시간을 함께 전달한다.
+ */
+@Getter
+public class RetryAfterException extends ApiException {
+
+    // 클라이언트가 다시 시도하기까지 기다릴 시간
+    private final Duration retryAfter;
+
+    public RetryAfterException(final ErrorCode errorCode, final Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,347 @@
+package com.global.filestorage;
+
+import static com.global.filestorage.constants.FileStorageConstants.CAS_DIR;
+import static com.global.filestorage.constants.FileStorageConstants.CAS_INDEX_DIR;
+import static com.global.filestorage.constants.FileStorageConstants.CAS_OBJECTS_DIR;
+import static com.global.filestorage.constants.FileStorageConstants.EMPTY;
+import static com.global.filestorage.constants.FileStorageConstants.HYPHEN;
+import static com.global.filestorage.constants.FileStorageConstants.TEMP_FILE_EXTENSION_TMP;
+
+import com.global.config.FileStorageProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 내용 주소 기반(SHA-256) 중복 제거 이미지 저장소
+ * <p>
+ * 결과 파일은 {@code {imageRoot}/.cas/objects/ab/{sha256}{ext}}에 한 번만 기록되고, 요청 경로에는 하드링크로 연결된다. 하드링크
+ * 수가 곧 참조 수이므로 요청 경로의 파일을 지워도 다른 참조는 영향을 받지 않는다.
+ * <p>
+ * 원본 바이트 해시 + 처리 방식 → 결과 객체 매핑을 {@code .cas/index}에 남겨 두어, 같은 파일이 다시 올라오면 디코딩/인코딩과 디스크 기록
+ * 없이 링크만 추가한다.
+ * <p>
+ * 요청 경로가 모두 삭제되어 링크 수가 1(객체 자신)만 남은 객체는 {@link #sweep}이 주기적으로 지우고, 사라진 객체를 가리키는 인덱스 항목도
+ * 함께 정리한다. 방금 기록했거나 재사용한 객체는 링크가 붙기 전일 수 있으므로 유예 시간 동안은 지우지 않는다. 객체의 수정 시각은 모든
+ * 링크가 공유하는 응답 헤더(Last-Modified/ETag)이므로 건드리지 않고, 재사용 시각은 인덱스 항목의 수정 시각으로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentAddressedFileStore {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int SHARD_LENGTH = 2;
+    private static final String ATTRIBUTE_NLINK = "unix:nlink";
+    private static final Duration SWEEP_GRACE_PERIOD = Duration.ofHours(1);
+
+    private final FileStorageProperties properties;
+
+    /**
+     * 결과 파일을 임시 경로에 기록하는 처리 함수 (최적화, 원본 복사 등)
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        void write(Path target) throws IOException;
+    }
+
+    /**
+     * 업로드 파일을 내용 주소 저장소에 저장하고 요청 경로에 링크한다.
+     *
+     * @param file        업로드된 원본 파일
+     * @param processKey  처리 방식 식별자 (같은 원본이라도 처리 방식이 다르면 결과가 다르다. 예: {@code webp}, {@code raw})
+     * @param extension   결과 파일 확장자 ('.webp' 등 포함)
+     * @param target      요청 경로 (존재하지 않아야 한다)
+     * @param writer      인덱스에 없을 때 결과 파일을 만드는 함수
+     */
+    public void store(final MultipartFile file, final String processKey, final String extension,
+                      final Path target, final ContentWriter writer) throws IOException {
+        String indexKey = sha256(file) + HYPHEN + processKey;
+
+        Optional<Path> cached = lookup(indexKey);
+        if (cached.isPresent()) {
+            try {
+                link(cached.get(), target);
+                log.debug("[ContentAddressedFileStore] 중복 업로드 - 처리 생략: {} -> {}", file.getOriginalFilename(),
+                        cached.get().getFileName());
+                return;
+            } catch (NoSuchFileException e) {
+                // 조회 직후 정리된 객체 - 다시 생성한다.
+                log.debug("[ContentAddressedFileStore] 정리된 객체 재생성: {}", cached.get().getFileName());
+            }
+        }
+
+        Path object = writeObject(extension, writer);
+        writeIndex(indexKey, object);
+        link(object, target);
+    }
+
+    /**
+     * 처리 결과를 임시 파일에 기록한 뒤 결과 해시 경로로 옮긴다. 같은 결과가 이미 있으면 임시 파일만 지운다.
+     */
+    private Path writeObject(final String extension, final ContentWriter writer) throws IOException {
+        Path objectsDir = casRoot().resolve(CAS_OBJECTS_DIR);
+        Files.createDirectories(objectsDir);
+        Path temp = objectsDir.resolve(newTempName());
+
+        try {
+            writer.write(temp);
+            String digest = sha256(temp);
+            Path object = objectsDir.resolve(digest.substring(0, SHARD_LENGTH)).resolve(digest + extension);
+            Files.createDirectories(object.getParent());
+
+            if (Files.exists(object)) {
+                // 이어서 기록하는 인덱스 항목이 유예 시간 동안 객체를 보호한다.
+                log.debug("[ContentAddressedFileStore] 동일 결과 객체 존재 - 기록 생략: {}", object.getFileName());
+                return object;
+            }
+            // 동시에 같은 결과가 기록되더라도 내용이 같으므로 덮어써도 기존 링크는 유효하다.
+            moveReplacing(temp, object);
+            return object;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Optional<Path> lookup(final String indexKey) throws IOException {
+        Path entry = casRoot().resolve(CAS_INDEX_DIR).resolve(indexKey);
+        Optional<Path> object = resolveEntry(entry);
+        if (object.isPresent()) {
+            touch(entry);
+        }
+        return object;
+    }
+
+    private Optional<Path> resolveEntry(final Path entry) throws IOException {
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        Path object = casRoot().resolve(Files.readString(entry, StandardCharsets.UTF_8).trim()).normalize();
+        // 객체가 정리되었거나 저장소 밖을 가리키는 항목은 무시하고 다시 생성한다.
+        if (!object.startsWith(casRoot().resolve(CAS_OBJECTS_DIR)) || !Files.isRegularFile(object)) {
+            return Optional.empty();
+        }
+        return Optional.of(object);
+    }
+
+    /**
+     * 참조가 남지 않은 객체와 사라진 객체를 가리키는 인덱스 항목 정리
+     * <p>
+     * 링크 수를 읽을 수 없는 파일시스템(하드링크 대신 복사)에서는 객체가 참조 수를 나타내지 않으므로 객체를 지우지 않는다.
+     *
+     * @return 삭제한 객체 수
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 600_000)
+    public int sweep() {
+        Path objectsDir = casRoot().resolve(CAS_OBJECTS_DIR);
+        if (!Files.isDirectory(objectsDir)) {
+            return 0;
+        }
+
+        Instant threshold = Instant.now().minus(SWEEP_GRACE_PERIOD);
+        Set<Path> recentlyUsed = recentlyIndexedObjects(threshold);
+        int deletedObjects = 0;
+        for (Path object : listObjects(objectsDir)) {
+            try {
+                if (!recentlyUsed.contains(object) && isUnreferenced(object, threshold)) {
+                    Files.deleteIfExists(object);
+                    deletedObjects++;
+                }
+            } catch (UnsupportedOperationException e) {
+                log.warn("[ContentAddressedFileStore] 링크 수를 지원하지 않는 파일시스템 - 객체 정리 생략");
+                break;
+            } catch (IOException e) {
+                log.warn("[ContentAddressedFileStore] 객체 정리 실패: {} ({})", object, e.getMessage());
+            }
+        }
+
+        int deletedEntries = pruneIndex(threshold);
+        if (deletedObjects > 0 || deletedEntries > 0) {
+            log.info("[ContentAddressedFileStore] 정리 완료 - 객체: {}, 인덱스: {}", deletedObjects, deletedEntries);
+        }
+        return deletedObjects;
+    }
+
+    private boolean isUnreferenced(final Path object, final Instant threshold) throws IOException {
+        if (Files.getLastModifiedTime(object).toInstant().isAfter(threshold)) {
+            return false;
+        }
+        return ((Number) Files.getAttribute(object, ATTRIBUTE_NLINK)).intValue() <= 1;
+    }
+
+    /**
+     * 유예 시간 안에 기록되었거나 재사용된 인덱스 항목이 가리키는 객체
+     */
+    private Set<Path> recentlyIndexedObjects(final Instant threshold) {
+        Path indexDir = casRoot().resolve(CAS_INDEX_DIR);
+        if (!Files.isDirectory(indexDir)) {
+            return Set.of();
+        }
+
+        Set<Path> objects = new HashSet<>();
+        try (Stream<Path> entries = Files.list(indexDir)) {
+            for (Path entry : entries.filter(Files::isRegularFile).toList()) {
+                try {
+                    if (Files.getLastModifiedTime(entry).toInstant().isAfter(threshold)) {
+                        resolveEntry(entry).ifPresent(objects::add);
+                    }
+                } catch (IOException e) {
+                    log.warn("[ContentAddressedFileStore] 인덱스 항목 조회 실패: {} ({})", entry, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[ContentAddressedFileStore] 인덱스 목록 조회 실패: {}", e.getMessage());
+        }
+        return objects;
+    }
+
+    /**
+     * 객체가 없어진 인덱스 항목 삭제 (기록 중인 임시 파일은 유예 시간이 지난 경우에만 삭제)
+     */
+    private int pruneIndex(final Instant threshold) {
+        Path indexDir = casRoot().resolve(CAS_INDEX_DIR);
+        if (!Files.isDirectory(indexDir)) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (Stream<Path> entries = Files.list(indexDir)) {
+            for (Path entry : entries.filter(Files::isRegularFile).toList()) {
+                try {
+                    boolean stale = entry.getFileName().toString().endsWith(TEMP_FILE_EXTENSION_TMP)
+                            ? Files.getLastModifiedTime(entry).toInstant().isBefore(threshold)
+                            : resolveEntry(entry).isEmpty();
+                    if (stale && Files.deleteIfExists(entry)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("[ContentAddressedFileStore] 인덱스 정리 실패: {} ({})", entry, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[ContentAddressedFileStore] 인덱스 목록 조회 실패: {}", e.getMessage());
+        }
+        return deleted;
+    }
+
+    private List<Path> listObjects(final Path objectsDir) {
+        try (Stream<Path> paths = Files.walk(objectsDir, 2)) {
+            return paths.filter(path -> !path.getParent().equals(objectsDir))
+                    .filter(Files::isRegularFile)
+                    .toList();
+        } catch (IOException e) {
+            log.warn("[ContentAddressedFileStore] 객체 목록 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 재사용하는 인덱스 항목의 수정 시각을 갱신해, 가리키는 객체가 링크가 붙기 전에 정리되지 않도록 한다.
+     */
+    private void touch(final Path entry) throws IOException {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+        } catch (NoSuchFileException e) {
+            // 정리된 항목 - 링크 실패 시 객체와 함께 다시 기록한다.
+        }
+    }
+
+    private void writeIndex(final String indexKey, final Path object) throws IOException {
+        Path indexDir = casRoot().resolve(CAS_INDEX_DIR);
+        Files.createDirectories(indexDir);
+        Path temp = indexDir.resolve(newTempName());
+        try {
+            Files.writeString(temp, casRoot().relativize(object).toString(), StandardCharsets.UTF_8);
+            moveReplacing(temp, indexDir.resolve(indexKey));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 요청 경로에 하드링크 생성 - 하드링크를 지원하지 않는 파일시스템이면 복사한다.
+     */
+    private void link(final Path object, final Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.createLink(target, object);
+        } catch (FileAlreadyExistsException | NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            log.warn("[ContentAddressedFileStore] 하드링크 실패, 복사로 대체: {} ({})", target, e.getMessage());
+            Files.copy(object, target);
+        }
+    }
+
+    private void moveReplacing(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path casRoot() {
+        return Paths.get(properties.getImageRoot(), CAS_DIR);
+    }
+
+    private static String newTempName() {
+        return UUID.randomUUID().toString().replace(HYPHEN, EMPTY) + TEMP_FILE_EXTENSION_TMP;
+    }
+
+    private static String sha256(final MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return digest(input);
+        }
+    }
+
+    private static String sha256(final Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return digest(input);
+        }
+    }
+
+    private static String digest(final InputStream input) throws IOException {
+        MessageDigest digest = newDigest();
+        try (DigestInputStream digestInput = new DigestInputStream(input, digest)) {
+            digestInput.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.global.filestorage;
+
+import com.global.config.FileStorageProperties;
+import com.global.constants.ErrorCode;
+import com.global.exception.GlobalException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 파일 다운로드 응답 생성
+ * <p>
+ * ETag/Last-Modified/Cache-Control을 붙여 조건부 요청(If-None-Match, If-Modified-Since)에는 304로 응답한다.
+ * {@code filestorage.accel-redirect-prefix}가 설정되어 있으면 본문 없이 {@code X-Accel-Redirect}로 앞단 nginx에 전송을
+ * 넘겨 sendfile로 내려보내고, 설정이 없으면 애플리케이션이 직접 내려보낸다. (두 경우 모두 Range 요청 지원)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDownloadResponder {
+
+    private static final String X_ACCEL_REDIRECT = "X-Accel-Redirect";
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+
+    private final FileStorageProperties properties;
+
+    /**
+     * 첨부 파일 다운로드 응답
+     *
+     * @param resource     저장소에서 읽은 파일 리소스
+     * @param downloadName 내려받을 파일명 (확장자 제외)
+     * @param defaultType  확장자로 타입을 알 수 없을 때 사용할 Content-Type
+     */
+    public ResponseEntity<Resource> attachment(final Resource resource, final String downloadName,
+                                               final MediaType defaultType) {
+        Path file = toFile(resource);
+        BasicFileAttributes attributes = readAttributes(file);
+        String fileName = file.getFileName().toString();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaTypeFactory.getMediaType(fileName).orElse(defaultType));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(downloadName + extensionOf(fileName), StandardCharsets.UTF_8)
+                .build());
+        headers.setETag(etag(attributes));
+        headers.setLastModified(attributes.lastModifiedTime().toMillis());
+        headers.setCacheControl(CacheControl.maxAge(MAX_AGE).cachePrivate());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        Optional<String> accelPath = toAccelPath(file);
+        if (accelPath.isPresent()) {
+            headers.set(X_ACCEL_REDIRECT, accelPath.get());
+            return ResponseEntity.ok().headers(headers).build();
+        }
+
+        // Range 요청은 Spring MVC가 ResourceRegion으로 처리한다.
+        return ResponseEntity.ok().headers(headers).body(new FileSystemResource(file));
+    }
+
+    /**
+     * nginx 내부 location 경로 - 베이스 디렉토리 밖의 파일이거나 설정이 없으면 빈 값
+     */
+    private Optional<String> toAccelPath(final Path file) {
+        String prefix = properties.getAccelRedirectPrefix();
+        if (prefix == null || prefix.isBlank()) {
+            return Optional.empty();
+        }
+
+        Path base = properties.getBaseDirPath();
+        Path normalized = file.toAbsolutePath().normalize();
+        if (!normalized.startsWith(base)) {
+            log.warn("[FileDownload] 베이스 디렉토리 밖의 파일은 직접 전송: {}", normalized);
+            return Optional.empty();
+        }
+
+        String relative = base.relativize(normalized).toString().replace('\\', '/');
+        return Optional.of(prefix.endsWith("/") ? prefix + relative : prefix + "/" + relative);
+    }
+
+    /**
+     * nginx와 같은 형식의 ETag ("{수정시각(초) 16진수}-{크기 16진수}") - 프록시 전환 여부와 관계없이 같은 값을 유지한다.
+     */
+    private String etag(final BasicFileAttributes attributes) {
+        return "\"" + Long.toHexString(attributes.lastModifiedTime().toMillis() / 1000) + "-"
+                + Long.toHexString(attributes.size()) + "\"";
+    }
+
+    private Path toFile(final Resource resource) {
+        try {
+            return resource.getFile().toPath();
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.FILE_READ_ERROR, resource.getDescription(), e);
+        }
+    }
+
+    private BasicFileAttributes readAttributes(final Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.FILE_NOT_FOUND, file.toString(), e);
+        }
+    }
+
+    private String extensionOf(final String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(dot) : "";
+    }
+}
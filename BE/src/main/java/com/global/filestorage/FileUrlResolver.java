@@ -3,6 +3,7 @@ package com.global.filestorage;
 import com.global.config.FileStorageProperties;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.mapstruct.Named;
 import org.springframework.stereotype.Component;
@@ -47,4 +48,49 @@ public class FileUrlResolver {
 
         return baseUrl.endsWith("/") ? baseUrl + rel : baseUrl + "/" + rel;
     }
+
+    /**
+     * 공개 URL(또는 로컬 경로)을 서버 로컬 파일 경로로 변환한다.
+     *
+     * @return base-url 아래의 URL이 아니거나 베이스 디렉토리를 벗어나면 빈 값
+     */
+    public Optional<Path> toLocalPath(String publicUrl) {
+        if (publicUrl == null || publicUrl.isBlank()) {
+            return Optional.empty();
+        }
+
+        Path base = properties.getBaseDirPath();
+        if (!publicUrl.startsWith("http://") && !publicUrl.startsWith("https://")) {
+            Path local = Paths.get(publicUrl).toAbsolutePath().normalize();
+            return local.startsWith(base) ? Optional.of(local) : Optional.empty();
+        }
+
+        String baseUrl = properties.getBaseUrl();
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return Optional.empty();
+        }
+        String prefix = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        if (!publicUrl.startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        // 디렉토리 트래버설 방지
+        Path local = base.resolve(publicUrl.substring(prefix.length())).normalize();
+        return local.startsWith(base) ? Optional.of(local) : Optional.empty();
+    }
+
+    /**
+     * 원본 이미지 URL을 반응형 변형 URL로 바꾼다. 파일 존재 여부는 확인하지 않으므로
+     * {@link ImageVariantRegistry}에서 생성이 확인된 이미지에만 사용한다.
+     *
+     * @param publicUrl 원본 이미지 URL
+     * @param variant   사용할 변형
+     * @return 로컬 저장소의 이미지가 아니면 원본 URL
+     */
+    public String toVariantUrl(String publicUrl, ImageVariant variant) {
+        return toLocalPath(publicUrl)
+                .map(local -> publicUrl.substring(0, publicUrl.lastIndexOf('/') + 1)
+                        + variant.fileName(local.getFileName().toString()))
+                .orElse(publicUrl);
+    }
 }
@@ -0,0 +1,12 @@
+package com.global.filestorage;
+
+/**
+ * 이미지 URL 이 엔티티에 기록됨 - 커밋 이후 반응형 변형을 생성한다.
+ */
+public record ImageStoredEvent(
+        String imageUrl
+) {
+    public static ImageStoredEvent of(String imageUrl) {
+        return new ImageStoredEvent(imageUrl);
+    }
+}
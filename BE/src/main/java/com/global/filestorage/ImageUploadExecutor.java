@@ -0,0 +1,92 @@
+package com.global.filestorage;
+
+import static com.global.config.AsyncConfig.IMAGE_PROCESSING_EXECUTOR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 여러 이미지 파일을 이미지 처리 전용 풀에서 동시에 최적화/저장한다.
+ * <p>
+ * 요청 지연은 이미지별 처리 시간의 합이 아니라 가장 느린 이미지에 의해 결정된다. 트랜잭션 밖에서 호출하여 이미지 처리 동안 DB 커넥션을
+ * 점유하지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class ImageUploadExecutor {
+
+    private final Executor executor;
+
+    public ImageUploadExecutor(@Qualifier(IMAGE_PROCESSING_EXECUTOR) final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 파일마다 저장 함수를 병렬로 실행하고, 모두 끝나면 입력 순서대로 저장 경로를 반환한다.
+     * <p>
+     * 하나라도 실패하면 나머지 작업이 끝날 때까지 기다린 뒤, 이미 저장된 파일을 지우고 첫 번째 예외를 그대로 던진다.
+     *
+     * @param files         업로드된 이미지 파일 목록
+     * @param storeFunction 파일 1개를 저장하고 경로를 반환하는 함수
+     * @return 저장된 파일 경로 목록 (입력 순서 유지)
+     */
+    public List<String> uploadAll(final List<MultipartFile> files,
+                                  final Function<MultipartFile, String> storeFunction) {
+        if (files.size() <= 1) {
+            return files.stream().map(storeFunction).toList();
+        }
+
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> storeFunction.apply(file), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            log.warn("[ImageUploadExecutor] 이미지 처리 실패 - fileCount: {}", files.size());
+            deleteStored(futures);
+            throw unwrap(e);
+        }
+
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 실패한 묶음에서 저장에 성공한 파일 삭제 - 요청이 실패했으므로 어디에서도 참조되지 않는다.
+     */
+    private void deleteStored(final List<CompletableFuture<String>> futures) {
+        for (CompletableFuture<String> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                continue;
+            }
+            String storedPath = future.join();
+            try {
+                Files.deleteIfExists(Path.of(storedPath));
+            } catch (IOException | InvalidPathException e) {
+                log.warn("[ImageUploadExecutor] 저장된 이미지 삭제 실패: {} ({})", storedPath, e.getMessage());
+            }
+        }
+    }
+
+    private RuntimeException unwrap(final CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+}
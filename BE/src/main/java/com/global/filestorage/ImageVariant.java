@@ -0,0 +1,40 @@
+package com.global.filestorage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 반응형 이미지 변형(가로 폭 기준) - 원본 옆에 {@code {파일명}_w{폭}.webp} 경로로 저장된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    W480(480);      // 모바일 피드 카드
+
+    private static final String EXTENSION = ".webp";
+
+    private static final List<ImageVariant> LARGEST_FIRST = Arrays.stream(values())
+            .sorted(Comparator.comparingInt(ImageVariant::getWidth).reversed())
+            .toList();
+
+    private final int width;
+
+    /**
+     * 원본 파일명으로부터 변형 파일명을 만든다. (예: {@code a1b2.png} → {@code a1b2_w480.webp})
+     */
+    public String fileName(final String originalFileName) {
+        int dot = originalFileName.lastIndexOf('.');
+        String baseName = dot > 0 ? originalFileName.substring(0, dot) : originalFileName;
+        return baseName + "_w" + width + EXTENSION;
+    }
+
+    /**
+     * 큰 폭부터 순서대로 - 이전 단계 결과를 다시 축소하여 변형을 만들 때 사용한다.
+     */
+    public static List<ImageVariant> largestFirst() {
+        return LARGEST_FIRST;
+    }
+}
@@ -0,0 +1,90 @@
+package com.global.filestorage;
+
+import static com.global.redis.constants.RedisConstants.IMAGE_VARIANT_KEY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반응형 변형 생성 여부 저장소
+ * <p>
+ * 변형별 Redis Set({@code image:variants:{폭}})에 원본 이미지 URL을 기록한다. 피드는 카드마다 파일 시스템을 확인하지 않고,
+ * 페이지 단위로 한 번({@code SMISMEMBER}) 조회해 변형 URL 사용 여부를 정한다. 원본 이미지가 삭제되거나 교체되면
+ * {@link #unregister}로 기록을 지워 집합이 계속 커지지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantRegistry {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 생성된 변형을 기록한다.
+     */
+    public void register(final String imageUrl, final Collection<ImageVariant> variants) {
+        for (ImageVariant variant : variants) {
+            redisTemplate.opsForSet().add(key(variant), imageUrl);
+        }
+    }
+
+    /**
+     * 더 이상 사용하지 않는 원본 이미지의 변형 기록을 지운다. 실패해도 예외를 던지지 않는다.
+     */
+    public void unregister(final Collection<String> imageUrls) {
+        Object[] members = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray();
+        if (members.length == 0) {
+            return;
+        }
+
+        try {
+            for (ImageVariant variant : ImageVariant.values()) {
+                redisTemplate.opsForSet().remove(key(variant), members);
+            }
+        } catch (Exception e) {
+            log.warn("[ImageVariant] 변형 기록 삭제 실패 - count: {} ({})", members.length, e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 변형이 생성된 원본 URL 목록을 반환한다. 조회에 실패하면 빈 값 (원본 URL 사용)
+     */
+    public Set<String> findGenerated(final Collection<String> imageUrls, final ImageVariant variant) {
+        List<String> candidates = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(key(variant), candidates.toArray());
+            if (Objects.isNull(members)) {
+                return Set.of();
+            }
+            return members.entrySet().stream()
+                    .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+                    .map(entry -> (String) entry.getKey())
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.warn("[ImageVariant] 변형 생성 여부 조회 실패, 원본 URL 사용 - variant: {} ({})", variant, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private String key(final ImageVariant variant) {
+        return IMAGE_VARIANT_KEY.formatted(variant.getWidth());
+    }
+}
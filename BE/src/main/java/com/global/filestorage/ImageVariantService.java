@@ -0,0 +1,52 @@
+package com.global.filestorage;
+
+import static com.global.config.AsyncConfig.IMAGE_VARIANT_EXECUTOR;
+
+import com.global.utils.ImageOptimizationUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 저장된 이미지의 반응형 변형({@link ImageVariant} 폭별 WebP)을 커밋 이후 변형 생성 전용 풀에서 생성한다.
+ * <p>
+ * 생성된 변형은 {@link ImageVariantRegistry}에 기록되고, 기록된 이미지에만 {@link FileUrlResolver#toVariantUrl}을 사용한다.
+ * 생성 전이거나 실패(큐 포화로 생략 포함)한 경우에는 원본 URL이 그대로 사용된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private final FileUrlResolver fileUrlResolver;
+    private final ImageVariantRegistry imageVariantRegistry;
+
+    /**
+     * 이미지 URL에 해당하는 로컬 파일이 있으면 변형을 생성한다. 실패해도 예외를 던지지 않는다.
+     */
+    @Async(IMAGE_VARIANT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void generate(final ImageStoredEvent event) {
+        String imageUrl = event.imageUrl();
+        Optional<Path> source = fileUrlResolver.toLocalPath(imageUrl).filter(Files::isRegularFile);
+        if (source.isEmpty()) {
+            log.debug("[ImageVariant] 로컬 파일이 아니므로 변형 생성 생략 - url: {}", imageUrl);
+            return;
+        }
+
+        try {
+            Map<ImageVariant, Path> variants = ImageOptimizationUtils.generateVariants(source.get());
+            imageVariantRegistry.register(imageUrl, variants.keySet());
+            log.debug("[ImageVariant] 변형 생성 완료 - source: {}, variants: {}", source.get(), variants.keySet());
+        } catch (Exception e) {
+            log.warn("[ImageVariant] 변형 생성 실패 - source: {}", source.get(), e);
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.global.filestorage;
 
 import static com.global.constants.ErrorCode.FILE_UPLOAD_ERROR;
 import static com.global.constants.ErrorCode.INVALID_FILE_TYPE;
+import static com.global.filestorage.constants.FileStorageConstants.CAS_PROCESS_ORIGINAL;
+import static com.global.filestorage.constants.FileStorageConstants.CAS_PROCESS_RAW;
+import static com.global.filestorage.constants.FileStorageConstants.CAS_PROCESS_WEBP;
 import static com.global.filestorage.constants.FileStorageConstants.EMPTY;
 import static com.global.filestorage.constants.FileStorageConstants.HYPHEN;
 import static com.global.filestorage.constants.FileStorageConstants.MIME_TO_EXT;
+import static com.global.filestorage.constants.FileStorageConstants.MIME_TYPE_MP4;
 import static com.global.filestorage.constants.FileStorageConstants.MIME_TYPE_WEBP;
 import static com.global.filestorage.constants.FileStorageConstants.NULL;
 
@@ -17,17 +21,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.PosixFilePermissions;
-import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -47,15 +48,16 @@ import org.springframework.web.multipart.MultipartFile;
 public class LocalFileStorageService implements FileStorageService {
 
     /**
-     * 허용 스킴 (SSRF 최소 방어)
+     * 전송 중단 시 이어받기 최대 시도 횟수
      */
-    private static final Set<String> ALLOWED_SCHEMES = Set.of("http", "https");
-    /**
-     * 리다이렉트 최대 허용 횟수
-     */
-    private static final int MAX_REDIRECTS = 2;
+    private static final int MAX_DOWNLOAD_ATTEMPTS = 3;
+    private static final String PARTIAL_DIR = ".partial";
+    private static final String PARTIAL_EXTENSION = ".part";
 
     private final FileStorageProperties properties;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final RemoteMediaDownloader remoteMediaDownloader;
+    private final VideoOptimizer videoOptimizer;
 
     /**
      * 이미지 파일을 저장소에 저장 - WebP 변환 및 리사이징 등 최적화 수행 후 저장
@@ -71,10 +73,9 @@ public class LocalFileStorageService implements FileStorageService {
 
         try {
             String originalMimeType = extractAndValidateMimeType(file);
-            InputStream optimizedStream = ImageOptimizationUtils.optimize(file, convertToWebp);
             String targetMimeType = convertToWebp ? MIME_TYPE_WEBP : originalMimeType;
 
-            return storeOptimizedImage(optimizedStream, targetMimeType, properties.getImageRoot(), relativePath);
+            return storeOptimizedImage(file, convertToWebp, targetMimeType, properties.getImageRoot(), relativePath);
         } catch (IOException e) {
             throw new GlobalException(FILE_UPLOAD_ERROR, originalName, e);
         }
@@ -87,11 +88,11 @@ public class LocalFileStorageService implements FileStorageService {
 
         try {
             String originalMimeType = extractAndValidateMimeType(file);
-            InputStream optimizedStream = ImageOptimizationUtils.optimize(file, convertToWebp);
             String targetMimeType = convertToWebp ? MIME_TYPE_WEBP : originalMimeType;
 
-            return storeEventAndMenuPosterOptimizedImage(optimizedStream, targetMimeType, properties.getImageRoot(),
+            String storedPath = storeOptimizedImage(file, convertToWebp, targetMimeType, properties.getImageRoot(),
                     relativePath);
+            return toEventAndMenuPosterPath(storedPath);
         } catch (IOException e) {
             throw new GlobalException(FILE_UPLOAD_ERROR, originalName, e);
         }
@@ -112,7 +113,15 @@ public class LocalFileStorageService implements FileStorageService {
 
             // 3) 디렉토리 생성은 generateFullPath에서 보장됨 → 파일 그대로 저장
             //    (변환/리사이징/압축 등 일절 수행하지 않음)
-            file.transferTo(fullPath.toFile());
+            if (properties.isContentAddressed()) {
+                contentAddressedFileStore.store(file, CAS_PROCESS_RAW, extension, fullPath, target -> {
+                    try (InputStream input = file.getInputStream()) {
+                        Files.copy(input, target);
+                    }
+                });
+            } else {
+                file.transferTo(fullPath.toFile());
+            }
             // 4) 저장된 전체 경로 반환
             return fullPath.toString();
         } catch (IOException e) {
@@ -155,6 +164,15 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    /**
+     * URL의 비디오를 내려받아 저장 - 전송 중 연결이 끊기면 받은 위치부터 Range 요청으로 이어받는다.
+     * <p>
+     * 받는 중인 파일은 URL별로 고정된 {@code .partial/{이름}.part}에 기록되므로, 중단된(인터럽트) 호출을 다시 하면 이전에 받은
+     * 부분을 재사용한다. 재시도를 모두 소진했거나 HTTP 오류로 실패하면 부분 파일을 지운다.
+     * <p>
+     * 받은 영상은 {@link VideoOptimizer}로 최적화(이미 목표 형식이면 리먹스, 짧은 변이 크면 축소)해 MP4 로 저장한다. 최적화에
+     * 실패하면 받은 원본을 그대로 저장한다.
+     */
     @Override
     public String storeVideoFromUrl(final String url,
                                     final String relativePath,
@@ -163,93 +181,60 @@ public class LocalFileStorageService implements FileStorageService {
 
         Video videoProps = properties.getVideo();
 
-        log.info("storeVideoFromUrl: videoProps={}", videoProps);
-
         try {
             // 1) URL 파싱 & 스킴 검증
-            URI downloadUri = resolveDownloadUri(url);
-
-            log.info("storeVideoFromUrl: downloadUri={}", downloadUri);
-            // 2) 다운로드(리다이렉트 포함)
-            HttpResponse<InputStream> resp = fetchWithRedirects(httpClient(), downloadUri);
-            int status = resp.statusCode();
-
-            if (status != 200) {
-                closeQuietly(resp.body());
-                throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
-                        "HTTP status " + status + " for " + downloadUri);
-            }
-
-            // 3) 헤더 기반 선 검증 (크기 / MIME 1차)
-            long contentLength = resp.headers().firstValueAsLong("Content-Length").orElse(-1L);
-            log.info("storeVideoFromUrl: contentLength={}", contentLength);
+            URI downloadUri = remoteMediaDownloader.resolve(url);
+            String safeRelativePath = sanitize(relativePath);
 
-            if (contentLength > videoProps.getMaxSizeBytes()) {
-                closeQuietly(resp.body());
-                throw new GlobalException(ErrorCode.FILE_TOO_LARGE,
-                        "Content-Length exceeds limit: " + contentLength);
-            }
+            // 2) 이어받기용 부분 파일 (URL별 고정 이름)
+            Path partialDir = Paths.get(properties.getVideoRoot(), safeRelativePath, PARTIAL_DIR);
+            Files.createDirectories(partialDir);
+            Path partialFile = partialDir.resolve(partialFileName(downloadUri));
 
-            String contentType = resp.headers()
-                    .firstValue("Content-Type")
-                    .map(v -> v.split(";")[0].trim().toLowerCase())
-                    .orElse(null);
-            log.info("storeVideoFromUrl: contentType={}", contentType);
-            if (!Objects.isNull(contentType) && !videoProps.getAllowedMimeSet().contains(contentType)) {
-                closeQuietly(resp.body());
-                log.error("storeVideoFromUrl: contentType={}", contentType);
-                throw new GlobalException(INVALID_FILE_TYPE, contentType);
-            }
+            // 3) 다운로드(리다이렉트/이어받기 포함) + 헤더 기반 검증
+            String contentType = downloadWithResume(downloadUri, partialFile, videoProps);
 
-            // 4) Content-Type 미제공/미등록이면 URL 확장자 기반 보정 + 허용 목록 확인
-            if (Objects.isNull(contentType) || !MIME_TO_EXT.containsKey(contentType)) {
-                if (!videoProps.getAllowedMimeSet().contains(contentType)) {
-                    closeQuietly(resp.body());
-                    log.error("storeVideoFromUrl: contentType={}", contentType);
-                    throw new GlobalException(INVALID_FILE_TYPE, contentType);
-                }
-            }
-            // 5) 최종 경로 생성
-            String extension = resolveExtensionFromMimeType(contentType);
-            log.info("storeVideoFromUrl: extension={}", extension);
-            String safeRelativePath = sanitize(relativePath);
-            log.info("storeVideoFromUrl: safeRelativePath={}", safeRelativePath);
-            Path finalPath = generateFullPath(properties.getVideoRoot(), safeRelativePath, extension);
+            // 4) 최적화 결과를 최종 경로에 기록 (실패 시 원본을 최종 경로로 원자적 move)
+            Path finalPath = optimizeOrMove(partialFile, safeRelativePath, contentType);
             log.info("storeVideoFromUrl: finalPath={}", finalPath);
-            Path parentDir = finalPath.getParent();
-            log.info("storeVideoFromUrl: parentDir={}", parentDir);
-            Files.createDirectories(parentDir);
-
-            // 6) 스트리밍 저장 (임시 파일 → 원자적 move)
-            final Path tempFile = Files.createTempFile(parentDir, "dl-", ".tmp");
-            log.info("storeVideoFromUrl: tempFile={}", tempFile);
-            try (InputStream in = resp.body()) {
-                pipeWithLimit(in, tempFile, videoProps.getMaxSizeBytes());
-                Files.move(tempFile, finalPath);
-
-                // OS가 Unix 계열일 때만 권한 변경
-                String osName = System.getProperty("os.name").toLowerCase();
-                if (!osName.contains("win")) {
-                    Files.setPosixFilePermissions(finalPath,
-                            PosixFilePermissions.fromString("rw-r--r--"));
-                }
-            } catch (IOException ex) {
-                try {
-                    Files.deleteIfExists(tempFile);
-                } catch (IOException ignore) {
-                }
-                throw ex;
+
+            // OS가 Unix 계열일 때만 권한 변경
+            String osName = System.getProperty("os.name").toLowerCase();
+            if (!osName.contains("win")) {
+                Files.setPosixFilePermissions(finalPath,
+                        PosixFilePermissions.fromString("rw-r--r--"));
             }
 
             return finalPath.toString();
 
         } catch (GlobalException ge) {
             throw ge;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException(FILE_UPLOAD_ERROR, originalName, e);
         } catch (Exception e) {
             throw new GlobalException(FILE_UPLOAD_ERROR, originalName, e);
         }
     }
 
+    private Path optimizeOrMove(final Path partialFile, final String safeRelativePath, final String contentType)
+            throws IOException {
+        Path optimizedPath = generateFullPath(properties.getVideoRoot(), safeRelativePath,
+                resolveExtensionFromMimeType(MIME_TYPE_MP4));
+        try {
+            videoOptimizer.optimize(partialFile, optimizedPath);
+            Files.deleteIfExists(partialFile);
+            return optimizedPath;
+        } catch (GlobalException e) {
+            log.warn("storeVideoFromUrl: 최적화 실패, 원본 저장 - file={} ({})", partialFile, e.getMessage());
+        }
+
+        Path finalPath = generateFullPath(properties.getVideoRoot(), safeRelativePath,
+                resolveExtensionFromMimeType(contentType));
+        Files.move(partialFile, finalPath, StandardCopyOption.ATOMIC_MOVE);
+        return finalPath;
+    }
+
     /**
      * 비디오 파일을 최적화하여 저장소에 저장 (MultipartFile 기반)
      *
@@ -275,42 +260,40 @@ public class LocalFileStorageService implements FileStorageService {
     }
 
     /**
-     * 최적화된 이미지 파일을 저장소에 저장 (InputStream 기반)
+     * 이미지를 최적화하면서 저장소에 바로 기록 (중간 byte[] 없이 파일 채널로 인코딩)
+     * <p>
+     * 내용 주소 모드에서는 이미 처리한 적 있는 원본이면 최적화 없이 기존 결과에 링크만 추가한다.
      *
-     * @param inputStream  이미지 데이터 스트림
-     * @param mimeType     이미지 MIME 타입
-     * @param imageRoot    저장소 루트 디렉토리 (이미지용)
-     * @param relativePath 루트 기준 상대 경로
+     * @param file          업로드된 원본 이미지 파일
+     * @param convertToWebp WebP 변환 여부
+     * @param mimeType      저장될 이미지 MIME 타입
+     * @param imageRoot     저장소 루트 디렉토리 (이미지용)
+     * @param relativePath  루트 기준 상대 경로
      * @return 저장된 파일의 전체 경로
      */
-    private String storeOptimizedImage(final InputStream inputStream, final String mimeType, final String imageRoot,
-                                       final String relativePath) throws IOException {
+    private String storeOptimizedImage(final MultipartFile file, final boolean convertToWebp, final String mimeType,
+                                       final String imageRoot, final String relativePath) throws IOException {
         String extension = resolveExtensionFromMimeType(mimeType);
         Path fullPath = generateFullPath(imageRoot, relativePath, extension);
 
-        // 스트림을 디스크에 저장
-        Files.copy(inputStream, fullPath);
-        boolean exists = Files.exists(fullPath);
-        log.info("File exists after write: {}", exists);
+        if (properties.isContentAddressed()) {
+            String processKey = convertToWebp ? CAS_PROCESS_WEBP : CAS_PROCESS_ORIGINAL;
+            contentAddressedFileStore.store(file, processKey, extension, fullPath,
+                    target -> ImageOptimizationUtils.optimizeTo(file, convertToWebp, target));
+        } else {
+            ImageOptimizationUtils.optimizeTo(file, convertToWebp, fullPath);
+        }
         return fullPath.toString();
     }
 
     /**
-     * 최적화된 이벤트, 메뉴 포스터 이미지 파일을 저장소에 저장 (InputStream 기반)
+     * 저장된 이벤트, 메뉴 포스터 이미지의 전체 경로를 반환 형식으로 변환
      *
-     * @param inputStream  이미지 데이터 스트림
-     * @param mimeType     이미지 MIME 타입
-     * @param imageRoot    저장소 루트 디렉토리 (이미지용)
-     * @param relativePath 루트 기준 상대 경로
-     * @return 저장된 파일의 전체 경로
+     * @param storedPath 저장된 파일의 전체 경로
+     * @return 변환된 전체 경로
      */
-    private String storeEventAndMenuPosterOptimizedImage(final InputStream inputStream, final String mimeType,
-                                                         final String imageRoot,
-                                                         final String relativePath) throws IOException {
-        String extension = resolveExtensionFromMimeType(mimeType);
-        Path fullPath = generateFullPath(imageRoot, relativePath, extension);
-        // 스트림을 디스크에 저장
-        String abs = fullPath.toString().replace('\\', '/'); // 윈도우 대비
+    private String toEventAndMenuPosterPath(final String storedPath) {
+        String abs = storedPath.replace('\\', '/'); // 윈도우 대비
         return abs.replaceFirst("^/root/eatda", "/home/ubuntu/eatda/test");
     }
 
@@ -376,109 +359,87 @@ public class LocalFileStorageService implements FileStorageService {
                 .orElseThrow(() -> new GlobalException(INVALID_FILE_TYPE, mimeType));
     }
 
-    private HttpClient httpClient() {
-        // 연결/요청 타임아웃 모두 video.request-timeout-sec 를 사용
-        final Duration timeout = properties.getVideo().getRequestTimeout();
-        return HttpClient.newBuilder()
-                .connectTimeout(timeout)
-                .followRedirects(HttpClient.Redirect.NEVER)
-                .build();
-    }
-
-    private URI resolveDownloadUri(final String urlString) {
-        if (Objects.isNull(urlString) || urlString.isBlank()) {
-            throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "URL must not be blank");
-        }
-        final URI uri;
-        try {
-            uri = URI.create(urlString.trim());
-        } catch (IllegalArgumentException e) {
-            throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "Invalid URL: " + urlString);
-        }
-        final String scheme = Optional.ofNullable(uri.getScheme()).orElse("").toLowerCase();
-        if (!ALLOWED_SCHEMES.contains(scheme)) {
-            throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "Unsupported scheme: " + scheme);
-        }
-        return uri;
-    }
+    /**
+     * 부분 파일에 이어서 내려받는다. 전송 중 I/O 오류는 받은 위치부터 최대 {@value #MAX_DOWNLOAD_ATTEMPTS}회까지 재시도하고, HTTP
+     * 오류나 검증 실패는 재시도하지 않는다. 최종 실패하면 부분 파일을 지운다.
+     *
+     * @return 응답의 Content-Type (허용 목록 검증 완료)
+     */
+    private String downloadWithResume(final URI downloadUri, final Path partialFile, final Video videoProps)
+            throws IOException, InterruptedException {
+        IOException lastError = null;
 
-    private void closeQuietly(final InputStream in) {
-        if (in != null) {
+        for (int attempt = 1; attempt <= MAX_DOWNLOAD_ATTEMPTS; attempt++) {
+            long offset = Files.exists(partialFile) ? Files.size(partialFile) : 0L;
             try {
-                in.close();
-            } catch (Exception ignore) {
+                return downloadFrom(downloadUri, partialFile, offset, videoProps);
+            } catch (IOException e) {
+                lastError = e;
+                log.warn("storeVideoFromUrl: 다운로드 중단, 이어받기 재시도 - attempt={}, offset={}, uri={} ({})",
+                        attempt, offset, downloadUri, e.getMessage());
             }
         }
+        // 실패한 에셋은 다시 받지 않으므로 부분 파일을 남기지 않는다.
+        Files.deleteIfExists(partialFile);
+        throw lastError;
     }
 
-    /**
-     * 수동 리다이렉트 처리(GET). 허용 스킴만 통과.
-     */
-    private HttpResponse<InputStream> fetchWithRedirects(final HttpClient client,
-                                                         final URI startUri)
-            throws IOException, InterruptedException {
+    private String downloadFrom(final URI downloadUri, final Path partialFile, final long offset,
+                                final Video videoProps) throws IOException, InterruptedException {
+        String contentType = remoteMediaDownloader.fetch(downloadUri, offset, resp -> {
+            int status = resp.statusCode();
+            boolean resumed = offset > 0 && status == 206;
 
-        URI current = startUri;
-        log.info("fetchWithRedirects: startUri={}", startUri);
-        for (int i = 0; i <= MAX_REDIRECTS; i++) {
-            final HttpRequest req = HttpRequest.newBuilder(current)
-                    .timeout(properties.getVideo().getRequestTimeout())
-                    .GET()
-                    .build();
-
-            final HttpResponse<InputStream> resp =
-                    client.send(req, HttpResponse.BodyHandlers.ofInputStream());
-
-            final int status = resp.statusCode();
-            log.info("fetchWithRedirects: status={}", status);
-            // 리다이렉트
-            if (status == 301 || status == 302 || status == 303 || status == 307 || status == 308) {
-                final String location = resp.headers().firstValue("Location").orElse(null);
-                if (location == null) {
-                    closeQuietly(resp.body());
-                    throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
-                            "Redirect without Location from " + current);
-                }
-                final URI next = current.resolve(location);
-                log.info("fetchWithRedirects: next={}", next);
-                final String scheme = Optional.ofNullable(next.getScheme()).orElse("").toLowerCase();
-                log.info("fetchWithRedirects: scheme={}", scheme);
-                if (!ALLOWED_SCHEMES.contains(scheme)) {
-                    closeQuietly(resp.body());
-                    throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
-                            "Redirect to unsupported scheme: " + scheme);
-                }
-
-                closeQuietly(resp.body()); // 이전 응답 닫기
-                current = next;
-                continue;
+            // 서버가 남은 범위를 줄 수 없으면(이미 다 받았거나 원본이 바뀐 경우) 처음부터 다시 받는다.
+            if (offset > 0 && status == 416) {
+                Files.deleteIfExists(partialFile);
+                return null;
             }
+            if (status != 200 && !resumed) {
+                Files.deleteIfExists(partialFile);
+                throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
+                        "HTTP status " + status + " for " + downloadUri);
+            }
+            log.info("storeVideoFromUrl: status={}, offset={}", status, resumed ? offset : 0L);
 
-            // 200 또는 에러 코드면 그대로 반환 (상위에서 판단)
-            return resp;
-        }
+            // 헤더 기반 선 검증 (크기 / MIME)
+            long alreadyWritten = resumed ? offset : 0L;
+            long contentLength = resp.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            if (contentLength > 0 && alreadyWritten + contentLength > videoProps.getMaxSizeBytes()) {
+                Files.deleteIfExists(partialFile);
+                throw new GlobalException(ErrorCode.FILE_TOO_LARGE,
+                        "Content-Length exceeds limit: " + (alreadyWritten + contentLength));
+            }
+
+            String type = resp.headers()
+                    .firstValue("Content-Type")
+                    .map(v -> v.split(";")[0].trim().toLowerCase())
+                    .orElse(null);
+            if (Objects.isNull(type) || !videoProps.getAllowedMimeSet().contains(type)
+                    || !MIME_TO_EXT.containsKey(type)) {
+                Files.deleteIfExists(partialFile);
+                log.error("storeVideoFromUrl: contentType={}", type);
+                throw new GlobalException(INVALID_FILE_TYPE, type);
+            }
 
-        throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "Too many redirects for " + startUri);
+            // 스트리밍 저장 (이어받기면 이어 쓰기, 아니면 처음부터)
+            try {
+                remoteMediaDownloader.writeTo(resp.body(), partialFile, alreadyWritten, videoProps.getMaxSizeBytes());
+            } catch (GlobalException e) {
+                Files.deleteIfExists(partialFile);
+                throw e;
+            }
+            return type;
+        });
+
+        return Objects.nonNull(contentType) ? contentType : downloadFrom(downloadUri, partialFile, 0L, videoProps);
     }
 
     /**
-     * InputStream → 파일 스트리밍 복사 (크기 제한 적용).
+     * URL별로 고정된 부분 파일 이름 - 같은 URL을 다시 받으면 이전에 받은 부분을 이어 쓴다.
      */
-    private void pipeWithLimit(final InputStream in,
-                               final Path target,
-                               final long maxBytes) throws IOException {
-        try (var out = Files.newOutputStream(target)) {
-            final byte[] buf = new byte[8192];
-            long total = 0;
-            int n;
-            while ((n = in.read(buf)) != -1) {
-                total += n;
-                if (total > maxBytes) {
-                    throw new GlobalException(ErrorCode.FILE_TOO_LARGE,
-                            "Exceeded max bytes: " + maxBytes);
-                }
-                out.write(buf, 0, n);
-            }
-        }
+    private String partialFileName(final URI downloadUri) {
+        return UUID.nameUUIDFromBytes(downloadUri.toString().getBytes(StandardCharsets.UTF_8)).toString()
+                .replace(HYPHEN, EMPTY) + PARTIAL_EXTENSION;
     }
 }
@@ -0,0 +1,164 @@
+package com.global.filestorage;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * ffmpeg 등 외부 미디어 프로세스 실행기
+ * <p>
+ * 동시에 실행되는 프로세스 수를 CPU 코어 수로 제한하고(초과 요청은 대기), 작업별 제한 시간을 넘기면 프로세스를 강제 종료한다. 프로세스 출력은
+ * 별도 가상 스레드에서 계속 읽어 파이프가 가득 차 멈추는 일을 막는다.
+ * <p>
+ * 메트릭: {@code media.job.queued}(대기 수), {@code media.job.running}(실행 수), {@code media.job.wait}(대기 시간),
+ * {@code media.job.duration{job,outcome}}(실행 시간)
+ */
+@Slf4j
+@Component
+public class MediaProcessRunner {
+
+    private static final Duration QUEUE_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration KILL_GRACE_PERIOD = Duration.ofSeconds(2);
+    private static final int OUTPUT_TAIL_LINES = 20;
+
+    private static final String METRIC_QUEUED = "media.job.queued";
+    private static final String METRIC_RUNNING = "media.job.running";
+    private static final String METRIC_WAIT = "media.job.wait";
+    private static final String METRIC_DURATION = "media.job.duration";
+    private static final String TAG_JOB = "job";
+    private static final String TAG_OUTCOME = "outcome";
+
+    private final int maxConcurrency;
+    private final Semaphore slots;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public MediaProcessRunner(final MeterRegistry meterRegistry) {
+        this(meterRegistry, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MediaProcessRunner(final MeterRegistry meterRegistry, final int maxConcurrency) {
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrency = maxConcurrency;
+        this.slots = new Semaphore(maxConcurrency, true);
+
+        Gauge.builder(METRIC_QUEUED, slots, Semaphore::getQueueLength).register(meterRegistry);
+        Gauge.builder(METRIC_RUNNING, slots, s -> maxConcurrency - s.availablePermits()).register(meterRegistry);
+    }
+
+    /**
+     * 프로세스 실행 결과
+     *
+     * @param exitCode 종료 코드 (제한 시간 초과로 종료했으면 -1)
+     * @param timedOut 제한 시간 초과 여부
+     * @param output   출력(stdout + stderr)의 마지막 몇 줄
+     */
+    public record Result(int exitCode, boolean timedOut, String output) {
+
+        public boolean isSuccess() {
+            return !timedOut && exitCode == 0;
+        }
+    }
+
+    /**
+     * 실행 슬롯을 얻을 때까지 기다린 뒤 명령을 실행하고 종료를 기다린다.
+     *
+     * @param job     메트릭/로그용 작업 이름 (예: {@code thumbnail})
+     * @param command 실행할 명령
+     * @param timeout 작업 제한 시간 - 넘기면 프로세스(및 하위 프로세스)를 종료한다.
+     * @throws IOException 실행 슬롯 대기 시간 초과 또는 프로세스 시작 실패
+     */
+    public Result run(final String job, final List<String> command, final Duration timeout)
+            throws IOException, InterruptedException {
+        long waitStart = System.nanoTime();
+        if (!slots.tryAcquire(QUEUE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IOException("media job queue timeout: " + job + " (max concurrency " + maxConcurrency + ")");
+        }
+        meterRegistry.timer(METRIC_WAIT, TAG_JOB, job).record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            Result result = execute(command, timeout);
+            outcome = result.timedOut() ? "timeout" : result.exitCode() == 0 ? "success" : "failure";
+            if (result.timedOut()) {
+                log.warn("[MediaProcess] 제한 시간 초과로 종료 - job: {}, timeout: {}", job, timeout);
+            }
+            return result;
+        } finally {
+            slots.release();
+            sample.stop(meterRegistry.timer(METRIC_DURATION, TAG_JOB, job, TAG_OUTCOME, outcome));
+        }
+    }
+
+    private Result execute(final List<String> command, final Duration timeout)
+            throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .start();
+
+        Deque<String> tail = new ArrayDeque<>(OUTPUT_TAIL_LINES);
+        Thread drainer = Thread.ofVirtual().start(() -> drain(process, tail));
+
+        try {
+            boolean finished = process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (!finished) {
+                kill(process);
+            }
+            drainer.join(KILL_GRACE_PERIOD.toMillis());
+            return new Result(finished ? process.exitValue() : -1, !finished, joinTail(tail));
+        } catch (InterruptedException e) {
+            kill(process);
+            throw e;
+        }
+    }
+
+    /**
+     * 출력 파이프를 끝까지 읽는다 - 마지막 몇 줄만 보관하고 나머지는 debug 로그로 남긴다.
+     */
+    private void drain(final Process process, final Deque<String> tail) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.debug("[MediaProcess] {}", line);
+                synchronized (tail) {
+                    if (tail.size() == OUTPUT_TAIL_LINES) {
+                        tail.removeFirst();
+                    }
+                    tail.addLast(line);
+                }
+            }
+        } catch (IOException ignore) {
+            // 프로세스 강제 종료 시 파이프가 닫힌다.
+        }
+    }
+
+    private void kill(final Process process) throws InterruptedException {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        if (!process.waitFor(KILL_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        }
+    }
+
+    private String joinTail(final Deque<String> tail) {
+        synchronized (tail) {
+            return String.join(System.lineSeparator(), tail);
+        }
+    }
+}
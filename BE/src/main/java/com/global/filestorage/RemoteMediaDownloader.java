@@ -0,0 +1,233 @@
+package com.global.filestorage;
+
+import static com.global.config.MediaHttpClientConfig.MEDIA_HTTP_CLIENT;
+
+import com.global.config.FileStorageProperties;
+import com.global.constants.ErrorCode;
+import com.global.exception.GlobalException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유 HttpClient로 원격 미디어를 내려받는다.
+ * <p>
+ * 같은 호스트로의 동시 연결 수를 제한하고(초과 요청은 요청 타임아웃만큼 대기), 응답 본문은 {@link FileChannel#transferFrom}으로
+ * 파일에 바로 기록한다.
+ * <p>
+ * 호스트별 허용량은 그 호스트로 다운로드 중이거나 대기 중인 요청이 있는 동안에만 유지하고, 마지막 요청이 끝나면 제거한다. 따라서 맵의 크기는
+ * 동시에 진행 중인 다운로드 수를 넘지 않는다.
+ */
+@Slf4j
+@Component
+public class RemoteMediaDownloader {
+
+    /**
+     * 허용 스킴 (SSRF 최소 방어)
+     */
+    private static final Set<String> ALLOWED_SCHEMES = Set.of("http", "https");
+    /**
+     * 리다이렉트 최대 허용 횟수
+     */
+    private static final int MAX_REDIRECTS = 2;
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxConnectionsPerHost;
+    private final Map<String, HostPermits> hostPermits = new ConcurrentHashMap<>();
+
+    public RemoteMediaDownloader(@Qualifier(MEDIA_HTTP_CLIENT) final HttpClient httpClient,
+                                 final FileStorageProperties properties) {
+        this.httpClient = httpClient;
+        this.requestTimeout = properties.getVideo().getRequestTimeout();
+        this.maxConnectionsPerHost = properties.getVideo().getMaxConnectionsPerHost();
+    }
+
+    /**
+     * 응답을 처리하는 함수 - 본문 스트림은 처리 후 자동으로 닫힌다.
+     */
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+
+        T handle(HttpResponse<InputStream> response) throws IOException;
+    }
+
+    /**
+     * 호스트별 연결 허용량과 참조 수 (참조 수는 맵의 compute 안에서만 바뀐다)
+     */
+    private static final class HostPermits {
+
+        private final Semaphore semaphore;
+        private int references;
+
+        private HostPermits(final int permits) {
+            this.semaphore = new Semaphore(permits);
+        }
+    }
+
+    /**
+     * URL 파싱 & 스킴 검증
+     */
+    public URI resolve(final String urlString) {
+        if (Objects.isNull(urlString) || urlString.isBlank()) {
+            throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "URL must not be blank");
+        }
+        final URI uri;
+        try {
+            uri = URI.create(urlString.trim());
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "Invalid URL: " + urlString);
+        }
+        final String scheme = Optional.ofNullable(uri.getScheme()).orElse("").toLowerCase();
+        if (!ALLOWED_SCHEMES.contains(scheme)) {
+            throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "Unsupported scheme: " + scheme);
+        }
+        return uri;
+    }
+
+    /**
+     * GET 요청(리다이렉트 포함)을 보내고 응답을 처리한다. 처리가 끝날 때까지 호스트 연결 허용량을 점유한다.
+     *
+     * @param offset 0보다 크면 해당 위치부터 받도록 Range 헤더를 붙인다.
+     */
+    public <T> T fetch(final URI uri, final long offset, final ResponseHandler<T> handler)
+            throws IOException, InterruptedException {
+        String hostKey = hostKey(uri);
+        Semaphore permits = retainPermits(hostKey);
+        try {
+            if (!permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
+                        "Too many concurrent downloads for host " + uri.getHost());
+            }
+            try {
+                HttpResponse<InputStream> response = fetchWithRedirects(uri, offset);
+                try (InputStream ignored = response.body()) {
+                    return handler.handle(response);
+                }
+            } finally {
+                permits.release();
+            }
+        } finally {
+            releasePermits(hostKey);
+        }
+    }
+
+    private Semaphore retainPermits(final String hostKey) {
+        return hostPermits.compute(hostKey, (key, current) -> {
+            HostPermits entry = current != null ? current : new HostPermits(maxConnectionsPerHost);
+            entry.references++;
+            return entry;
+        }).semaphore;
+    }
+
+    private void releasePermits(final String hostKey) {
+        hostPermits.computeIfPresent(hostKey, (key, entry) -> --entry.references == 0 ? null : entry);
+    }
+
+    /**
+     * 응답 본문을 파일에 기록 (크기 제한 적용) - 사용자 공간 버퍼 복사 없이 파일 채널로 전송한다.
+     *
+     * @param alreadyWritten 이미 받은 바이트 수 - 해당 위치부터 이어 쓰고, 0이면 파일을 비운 뒤 쓴다.
+     * @return 파일의 최종 크기
+     */
+    public long writeTo(final InputStream body, final Path target, final long alreadyWritten, final long maxBytes)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(body)) {
+            channel.truncate(alreadyWritten);
+
+            long position = alreadyWritten;
+            while (true) {
+                // 한도 초과를 감지하기 위해 1바이트 더 읽는다.
+                long transferred = channel.transferFrom(source, position, maxBytes - position + 1);
+                if (transferred <= 0) {
+                    return position;
+                }
+                position += transferred;
+                if (position > maxBytes) {
+                    throw new GlobalException(ErrorCode.FILE_TOO_LARGE, "Exceeded max bytes: " + maxBytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * 수동 리다이렉트 처리(GET). 허용 스킴만 통과.
+     */
+    private HttpResponse<InputStream> fetchWithRedirects(final URI startUri, final long offset)
+            throws IOException, InterruptedException {
+
+        URI current = startUri;
+        log.info("fetchWithRedirects: startUri={}", startUri);
+        for (int i = 0; i <= MAX_REDIRECTS; i++) {
+            final HttpRequest.Builder builder = HttpRequest.newBuilder(current)
+                    .timeout(requestTimeout)
+                    .GET();
+            if (offset > 0) {
+                builder.header("Range", "bytes=" + offset + "-");
+            }
+
+            final HttpResponse<InputStream> resp =
+                    httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+            final int status = resp.statusCode();
+            log.info("fetchWithRedirects: status={}, version={}", status, resp.version());
+            // 리다이렉트
+            if (status == 301 || status == 302 || status == 303 || status == 307 || status == 308) {
+                final String location = resp.headers().firstValue("Location").orElse(null);
+                closeQuietly(resp.body()); // 이전 응답 닫기 (연결은 풀로 반환)
+                if (location == null) {
+                    throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
+                            "Redirect without Location from " + current);
+                }
+                final URI next = current.resolve(location);
+                log.info("fetchWithRedirects: next={}", next);
+                final String scheme = Optional.ofNullable(next.getScheme()).orElse("").toLowerCase();
+                if (!ALLOWED_SCHEMES.contains(scheme)) {
+                    throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR,
+                            "Redirect to unsupported scheme: " + scheme);
+                }
+
+                current = next;
+                continue;
+            }
+
+            // 200 또는 에러 코드면 그대로 반환 (상위에서 판단)
+            return resp;
+        }
+
+        throw new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, "Too many redirects for " + startUri);
+    }
+
+    private String hostKey(final URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private void closeQuietly(final InputStream in) {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (Exception ignore) {
+            }
+        }
+    }
+}
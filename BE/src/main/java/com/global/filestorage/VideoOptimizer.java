@@ -6,6 +6,8 @@ import static com.global.filestorage.constants.FileStorageConstants.DEFAULT_VIDE
 import static com.global.filestorage.constants.FileStorageConstants.EXCEPTION_VIDEO_FFMPEG_FAILED;
 import static com.global.filestorage.constants.FileStorageConstants.FFMPEG_CRF;
 import static com.global.filestorage.constants.FileStorageConstants.FFMPEG_PRESET;
+import static com.global.filestorage.constants.FileStorageConstants.FFMPEG_SCALE_PRESET;
+import static com.global.filestorage.constants.FileStorageConstants.PROBE_PIXEL_FORMAT_YUV420P;
 import static com.global.filestorage.constants.FileStorageConstants.TEMP_FILE_EXTENSION_MP4;
 import static com.global.filestorage.constants.FileStorageConstants.TEMP_FILE_EXTENSION_TMP;
 import static com.global.filestorage.constants.FileStorageConstants.TEMP_VIDEO_INPUT_PREFIX;
@@ -13,16 +15,22 @@ import static com.global.filestorage.constants.FileStorageConstants.TEMP_VIDEO_O
 import static com.global.filestorage.constants.FileStorageConstants.VIDEO_CODEC;
 import static com.global.filestorage.constants.FileStorageConstants.VIDEO_OPTIMIZER_FFMPEG_FAILED;
 import static com.global.filestorage.constants.FileStorageConstants.VIDEO_OPTIMIZER_FFMPEG_LOG;
+import static com.global.filestorage.constants.FileStorageConstants.VIDEO_OPTIMIZER_PLAN;
+import static com.global.filestorage.constants.FileStorageConstants.VIDEO_OPTIMIZER_PROBE_FAILED;
 import static com.global.filestorage.constants.FileStorageConstants.VIDEO_OPTIMIZER_UNEXPECTED_ERROR;
 
 import com.global.exception.GlobalException;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,8 +40,16 @@ import org.springframework.web.multipart.MultipartFile;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class VideoOptimizer {
 
+    private static final String FFMPEG_JOB_TRANSCODE = "transcode";
+    private static final String FFPROBE_JOB = "probe";
+    private static final Duration TRANSCODE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(15);
+
+    private final MediaProcessRunner mediaProcessRunner;
+
     /**
      * 비디오 최적화 메인 진입점
      */
@@ -64,41 +80,129 @@ public class VideoOptimizer {
     }
 
     /**
-     * FFmpeg 를 사용하여 비디오 인코딩 수행
+     * 디스크에 있는 비디오를 최적화해 output 에 기록 (URL 로 내려받은 숏츠 수집용)
+     * <p>
+     * 입력 파일은 호출 측이 관리한다. 실패하면 {@link GlobalException} 을 던지고 output 은 남기지 않는다.
+     */
+    public void optimize(final Path input, final Path output) {
+        try {
+            transcodeWithFfmpeg(input.toFile(), output.toFile());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteQuietly(output.toFile());
+            throw new GlobalException(VIDEO_PROCESSING_FAILED, input.getFileName().toString(), e);
+        } catch (GlobalException e) {
+            deleteQuietly(output.toFile());
+            throw e;
+        } catch (Exception e) {
+            log.error(VIDEO_OPTIMIZER_UNEXPECTED_ERROR, input.getFileName(), e.getMessage());
+            deleteQuietly(output.toFile());
+            throw new GlobalException(VIDEO_PROCESSING_FAILED, input.getFileName().toString(), e);
+        }
+    }
+
+    /**
+     * FFmpeg 를 사용하여 비디오 인코딩 수행 - 동시 실행 수/제한 시간은 {@link MediaProcessRunner}가 관리한다.
+     * <p>
+     * ffprobe 로 입력을 먼저 확인해 이미 목표 형식이면 컨테이너만 다시 쓰고, 짧은 변만 크면 비디오만 축소 인코딩한다.
      */
     private void transcodeWithFfmpeg(File input, File output) throws IOException, InterruptedException {
-        Process process = getProcess(input, output);
+        Optional<VideoProbe> probe = probe(input);
+        VideoTranscodePlan plan = VideoTranscodePlan.of(probe.orElse(null));
+        log.info(VIDEO_OPTIMIZER_PLAN, plan, probe.map(VideoProbe::toString).orElse("unknown"));
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                log.debug(VIDEO_OPTIMIZER_FFMPEG_LOG, line);
-            }
-        }
+        String job = FFMPEG_JOB_TRANSCODE + "-" + plan.name().toLowerCase();
+        MediaProcessRunner.Result result = mediaProcessRunner.run(job,
+                buildCommand(input, output, plan, probe.orElse(null)), TRANSCODE_TIMEOUT);
+        log.debug(VIDEO_OPTIMIZER_FFMPEG_LOG, result.output());
 
-        int exitCode = process.waitFor();
-        if (exitCode != 0 || !output.exists()) {
-            log.error(VIDEO_OPTIMIZER_FFMPEG_FAILED, exitCode, output.getAbsolutePath());
+        if (!result.isSuccess() || !output.exists()) {
+            log.error(VIDEO_OPTIMIZER_FFMPEG_FAILED, result.exitCode(), output.getAbsolutePath());
             throw new GlobalException(VIDEO_PROCESSING_FAILED,
-                    String.format(EXCEPTION_VIDEO_FFMPEG_FAILED, exitCode, output.getAbsolutePath()));
+                    String.format(EXCEPTION_VIDEO_FFMPEG_FAILED, result.exitCode(), output.getAbsolutePath()));
         }
     }
 
-    private Process getProcess(final File input, final File output) throws IOException {
-        String[] command = {
+    /**
+     * ffprobe 로 코덱/해상도/비트레이트 확인 - 실패하면 빈 값 (전체 인코딩으로 처리)
+     */
+    private Optional<VideoProbe> probe(final File input) throws IOException, InterruptedException {
+        MediaProcessRunner.Result result = mediaProcessRunner.run(FFPROBE_JOB, List.of(
+                "ffprobe",
+                "-v", "error",
+                "-show_entries", "stream=codec_type,codec_name,width,height,pix_fmt,bit_rate",
+                "-of", "compact=p=0",
+                input.getAbsolutePath()
+        ), PROBE_TIMEOUT);
+
+        if (!result.isSuccess()) {
+            log.warn(VIDEO_OPTIMIZER_PROBE_FAILED, result.exitCode(), result.output());
+            return Optional.empty();
+        }
+        return VideoProbe.parse(result.output());
+    }
+
+    private List<String> buildCommand(final File input, final File output, final VideoTranscodePlan plan,
+                                      final VideoProbe probe) {
+        List<String> command = new ArrayList<>(List.of(
                 "ffmpeg",
                 "-y",
-                "-i", input.getAbsolutePath(),
-                "-vf", "scale=-2:" + DEFAULT_VIDEO_HEIGHT,
-                "-c:v", VIDEO_CODEC,
-                "-preset", FFMPEG_PRESET,
-                "-crf", FFMPEG_CRF,
-                "-c:a", AUDIO_CODEC,
+                "-nostdin",
+                "-i", input.getAbsolutePath()
+        ));
+
+        switch (plan) {
+            case REMUX -> command.addAll(List.of("-c", "copy"));
+            case SCALE -> {
+                command.addAll(List.of(
+                        "-vf", scaleFilter(probe),
+                        "-c:v", VIDEO_CODEC,
+                        "-preset", FFMPEG_SCALE_PRESET,
+                        "-crf", FFMPEG_CRF
+                ));
+                command.addAll(VideoTranscodePlan.isAudioCopyable(probe)
+                        ? List.of("-c:a", "copy")
+                        : List.of("-c:a", AUDIO_CODEC));
+            }
+            case TRANSCODE -> {
+                // 짧은 변이 목표 해상도보다 작은 영상은 키우지 않는다.
+                if (probe == null || probe.shortSide() > DEFAULT_VIDEO_HEIGHT) {
+                    command.addAll(List.of("-vf", scaleFilter(probe)));
+                }
+                command.addAll(List.of(
+                        "-c:v", VIDEO_CODEC,
+                        "-pix_fmt", PROBE_PIXEL_FORMAT_YUV420P,
+                        "-preset", FFMPEG_PRESET,
+                        "-crf", FFMPEG_CRF,
+                        "-c:a", AUDIO_CODEC
+                ));
+            }
+        }
+
+        command.addAll(List.of(
+                "-movflags", "+faststart",                              // moov 를 앞으로 - 다운로드 중 재생 가능
                 output.getAbsolutePath()
-        };
+        ));
+        return command;
+    }
 
-        ProcessBuilder pb = new ProcessBuilder(command);
-        pb.redirectErrorStream(true);
-        return pb.start();
+    /**
+     * 짧은 변을 목표 해상도로 맞추는 scale 필터 - 세로 영상은 가로를, 가로 영상은 세로를 맞춘다. 정보가 없으면 ffmpeg 식으로 판단하고
+     * 원본보다 키우지 않는다.
+     */
+    private String scaleFilter(final VideoProbe probe) {
+        if (probe == null) {
+            return "scale='if(gt(ih,iw),min(iw," + DEFAULT_VIDEO_HEIGHT + "),-2)'"
+                    + ":'if(gt(ih,iw),-2,min(ih," + DEFAULT_VIDEO_HEIGHT + "))'";
+        }
+        return probe.isPortrait()
+                ? "scale=" + DEFAULT_VIDEO_HEIGHT + ":-2"
+                : "scale=-2:" + DEFAULT_VIDEO_HEIGHT;
+    }
+
+    private void deleteQuietly(final File file) {
+        if (file.exists() && !file.delete()) {
+            log.warn(VIDEO_OPTIMIZER_UNEXPECTED_ERROR, file.getName(), "출력 파일 삭제 실패");
+        }
     }
 }
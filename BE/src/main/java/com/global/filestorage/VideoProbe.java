@@ -0,0 +1,91 @@
+package com.global.filestorage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ffprobe 로 읽은 비디오 스트림 정보
+ *
+ * @param videoCodec   비디오 코덱 (예: {@code h264})
+ * @param pixelFormat  픽셀 포맷 (예: {@code yuv420p})
+ * @param width        가로 해상도
+ * @param height       세로 해상도
+ * @param videoBitRate 비디오 비트레이트(bps) - 알 수 없으면 0
+ * @param audioCodec   오디오 코덱 - 오디오 스트림이 없으면 null
+ */
+public record VideoProbe(String videoCodec, String pixelFormat, int width, int height, long videoBitRate,
+                         String audioCodec) {
+
+    private static final String FIELD_SEPARATOR = "\\|";
+    private static final String NOT_AVAILABLE = "N/A";
+
+    public boolean hasAudio() {
+        return audioCodec != null;
+    }
+
+    /**
+     * 짧은 변 길이 - 가로/세로 영상 모두 이 값으로 목표 해상도(720p)와 비교한다.
+     */
+    public int shortSide() {
+        return Math.min(width, height);
+    }
+
+    public boolean isPortrait() {
+        return height > width;
+    }
+
+    /**
+     * {@code ffprobe -show_entries stream=... -of compact=p=0} 출력 파싱 - 스트림마다 한 줄이고, 첫 번째 비디오/오디오
+     * 스트림만 사용한다.
+     *
+     * @return 비디오 스트림이 없거나 해상도를 읽지 못하면 빈 값
+     */
+    public static Optional<VideoProbe> parse(final String output) {
+        Map<String, String> video = null;
+        String audioCodec = null;
+
+        for (String line : output.split("\\R")) {
+            Map<String, String> fields = fieldsOf(line);
+            String type = fields.get("codec_type");
+            if ("video".equals(type) && video == null) {
+                video = fields;
+            } else if ("audio".equals(type) && audioCodec == null) {
+                audioCodec = fields.get("codec_name");
+            }
+        }
+
+        if (video == null) {
+            return Optional.empty();
+        }
+        int width = (int) toLong(video.get("width"));
+        int height = (int) toLong(video.get("height"));
+        if (width <= 0 || height <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new VideoProbe(video.get("codec_name"), video.get("pix_fmt"), width, height,
+                toLong(video.get("bit_rate")), audioCodec));
+    }
+
+    private static Map<String, String> fieldsOf(final String line) {
+        Map<String, String> fields = new HashMap<>();
+        for (String entry : line.trim().split(FIELD_SEPARATOR)) {
+            int eq = entry.indexOf('=');
+            if (eq > 0) {
+                fields.put(entry.substring(0, eq), entry.substring(eq + 1));
+            }
+        }
+        return fields;
+    }
+
+    private static long toLong(final String value) {
+        if (value == null || value.isBlank() || NOT_AVAILABLE.equals(value)) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.global.filestorage;
+
+import static com.global.filestorage.constants.FileStorageConstants.DEFAULT_VIDEO_HEIGHT;
+import static com.global.filestorage.constants.FileStorageConstants.MAX_REMUX_VIDEO_BIT_RATE;
+import static com.global.filestorage.constants.FileStorageConstants.PROBE_AUDIO_CODEC_AAC;
+import static com.global.filestorage.constants.FileStorageConstants.PROBE_PIXEL_FORMAT_YUV420P;
+import static com.global.filestorage.constants.FileStorageConstants.PROBE_VIDEO_CODEC_H264;
+
+/**
+ * 입력 비디오 상태에 따른 처리 방식
+ */
+public enum VideoTranscodePlan {
+
+    /**
+     * 이미 목표 형식(H.264/yuv420p, 짧은 변이 목표 해상도 이하, AAC 또는 무음) - 재인코딩 없이 컨테이너만 다시 쓴다. (+faststart)
+     */
+    REMUX,
+    /**
+     * 코덱은 맞지만 짧은 변이 목표 해상도보다 큼 - 비디오만 축소 인코딩하고 오디오는 가능하면 복사한다.
+     * (세로 영상 720x1280 은 이미 720p 이므로 축소하지 않는다)
+     */
+    SCALE,
+    /**
+     * 그 외 (다른 코덱, 과도한 비트레이트, 정보 확인 실패) - 전체 인코딩
+     */
+    TRANSCODE;
+
+    public static VideoTranscodePlan of(final VideoProbe probe) {
+        if (probe == null || !PROBE_VIDEO_CODEC_H264.equals(probe.videoCodec())
+                || !PROBE_PIXEL_FORMAT_YUV420P.equals(probe.pixelFormat())) {
+            return TRANSCODE;
+        }
+        if (probe.shortSide() > DEFAULT_VIDEO_HEIGHT) {
+            return SCALE;
+        }
+        if (probe.videoBitRate() > MAX_REMUX_VIDEO_BIT_RATE || !isAudioCopyable(probe)) {
+            return TRANSCODE;
+        }
+        return REMUX;
+    }
+
+    /**
+     * 오디오를 재인코딩 없이 그대로 쓸 수 있는지 (무음 포함)
+     */
+    public static boolean isAudioCopyable(final VideoProbe probe) {
+        return !probe.hasAudio() || PROBE_AUDIO_CODEC_AAC.equals(probe.audioCodec());
+    }
+}
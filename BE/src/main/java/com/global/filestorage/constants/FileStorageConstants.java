@@ -24,11 +24,20 @@ public final class FileStorageConstants {
     public static final String HYPHEN = "-"; // 하이픈 문자
     public static final String NULL = "null";
 
+    // ===== 내용 주소 저장소 디렉토리 (이미지 루트 기준) =====
+    public static final String CAS_DIR = ".cas";
+    public static final String CAS_OBJECTS_DIR = "objects";  // {sha256 앞 2자리}/{sha256}{ext}
+    public static final String CAS_INDEX_DIR = "index";      // {원본 sha256}-{처리 방식} → 객체 상대 경로
+    public static final String CAS_PROCESS_RAW = "raw";
+    public static final String CAS_PROCESS_WEBP = "webp";
+    public static final String CAS_PROCESS_ORIGINAL = "original";
+
     // ===== 이미지 최적화 기본 설정값 =====
     public static final int DEFAULT_IMAGE_WIDTH = 720; // 이미지 리사이징 시 기본 너비
     public static final int WEBP_QUALITY = 80;     // WebP 품질 설정 (0 = 낮음, 100 = 최고)
     public static final int WEBP_COMPRESSION_METHOD = 4;     // WebP 압축 알고리즘 단계 (0~6, 높을수록 느리지만 압축률 높음)
     public static final int WEBP_COMPRESSION_LEVEL = 6;     // WebP 압축 수준 (0~9, 높을수록 용량 감소)
+    public static final int SUBSAMPLING_HEADROOM = 2;       // 디코딩 서브샘플링 후에도 목표 크기의 최소 2배 해상도 유지
 
     // ===== 이미지 포맷 상수 =====
     public static final String FORMAT_WEBP = "WEBP"; // WEBP 포맷 문자열
@@ -50,11 +59,18 @@ public final class FileStorageConstants {
     public static final String IMAGE_OPTIMIZER_DECODING_FAILED =
             "[ImageOptimizer] 유효하지 않은 이미지 파일입니다: {}"; // 파일명 포함
 
+    public static final String IMAGE_OPTIMIZER_SUBSAMPLING_FALLBACK =
+            "[ImageOptimizer] 서브샘플링 디코딩 실패, 기본 디코더 사용: {} ({})";
+
+    public static final String IMAGE_OPTIMIZER_CLEANUP_FAILED =
+            "[ImageOptimizer] 실패한 결과 파일 삭제 실패: {} ({})";
+
     public static final String IMAGE_OPTIMIZER_UNEXPECTED_ERROR =
             "[ImageOptimizer] 이미지 최적화 실패 - 포맷: {}, 파일명: {}, 원인: {}"; // 포맷, 파일명, 예외 메시지 포함
 
     // ===== Content-Type 검사용 문자열 상수 추가 =====
     public static final String MIME_TYPE_WEBP = "image/webp";
+    public static final String MIME_TYPE_MP4 = "video/mp4";
 
     // ===== 이미지 최적화 관련 예외 메시지 =====
     public static final String EXCEPTION_ENCODER_NOT_FOUND = "지원하지 않는 이미지 포맷입니다: %s";
@@ -69,6 +85,11 @@ public final class FileStorageConstants {
     public static final String AUDIO_CODEC = "aac";
     public static final String FFMPEG_PRESET = "fast";
     public static final String FFMPEG_CRF = "23";
+    public static final String FFMPEG_SCALE_PRESET = "veryfast";
+    public static final String PROBE_VIDEO_CODEC_H264 = "h264";
+    public static final String PROBE_PIXEL_FORMAT_YUV420P = "yuv420p";
+    public static final String PROBE_AUDIO_CODEC_AAC = "aac";
+    public static final long MAX_REMUX_VIDEO_BIT_RATE = 5_000_000L;
     public static final String TEMP_VIDEO_INPUT_PREFIX = "input-";
     public static final String TEMP_VIDEO_OUTPUT_PREFIX = "output-";
     public static final String TEMP_FILE_EXTENSION_TMP = ".tmp";
@@ -85,6 +106,12 @@ public final class FileStorageConstants {
     public static final String VIDEO_OPTIMIZER_FFMPEG_FAILED =
             "[VideoOptimizer] FFmpeg 처리 실패 (exitCode={}): {}";
 
+    public static final String VIDEO_OPTIMIZER_PLAN =
+            "[VideoOptimizer] 처리 방식: {} - {}";
+
+    public static final String VIDEO_OPTIMIZER_PROBE_FAILED =
+            "[VideoOptimizer] ffprobe 실패, 전체 인코딩으로 진행 (exitCode={}): {}";
+
     // ===== 비디오 최적화 관련 예외 메시지 =====
     public static final String EXCEPTION_VIDEO_FFMPEG_FAILED =
             "[VideoOptimizer] FFmpeg 처리 실패 - exit code %d. Output: %s";
@@ -0,0 +1,41 @@
+package com.global.notification;
+
+import com.global.constants.Status;
+
+/**
+ * AI 콜백 처리로 에셋 생성이 종료(성공/실패)되었음을 알리는 이벤트
+ * <p>
+ * 트랜잭션 커밋 후 Redis Pub/Sub으로 전파되어, 구독 중인 모든 노드의 SSE 연결을 완료시킨다.
+ *
+ * @param domain  에셋 도메인
+ * @param assetId 에셋 ID
+ * @param status  처리 결과 상태
+ * @param type    에셋 타입 이름
+ * @param path    생성 결과 경로 (실패 시 빈 문자열)
+ */
+public record AssetCompletedEvent(
+        AssetDomain domain,
+        Long assetId,
+        Status status,
+        String type,
+        String path
+) {
+    public static AssetCompletedEvent of(AssetDomain domain, Long assetId, Status status, Enum<?> type,
+                                         String path) {
+        return new AssetCompletedEvent(
+                domain,
+                assetId,
+                status,
+                type != null ? type.name() : null,
+                path != null ? path : ""
+        );
+    }
+
+    public String subscriptionKey() {
+        return subscriptionKey(domain, assetId);
+    }
+
+    public static String subscriptionKey(AssetDomain domain, Long assetId) {
+        return domain.name() + ":" + assetId;
+    }
+}
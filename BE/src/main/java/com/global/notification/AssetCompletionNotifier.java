@@ -0,0 +1,131 @@
+package com.global.notification;
+
+import static com.global.redis.constants.RedisConstants.PUBSUB_ASSET_COMPLETION;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 에셋 생성 완료를 SSE로 푸시하는 알림기
+ * <p>
+ * 클라이언트는 결과 조회 API를 반복 호출하는 대신 하나의 SSE 연결로 완료를 기다린다. 콜백은 어느 노드로든 들어올 수 있으므로
+ * 완료 이벤트는 커밋 후 Redis Pub/Sub으로 발행되고, 각 노드는 자신이 보유한 연결만 완료시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetCompletionNotifier implements MessageListener {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(3).toMillis();
+    private static final String SSE_EVENT_NAME = "asset-result";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, ChannelTopic.of(PUBSUB_ASSET_COMPLETION));
+    }
+
+    /**
+     * 에셋 완료 구독 - 연결을 먼저 등록한 뒤 에셋을 조회하여, 등록 직전에 완료된 경우도 놓치지 않는다.
+     *
+     * @param currentState 에셋 조회 및 권한 검증 후, 이미 완료된 경우 완료 이벤트를, 진행 중이면 null을 반환하는 함수
+     */
+    public SseEmitter subscribe(final AssetDomain domain, final Long assetId,
+                                final Supplier<AssetCompletedEvent> currentState) {
+        String key = AssetCompletedEvent.subscriptionKey(domain, assetId);
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+
+        emitters.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(() -> remove(key, emitter));
+        emitter.onError(e -> remove(key, emitter));
+
+        AssetCompletedEvent completed;
+        try {
+            completed = currentState.get();
+        } catch (RuntimeException e) {
+            // 존재하지 않거나 권한이 없는 에셋이면 등록한 연결을 정리하고 예외를 그대로 전달한다.
+            remove(key, emitter);
+            throw e;
+        }
+        if (Objects.nonNull(completed)) {
+            send(emitter, completed);
+        }
+        return emitter;
+    }
+
+    /**
+     * 콜백 트랜잭션이 커밋된 후에만 완료 이벤트를 다른 노드로 전파한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(final AssetCompletedEvent event) {
+        try {
+            redisTemplate.convertAndSend(PUBSUB_ASSET_COMPLETION, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("[AssetCompletionNotifier] 완료 이벤트 직렬화 실패 - key: {}", event.subscriptionKey(), e);
+        } catch (Exception e) {
+            // 발행 실패 시에도 클라이언트는 결과 조회 API로 확인할 수 있으므로 콜백 처리는 실패시키지 않는다.
+            log.warn("[AssetCompletionNotifier] 완료 이벤트 발행 실패 - key: {}", event.subscriptionKey(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            AssetCompletedEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), AssetCompletedEvent.class);
+            Set<SseEmitter> subscribers = emitters.remove(event.subscriptionKey());
+            if (Objects.isNull(subscribers)) {
+                return;
+            }
+            subscribers.forEach(emitter -> send(emitter, event));
+        } catch (IOException e) {
+            log.error("[AssetCompletionNotifier] 완료 이벤트 역직렬화 실패", e);
+        }
+    }
+
+    private void send(final SseEmitter emitter, final AssetCompletedEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(SSE_EVENT_NAME)
+                    .id(event.subscriptionKey())
+                    .data(event));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊은 경우
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(final String key, final SseEmitter emitter) {
+        emitters.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
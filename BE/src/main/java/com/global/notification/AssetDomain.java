@@ -0,0 +1,10 @@
+package com.global.notification;
+
+/**
+ * 생성 완료 알림 대상 에셋 도메인
+ */
+public enum AssetDomain {
+    REVIEW,
+    EVENT,
+    MENU_POSTER
+}
@@ -0,0 +1,47 @@
+package com.global.notification;
+
+import com.global.constants.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에셋 생성 종단 간 소요 시간 메트릭 - 에셋 생성(요청 접수)부터 AI 콜백으로 완료(성공/실패)될 때까지
+ * <p>
+ * {@code asset.generation.latency{domain,status}} 히스토그램으로 노출되어 AI 워커 규모 산정에 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetGenerationMetrics {
+
+    private static final String METRIC_LATENCY = "asset.generation.latency";
+    private static final String TAG_DOMAIN = "domain";
+    private static final String TAG_STATUS = "status";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 완료된 에셋의 생성 소요 시간을 기록한다. 아직 대기 중이거나 생성 시각을 모르면 기록하지 않는다.
+     *
+     * @param domain      에셋 도메인
+     * @param status      처리 결과 상태
+     * @param requestedAt 에셋 생성(요청 접수) 시각
+     */
+    public void recordCompleted(final AssetDomain domain, final Status status, final LocalDateTime requestedAt) {
+        if (status == null || status.isPending() || requestedAt == null) {
+            return;
+        }
+        Duration latency = Duration.between(requestedAt, LocalDateTime.now());
+        if (latency.isNegative()) {
+            return;
+        }
+        Timer.builder(METRIC_LATENCY)
+                .tags(TAG_DOMAIN, domain.name(), TAG_STATUS, status.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(latency);
+    }
+}
@@ -0,0 +1,92 @@
+package com.global.outbox;
+
+import com.global.redis.constants.RedisStreamKey;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis Stream 발행 대기 메시지 (트랜잭션 아웃박스)
+ * <p>
+ * 에셋 생성 요청 트랜잭션 안에서 엔티티와 함께 저장되고, 커밋 이후 발행에 성공하면 삭제된다. 남아 있는 행은 릴레이가 주기적으로 재발행한다.
+ * <p>
+ * 발행자는 행을 점유(claimedUntil)한 동안에만 발행한다. 저장 시점에는 커밋 직후 즉시 발행이 점유하고, 재발행 스케줄러는 점유가 만료된 행만
+ * 새 토큰으로 점유해 가져간다. 따라서 즉시 발행과 재발행, 여러 인스턴스의 재발행이 같은 행을 동시에 발행하지 않는다.
+ * <p>
+ * prod 는 ddl-auto: validate 이므로 매핑을 바꾸면 INFRA/db/stream_outbox.sql 도 함께 고친다.
+ */
+@Getter
+@Entity
+@Table(name = "stream_outbox", indexes = {
+        @Index(name = "idx_stream_outbox_claimed_until", columnList = "claimed_until"),
+        @Index(name = "idx_stream_outbox_claim_token", columnList = "claim_token")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StreamOutbox {
+
+    // 발행 점유 시간 - 이 시간 안에 발행과 삭제를 마치지 못하면 다른 발행자가 다시 가져간다. (at-least-once)
+    public static final Duration PUBLISH_LEASE = Duration.ofMinutes(1);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private RedisStreamKey streamKey;
+
+    // 직렬화된 Stream field-value 맵 (JSON)
+    @NotNull
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // 재발행 스케줄러의 점유 토큰 (즉시 발행 점유 중이거나 점유 해제된 행은 null)
+    @Column(length = 36)
+    private String claimToken;
+
+    @NotNull
+    private LocalDateTime claimedUntil;
+
+    @NotNull
+    private LocalDateTime createdAt;
+
+    private StreamOutbox(final RedisStreamKey streamKey, final String payload) {
+        this.streamKey = streamKey;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.claimedUntil = createdAt.plus(PUBLISH_LEASE);
+    }
+
+    public static StreamOutbox of(final RedisStreamKey streamKey, final String payload) {
+        return new StreamOutbox(streamKey, payload);
+    }
+
+    /**
+     * lastError 컬럼 길이에 맞게 오류 메시지를 자른다.
+     */
+    public static String toLastError(final String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
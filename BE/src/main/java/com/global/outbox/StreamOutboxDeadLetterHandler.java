@@ -0,0 +1,18 @@
+package com.global.outbox;
+
+import com.global.redis.constants.RedisStreamKey;
+import java.util.Map;
+
+/**
+ * 최대 재시도를 넘겨 발행을 포기한 아웃박스 메시지 처리
+ * <p>
+ * 메시지가 컨슈머에 전달되지 않았으므로 결과 콜백도 오지 않는다. 구현체는 메시지가 가리키는 작업을 실패로 마무리해야 한다.
+ */
+public interface StreamOutboxDeadLetterHandler {
+
+    /**
+     * @param streamKey 발행 대상이었던 Stream 키
+     * @param fields    발행하려던 Stream field-value 맵
+     */
+    void handle(RedisStreamKey streamKey, Map<String, String> fields);
+}
@@ -0,0 +1,14 @@
+package com.global.outbox;
+
+import com.global.redis.constants.RedisStreamKey;
+import java.util.Map;
+
+/**
+ * 아웃박스 저장 이벤트 - 커밋 이후 DB 재조회 없이 바로 발행할 수 있도록 직렬화된 필드를 함께 전달한다.
+ */
+public record StreamOutboxEnqueuedEvent(
+        Long outboxId,
+        RedisStreamKey streamKey,
+        Map<String, String> fields
+) {
+}
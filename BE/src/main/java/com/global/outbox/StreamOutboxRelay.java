@@ -0,0 +1,145 @@
+package com.global.outbox;
+
+import static com.global.config.AsyncConfig.OUTBOX_RELAY_EXECUTOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.publisher.RedisStreamFieldPublisher;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아웃박스 메시지를 Redis Stream으로 발행한다.
+ * <p>
+ * 1. 커밋 직후: 별도 스레드에서 바로 발행하고 행을 삭제한다. (요청 스레드는 Redis를 기다리지 않는다)
+ *    동시에 커밋된 요청은 {@link RedisStreamFieldPublisher#publishAsync}가 스트림별로 묶어 한 번의 파이프라인으로 발행한다.
+ *    행은 저장 시점부터 {@link StreamOutbox#PUBLISH_LEASE} 동안 즉시 발행이 점유하므로 재발행과 겹치지 않는다.
+ * 2. 주기 재발행: 점유가 만료된 행(즉시 발행 실패, 서버 중단)을 짧은 갱신 쿼리로 점유한 뒤, 트랜잭션 밖에서 스트림별 묶음({@code publishAll})으로
+ *    다시 발행한다. Redis I/O 동안 DB 잠금이나 커넥션을 잡지 않는다. (at-least-once)
+ * 3. 최대 재시도 초과: 행을 재발행 대상에서 제외하고 {@link StreamOutboxDeadLetterHandler}로 넘겨 대기 중인 작업을 실패 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamOutboxRelay {
+
+    private static final int RELAY_BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final StreamOutboxRepository streamOutboxRepository;
+    private final RedisStreamFieldPublisher fieldPublisher;
+    private final StreamOutboxDeadLetterHandler deadLetterHandler;
+    private final ObjectMapper objectMapper;
+
+    private record ClaimedMessage(StreamOutbox outbox, Map<String, String> fields) {
+    }
+
+    /**
+     * 커밋 이후 즉시 발행 - 실패해도 행이 남아 있으므로 점유가 만료되면 재발행 스케줄러가 처리한다.
+     */
+    @Async(OUTBOX_RELAY_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(final StreamOutboxEnqueuedEvent event) {
+        try {
+            fieldPublisher.publishAsync(event.streamKey(), event.fields()).join();
+            streamOutboxRepository.deleteById(event.outboxId());
+        } catch (Exception e) {
+            log.warn("[StreamOutbox] 즉시 발행 실패, 재발행 대기 - outboxId: {}, stream: {}",
+                    event.outboxId(), event.streamKey().value(), e);
+        }
+    }
+
+    /**
+     * 남아 있는 아웃박스 메시지 재발행
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void relayPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = streamOutboxRepository.findClaimableIds(now, MAX_ATTEMPTS,
+                PageRequest.of(0, RELAY_BATCH_SIZE));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (streamOutboxRepository.claim(candidates, token, now, now.plus(StreamOutbox.PUBLISH_LEASE),
+                MAX_ATTEMPTS) == 0) {
+            return;
+        }
+        List<StreamOutbox> claimed = streamOutboxRepository.findByClaimToken(token);
+
+        Map<RedisStreamKey, List<ClaimedMessage>> batches = new EnumMap<>(RedisStreamKey.class);
+        for (StreamOutbox outbox : claimed) {
+            try {
+                batches.computeIfAbsent(outbox.getStreamKey(), key -> new ArrayList<>())
+                        .add(new ClaimedMessage(outbox, readFields(outbox.getPayload())));
+            } catch (JsonProcessingException e) {
+                streamOutboxRepository.markDead(outbox.getId(), token, StreamOutbox.toLastError(e.toString()),
+                        MAX_ATTEMPTS);
+                log.error("[StreamOutbox] 역직렬화 실패, 재발행 제외 - outboxId: {}, stream: {}",
+                        outbox.getId(), outbox.getStreamKey().value(), e);
+            }
+        }
+
+        batches.forEach((streamKey, messages) -> publish(streamKey, messages, token));
+        log.info("[StreamOutbox] 재발행 처리 - count: {}", claimed.size());
+    }
+
+    private void publish(final RedisStreamKey streamKey, final List<ClaimedMessage> messages, final String token) {
+        List<Long> ids = messages.stream().map(message -> message.outbox().getId()).toList();
+        try {
+            fieldPublisher.publishAll(streamKey, messages.stream().map(ClaimedMessage::fields).toList());
+        } catch (Exception e) {
+            recordFailure(streamKey, messages, ids, token, e);
+            return;
+        }
+
+        try {
+            streamOutboxRepository.deleteClaimed(ids, token);
+        } catch (Exception e) {
+            // 발행은 끝났으므로 실패로 기록하지 않는다. 점유가 만료되면 한 번 더 발행될 수 있다. (at-least-once)
+            log.warn("[StreamOutbox] 발행 후 삭제 실패 - stream: {}, ids: {}", streamKey.value(), ids, e);
+        }
+    }
+
+    private void recordFailure(final RedisStreamKey streamKey, final List<ClaimedMessage> messages,
+                               final List<Long> ids, final String token, final Exception e) {
+        streamOutboxRepository.releaseFailed(ids, token, StreamOutbox.toLastError(e.toString()), LocalDateTime.now());
+
+        for (ClaimedMessage message : messages) {
+            StreamOutbox outbox = message.outbox();
+            int attempts = outbox.getAttempts() + 1;
+            if (attempts < MAX_ATTEMPTS) {
+                log.warn("[StreamOutbox] 재발행 실패 - outboxId: {}, attempts: {}", outbox.getId(), attempts, e);
+                continue;
+            }
+
+            log.error("[StreamOutbox] 최대 재시도 초과 - outboxId: {}, stream: {}",
+                    outbox.getId(), streamKey.value(), e);
+            try {
+                deadLetterHandler.handle(streamKey, message.fields());
+            } catch (Exception handlerException) {
+                log.error("[StreamOutbox] 재시도 초과 메시지 처리 실패 - outboxId: {}", outbox.getId(), handlerException);
+            }
+        }
+    }
+
+    private LinkedHashMap<String, String> readFields(final String payload) throws JsonProcessingException {
+        return objectMapper.readValue(payload, new TypeReference<>() {});
+    }
+}
@@ -0,0 +1,84 @@
+package com.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StreamOutboxRepository extends JpaRepository<StreamOutbox, Long> {
+
+    /**
+     * 점유가 만료된 재발행 후보 ID를 오래된 순으로 조회한다. (잠금 없음 - 실제 점유는 {@link #claim}이 결정한다)
+     */
+    @Query("""
+            select o.id from StreamOutbox o
+            where o.claimedUntil < :now and o.attempts < :maxAttempts
+            order by o.id
+            """)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now,
+                                @Param("maxAttempts") int maxAttempts,
+                                Pageable pageable);
+
+    /**
+     * 후보 중 아직 점유가 만료된 행만 토큰으로 점유한다. 같은 행을 동시에 점유하려는 다른 발행자는 갱신된 claimedUntil 때문에 조건에서 빠진다.
+     *
+     * @return 점유한 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StreamOutbox o
+            set o.claimToken = :token, o.claimedUntil = :claimedUntil
+            where o.id in :ids and o.claimedUntil < :now and o.attempts < :maxAttempts
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("claimedUntil") LocalDateTime claimedUntil,
+              @Param("maxAttempts") int maxAttempts);
+
+    List<StreamOutbox> findByClaimToken(String claimToken);
+
+    /**
+     * 발행을 마친 행 삭제 - 점유가 만료되어 다른 발행자가 다시 가져간 행은 그 발행자가 처리한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from StreamOutbox o where o.id in :ids and o.claimToken = :token")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    /**
+     * 발행 실패를 기록하고 점유를 해제한다. 다음 재발행 주기에 다시 점유할 수 있다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update StreamOutbox o
+            set o.attempts = o.attempts + 1, o.lastError = :error, o.claimToken = null, o.claimedUntil = :now
+            where o.id in :ids and o.claimToken = :token
+            """)
+    int releaseFailed(@Param("ids") Collection<Long> ids,
+                      @Param("token") String token,
+                      @Param("error") String error,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 다시 시도해도 발행할 수 없는 행(역직렬화 실패 등)을 바로 재발행 대상에서 제외한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update StreamOutbox o
+            set o.attempts = :maxAttempts, o.lastError = :error, o.claimToken = null
+            where o.id = :id and o.claimToken = :token
+            """)
+    int markDead(@Param("id") Long id,
+                 @Param("token") String token,
+                 @Param("error") String error,
+                 @Param("maxAttempts") int maxAttempts);
+}
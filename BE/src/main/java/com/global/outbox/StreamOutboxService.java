@@ -0,0 +1,56 @@
+package com.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.dto.RedisRetryableMessage;
+import com.global.redis.publisher.RedisStreamPublisher;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Redis Stream 메시지를 트랜잭션 아웃박스에 저장한다.
+ * <p>
+ * 메시지는 호출한 트랜잭션과 함께 커밋되며, 실제 발행은 커밋 이후 {@link StreamOutboxRelay}가 수행한다. 따라서 AI 서버는 에셋 행이 커밋된
+ * 뒤에만 메시지를 받고, 롤백된 요청의 메시지는 발행되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamOutboxService {
+
+    private final StreamOutboxRepository streamOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 메시지를 직렬화하여 아웃박스에 저장한다. 반드시 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param key       발행 대상 Stream 키
+     * @param publisher 메시지 타입의 퍼블리셔 (직렬화 규칙 제공)
+     * @param payload   발행할 메시지
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T extends RedisRetryableMessage> void enqueue(final RedisStreamKey key,
+                                                          final RedisStreamPublisher<T> publisher,
+                                                          final T payload) {
+        Map<String, String> fields = publisher.toStreamFields(key, payload);
+        StreamOutbox outbox = streamOutboxRepository.save(StreamOutbox.of(key, writeFields(fields)));
+        log.debug("[StreamOutbox] 저장 - outboxId: {}, stream: {}", outbox.getId(), key.value());
+
+        eventPublisher.publishEvent(new StreamOutboxEnqueuedEvent(outbox.getId(), key, fields));
+    }
+
+    private String writeFields(final Map<String, String> fields) {
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.global.redis.admission;
+
+import static com.global.redis.constants.RedisConstants.REDIS_ADMISSION_COUNTER_ERROR;
+import static com.global.redis.constants.RedisConstants.REDIS_ADMISSION_INCR_SCRIPT;
+import static com.global.redis.constants.RedisConstants.REDIS_ADMISSION_REJECTED_MESSAGE;
+import static com.global.redis.constants.RedisConstants.STREAM_ADMISSION_BACKLOG_RATIO;
+import static com.global.redis.constants.RedisConstants.STREAM_ADMISSION_COUNTER_KEY;
+import static com.global.redis.constants.RedisConstants.STREAM_ADMISSION_COUNTER_TTL;
+import static com.global.redis.constants.RedisConstants.STREAM_ADMISSION_RETRY_AFTER;
+
+import com.global.constants.ErrorCode;
+import com.global.exception.RetryAfterException;
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.metrics.RedisStreamStats;
+import com.global.redis.metrics.RedisStreamStatsCollector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 생성 요청 스트림의 수용 제어
+ * <p>
+ * 스트림은 MAXLEN(~)으로 길이가 제한되어, 적체가 MAXLEN 을 넘으면 이미 202 로 받아 둔 오래된 요청이 조용히 잘려 나간다. 이를 막기
+ * 위해 요청을 받기 전에 consumer group 의 미처리 적체(아직 전달되지 않은 lag + 전달됐지만 ACK 되지 않은 pending)를 확인하고,
+ * MAXLEN 의 일정 비율을 넘으면 Retry-After 와 함께 거절한다.
+ * <ul>
+ *     <li>적체는 {@link RedisStreamStatsCollector}의 주기 측정값을 쓰고, 요청마다 스트림을 조회하지 않는다.</li>
+ *     <li>측정 사이에 받은 요청은 모든 인스턴스가 공유하는 Redis 카운터({@code INCR})에 더해, 측정 주기 안에 여러 인스턴스로 몰린
+ *     요청도 한도에 반영한다. 카운터는 측정할 때마다 비우고, 측정이 멈춰도 누적이 남지 않도록 만료를 둔다.</li>
+ *     <li>카운터를 쓸 수 없으면 측정값만으로 판단한다. (요청을 막지 않는다)</li>
+ *     <li>스트림별 적체 추정치는 {@code redis.stream.backlog{stream}} 게이지로 노출한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RedisStreamAdmissionControl {
+
+    private static final RedisScript<Long> INCR_SCRIPT =
+            new DefaultRedisScript<>(REDIS_ADMISSION_INCR_SCRIPT, Long.class);
+    private static final String METRIC_BACKLOG = "redis.stream.backlog";
+    private static final String METRIC_REJECTED = "redis.stream.admission.rejected";
+    private static final String TAG_STREAM = "stream";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<RedisStreamKey, AtomicLong> sampledBacklog = new EnumMap<>(RedisStreamKey.class);
+    // 마지막으로 본 공유 카운터 값 (게이지용 - 스크랩마다 Redis 를 조회하지 않는다)
+    private final Map<RedisStreamKey, AtomicLong> admittedSinceSample = new EnumMap<>(RedisStreamKey.class);
+
+    public RedisStreamAdmissionControl(
+            final RedisStreamStatsCollector statsCollector,
+            @Qualifier("redisStreamTemplate") final RedisTemplate<String, String> redisTemplate,
+            final MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        for (RedisStreamKey streamKey : RedisStreamStatsCollector.MONITORED_STREAMS) {
+            sampledBacklog.put(streamKey, new AtomicLong());
+            admittedSinceSample.put(streamKey, new AtomicLong());
+            Gauge.builder(METRIC_BACKLOG, () -> backlog(streamKey))
+                    .tag(TAG_STREAM, streamKey.value())
+                    .register(meterRegistry);
+        }
+        statsCollector.addListener(this::onSample);
+    }
+
+    /**
+     * 스트림에 요청 하나를 더 받을 수 있는지 확인하고, 받을 수 있으면 적체에 더한다.
+     *
+     * @throws RetryAfterException 적체가 한도 이상이면 (503 + Retry-After)
+     */
+    public void admit(final RedisStreamKey streamKey) {
+        AtomicLong admitted = admittedSinceSample.get(streamKey);
+        if (admitted == null) {
+            return;
+        }
+
+        long sampled = sampledBacklog.get(streamKey).get();
+        long limit = limit(streamKey);
+        Long shared = increment(streamKey);
+        if (shared == null) {
+            if (sampled < limit) {
+                return;
+            }
+        } else if (sampled + shared <= limit) {
+            admitted.set(shared);
+            return;
+        } else {
+            decrement(streamKey);
+            admitted.set(shared - 1);
+        }
+
+        meterRegistry.counter(METRIC_REJECTED, TAG_STREAM, streamKey.value()).increment();
+        log.warn(REDIS_ADMISSION_REJECTED_MESSAGE, streamKey.value(), backlog(streamKey), limit);
+        throw new RetryAfterException(ErrorCode.AI_GENERATION_BUSY, STREAM_ADMISSION_RETRY_AFTER);
+    }
+
+    /**
+     * 현재 적체 추정치 (마지막 측정값 + 이후 받은 요청 수)
+     */
+    public long backlog(final RedisStreamKey streamKey) {
+        AtomicLong sampled = sampledBacklog.get(streamKey);
+        return sampled == null ? 0 : sampled.get() + admittedSinceSample.get(streamKey).get();
+    }
+
+    /**
+     * 새 측정값 반영 - 이전에 받은 요청은 측정값에 포함되었으므로 공유 카운터를 비운다.
+     */
+    public void onSample(final RedisStreamKey streamKey, final RedisStreamStats stats) {
+        AtomicLong sampled = sampledBacklog.get(streamKey);
+        if (sampled == null) {
+            return;
+        }
+        sampled.set(stats.backlog());
+        admittedSinceSample.get(streamKey).set(0);
+        try {
+            redisTemplate.delete(counterKey(streamKey));
+        } catch (RuntimeException e) {
+            log.warn(REDIS_ADMISSION_COUNTER_ERROR, streamKey.value(), e);
+        }
+    }
+
+    private Long increment(final RedisStreamKey streamKey) {
+        try {
+            return redisTemplate.execute(INCR_SCRIPT, List.of(counterKey(streamKey)),
+                    String.valueOf(STREAM_ADMISSION_COUNTER_TTL.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn(REDIS_ADMISSION_COUNTER_ERROR, streamKey.value(), e);
+            return null;
+        }
+    }
+
+    private void decrement(final RedisStreamKey streamKey) {
+        try {
+            redisTemplate.opsForValue().decrement(counterKey(streamKey));
+        } catch (RuntimeException e) {
+            // 다음 측정에서 카운터를 비우므로 되돌리지 못한 1건은 그때까지만 남는다.
+            log.warn(REDIS_ADMISSION_COUNTER_ERROR, streamKey.value(), e);
+        }
+    }
+
+    private String counterKey(final RedisStreamKey streamKey) {
+        return String.format(STREAM_ADMISSION_COUNTER_KEY, streamKey.value());
+    }
+
+    private long limit(final RedisStreamKey streamKey) {
+        return (long) (streamKey.maxLen() * STREAM_ADMISSION_BACKLOG_RATIO);
+    }
+}
@@ -3,34 +3,39 @@ package com.global.redis.cleaner;
 import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_ERROR_MESSAGE;
 import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_FINISH_MESSAGE;
 import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_INFO_MESSAGE;
-import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_MISSING_EXPIRE_MESSAGE;
-import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_PARSE_ERROR_MESSAGE;
+import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_SKIP_MESSAGE;
 import static com.global.redis.constants.RedisConstants.REDIS_STREAM_CLEANER_START_MESSAGE;
-import static com.global.redis.constants.RedisConstants.STREAM_FIELD_EXPIRE_AT;
-import static com.global.redis.constants.RedisConstants.STREAM_MESSAGE_BATCH_SIZE;
+import static com.global.redis.constants.RedisConstants.REDIS_XTRIM_EXPIRED_SCRIPT;
 
 import com.global.redis.constants.RedisStreamKey;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeParseException;
-import java.util.List;
-import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.Range;
-import org.springframework.data.redis.connection.Limit;
-import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 /**
- * Redis Stream에 기록된 만료 메시지를 주기적으로 정리하는 서비스
+ * Redis Stream에서 보존 기간(ttl)이 지난 메시지를 주기적으로 정리하는 서비스
+ * <p>
+ * 스트림 ID가 추가 시각(ms) 기반이므로 메시지를 읽지 않고 스트림마다 {@code XTRIM MINID ~} 한 번으로 정리한다. 발행 스크립트도 같은
+ * 방식으로 정리하므로, 이 작업은 발행이 끊긴 스트림을 위한 보완 역할이다.
+ * <p>
+ * 경계는 보존 기간({@link RedisStreamKey#retentionMinId}) 이전이면서, consumer group 의 PEL 에 남았거나 아직 전달되지 않은 메시지보다
+ * 앞이다. 따라서 받아들인 요청은 컨슈머가 처리하거나 만료 처리하기 전에 지워지지 않는다.
+ * <p>
+ * ttl 이 0 이하인 스트림은 보존 기간이 없다는 뜻이므로(발행/지연 큐와 동일) 정리하지 않는다. 그대로 경계를 계산하면 현재 시각 이전의 모든
+ * 메시지가 지워진다.
  */
 @Slf4j
 @Service
 public class RedisStreamCleanerService {
 
+    private static final String EVAL = "EVAL";
+    private static final byte[] TRIM_SCRIPT = REDIS_XTRIM_EXPIRED_SCRIPT.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ONE_KEY = "1".getBytes(StandardCharsets.US_ASCII);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public RedisStreamCleanerService(
@@ -40,10 +45,16 @@ public class RedisStreamCleanerService {
 
     public void cleanExpiredMessagesFromAllStreams() {
         log.info(REDIS_STREAM_CLEANER_START_MESSAGE);
+        Instant now = Instant.now();
         for (final RedisStreamKey stream : RedisStreamKey.values()) {
+            if (!stream.ttl().isPositive()) {
+                log.debug(REDIS_STREAM_CLEANER_SKIP_MESSAGE, stream.value(), stream.ttl());
+                continue;
+            }
             try {
-                int deleted = cleanExpiredMessages(stream);
-                log.info(REDIS_STREAM_CLEANER_INFO_MESSAGE, stream.value(), deleted);
+                String minId = stream.retentionMinId(now);
+                long trimmed = trim(stream.value(), minId);
+                log.info(REDIS_STREAM_CLEANER_INFO_MESSAGE, stream.value(), minId, trimmed);
             } catch (Exception e) {
                 log.error(REDIS_STREAM_CLEANER_ERROR_MESSAGE, stream.value(), e);
             }
@@ -51,56 +62,15 @@ public class RedisStreamCleanerService {
         log.info(REDIS_STREAM_CLEANER_FINISH_MESSAGE);
     }
 
-    private int cleanExpiredMessages(final RedisStreamKey streamKey) {
-        List<MapRecord<String, Object, Object>> records = fetchStreamMessages(streamKey.value());
-        return filterAndDeleteExpiredMessages(streamKey.value(), records);
-    }
-
-    private List<MapRecord<String, Object, Object>> fetchStreamMessages(final String streamKey) {
-        return redisTemplate.opsForStream().range(
-                streamKey, Range.unbounded(), Limit.limit().count(STREAM_MESSAGE_BATCH_SIZE)
-        );
-    }
-
-    private int filterAndDeleteExpiredMessages(
-            final String streamKey,
-            final List<MapRecord<String, Object, Object>> inputRecords) {
-
-        List<MapRecord<String, Object, Object>> records =
-                Objects.requireNonNullElse(inputRecords, List.of());
-        int deletedCount = 0;
-
-        for (final MapRecord<String, Object, Object> record : records) {
-            Instant expireAt = extractExpireAt(record, streamKey);
-            if (expireAt != null && expireAt.isBefore(Instant.now())) {
-                redisTemplate.opsForStream().delete(streamKey, record.getId());
-                deletedCount++;
-            }
-        }
-        return deletedCount;
-    }
-
-    private Instant extractExpireAt(
-            final MapRecord<String, Object, Object> record,
-            final String streamKey) {
-
-        Object raw = record.getValue().get(STREAM_FIELD_EXPIRE_AT);
-        if (raw == null) {
-            log.debug(REDIS_STREAM_CLEANER_MISSING_EXPIRE_MESSAGE, record.getId(), streamKey);
-            return null;
-        }
-
-        try {
-            String s = raw.toString(); // StringRedisSerializer 덕분에 실제로는 String
-            try {
-                return Instant.parse(s); // ISO-8601
-            } catch (DateTimeParseException ignored) {
-                LocalDateTime ldt = LocalDateTime.parse(s);
-                return ldt.atZone(ZoneId.systemDefault()).toInstant();
-            }
-        } catch (Exception e) {
-            log.warn(REDIS_STREAM_CLEANER_PARSE_ERROR_MESSAGE, record.getId(), streamKey, e);
-            return null;
-        }
+    /**
+     * 미확인/미전달 메시지를 보호하는 {@code XTRIM key MINID ~} - 근사 정리라 경계 근처 메시지는 다음 정리까지 남을 수 있다.
+     *
+     * @return 삭제된 메시지 수
+     */
+    private long trim(final String streamKey, final String minId) {
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(EVAL,
+                TRIM_SCRIPT, ONE_KEY, streamKey.getBytes(StandardCharsets.UTF_8),
+                minId.getBytes(StandardCharsets.US_ASCII)));
+        return result instanceof Number count ? count.longValue() : 0L;
     }
 }
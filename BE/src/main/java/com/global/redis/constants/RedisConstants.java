@@ -8,11 +8,13 @@ import java.time.Duration;
 public final class RedisConstants {
     // ===== 스트림 필드 =====
     public static final String STREAM_FIELD_EXPIRE_AT = "expireAt";        // 스트림 메시지 만료 시간 필드
-    public static final int STREAM_MESSAGE_BATCH_SIZE = 1_000;              // 스트림 메시지 최대 조회 건수
 
     // ===== DLQ (Dead Letter Queue) 관련 =====
     public static final String DLQ_SUFFIX = ".dead";
 
+    // ===== 지연 큐 (재시도 예약) 관련 =====
+    public static final String DELAY_QUEUE_SUFFIX = ".delayed";                   // 스트림별 지연 큐(ZSET) 키 접미사
+
     // ===== 스트림 메시지 TTL 설정 =====
     public static final Duration STREAM_DEFAULT_TTL = Duration.ofMinutes(60);             // 기본 스트림 TTL
     public static final Duration STREAM_OCR_REQUEST_TTL = Duration.ofMinutes(3);          // OCR 요청 메시지 TTL
@@ -20,6 +22,8 @@ public final class RedisConstants {
     public static final Duration STREAM_MENU_POSTER_TTL = Duration.ofMinutes(3);          // 메뉴 포스터 생성 요청 TTL
     public static final Duration STREAM_EVENT_ASSET_TTL = Duration.ofMinutes(3);          // 이벤트 에셋 생성 요청 TTL
     public static final Duration STREAM_TEST_TTL = Duration.ZERO;                         // 테스트용 TTL (즉시 만료)
+    // 스트림 보존 기간 = TTL × 배수 - TTL 이 지난 요청도 컨슈머가 읽어 만료(FAIL) 처리할 수 있도록 TTL 보다 길게 남긴다.
+    public static final int STREAM_RETENTION_TTL_MULTIPLIER = 2;
 
     // ===== Redis Stream Key =====
     public static final String STREAM_REVIEW_ASSET = "review.asset.generate";       // 리뷰 에셋 생성 요청
@@ -28,6 +32,9 @@ public final class RedisConstants {
     public static final String STREAM_OCR_VERIFICATION = "ocr.verification.request"; // OCR 검증 요청
     public static final String STREAM_OCR_MENU = "ocr.menu.request";               // OCR 메뉴 요청
 
+    // ===== Redis Pub/Sub 채널 =====
+    public static final String PUBSUB_ASSET_COMPLETION = "asset.completion";       // 에셋 생성 완료 알림
+
     // ===== 테스트 전용 Redis Stream Key (운영 사용 금지) =====
     public static final String STREAM_TEST_RETRY = "test.retry";                   // 테스트용 재시도 스트림
     public static final String STREAM_TEST_DLQ = "test.dlq";                       // 테스트용 DLQ 스트림
@@ -42,6 +49,23 @@ public final class RedisConstants {
     public static final Duration CACHE_EVENT_FEED_TTL = Duration.ofMinutes(30);    // 이벤트 피드 캐시
     public static final Duration CACHE_STORE_DETAIL_TTL = Duration.ofHours(1);     // 가게 상세 정보  
     public static final Duration CACHE_JWT_TOKEN_TTL = Duration.ofMinutes(15);     // 로그인 토큰
+    public static final Duration CACHE_ASSET_STATUS_TTL = Duration.ofMinutes(30);  // 에셋 생성 상태 (폴링)
+    public static final Duration CACHE_MENU_SNAPSHOT_TTL = Duration.ofDays(1);     // 생성 요청 메시지가 참조하는 메뉴 스냅샷
+
+    // ===== 이미지 변형 =====
+    public static final String IMAGE_VARIANT_KEY = "image:variants:%d";           // 변형이 생성된 원본 이미지 URL 집합 (폭별)
+
+    // ===== 분산 잠금 =====
+    public static final String LOCK_SHORTS_INGEST_KEY = "lock:shorts:ingest:%d";        // 숏츠 수집 작업 점유 키 (에셋 ID)
+    public static final Duration LOCK_SHORTS_INGEST_TTL = Duration.ofMinutes(15);      // 수집 최대 소요 시간 (인스턴스 장애 시 자동 해제)
+
+    // KEYS[1]=잠금 키, ARGV[1]=소유자 - 자신이 잡은 잠금만 해제한다.
+    public static final String REDIS_UNLOCK_SCRIPT = """
+                if redis.call('GET', KEYS[1]) == ARGV[1] then
+                    return redis.call('DEL', KEYS[1])
+                end
+                return 0
+            """;
 
     // ===== Batch Job 관련 =====
     public static final String REDIS_STREAM_CLEANER_JOB_NAME = "redisStreamCleanerJob";
@@ -62,15 +86,13 @@ public final class RedisConstants {
     public static final String REDIS_STREAM_CLEANER_START_MESSAGE =
             "[RedisCleaner] Started stream TTL cleanup";              // 스트림 정리 시작 메시지
     public static final String REDIS_STREAM_CLEANER_INFO_MESSAGE =
-            "[RedisCleaner] Stream: {}, Deleted messages: {}";        // 스트림 정리 정보 메시지
+            "[RedisCleaner] Stream: {}, MINID: {}, Trimmed messages: {}";   // 스트림 정리 정보 메시지
+    public static final String REDIS_STREAM_CLEANER_SKIP_MESSAGE =
+            "[RedisCleaner] Stream: {}, no retention (ttl: {}), skipped";  // 보존 기간 없는 스트림 생략 메시지
     public static final String REDIS_STREAM_CLEANER_ERROR_MESSAGE =
             "[RedisCleaner] Failed to clean stream: {}";             // 스트림 정리 실패 메시지
     public static final String REDIS_STREAM_CLEANER_FINISH_MESSAGE =
             "[RedisCleaner] Finished all stream cleanup";            // 스트림 정리 완료 메시지
-    public static final String REDIS_STREAM_CLEANER_MISSING_EXPIRE_MESSAGE =
-            "[RedisCleaner] expireAt 필드 없음 - messageId: {} (stream: {})";    // expireAt 필드 누락 메시지
-    public static final String REDIS_STREAM_CLEANER_PARSE_ERROR_MESSAGE =
-            "[RedisCleaner] expireAt 파싱 실패 - messageId: {} (stream: {})";    // expireAt 파싱 실패 메시지
 
     // ===== Redis Stream Retry Handler 관련 상수 =====
     public static final String RETRY_MAX_COUNT_EXCEEDED_MESSAGE =
@@ -82,9 +104,71 @@ public final class RedisConstants {
     public static final String ERROR_UPDATE_RETRY_FIELDS_NOT_IMPLEMENTED =
             "[RedisRetryHandler] 메시지 필드 업데이트 로직은 구현체에서 정의해야 합니다.";        // 재시도 필드 업데이트 미구현 에러
 
+    // ===== Redis Stream 보존 기간 정리 =====
+    // trim_expired(stream, cutoff): cutoff 이전 메시지를 XTRIM MINID ~ 로 정리하되, 어떤 consumer group 의 PEL 에 남은 메시지와
+    // 아직 전달되지 않은 메시지(last-delivered-id 이후)는 지우지 않는다. 경계 = min(cutoff, group 별 가장 오래된 미확인/미전달 ID)
+    public static final String REDIS_STREAM_TRIM_FUNCTION = """
+                local function id_before(a, b)
+                    local am, as = string.match(a, '^(%d+)-(%d+)$')
+                    local bm, bs = string.match(b, '^(%d+)-(%d+)$')
+                    am, as, bm, bs = tonumber(am), tonumber(as), tonumber(bm), tonumber(bs)
+                    return am < bm or (am == bm and as < bs)
+                end
+                local function trim_expired(key, cutoff)
+                    local bound = cutoff
+                    local groups = redis.pcall('XINFO', 'GROUPS', key)
+                    if type(groups) ~= 'table' or groups.err then
+                        return 0
+                    end
+                    for _, group in ipairs(groups) do
+                        local info = {}
+                        for i = 1, #group, 2 do
+                            info[group[i]] = group[i + 1]
+                        end
+                        local oldest = info['last-delivered-id']
+                        if tonumber(info['pending']) > 0 then
+                            oldest = redis.call('XPENDING', key, info['name'])[2]
+                        end
+                        if id_before(oldest, bound) then
+                            bound = oldest
+                        end
+                    end
+                    return redis.call('XTRIM', key, 'MINID', '~', bound)
+                end
+            """;
+
+    // KEYS[1]=stream, ARGV[1]=보존 경계 ID(cutoff)
+    // 반환: 삭제된 메시지 수
+    public static final String REDIS_XTRIM_EXPIRED_SCRIPT = REDIS_STREAM_TRIM_FUNCTION + """
+                return trim_expired(KEYS[1], ARGV[1])
+            """;
+
     // ===== Redis Stream Publisher 관련 상수 =====
-    public static final String REDIS_XADD_SCRIPT = """
-                return redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', unpack(ARGV, 2))
+    // KEYS[1]=stream, ARGV[1]=MAXLEN, ARGV[2]=보존 경계 ID(0이면 생략), ARGV[3..]=field-value
+    public static final String REDIS_XADD_SCRIPT = REDIS_STREAM_TRIM_FUNCTION + """
+                local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', unpack(ARGV, 3))
+                if ARGV[2] ~= '0' then
+                    trim_expired(KEYS[1], ARGV[2])
+                end
+                return id
+            """;
+
+    // KEYS[1]=stream, ARGV[1]=group, ARGV[2]=consumer, ARGV[3]=minIdle(ms), ARGV[4]=count
+    // 반환: {id, 전달 횟수, {field, value, ...}} 목록 - 삭제된 메시지는 제외
+    public static final String REDIS_XAUTOCLAIM_SCRIPT = """
+                local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], '0-0', 'COUNT', ARGV[4])
+                local result = {}
+                for _, entry in ipairs(claimed[2]) do
+                    if entry and entry[2] then
+                        local pending = redis.call('XPENDING', KEYS[1], ARGV[1], entry[1], entry[1], 1)
+                        local deliveries = 0
+                        if pending[1] then
+                            deliveries = pending[1][4]
+                        end
+                        result[#result + 1] = {entry[1], deliveries, entry[2]}
+                    end
+                end
+                return result
             """;
 
     public static final String ERROR_SERIALIZATION_FAILED = "Redis Stream 직렬화 실패";
@@ -94,11 +178,37 @@ public final class RedisConstants {
     public static final String ERROR_REDIS_STREAM_KEY_SERIALIZATION_FAILED = "Stream key 직렬화 실패: %s";
     public static final String ERROR_REDIS_ARG_SERIALIZATION_FAILED = "ARG 직렬화 실패: %s";
 
+    // KEYS[1]=지연 큐(ZSET), KEYS[2]=stream, ARGV[1]=현재 시각(ms), ARGV[2]=최대 이동 건수, ARGV[3]=MAXLEN, ARGV[4]=보존 경계 ID(0이면 생략)
+    // 멤버는 JSON 배열 [고유값, field, value, ...] - 실행 시각이 지난 멤버를 순서대로 XADD 하고 지연 큐에서 제거한다.
+    public static final String REDIS_DELAY_MOVE_SCRIPT = REDIS_STREAM_TRIM_FUNCTION + """
+                local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+                if #due == 0 then
+                    return 0
+                end
+                for _, member in ipairs(due) do
+                    local entry = cjson.decode(member)
+                    redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[3], '*', unpack(entry, 2))
+                end
+                if ARGV[4] ~= '0' then
+                    trim_expired(KEYS[2], ARGV[4])
+                end
+                redis.call('ZREM', KEYS[1], unpack(due))
+                return #due
+            """;
+
+    // ===== Redis Stream 묶음 발행 (micro-batch) =====
+    public static final Duration STREAM_PUBLISH_LINGER = Duration.ofMillis(5);      // 묶음 발행 전 최대 대기 시간
+    public static final int STREAM_PUBLISH_MAX_BATCH_SIZE = 128;                   // 파이프라인 1회 최대 메시지 수
+
     // ===== Redis Stream Publisher 로그 메시지 =====
     public static final String REDIS_PUBLISHER_PUBLISHING_MESSAGE =
             "[RedisPublisher] Publishing to stream: {}, maxLen={}, payload={}";    // 스트림 발행 시작 메시지
+    public static final String REDIS_PUBLISHER_PUBLISHING_BATCH_MESSAGE =
+            "[RedisPublisher] Publishing batch to stream: {}, maxLen={}, size={}";  // 묶음 발행 시작 메시지
     public static final String REDIS_PUBLISHER_SUCCESS_MESSAGE =
             "[RedisPublisher] Successfully published to stream: {}";               // 스트림 발행 성공 메시지
+    public static final String REDIS_PUBLISHER_BATCH_SUCCESS_MESSAGE =
+            "[RedisPublisher] Successfully published batch to stream: {}, size={}";  // 묶음 발행 성공 메시지
     public static final String REDIS_PUBLISHER_SERIALIZATION_ERROR =
             "[RedisPublisher] Payload serialization failed for stream: {}, error: {}";  // 직렬화 실패 메시지
     public static final String REDIS_PUBLISHER_CONNECTION_ERROR =
@@ -106,6 +216,62 @@ public final class RedisConstants {
     public static final String REDIS_PUBLISHER_UNEXPECTED_ERROR =
             "[RedisPublisher] Unexpected error publishing to stream: {}, error: {}";  // 예상치 못한 오류 메시지
 
+    // ===== Redis Stream 지연 큐 =====
+    public static final int STREAM_DELAY_MOVE_BATCH_SIZE = 100;                    // 스크립트 1회 최대 이동 건수
+    public static final int STREAM_DELAY_MOVE_MAX_ROUNDS = 10;                     // 주기당 스트림별 최대 이동 횟수 (재시도 부하 평탄화)
+
+    // ===== Redis Stream 지연 큐 로그 메시지 =====
+    public static final String REDIS_DELAY_QUEUE_SCHEDULED_MESSAGE =
+            "[RedisDelayQueue] Scheduled - stream: {}, dueAt: {}";                  // 지연 발행 예약 메시지
+    public static final String REDIS_DELAY_QUEUE_MOVED_MESSAGE =
+            "[RedisDelayQueue] Moved due messages - stream: {}, count: {}";          // 만기 메시지 이동 메시지
+    public static final String REDIS_DELAY_QUEUE_MOVE_ERROR =
+            "[RedisDelayQueue] Failed to move due messages - stream: {}";            // 만기 메시지 이동 실패 메시지
+
+    // ===== Redis Stream 수용 제어 (admission control) =====
+    public static final double STREAM_ADMISSION_BACKLOG_RATIO = 0.8;                // MAXLEN 대비 적체 한도 비율 (trim 여유분)
+    public static final Duration STREAM_ADMISSION_RETRY_AFTER = Duration.ofSeconds(30); // 거절 시 Retry-After
+    public static final String STREAM_ADMISSION_COUNTER_KEY = "stream:admission:%s";  // 측정 이후 받은 요청 수 (모든 인스턴스 공유)
+    public static final Duration STREAM_ADMISSION_COUNTER_TTL = Duration.ofMinutes(1); // 측정이 멈춰도 누적이 남지 않게 하는 만료 시간
+
+    // KEYS[1]=카운터 키, ARGV[1]=만료(ms) - 증가시키고, 처음 만든 키에만 만료를 건다.
+    public static final String REDIS_ADMISSION_INCR_SCRIPT = """
+            local admitted = redis.call('INCR', KEYS[1])
+            if admitted == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return admitted
+            """;
+
+    // ===== Redis Stream 수용 제어 로그 메시지 =====
+    public static final String REDIS_ADMISSION_REJECTED_MESSAGE =
+            "[RedisAdmission] Rejected - stream: {}, backlog: {}, limit: {}";        // 적체 한도 초과로 요청 거절
+    public static final String REDIS_ADMISSION_COUNTER_ERROR =
+            "[RedisAdmission] Shared counter unavailable, using sampled backlog - stream: {}"; // 공유 카운터 장애
+
+    // ===== Redis Stream 상태 측정 로그 메시지 =====
+    public static final String REDIS_STREAM_STATS_ERROR =
+            "[RedisStreamStats] Failed to inspect stream: {}, error: {}";           // 스트림 상태 측정 실패
+
+    // ===== Redis Stream Consumer (consumer group) =====
+    public static final Duration STREAM_CONSUMER_BLOCK = Duration.ofSeconds(2);              // XREADGROUP 블로킹 대기 시간
+    public static final int STREAM_CONSUMER_BATCH_SIZE = 32;                                // XREADGROUP 1회 최대 건수
+    public static final int STREAM_CONSUMER_CONCURRENCY = 8;                                // 스트림별 동시 처리 수
+    public static final Duration STREAM_CONSUMER_CLAIM_MIN_IDLE = Duration.ofMinutes(1);     // 회수 대상 pending 최소 유휴 시간
+    public static final Duration STREAM_CONSUMER_CLAIM_INTERVAL = Duration.ofSeconds(30);    // pending 회수 주기
+    public static final int STREAM_CONSUMER_MAX_DELIVERIES = 5;                             // 초과 시 DLQ 이동
+    public static final Duration STREAM_CONSUMER_ERROR_BACKOFF = Duration.ofSeconds(1);      // 읽기 실패 후 대기 시간
+
+    // ===== Redis Stream Consumer 로그 메시지 =====
+    public static final String REDIS_CONSUMER_STARTED_MESSAGE =
+            "[RedisConsumer] Started - stream: {}, group: {}, consumer: {}, concurrency: {}";
+    public static final String REDIS_CONSUMER_HANDLER_ERROR =
+            "[RedisConsumer] Handler failed - stream: {}, id: {} (pending 상태로 남아 재전달됨)";
+    public static final String REDIS_CONSUMER_POLL_ERROR =
+            "[RedisConsumer] Poll failed - stream: {}, group: {}";
+    public static final String REDIS_CONSUMER_DEAD_LETTER_MESSAGE =
+            "[RedisConsumer] Max deliveries exceeded, moved to DLQ - stream: {}, id: {}, deliveries: {}";
+
     private RedisConstants() {
         throw new UnsupportedOperationException(UTILITY_CLASS_ERROR.message());
     }
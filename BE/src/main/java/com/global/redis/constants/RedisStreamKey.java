@@ -1,5 +1,6 @@
 package com.global.redis.constants;
 
+import static com.global.redis.constants.RedisConstants.DELAY_QUEUE_SUFFIX;
 import static com.global.redis.constants.RedisConstants.DLQ_SUFFIX;
 import static com.global.redis.constants.RedisConstants.STREAM_EVENT_ASSET;
 import static com.global.redis.constants.RedisConstants.STREAM_EVENT_ASSET_MAX_LEN;
@@ -14,6 +15,7 @@ import static com.global.redis.constants.RedisConstants.STREAM_OCR_VERIFICATION;
 import static com.global.redis.constants.RedisConstants.STREAM_OCR_VERIFICATION_MAX_LEN;
 import static com.global.redis.constants.RedisConstants.STREAM_REVIEW_ASSET;
 import static com.global.redis.constants.RedisConstants.STREAM_REVIEW_ASSET_MAX_LEN;
+import static com.global.redis.constants.RedisConstants.STREAM_RETENTION_TTL_MULTIPLIER;
 import static com.global.redis.constants.RedisConstants.STREAM_REVIEW_ASSET_TTL;
 import static com.global.redis.constants.RedisConstants.STREAM_TEST_DLQ;
 import static com.global.redis.constants.RedisConstants.STREAM_TEST_MAX_LEN;
@@ -21,6 +23,7 @@ import static com.global.redis.constants.RedisConstants.STREAM_TEST_RETRY;
 import static com.global.redis.constants.RedisConstants.STREAM_TEST_TTL;
 
 import java.time.Duration;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -52,7 +55,25 @@ public enum RedisStreamKey {
         return maxLen;
     }
 
+    /**
+     * 보존 기간(ttl × {@link RedisConstants#STREAM_RETENTION_TTL_MULTIPLIER})이 지난 메시지의 경계 ID - 스트림 ID 앞부분이 추가
+     * 시각(ms)이므로 {@code XTRIM MINID}로 이보다 오래된 메시지를 정리할 수 있다.
+     * <p>
+     * TTL 이 지난 요청은 컨슈머가 읽는 시점에 만료(FAIL) 처리하므로, 정리는 그보다 늦은 시점에 해야 에셋이 PENDING 으로 남지 않는다.
+     * 실제 정리 경계는 스크립트({@link RedisConstants#REDIS_STREAM_TRIM_FUNCTION})가 group 의 미확인/미전달 메시지 앞으로 다시 당긴다.
+     */
+    public String retentionMinId(final Instant now) {
+        return (now.toEpochMilli() - ttl.toMillis() * STREAM_RETENTION_TTL_MULTIPLIER) + "-0";
+    }
+
     public String deadLetterQueueKey() {
         return this.value + DLQ_SUFFIX;
     }
+
+    /**
+     * 실행 시각까지 대기하는 메시지를 담는 지연 큐(ZSET, score=실행 시각 ms) 키
+     */
+    public String delayQueueKey() {
+        return this.value + DELAY_QUEUE_SUFFIX;
+    }
 }
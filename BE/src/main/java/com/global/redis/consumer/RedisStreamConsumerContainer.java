@@ -0,0 +1,337 @@
+package com.global.redis.consumer;
+
+import static com.global.redis.constants.RedisConstants.REDIS_CONSUMER_DEAD_LETTER_MESSAGE;
+import static com.global.redis.constants.RedisConstants.REDIS_CONSUMER_HANDLER_ERROR;
+import static com.global.redis.constants.RedisConstants.REDIS_CONSUMER_POLL_ERROR;
+import static com.global.redis.constants.RedisConstants.REDIS_CONSUMER_STARTED_MESSAGE;
+import static com.global.redis.constants.RedisConstants.REDIS_XAUTOCLAIM_SCRIPT;
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_CLAIM_INTERVAL;
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_ERROR_BACKOFF;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream consumer group 실행기
+ * <p>
+ * 구독마다 폴링 스레드 하나가 {@code XREADGROUP ... BLOCK}으로 읽고, 메시지는 가상 스레드에서 처리한다. 처리 중인 메시지 수가
+ * 구독의 동시 처리 수에 도달하면 더 읽지 않아 적체는 Redis 쪽에 남는다. (back-pressure)
+ * <ul>
+ *     <li>처리에 성공한 메시지는 모아서 폴링 주기마다 한 번의 {@code XACK}으로 확인한다.</li>
+ *     <li>실패한 메시지는 pending 으로 남고, 주기적으로 {@code XAUTOCLAIM}으로 회수해 다시 처리한다. (at-least-once)</li>
+ *     <li>전달 횟수가 한도를 넘은 메시지는 DLQ 스트림으로 옮기고 확인 처리한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RedisStreamConsumerContainer implements SmartLifecycle {
+
+    private static final byte[] XAUTOCLAIM_SCRIPT = REDIS_XAUTOCLAIM_SCRIPT.getBytes(StandardCharsets.UTF_8);
+    private static final String BUSY_GROUP_ERROR = "BUSYGROUP";
+    private static final String NO_GROUP_ERROR = "NOGROUP";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String consumerName;
+    private final List<Worker> workers = new CopyOnWriteArrayList<>();
+
+    // 메시지 처리용 가상 스레드 실행기 - stop() 에서 종료되므로 start() 마다 새로 만든다.
+    private volatile ExecutorService handlerExecutor;
+    private volatile boolean running;
+
+    public RedisStreamConsumerContainer(
+            @Qualifier("redisStreamTemplate") final RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.consumerName = ManagementFactory.getRuntimeMXBean().getName();  // pid@host - 인스턴스별 consumer
+    }
+
+    /**
+     * 구독을 등록한다. 실행기가 이미 시작되었으면 바로 읽기 시작한다.
+     */
+    public synchronized void register(final RedisStreamSubscription subscription) {
+        Worker worker = new Worker(subscription);
+        workers.add(worker);
+        if (running) {
+            worker.start();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        handlerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        running = true;
+        workers.forEach(Worker::start);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        workers.forEach(Worker::join);
+        handlerExecutor.shutdown();
+        try {
+            handlerExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.forEach(Worker::flushAcks);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 구독 하나의 폴링 루프와 상태
+     */
+    private final class Worker {
+
+        private final RedisStreamSubscription subscription;
+        private final String streamKey;
+        private final Semaphore inFlight;
+        private final Queue<String> pendingAcks = new ConcurrentLinkedQueue<>();
+        private Thread thread;
+        private long nextClaimAt;
+
+        private Worker(final RedisStreamSubscription subscription) {
+            this.subscription = subscription;
+            this.streamKey = subscription.streamKey().value();
+            this.inFlight = new Semaphore(subscription.concurrency());
+        }
+
+        private void start() {
+            thread = Thread.ofPlatform()
+                    .name("redis-consumer-" + streamKey)
+                    .daemon()
+                    .start(this::run);
+        }
+
+        private void join() {
+            if (thread == null) {
+                return;
+            }
+            try {
+                thread.join(subscription.block().toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void run() {
+            log.info(REDIS_CONSUMER_STARTED_MESSAGE, streamKey, subscription.group(), consumerName,
+                    subscription.concurrency());
+            boolean groupReady = false;
+
+            while (running) {
+                try {
+                    if (!groupReady) {
+                        createGroup();
+                        groupReady = true;
+                    }
+                    reclaimIfDue();
+                    poll();
+                    flushAcks();
+                } catch (Exception e) {
+                    // 스트림 키가 사라지면 group 도 사라지므로 다시 만든다.
+                    groupReady = groupReady && !hasError(e, NO_GROUP_ERROR);
+                    log.error(REDIS_CONSUMER_POLL_ERROR, streamKey, subscription.group(), e);
+                    sleep(STREAM_CONSUMER_ERROR_BACKOFF.toMillis());
+                }
+            }
+        }
+
+        /**
+         * 처리 여유만큼만 읽는다 - 여유가 없으면 처리가 끝날 때까지 기다린다.
+         */
+        private void poll() throws InterruptedException {
+            if (!inFlight.tryAcquire(subscription.block().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            int permits = 1 + inFlight.drainPermits();
+            int count = Math.min(permits, subscription.batchSize());
+            inFlight.release(permits - count);
+
+            List<MapRecord<String, Object, Object>> records;
+            try {
+                records = Objects.requireNonNullElse(redisTemplate.opsForStream().read(
+                        Consumer.from(subscription.group(), consumerName),
+                        StreamReadOptions.empty().count(count).block(subscription.block()),
+                        StreamOffset.create(streamKey, ReadOffset.lastConsumed())), List.of());
+            } catch (RuntimeException e) {
+                inFlight.release(count);
+                throw e;
+            }
+
+            inFlight.release(count - records.size());
+            for (MapRecord<String, Object, Object> record : records) {
+                dispatch(record.getId(), toFields(record.getValue()));
+            }
+        }
+
+        /**
+         * 허가(permit)를 이미 얻은 메시지를 가상 스레드에서 처리한다.
+         */
+        private void dispatch(final RecordId id, final Map<String, String> fields) {
+            handlerExecutor.execute(() -> {
+                try {
+                    subscription.handler().handle(id, fields);
+                    pendingAcks.add(id.getValue());
+                } catch (Exception e) {
+                    log.warn(REDIS_CONSUMER_HANDLER_ERROR, streamKey, id, e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        private void flushAcks() {
+            List<String> ids = new ArrayList<>();
+            String id;
+            while ((id = pendingAcks.poll()) != null) {
+                ids.add(id);
+            }
+            if (!ids.isEmpty()) {
+                redisTemplate.opsForStream().acknowledge(streamKey, subscription.group(), ids.toArray(String[]::new));
+            }
+        }
+
+        /**
+         * 유휴 pending 메시지 회수 - 처리 여유가 있을 때만, 여유만큼 가져온다.
+         */
+        private void reclaimIfDue() {
+            long now = System.currentTimeMillis();
+            if (now < nextClaimAt) {
+                return;
+            }
+            nextClaimAt = now + STREAM_CONSUMER_CLAIM_INTERVAL.toMillis();
+
+            int permits = inFlight.drainPermits();
+            if (permits == 0) {
+                return;
+            }
+
+            List<Object> claimed;
+            try {
+                claimed = redisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                        connection.scriptingCommands().eval(XAUTOCLAIM_SCRIPT, ReturnType.MULTI, 1,
+                                bytes(streamKey),
+                                bytes(subscription.group()),
+                                bytes(consumerName),
+                                bytes(String.valueOf(subscription.claimMinIdle().toMillis())),
+                                bytes(String.valueOf(permits))));
+            } catch (RuntimeException e) {
+                inFlight.release(permits);
+                throw e;
+            }
+
+            int dispatched = 0;
+            try {
+                for (Object entry : Objects.requireNonNullElse(claimed, List.of())) {
+                    List<?> values = (List<?>) entry;
+                    RecordId id = RecordId.of(string(values.get(0)));
+                    long deliveries = ((Number) values.get(1)).longValue();
+                    Map<String, String> fields = toFields((List<?>) values.get(2));
+
+                    if (deliveries > subscription.maxDeliveries()) {
+                        deadLetter(id, fields, deliveries);
+                        continue;
+                    }
+                    dispatched++;
+                    dispatch(id, fields);
+                }
+            } finally {
+                // 처리로 넘기지 않은 만큼 돌려준다. (넘긴 만큼은 처리가 끝나면 반납)
+                inFlight.release(permits - dispatched);
+            }
+        }
+
+        private void deadLetter(final RecordId id, final Map<String, String> fields, final long deliveries) {
+            log.warn(REDIS_CONSUMER_DEAD_LETTER_MESSAGE, streamKey, id, deliveries);
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(subscription.streamKey().deadLetterQueueKey())
+                    .ofMap(fields));
+            redisTemplate.opsForStream().acknowledge(streamKey, subscription.group(), id.getValue());
+        }
+
+        private void createGroup() {
+            try {
+                redisTemplate.execute((RedisCallback<Object>) connection -> connection.streamCommands()
+                        .xGroupCreate(bytes(streamKey), subscription.group(), ReadOffset.from("0-0"), true));
+            } catch (RuntimeException e) {
+                if (!hasError(e, BUSY_GROUP_ERROR)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> toFields(final Map<Object, Object> values) {
+        Map<String, String> fields = new LinkedHashMap<>(values.size() * 2);
+        values.forEach((field, value) -> fields.put(String.valueOf(field), String.valueOf(value)));
+        return fields;
+    }
+
+    private static Map<String, String> toFields(final List<?> flat) {
+        Map<String, String> fields = new LinkedHashMap<>(flat.size());
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            fields.put(string(flat.get(i)), string(flat.get(i + 1)));
+        }
+        return fields;
+    }
+
+    private static boolean hasError(final Throwable e, final String error) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(final Object value) {
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.global.redis.consumer;
+
+import java.util.Map;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+/**
+ * Redis Stream 메시지 처리기 - 정상 반환하면 ACK 되고, 예외를 던지면 pending 으로 남아 재전달된다.
+ */
+@FunctionalInterface
+public interface RedisStreamMessageHandler {
+
+    /**
+     * @param id     스트림 메시지 ID
+     * @param fields 메시지 field-value (발행 순서 유지)
+     */
+    void handle(RecordId id, Map<String, String> fields) throws Exception;
+}
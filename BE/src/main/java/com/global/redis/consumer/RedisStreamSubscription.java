@@ -0,0 +1,49 @@
+package com.global.redis.consumer;
+
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_BATCH_SIZE;
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_BLOCK;
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_CLAIM_MIN_IDLE;
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_CONCURRENCY;
+import static com.global.redis.constants.RedisConstants.STREAM_CONSUMER_MAX_DELIVERIES;
+
+import com.global.redis.constants.RedisStreamKey;
+import java.time.Duration;
+
+/**
+ * consumer group 구독 설정
+ *
+ * @param streamKey     구독할 스트림
+ * @param group         consumer group 이름 (없으면 스트림 처음부터 읽도록 생성)
+ * @param handler       메시지 처리기
+ * @param concurrency   동시에 처리 중일 수 있는 최대 메시지 수 - 다 차면 더 읽지 않는다. (back-pressure)
+ * @param batchSize     XREADGROUP 1회 최대 건수
+ * @param block         XREADGROUP 블로킹 대기 시간
+ * @param claimMinIdle  다른 consumer 가 이 시간 이상 처리하지 못한 pending 메시지를 회수한다.
+ * @param maxDeliveries 전달 횟수가 이 값을 넘으면 DLQ({@link RedisStreamKey#deadLetterQueueKey()})로 옮긴다.
+ */
+public record RedisStreamSubscription(
+        RedisStreamKey streamKey,
+        String group,
+        RedisStreamMessageHandler handler,
+        int concurrency,
+        int batchSize,
+        Duration block,
+        Duration claimMinIdle,
+        int maxDeliveries
+) {
+
+    /**
+     * 기본 설정 구독
+     */
+    public static RedisStreamSubscription of(final RedisStreamKey streamKey, final String group,
+                                             final RedisStreamMessageHandler handler) {
+        return new RedisStreamSubscription(streamKey, group, handler, STREAM_CONSUMER_CONCURRENCY,
+                STREAM_CONSUMER_BATCH_SIZE, STREAM_CONSUMER_BLOCK, STREAM_CONSUMER_CLAIM_MIN_IDLE,
+                STREAM_CONSUMER_MAX_DELIVERIES);
+    }
+
+    public RedisStreamSubscription withConcurrency(final int concurrency) {
+        return new RedisStreamSubscription(streamKey, group, handler, concurrency, batchSize, block, claimMinIdle,
+                maxDeliveries);
+    }
+}
@@ -32,7 +32,7 @@ public class RedisStreamRetryHandler<T extends RedisRetryableMessage> {
      * 재시도 처리 진입점
      *
      * 재시도 가능 여부를 판단하여,
-     * - 가능하면 다음 재시도 시각 계산 후 retryPublisher 발행
+     * - 가능하면 다음 재시도 시각 계산 후 retryPublisher 지연 큐에 예약
      * - 초과 시 DLQ로 전송
      */
     public void handleRetry(final T message) {
@@ -56,13 +56,14 @@ public class RedisStreamRetryHandler<T extends RedisRetryableMessage> {
     }
 
     /**
-     * 재시도 메시지 발행 처리
-     * 지수 백오프 기반 nextRetryAt 계산 후, retryCount 증가 및 업데이트된 메시지를 발행한다.
+     * 재시도 메시지 예약 처리
+     * 지수 백오프 기반 nextRetryAt 계산 후, retryCount 증가 및 업데이트된 메시지를 지연 큐에 넣는다.
+     * 메시지는 nextRetryAt 이 지나야 스트림에 들어가므로 consumer 는 아직 때가 아닌 메시지를 읽지 않는다.
      */
     protected void retryMessage(final T original, final int currentRetryCount) {
         Instant nextRetryAt = calculateNextRetryTime(currentRetryCount);
         T updatedMessage = updateRetryFields(original, currentRetryCount + 1, nextRetryAt);
-        retryPublisher.publish(getRetryStreamKey(), updatedMessage);
+        retryPublisher.publishAt(getRetryStreamKey(), updatedMessage, nextRetryAt);
     }
 
     /**
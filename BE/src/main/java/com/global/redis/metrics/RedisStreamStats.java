@@ -0,0 +1,37 @@
+package com.global.redis.metrics;
+
+import java.util.List;
+
+/**
+ * 스트림 한 번 측정 결과
+ *
+ * @param length 스트림 길이 (XLEN)
+ * @param groups consumer group 별 상태 (XINFO GROUPS)
+ */
+public record RedisStreamStats(long length, List<GroupStats> groups) {
+
+    public static final RedisStreamStats EMPTY = new RedisStreamStats(0, List.of());
+
+    /**
+     * @param name    group 이름
+     * @param lag     아직 group 에 전달되지 않은 메시지 수 (삭제/trim 이후 등 알 수 없으면 null)
+     * @param pending 전달됐지만 ACK 되지 않은 메시지 수
+     */
+    public record GroupStats(String name, Long lag, long pending) {
+    }
+
+    /**
+     * 미처리 적체 - group 별 (lag + pending) 중 최댓값. group 이 없거나 lag 를 알 수 없으면 스트림 길이를 상한으로 쓴다.
+     */
+    public long backlog() {
+        if (groups.isEmpty()) {
+            return length;
+        }
+        long backlog = 0;
+        for (GroupStats group : groups) {
+            long undelivered = group.lag() == null ? length : group.lag();
+            backlog = Math.max(backlog, undelivered + group.pending());
+        }
+        return backlog;
+    }
+}
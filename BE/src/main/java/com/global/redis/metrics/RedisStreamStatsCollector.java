@@ -0,0 +1,170 @@
+package com.global.redis.metrics;
+
+import static com.global.redis.constants.RedisConstants.REDIS_STREAM_STATS_ERROR;
+
+import com.global.redis.constants.RedisStreamKey;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 요청 스트림의 길이와 consumer group 상태를 주기적으로 측정해 게이지로 노출한다.
+ * <ul>
+ *     <li>{@code redis.stream.length{stream}} - XLEN</li>
+ *     <li>{@code redis.stream.group.lag{stream,group}} - 아직 전달되지 않은 메시지 수</li>
+ *     <li>{@code redis.stream.group.pending{stream,group}} - 전달됐지만 ACK 되지 않은 메시지 수</li>
+ * </ul>
+ * 측정 결과는 등록된 리스너(수용 제어 등)에도 전달되어, 같은 값을 위해 Redis 를 다시 조회하지 않는다.
+ */
+@Slf4j
+@Component
+public class RedisStreamStatsCollector {
+
+    public static final Set<RedisStreamKey> MONITORED_STREAMS = EnumSet.of(
+            RedisStreamKey.REVIEW_ASSET, RedisStreamKey.MENU_POSTER, RedisStreamKey.EVENT_ASSET,
+            RedisStreamKey.OCR_VERIFICATION, RedisStreamKey.OCR_MENU);
+
+    private static final String METRIC_LENGTH = "redis.stream.length";
+    private static final String METRIC_GROUP_LAG = "redis.stream.group.lag";
+    private static final String METRIC_GROUP_PENDING = "redis.stream.group.pending";
+    private static final String TAG_STREAM = "stream";
+    private static final String TAG_GROUP = "group";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_PENDING = "pending";
+    private static final String FIELD_LAG = "lag";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<RedisStreamKey, AtomicLong> lengths = new EnumMap<>(RedisStreamKey.class);
+    private final Map<RedisStreamKey, RedisStreamStats> latest = new EnumMap<>(RedisStreamKey.class);
+    private final MultiGauge groupLag;
+    private final MultiGauge groupPending;
+    private final List<BiConsumer<RedisStreamKey, RedisStreamStats>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisStreamStatsCollector(
+            @Qualifier("redisStreamTemplate") final RedisTemplate<String, String> redisTemplate,
+            final MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        for (RedisStreamKey streamKey : MONITORED_STREAMS) {
+            AtomicLong length = new AtomicLong();
+            lengths.put(streamKey, length);
+            latest.put(streamKey, RedisStreamStats.EMPTY);
+            Gauge.builder(METRIC_LENGTH, length, AtomicLong::get)
+                    .tag(TAG_STREAM, streamKey.value())
+                    .register(meterRegistry);
+        }
+        this.groupLag = MultiGauge.builder(METRIC_GROUP_LAG).register(meterRegistry);
+        this.groupPending = MultiGauge.builder(METRIC_GROUP_PENDING).register(meterRegistry);
+    }
+
+    /**
+     * 측정할 때마다 스트림별 결과를 받을 리스너를 등록한다. (측정 스레드에서 호출되므로 가볍게 처리해야 한다)
+     */
+    public void addListener(final BiConsumer<RedisStreamKey, RedisStreamStats> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 마지막 측정 결과 - 측정 전이면 빈 결과
+     */
+    public RedisStreamStats latest(final RedisStreamKey streamKey) {
+        synchronized (latest) {
+            return latest.getOrDefault(streamKey, RedisStreamStats.EMPTY);
+        }
+    }
+
+    /**
+     * 1초 간격으로 스트림별 상태를 측정한다. 측정에 실패한 스트림은 이전 값을 유지한다.
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void collect() {
+        List<MultiGauge.Row<?>> lagRows = new ArrayList<>();
+        List<MultiGauge.Row<?>> pendingRows = new ArrayList<>();
+
+        for (RedisStreamKey streamKey : MONITORED_STREAMS) {
+            RedisStreamStats stats;
+            try {
+                RedisStreamStats measured = inspect(streamKey);
+                lengths.get(streamKey).set(measured.length());
+                synchronized (latest) {
+                    latest.put(streamKey, measured);
+                }
+                listeners.forEach(listener -> listener.accept(streamKey, measured));
+                stats = measured;
+            } catch (Exception e) {
+                log.warn(REDIS_STREAM_STATS_ERROR, streamKey.value(), e.toString());
+                stats = latest(streamKey);
+            }
+
+            for (RedisStreamStats.GroupStats group : stats.groups()) {
+                Tags tags = Tags.of(TAG_STREAM, streamKey.value(), TAG_GROUP, group.name());
+                if (group.lag() != null) {
+                    lagRows.add(MultiGauge.Row.of(tags, group.lag()));
+                }
+                pendingRows.add(MultiGauge.Row.of(tags, group.pending()));
+            }
+        }
+
+        groupLag.register(lagRows, true);
+        groupPending.register(pendingRows, true);
+    }
+
+    private RedisStreamStats inspect(final RedisStreamKey streamKey) {
+        RedisStreamStats stats = redisTemplate.execute((RedisCallback<RedisStreamStats>) connection -> {
+            byte[] key = streamKey.value().getBytes(StandardCharsets.UTF_8);
+            long length = toLong(connection.execute("XLEN", key));
+            if (length == 0) {
+                // 키가 없으면 XINFO 가 실패하므로 생략 (빈 스트림은 적체도 없다)
+                return RedisStreamStats.EMPTY;
+            }
+
+            List<?> groups = (List<?>) connection.execute("XINFO", "GROUPS".getBytes(StandardCharsets.US_ASCII), key);
+            List<RedisStreamStats.GroupStats> groupStats = new ArrayList<>();
+            for (Object group : groups == null ? List.of() : groups) {
+                Map<String, Object> info = toInfo((List<?>) group);
+                Object lag = info.get(FIELD_LAG);
+                groupStats.add(new RedisStreamStats.GroupStats(
+                        toText(info.get(FIELD_NAME)), lag == null ? null : toLong(lag), toLong(info.get(FIELD_PENDING))));
+            }
+            return new RedisStreamStats(length, List.copyOf(groupStats));
+        });
+        return stats == null ? RedisStreamStats.EMPTY : stats;
+    }
+
+    private static Map<String, Object> toInfo(final List<?> flat) {
+        Map<String, Object> info = new HashMap<>(flat.size());
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            info.put(toText(flat.get(i)), flat.get(i + 1));
+        }
+        return info;
+    }
+
+    private static String toText(final Object value) {
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static long toLong(final Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value == null ? 0 : Long.parseLong(toText(value));
+    }
+}
@@ -0,0 +1,140 @@
+package com.global.redis.publisher;
+
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_CONNECTION_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_LUA_EXECUTION_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_PROCESSING_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_SERIALIZATION_FAILED;
+import static com.global.redis.constants.RedisConstants.REDIS_DELAY_MOVE_SCRIPT;
+import static com.global.redis.constants.RedisConstants.REDIS_DELAY_QUEUE_SCHEDULED_MESSAGE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.redis.constants.RedisStreamKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 시각까지 메시지를 붙잡아 두는 스트림별 지연 큐 (ZSET, score=실행 시각 ms)
+ * <p>
+ * 예약된 메시지는 스트림에 바로 들어가지 않으므로 consumer 가 아직 때가 아닌 메시지를 읽고 건너뛰며 돌지 않는다. 만기된 메시지는
+ * {@link RedisStreamDelayScheduler}가 주기적으로 Lua 스크립트 한 번에 최대 묶음 크기만큼 대상 스트림으로 옮긴다.
+ * <p>
+ * 멤버는 {@code [고유값, field, value, ...]} JSON 배열이다. 고유값 덕분에 내용이 같은 메시지도 각각 예약된다.
+ */
+@Slf4j
+@Component
+public class RedisStreamDelayQueue {
+
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>(REDIS_DELAY_MOVE_SCRIPT, Long.class);
+    private static final byte[] MOVE_SCRIPT_BYTES = REDIS_DELAY_MOVE_SCRIPT.getBytes(StandardCharsets.UTF_8);
+    private static final ObjectMapper MEMBER_MAPPER = new ObjectMapper();
+    private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+    private static final String NO_RETENTION = "0";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisStreamDelayQueue(final RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * field-value 맵을 dueAt 이후 대상 스트림에 발행되도록 예약한다.
+     *
+     * @param streamKeyEnum 대상 Stream 키(enum)
+     * @param fields        직렬화된 메시지 필드 (순서 유지)
+     * @param dueAt         발행 시각
+     */
+    public void schedule(final RedisStreamKey streamKeyEnum, final Map<String, String> fields, final Instant dueAt) {
+        byte[] key = streamKeyEnum.delayQueueKey().getBytes(StandardCharsets.UTF_8);
+        byte[] member = toMember(fields);
+        try {
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.zSetCommands().zAdd(key, dueAt.toEpochMilli(), member));
+            log.debug(REDIS_DELAY_QUEUE_SCHEDULED_MESSAGE, streamKeyEnum.value(), dueAt);
+        } catch (RedisConnectionFailureException e) {
+            throw new RuntimeException(ERROR_REDIS_CONNECTION_FAILED, e);
+        } catch (Exception e) {
+            throw new RuntimeException(ERROR_REDIS_PROCESSING_FAILED, e);
+        }
+    }
+
+    /**
+     * 실행 시각이 지난 메시지를 최대 limit 건 대상 스트림으로 옮긴다. (XADD 와 ZREM 이 한 스크립트에서 원자적으로 실행)
+     *
+     * @param streamKeyEnum 대상 Stream 키(enum)
+     * @param now           기준 시각
+     * @param limit         최대 이동 건수
+     * @return 옮긴 건수
+     */
+    public long moveDue(final RedisStreamKey streamKeyEnum, final Instant now, final int limit) {
+        String minId = streamKeyEnum.ttl().isPositive() ? streamKeyEnum.retentionMinId(now) : NO_RETENTION;
+        byte[][] keysAndArgs = {
+                bytes(streamKeyEnum.delayQueueKey()),
+                bytes(streamKeyEnum.value()),
+                bytes(Long.toString(now.toEpochMilli())),
+                bytes(Integer.toString(limit)),
+                bytes(Long.toString(streamKeyEnum.maxLen())),
+                bytes(minId)
+        };
+
+        try {
+            Long moved = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                RedisScriptingCommands scripting = connection.scriptingCommands();
+                try {
+                    return scripting.evalSha(MOVE_SCRIPT.getSha1(), ReturnType.INTEGER, 2, keysAndArgs);
+                } catch (RuntimeException e) {
+                    if (!isNoScriptError(e)) {
+                        throw e;
+                    }
+                    scripting.scriptLoad(MOVE_SCRIPT_BYTES);
+                    return scripting.evalSha(MOVE_SCRIPT.getSha1(), ReturnType.INTEGER, 2, keysAndArgs);
+                }
+            });
+            return moved == null ? 0 : moved;
+        } catch (RedisConnectionFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(String.format(ERROR_REDIS_LUA_EXECUTION_FAILED, streamKeyEnum.value()), e);
+        }
+    }
+
+    private byte[] toMember(final Map<String, String> fields) {
+        List<String> member = new ArrayList<>(1 + fields.size() * 2);
+        member.add(UUID.randomUUID().toString());
+        fields.forEach((field, value) -> {
+            member.add(field);
+            member.add(value);
+        });
+        try {
+            return MEMBER_MAPPER.writeValueAsBytes(member);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(ERROR_SERIALIZATION_FAILED, e);
+        }
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean isNoScriptError(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(NO_SCRIPT_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
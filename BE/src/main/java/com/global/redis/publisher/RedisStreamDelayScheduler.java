@@ -0,0 +1,57 @@
+package com.global.redis.publisher;
+
+import static com.global.redis.constants.RedisConstants.REDIS_DELAY_QUEUE_MOVED_MESSAGE;
+import static com.global.redis.constants.RedisConstants.REDIS_DELAY_QUEUE_MOVE_ERROR;
+import static com.global.redis.constants.RedisConstants.STREAM_DELAY_MOVE_BATCH_SIZE;
+import static com.global.redis.constants.RedisConstants.STREAM_DELAY_MOVE_MAX_ROUNDS;
+
+import com.global.redis.constants.RedisStreamKey;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지연 큐에서 실행 시각이 지난 메시지를 대상 스트림으로 옮기는 스케줄러
+ * <p>
+ * 주기마다 스트림별로 최대 {@code 묶음 크기 x 횟수}만큼만 옮겨, 한꺼번에 만기된 재시도가 consumer 에 몰리지 않고 다음 주기로
+ * 나뉘어 들어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStreamDelayScheduler {
+
+    private final RedisStreamDelayQueue delayQueue;
+
+    /**
+     * 1초 간격으로 만기 메시지 이동
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void moveDueMessages() {
+        Instant now = Instant.now();
+        for (RedisStreamKey streamKey : RedisStreamKey.values()) {
+            try {
+                long moved = moveDue(streamKey, now);
+                if (moved > 0) {
+                    log.debug(REDIS_DELAY_QUEUE_MOVED_MESSAGE, streamKey.value(), moved);
+                }
+            } catch (Exception e) {
+                log.error(REDIS_DELAY_QUEUE_MOVE_ERROR, streamKey.value(), e);
+            }
+        }
+    }
+
+    private long moveDue(final RedisStreamKey streamKey, final Instant now) {
+        long total = 0;
+        for (int round = 0; round < STREAM_DELAY_MOVE_MAX_ROUNDS; round++) {
+            long moved = delayQueue.moveDue(streamKey, now, STREAM_DELAY_MOVE_BATCH_SIZE);
+            total += moved;
+            if (moved < STREAM_DELAY_MOVE_BATCH_SIZE) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,340 @@
+package com.global.redis.publisher;
+
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_ARG_SERIALIZATION_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_CONNECTION_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_LUA_EXECUTION_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_PROCESSING_FAILED;
+import static com.global.redis.constants.RedisConstants.ERROR_REDIS_STREAM_KEY_SERIALIZATION_FAILED;
+import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_BATCH_SUCCESS_MESSAGE;
+import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_CONNECTION_ERROR;
+import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_SUCCESS_MESSAGE;
+import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_UNEXPECTED_ERROR;
+import static com.global.redis.constants.RedisConstants.REDIS_XADD_SCRIPT;
+import static com.global.redis.constants.RedisConstants.STREAM_PUBLISH_LINGER;
+import static com.global.redis.constants.RedisConstants.STREAM_PUBLISH_MAX_BATCH_SIZE;
+
+import com.global.redis.constants.RedisStreamKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 직렬화된 field-value 맵을 Lua XADD(MAXLEN ~) 스크립트로 Redis Stream에 발행한다. 같은 스크립트에서 스트림 ttl보다 오래된
+ * 메시지를 {@code XTRIM MINID ~}로 함께 정리한다.
+ * <p>
+ * 스크립트 본문은 매번 보내지 않고 SHA1 으로 {@code EVALSHA} 호출한다. 서버 스크립트 캐시에 없으면({@code NOSCRIPT} - 재시작,
+ * {@code SCRIPT FLUSH}) {@code SCRIPT LOAD} 후 한 번 더 호출한다.
+ * <p>
+ * {@link RedisStreamPublisher}와 아웃박스 릴레이가 공통으로 사용한다. {@link #publishAsync}는 스트림별
+ * {@link RedisStreamMicroBatcher}로 짧은 시간의 요청을 묶어 발행하며, 빈 종료 시 대기 중인 묶음을 발행한 뒤 flush 스레드를 정리한다.
+ * <p>
+ * 스트림별 발행 메트릭:
+ * <ul>
+ *     <li>{@code redis.stream.published{stream,outcome}} - 발행 메시지 수 (rate 로 발행률)</li>
+ *     <li>{@code redis.stream.publish.latency{stream,outcome}} - 발행 호출(단건/묶음) 소요 시간 히스토그램</li>
+ *     <li>{@code redis.stream.payload.size{stream}} - 메시지 field-value 바이트 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RedisStreamFieldPublisher {
+
+    private static final RedisScript<Object> XADD_SCRIPT = new DefaultRedisScript<>(REDIS_XADD_SCRIPT);
+    private static final byte[] XADD_SCRIPT_BYTES = REDIS_XADD_SCRIPT.getBytes(StandardCharsets.UTF_8);
+    private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+    private static final String NO_RETENTION = "0";
+    private static final long FLUSHER_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final String METRIC_PUBLISHED = "redis.stream.published";
+    private static final String METRIC_PUBLISH_LATENCY = "redis.stream.publish.latency";
+    private static final String METRIC_PAYLOAD_SIZE = "redis.stream.payload.size";
+    private static final String TAG_STREAM = "stream";
+    private static final String TAG_OUTCOME = "outcome";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<RedisStreamKey, PublishMeters> meters = new ConcurrentHashMap<>();
+    private final Map<RedisStreamKey, RedisStreamMicroBatcher> batchers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("redis-stream-batcher").daemon().factory());
+
+    public RedisStreamFieldPublisher(final RedisTemplate<String, Object> redisTemplate,
+                                     final MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 스트림별 발행 메트릭 - 발행마다 레지스트리를 조회하지 않도록 스트림당 한 번 만든다.
+     */
+    private record PublishMeters(Counter succeeded, Counter failed, Timer successLatency, Timer failureLatency,
+                                 DistributionSummary payloadSize) {
+
+        private static PublishMeters of(final RedisStreamKey streamKey, final MeterRegistry registry) {
+            String stream = streamKey.value();
+            return new PublishMeters(
+                    Counter.builder(METRIC_PUBLISHED).tags(TAG_STREAM, stream, TAG_OUTCOME, "success")
+                            .register(registry),
+                    Counter.builder(METRIC_PUBLISHED).tags(TAG_STREAM, stream, TAG_OUTCOME, "failure")
+                            .register(registry),
+                    latency(stream, "success", registry),
+                    latency(stream, "failure", registry),
+                    DistributionSummary.builder(METRIC_PAYLOAD_SIZE).tags(TAG_STREAM, stream).baseUnit("bytes")
+                            .publishPercentileHistogram().register(registry));
+        }
+
+        private static Timer latency(final String stream, final String outcome, final MeterRegistry registry) {
+            return Timer.builder(METRIC_PUBLISH_LATENCY).tags(TAG_STREAM, stream, TAG_OUTCOME, outcome)
+                    .publishPercentileHistogram().register(registry);
+        }
+
+        private void record(final boolean success, final int messages, final long startNanos) {
+            long elapsed = System.nanoTime() - startNanos;
+            if (success) {
+                succeeded.increment(messages);
+                successLatency.record(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                failed.increment(messages);
+                failureLatency.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * field-value 맵을 지정된 스트림에 발행한다.
+     *
+     * @param streamKeyEnum 발행 대상 Stream 키(enum)
+     * @param fields        직렬화된 메시지 필드 (순서 유지)
+     */
+    public void publish(final RedisStreamKey streamKeyEnum, final Map<String, String> fields) {
+        String streamKey = streamKeyEnum.value();
+        long maxLen = streamKeyEnum.maxLen();
+        PublishMeters publishMeters = metersOf(streamKeyEnum);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            byte[][] keysAndArgs = prepareKeysAndArgs(streamKey, maxLen, retentionMinId(streamKeyEnum), fields);
+            publishMeters.payloadSize().record(payloadSize(keysAndArgs));
+            executeStreamInsertScript(streamKey, keysAndArgs);
+            success = true;
+
+            log.debug(REDIS_PUBLISHER_SUCCESS_MESSAGE, streamKey);
+        } catch (RedisConnectionFailureException e) {
+            log.error(REDIS_PUBLISHER_CONNECTION_ERROR, streamKey, e);
+            throw new RuntimeException(ERROR_REDIS_CONNECTION_FAILED, e);
+        } catch (Exception e) {
+            log.error(REDIS_PUBLISHER_UNEXPECTED_ERROR, streamKey, e.toString());
+            throw new RuntimeException(ERROR_REDIS_PROCESSING_FAILED, e);
+        } finally {
+            publishMeters.record(success, 1, start);
+        }
+    }
+
+    /**
+     * 여러 메시지를 하나의 파이프라인(EVALSHA 묶음)으로 발행한다 - 왕복 한 번에 모두 전송한다.
+     *
+     * @param streamKeyEnum 발행 대상 Stream 키(enum)
+     * @param batch         직렬화된 메시지 필드 목록 (발행 순서 유지)
+     */
+    public void publishAll(final RedisStreamKey streamKeyEnum, final List<Map<String, String>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        String streamKey = streamKeyEnum.value();
+        long maxLen = streamKeyEnum.maxLen();
+        PublishMeters publishMeters = metersOf(streamKeyEnum);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            byte[] minId = retentionMinId(streamKeyEnum);
+            List<byte[][]> commands = new ArrayList<>(batch.size());
+            for (Map<String, String> fields : batch) {
+                byte[][] keysAndArgs = prepareKeysAndArgs(streamKey, maxLen, minId, fields);
+                publishMeters.payloadSize().record(payloadSize(keysAndArgs));
+                commands.add(keysAndArgs);
+            }
+            executeStreamInsertPipeline(streamKey, commands);
+            success = true;
+
+            log.debug(REDIS_PUBLISHER_BATCH_SUCCESS_MESSAGE, streamKey, batch.size());
+        } catch (RedisConnectionFailureException e) {
+            log.error(REDIS_PUBLISHER_CONNECTION_ERROR, streamKey, e);
+            throw new RuntimeException(ERROR_REDIS_CONNECTION_FAILED, e);
+        } catch (Exception e) {
+            log.error(REDIS_PUBLISHER_UNEXPECTED_ERROR, streamKey, e.toString());
+            throw new RuntimeException(ERROR_REDIS_PROCESSING_FAILED, e);
+        } finally {
+            publishMeters.record(success, batch.size(), start);
+        }
+    }
+
+    /**
+     * 메시지를 비동기로 발행한다. 짧은 시간(linger) 동안 들어온 같은 스트림의 메시지를 모아 한 번의 파이프라인으로 발행한다.
+     *
+     * @return 메시지가 포함된 묶음이 발행되면 완료되는 future (실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> publishAsync(final RedisStreamKey streamKeyEnum, final Map<String, String> fields) {
+        return batchers.computeIfAbsent(streamKeyEnum, key -> new RedisStreamMicroBatcher(
+                        flusher, key, this, STREAM_PUBLISH_LINGER, STREAM_PUBLISH_MAX_BATCH_SIZE))
+                .submit(fields);
+    }
+
+    /**
+     * 종료 시 예약된 flush(대기 중인 묶음)를 모두 실행한 뒤 flush 스레드를 정리한다. 이후 요청은 호출 스레드에서 바로 발행된다.
+     */
+    @PreDestroy
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(FLUSHER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PublishMeters metersOf(final RedisStreamKey streamKeyEnum) {
+        return meters.computeIfAbsent(streamKeyEnum, key -> PublishMeters.of(key, meterRegistry));
+    }
+
+    /**
+     * 메시지 field-value 부분(ARGV[3..])의 바이트 수
+     */
+    private static long payloadSize(final byte[][] keysAndArgs) {
+        long size = 0;
+        for (int i = 3; i < keysAndArgs.length; i++) {
+            size += keysAndArgs[i].length;
+        }
+        return size;
+    }
+
+    /**
+     * 발행과 함께 정리할 보존 기간 경계 ID - ttl이 없는 스트림은 "0"(정리 안 함)
+     */
+    private byte[] retentionMinId(final RedisStreamKey streamKeyEnum) {
+        String minId = streamKeyEnum.ttl().isPositive() ? streamKeyEnum.retentionMinId(Instant.now()) : NO_RETENTION;
+        return minId.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * streamKey, maxLen, minId, field-value 쌍을 UTF-8 바이트로 바로 인코딩하여 Lua KEYS + ARGV 배열을 구성한다.
+     */
+    private byte[][] prepareKeysAndArgs(final String streamKey, final long maxLen, final byte[] minId,
+                                        final Map<String, String> fields) {
+        byte[][] keysAndArgs = new byte[3 + fields.size() * 2][];
+        keysAndArgs[0] = encode(streamKey, ERROR_REDIS_STREAM_KEY_SERIALIZATION_FAILED);
+        keysAndArgs[1] = Long.toString(maxLen).getBytes(StandardCharsets.US_ASCII);
+        keysAndArgs[2] = minId;
+
+        int index = 3;
+        for (Map.Entry<String, String> entry : fields.entrySet()) {
+            keysAndArgs[index++] = encode(entry.getKey(), ERROR_REDIS_ARG_SERIALIZATION_FAILED);
+            keysAndArgs[index++] = encode(entry.getValue(), ERROR_REDIS_ARG_SERIALIZATION_FAILED);
+        }
+        return keysAndArgs;
+    }
+
+    private byte[] encode(final String value, final String errorFormat) {
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException(String.format(errorFormat, value));
+        }
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lua 스크립트를 EVALSHA 로 실행한다. 스크립트 캐시에 없으면 로드 후 재시도한다.
+     *
+     * @param streamKey   Redis Stream 키 (오류 메시지용)
+     * @param keysAndArgs 직렬화된 KEYS[1] + ARGV[*]
+     */
+    private void executeStreamInsertScript(final String streamKey, final byte[][] keysAndArgs) {
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                RedisScriptingCommands scripting = connection.scriptingCommands();
+                try {
+                    return scripting.evalSha(XADD_SCRIPT.getSha1(), ReturnType.VALUE, 1, keysAndArgs);
+                } catch (RuntimeException e) {
+                    if (!isNoScriptError(e)) {
+                        throw e;
+                    }
+                    scripting.scriptLoad(XADD_SCRIPT_BYTES);
+                    return scripting.evalSha(XADD_SCRIPT.getSha1(), ReturnType.VALUE, 1, keysAndArgs);
+                }
+            });
+        } catch (RedisConnectionFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(String.format(ERROR_REDIS_LUA_EXECUTION_FAILED, streamKey), e);
+        }
+    }
+
+    /**
+     * EVALSHA 묶음을 파이프라인으로 실행한다. 스크립트 캐시에 없으면 묶음 전체가 NOSCRIPT 로 실패하므로 로드 후 다시 보낸다.
+     */
+    private void executeStreamInsertPipeline(final String streamKey, final List<byte[][]> commands) {
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                try {
+                    return pipeline(connection, commands);
+                } catch (RuntimeException e) {
+                    if (!isNoScriptError(e)) {
+                        throw e;
+                    }
+                    connection.scriptingCommands().scriptLoad(XADD_SCRIPT_BYTES);
+                    return pipeline(connection, commands);
+                }
+            });
+        } catch (RedisConnectionFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(String.format(ERROR_REDIS_LUA_EXECUTION_FAILED, streamKey), e);
+        }
+    }
+
+    private List<Object> pipeline(final RedisConnection connection, final List<byte[][]> commands) {
+        connection.openPipeline();
+        try {
+            for (byte[][] keysAndArgs : commands) {
+                connection.scriptingCommands().evalSha(XADD_SCRIPT.getSha1(), ReturnType.VALUE, 1, keysAndArgs);
+            }
+        } catch (RuntimeException e) {
+            connection.closePipeline();
+            throw e;
+        }
+        return connection.closePipeline();
+    }
+
+    private boolean isNoScriptError(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(NO_SCRIPT_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
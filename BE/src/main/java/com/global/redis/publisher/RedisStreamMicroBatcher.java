@@ -0,0 +1,107 @@
+package com.global.redis.publisher;
+
+import com.global.redis.constants.RedisStreamKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스트림 하나에 대한 발행 요청을 짧은 시간(linger) 동안 모아 한 번의 파이프라인으로 발행한다.
+ * <p>
+ * 첫 요청이 들어오면 linger 후 flush 를 예약하고, 그 사이 최대 묶음 크기에 도달하면 바로 flush 한다. flush 는
+ * {@link RedisStreamFieldPublisher}가 소유한 단일 스레드에서 실행되며, 묶음 결과(성공/실패)를 각 요청의 future 로 전달한다.
+ * 종료 중이라 flush 를 예약할 수 없으면 호출 스레드에서 바로 발행한다.
+ */
+final class RedisStreamMicroBatcher {
+
+    private final ScheduledExecutorService flusher;
+    private final RedisStreamKey streamKey;
+    private final RedisStreamFieldPublisher fieldPublisher;
+    private final Duration linger;
+    private final int maxBatchSize;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    RedisStreamMicroBatcher(final ScheduledExecutorService flusher, final RedisStreamKey streamKey,
+                            final RedisStreamFieldPublisher fieldPublisher, final Duration linger,
+                            final int maxBatchSize) {
+        this.flusher = flusher;
+        this.streamKey = streamKey;
+        this.fieldPublisher = fieldPublisher;
+        this.linger = linger;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    private record Pending(Map<String, String> fields, CompletableFuture<Void> future) {
+    }
+
+    /**
+     * 발행 요청을 묶음에 추가한다.
+     *
+     * @return 요청이 포함된 묶음이 발행되면 완료되는 future
+     */
+    CompletableFuture<Void> submit(final Map<String, String> fields) {
+        Pending pending = new Pending(fields, new CompletableFuture<>());
+        queue.add(pending);
+
+        try {
+            if (queued.incrementAndGet() >= maxBatchSize) {
+                flusher.execute(this::flush);
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                flusher.schedule(this::flush, linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+        return pending.future();
+    }
+
+    /**
+     * 쌓인 요청을 최대 묶음 크기 단위로 모두 발행한다.
+     */
+    private void flush() {
+        // 다음 요청이 새 flush 를 예약할 수 있도록 먼저 해제 - 이번 flush 가 가져가지 못한 요청은 다음 flush 가 처리한다.
+        flushScheduled.set(false);
+
+        List<Pending> batch = drain();
+        while (!batch.isEmpty()) {
+            publish(batch);
+            batch = drain();
+        }
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = new ArrayList<>(Math.min(queued.get(), maxBatchSize));
+        Pending pending;
+        while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void publish(final List<Pending> batch) {
+        List<Map<String, String>> fields = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            fields.add(pending.fields());
+        }
+
+        try {
+            fieldPublisher.publishAll(streamKey, fields);
+            batch.forEach(pending -> pending.future().complete(null));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+}
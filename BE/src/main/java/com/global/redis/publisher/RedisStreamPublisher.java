@@ -1,38 +1,21 @@
 package com.global.redis.publisher;
 
-import static com.global.redis.constants.RedisConstants.ERROR_REDIS_ARG_SERIALIZATION_FAILED;
-import static com.global.redis.constants.RedisConstants.ERROR_REDIS_CONNECTION_FAILED;
-import static com.global.redis.constants.RedisConstants.ERROR_REDIS_LUA_EXECUTION_FAILED;
-import static com.global.redis.constants.RedisConstants.ERROR_REDIS_PROCESSING_FAILED;
-import static com.global.redis.constants.RedisConstants.ERROR_REDIS_STREAM_KEY_SERIALIZATION_FAILED;
 import static com.global.redis.constants.RedisConstants.ERROR_SERIALIZATION_FAILED;
-import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_CONNECTION_ERROR;
+import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_PUBLISHING_BATCH_MESSAGE;
 import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_PUBLISHING_MESSAGE;
 import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_SERIALIZATION_ERROR;
-import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_SUCCESS_MESSAGE;
-import static com.global.redis.constants.RedisConstants.REDIS_PUBLISHER_UNEXPECTED_ERROR;
-import static com.global.redis.constants.RedisConstants.REDIS_XADD_SCRIPT;
+import static com.global.redis.constants.RedisConstants.STREAM_PUBLISH_MAX_BATCH_SIZE;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.global.redis.constants.RedisStreamKey;
 import com.global.redis.dto.RedisRetryableMessage;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.data.redis.connection.ReturnType;
-import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.RedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 // @formatter:off
 /**
@@ -47,18 +30,23 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Slf4j
 public abstract class RedisStreamPublisher<T extends RedisRetryableMessage> implements RedisStreamWriter<T> {
 
-    private final RedisTemplate<String, Object> redisTemplate;    // Redis 작업을 위한 템플릿
+    private final RedisStreamFieldPublisher fieldPublisher;       // 직렬화된 필드의 XADD 발행
+    private final RedisStreamDelayQueue delayQueue;               // 실행 시각까지 대기하는 지연 발행
     private final ObjectMapper objectMapper;                      // JSON 변환을 위한 매퍼
+    private final Map<Class<?>, StreamMessageSchema<?>> schemas = new ConcurrentHashMap<>();       // 타입별 직렬화기
 
     /**
      * RedisStreamPublisher 생성자
      *
-     * @param redisTemplate Redis 작업을 위한 템플릿
-     * @param objectMapper  JSON 변환을 위한 매퍼
+     * @param fieldPublisher 직렬화된 필드를 발행하는 공용 발행기 빈
+     * @param delayQueue     지연 발행을 담당하는 공용 지연 큐 빈
+     * @param objectMapper   JSON 변환을 위한 매퍼
      */
-    protected RedisStreamPublisher(final RedisTemplate<String, Object> redisTemplate,
+    protected RedisStreamPublisher(final RedisStreamFieldPublisher fieldPublisher,
+                                   final RedisStreamDelayQueue delayQueue,
                                    final ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
+        this.fieldPublisher = fieldPublisher;
+        this.delayQueue = delayQueue;
         this.objectMapper = objectMapper;
     }
 
@@ -67,161 +55,76 @@ public abstract class RedisStreamPublisher<T extends RedisRetryableMessage> impl
         publishToStreamWithMaxLen(key, payload); // 기존 protected 메서드 호출
     }
 
-    /**
-     * Lua 스크립트를 이용해 메시지 수를 제한하여 Redis Stream에 메시지를 안정적으로 발행한다.
-     *
-     * @param streamKeyEnum 발행 대상 Stream 키(enum)
-     * @param payload       전송할 메시지 객체
-     */
-    protected void publishToStreamWithMaxLen(final RedisStreamKey streamKeyEnum, final T payload) {
-        String streamKey = streamKeyEnum.value();
-        long maxLen = streamKeyEnum.maxLen();
-        try {
-            log.debug(REDIS_PUBLISHER_PUBLISHING_MESSAGE, streamKey, maxLen, payload);
-
-            Map<String, Object> map = convertPayloadToMap(payload);
-            List<Object> args = buildScriptArguments(maxLen, map);
-            executeStreamInsertScript(streamKey, args);
+    @Override
+    public void publishAll(final RedisStreamKey key, final List<T> payloads) {
+        log.debug(REDIS_PUBLISHER_PUBLISHING_BATCH_MESSAGE, key.value(), key.maxLen(), payloads.size());
+        List<Map<String, String>> batch = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            batch.add(toStreamFields(key, payload));
+        }
 
-            log.debug(REDIS_PUBLISHER_SUCCESS_MESSAGE, streamKey);
-        } catch (IllegalArgumentException e) {
-            log.warn(REDIS_PUBLISHER_SERIALIZATION_ERROR, streamKey, e.toString());
-            throw new RuntimeException(ERROR_SERIALIZATION_FAILED, e);
-        } catch (RedisConnectionFailureException e) {
-            log.error(REDIS_PUBLISHER_CONNECTION_ERROR, streamKey, e);
-            throw new RuntimeException(ERROR_REDIS_CONNECTION_FAILED, e);
-        } catch (Exception e) {
-            log.error(REDIS_PUBLISHER_UNEXPECTED_ERROR, streamKey, e.toString());
-            throw new RuntimeException(ERROR_REDIS_PROCESSING_FAILED, e);
+        for (int from = 0; from < batch.size(); from += STREAM_PUBLISH_MAX_BATCH_SIZE) {
+            int to = Math.min(from + STREAM_PUBLISH_MAX_BATCH_SIZE, batch.size());
+            fieldPublisher.publishAll(key, batch.subList(from, to));
         }
     }
 
-    /**
-     * payload 객체를 Map<String, Object> 형태로 변환한다.
-     *
-     * @param payload 직렬화 대상 객체
-     * @return key-value 쌍의 Map (Redis field-value 구조용)
-     */
-    private Map<String, Object> convertPayloadToMap(final T payload) {
-        return objectMapper.convertValue(payload, new TypeReference<>() {});
+    @Override
+    public CompletableFuture<Void> publishAsync(final RedisStreamKey key, final T payload) {
+        final Map<String, String> fields;
+        try {
+            fields = toStreamFields(key, payload);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return fieldPublisher.publishAsync(key, fields);
     }
 
-    /**
-     * Lua XADD 스크립트용 인자 목록(maxLen, field-value)을 구성한다.
-     * - Collection/Map은 JSON 문자열로 직렬화
-     * - Instant/OffsetDateTime/ZonedDateTime은 ISO-8601 문자열
-     * - 그 외는 String.valueOf
-     *
-     * @param maxLen     최대 메시지 수
-     * @param payloadMap 메시지 필드 맵
-     * @return Lua ARGV용 인자 리스트
-     */
-    private List<Object> buildScriptArguments(final long maxLen, final Map<String, Object> payloadMap) {
-        List<Object> args = new ArrayList<>();
-        args.add(String.valueOf(maxLen));
-
-        for (Map.Entry<String, Object> entry : payloadMap.entrySet()) {
-            args.add(entry.getKey());
-            Object v = entry.getValue();
-
-            try {
-                if (v == null) {
-                    args.add("null");
-                } else if (v instanceof CharSequence) {
-                    args.add(v.toString());
-                } else if (v instanceof Collection || v instanceof Map) {
-                    // 복합 타입은 반드시 JSON 문자열로
-                    args.add(objectMapper.writeValueAsString(v));
-                } else if (v instanceof Instant) {
-                    args.add(((Instant) v).toString()); // ISO-8601 UTC
-                } else if (v instanceof OffsetDateTime) {
-                    args.add(((OffsetDateTime) v).toString()); // ISO-8601
-                } else if (v instanceof ZonedDateTime) {
-                    args.add(((ZonedDateTime) v).toString()); // ISO-8601
-                } else {
-                    // 숫자/불리언/기타 단순 타입
-                    args.add(String.valueOf(v));
-                }
-            } catch (Exception ex) {
-                // JSON 직렬화 실패 등은 명확히 올림
-                throw new IllegalArgumentException("Failed to serialize field '" + entry.getKey() + "'", ex);
-            }
-        }
-        return args;
+    @Override
+    public void publishAt(final RedisStreamKey key, final T payload, final Instant dueAt) {
+        delayQueue.schedule(key, toStreamFields(key, payload), dueAt);
     }
 
     /**
-     * Redis에 Lua 스크립트를 실행하여 메시지를 추가 (MAXLEN 포함)
-     *
-     * @param streamKey Redis Stream 키
-     * @param args      Lua 스크립트에 전달할 ARGV 리스트
+     * 종료 시 묶음 대기 중인 메시지를 발행하고 flush 스레드를 정리한다.
      */
-    private void executeStreamInsertScript(final String streamKey, final List<Object> args) {
-        try {
-            byte[][] keysAndArgs = prepareKeysAndArgs(streamKey, args);
-            evalScript(keysAndArgs);
-        } catch (Exception e) {
-            throw new RuntimeException(String.format(ERROR_REDIS_LUA_EXECUTION_FAILED, streamKey), e);
-        }
-    }
-
     /**
-     * streamKey와 인자 리스트를 직렬화하여 Lua KEYS + ARGV 배열을 구성한다.
+     * Lua 스크립트를 이용해 메시지 수를 제한하여 Redis Stream에 메시지를 안정적으로 발행한다.
      *
-     * @param streamKey Redis Stream 키
-     * @param args      field-value 쌍 포함 인자 리스트
-     * @return 직렬화된 바이트 배열
+     * @param streamKeyEnum 발행 대상 Stream 키(enum)
+     * @param payload       전송할 메시지 객체
      */
-    private byte[][] prepareKeysAndArgs(final String streamKey, final List<Object> args) {
-        RedisSerializer<String> serializer = new StringRedisSerializer();
-
-        byte[] rawKey = serializer.serialize(streamKey);
-        if (Objects.isNull(rawKey)) {
-            throw new IllegalArgumentException(String.format(ERROR_REDIS_STREAM_KEY_SERIALIZATION_FAILED, streamKey));
-        }
-
-        byte[][] argBytes = serializeArgs(args, serializer);
-
-        byte[][] keysAndArgs = new byte[1 + argBytes.length][];
-        keysAndArgs[0] = rawKey;
-        System.arraycopy(argBytes, 0, keysAndArgs, 1, argBytes.length);
-
-        return keysAndArgs;
+    protected void publishToStreamWithMaxLen(final RedisStreamKey streamKeyEnum, final T payload) {
+        log.debug(REDIS_PUBLISHER_PUBLISHING_MESSAGE, streamKeyEnum.value(), streamKeyEnum.maxLen(), payload);
+        fieldPublisher.publish(streamKeyEnum, toStreamFields(streamKeyEnum, payload));
     }
 
     /**
-     * field-value 등 Lua ARGV 인자를 직렬화한다.
+     * payload를 Redis Stream field-value 맵으로 직렬화한다. (아웃박스 저장 등 발행 전 직렬화가 필요할 때 사용)
+     * - Collection/Map은 JSON 문자열로 직렬화
+     * - Instant/OffsetDateTime/ZonedDateTime은 ISO-8601 문자열
+     * - 그 외는 String.valueOf
+     * 규칙은 타입별로 미리 만든 {@link StreamMessageSchema}가 적용한다.
      *
-     * @param args       field-value 등 ARGV 값
-     * @param serializer Redis 문자열 직렬화기
-     * @return 직렬화된 byte 배열
+     * @param streamKeyEnum 발행 대상 Stream 키(enum, 오류 로그용)
+     * @param payload       직렬화 대상 객체
+     * @return 필드 순서가 유지되는 field-value 맵
      */
-    private byte[][] serializeArgs(final List<Object> args, final RedisSerializer<String> serializer) {
-        return args.stream()
-                .map(arg -> {
-                    byte[] encoded = serializer.serialize(arg.toString());
-                    if (Objects.isNull(encoded)) {
-                        throw new IllegalArgumentException(String.format(ERROR_REDIS_ARG_SERIALIZATION_FAILED, arg));
-                    }
-                    return encoded;
-                })
-                .toArray(byte[][]::new);
+    public Map<String, String> toStreamFields(final RedisStreamKey streamKeyEnum, final T payload) {
+        try {
+            return schemaOf(payload).write(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn(REDIS_PUBLISHER_SERIALIZATION_ERROR, streamKeyEnum.value(), e.toString());
+            throw new RuntimeException(ERROR_SERIALIZATION_FAILED, e);
+        }
     }
 
     /**
-     * Lua 스크립트를 Redis에 실행한다.
-     *
-     * @param keysAndArgs 직렬화된 KEYS[1] + ARGV[*]
+     * payload 클래스의 직렬화기 - 클래스당 한 번만 만든다.
      */
-    private void evalScript(final byte[][] keysAndArgs) {
-        redisTemplate.execute((RedisCallback<Object>) connection -> {
-            connection.scriptingCommands().eval(
-                    REDIS_XADD_SCRIPT.getBytes(StandardCharsets.UTF_8),
-                    ReturnType.VALUE,
-                    1,
-                    keysAndArgs
-            );
-            return null;
-        });
+    @SuppressWarnings("unchecked")
+    private StreamMessageSchema<T> schemaOf(final T payload) {
+        return (StreamMessageSchema<T>) schemas.computeIfAbsent(payload.getClass(),
+                type -> StreamMessageSchema.compile(type, objectMapper));
     }
 }
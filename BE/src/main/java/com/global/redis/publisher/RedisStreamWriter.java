@@ -1,6 +1,9 @@
 package com.global.redis.publisher;
 
 import com.global.redis.constants.RedisStreamKey;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * RedisStreamPublisher와 같은 퍼블리셔 구현체가 이 인터페이스를 통해 Redis Stream 메시지 발행 책임을 위임받는다.
@@ -16,4 +19,30 @@ public interface RedisStreamWriter<T> {
      * @param payload 발행할 메시지 객체
      */
     void publish(RedisStreamKey key, T payload);
+
+    /**
+     * 여러 메시지를 한 번의 왕복(파이프라인)으로 발행한다.
+     *
+     * @param key      대상 Redis Stream 키
+     * @param payloads 발행할 메시지 목록 (순서 유지)
+     */
+    void publishAll(RedisStreamKey key, List<T> payloads);
+
+    /**
+     * 메시지를 비동기로 발행한다. 짧은 시간 동안 들어온 같은 스트림의 메시지를 모아 한 번에 발행한다.
+     *
+     * @param key     대상 Redis Stream 키
+     * @param payload 발행할 메시지 객체
+     * @return 메시지가 포함된 묶음이 발행되면 완료되는 future (실패 시 예외로 완료)
+     */
+    CompletableFuture<Void> publishAsync(RedisStreamKey key, T payload);
+
+    /**
+     * 메시지를 지연 큐에 넣어 dueAt 이후 스트림에 발행되도록 예약한다. (재시도 백오프 등)
+     *
+     * @param key     대상 Redis Stream 키
+     * @param payload 발행할 메시지 객체
+     * @param dueAt   발행 시각
+     */
+    void publishAt(RedisStreamKey key, T payload, Instant dueAt);
 }
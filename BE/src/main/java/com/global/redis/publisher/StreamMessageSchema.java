@@ -0,0 +1,159 @@
+package com.global.redis.publisher;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메시지 타입별로 한 번만 만들어 두는 Redis Stream field-value 직렬화기
+ * <p>
+ * Jackson 이 보는 프로퍼티(이름, 순서, {@code @JsonInclude}, {@code @JsonIgnore})를 클래스당 한 번 분석하고, 프로퍼티 타입에 맞는
+ * 값 변환기를 미리 골라 둔다. 발행 시에는 {@code convertValue} 로 중간 Map 을 만들지 않고 접근자를 바로 호출한다.
+ * <ul>
+ *     <li>문자열/숫자/불리언 - {@code String.valueOf}</li>
+ *     <li>enum - Jackson 직렬화 값 (상수별로 미리 계산)</li>
+ *     <li>날짜/시간 - ISO-8601 ({@code toString})</li>
+ *     <li>그 외(Collection/Map/객체) - 타입별 {@link ObjectWriter} 로 JSON 문자열</li>
+ * </ul>
+ *
+ * @param <T> 메시지 타입
+ */
+final class StreamMessageSchema<T> {
+
+    private static final String NULL_VALUE = "null";
+    private static final Set<Class<?>> ISO_TEMPORAL_TYPES = Set.of(
+            Instant.class, OffsetDateTime.class, ZonedDateTime.class, LocalDate.class, LocalDateTime.class);
+
+    private final List<FieldWriter> fields;
+
+    private StreamMessageSchema(final List<FieldWriter> fields) {
+        this.fields = fields;
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+
+        String write(Object value) throws JsonProcessingException;
+    }
+
+    private record FieldWriter(String name, AnnotatedMember accessor, boolean skipNull, ValueWriter valueWriter) {
+    }
+
+    /**
+     * 메시지 클래스의 직렬화기를 만든다.
+     */
+    static <T> StreamMessageSchema<T> compile(final Class<T> type, final ObjectMapper objectMapper) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        BeanDescription description = config.introspect(objectMapper.constructType(type));
+        JsonInclude.Value classInclusion = description.findPropertyInclusion(config.getDefaultPropertyInclusion(type));
+
+        List<FieldWriter> fields = new ArrayList<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null) {
+                continue;
+            }
+            if (config.canOverrideAccessModifiers()) {
+                accessor.fixAccess(config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS));
+            }
+
+            JsonInclude.Include inclusion = classInclusion.withOverrides(property.findInclusion()).getValueInclusion();
+            boolean skipNull = inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+            fields.add(new FieldWriter(property.getName(), accessor, skipNull,
+                    valueWriterFor(accessor.getType(), objectMapper)));
+        }
+        return new StreamMessageSchema<>(List.copyOf(fields));
+    }
+
+    /**
+     * payload 를 필드 순서가 유지되는 field-value 맵으로 직렬화한다.
+     *
+     * @throws IllegalArgumentException 접근자 호출 또는 JSON 직렬화 실패
+     */
+    Map<String, String> write(final T payload) {
+        Map<String, String> result = new LinkedHashMap<>(fields.size() * 2);
+        for (FieldWriter field : fields) {
+            Object value = field.accessor().getValue(payload);
+            if (value == null) {
+                if (!field.skipNull()) {
+                    result.put(field.name(), NULL_VALUE);
+                }
+                continue;
+            }
+
+            try {
+                result.put(field.name(), field.valueWriter().write(value));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to serialize field '" + field.name() + "'", e);
+            }
+        }
+        return result;
+    }
+
+    private static ValueWriter valueWriterFor(final JavaType type, final ObjectMapper objectMapper) {
+        Class<?> raw = type.getRawClass();
+
+        if (CharSequence.class.isAssignableFrom(raw) || type.isPrimitive()
+                || Number.class.isAssignableFrom(raw) || raw == Boolean.class || raw == Character.class) {
+            return String::valueOf;
+        }
+        if (raw.isEnum()) {
+            return enumWriter(raw, objectMapper);
+        }
+        if (ISO_TEMPORAL_TYPES.contains(raw)) {
+            return Object::toString;
+        }
+        if (type.isContainerType() || !isDynamic(raw)) {
+            ObjectWriter writer = objectMapper.writerFor(type);
+            return writer::writeValueAsString;
+        }
+        // Object/인터페이스 등 선언 타입만으로 알 수 없으면 실제 값으로 판단한다.
+        return value -> dynamicWrite(value, objectMapper);
+    }
+
+    private static boolean isDynamic(final Class<?> raw) {
+        return raw == Object.class || raw.isInterface() || Modifier.isAbstract(raw.getModifiers());
+    }
+
+    private static ValueWriter enumWriter(final Class<?> enumType, final ObjectMapper objectMapper) {
+        Map<Object, String> names = new HashMap<>();
+        for (Object constant : enumType.getEnumConstants()) {
+            JsonNode node = objectMapper.valueToTree(constant);
+            names.put(constant, node.isTextual() ? node.textValue() : node.toString());
+        }
+        return names::get;
+    }
+
+    private static String dynamicWrite(final Object value, final ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || ISO_TEMPORAL_TYPES.contains(value.getClass())) {
+            return value.toString();
+        }
+        if (value instanceof Enum<?>) {
+            JsonNode node = objectMapper.valueToTree(value);
+            return node.isTextual() ? node.textValue() : node.toString();
+        }
+        return objectMapper.writeValueAsString(value);
+    }
+}
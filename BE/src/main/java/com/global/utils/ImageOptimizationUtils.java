@@ -6,16 +6,31 @@ import static com.global.constants.Messages.UTILITY_CLASS_ERROR;
 import static com.global.filestorage.constants.FileStorageConstants.*;
 
 import com.global.exception.GlobalException;
+import com.global.filestorage.ImageVariant;
 import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.metadata.ImageMetadata;
+import com.sksamuel.scrimage.metadata.OrientationTools;
 import com.sksamuel.scrimage.webp.WebpWriter;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -67,6 +82,81 @@ public final class ImageOptimizationUtils {
         }
     }
 
+    /**
+     * 이미지 최적화 후 대상 경로에 직접 기록 - 인코딩 결과를 byte[]로 모으지 않고 FileChannel로 바로 쓴다.
+     * <p>
+     * 큰 이미지는 디코딩 단계에서 서브샘플링하여 원본 해상도의 픽셀 버퍼를 만들지 않는다. 실패 시 기록 중이던 파일은 삭제된다.
+     *
+     * @param file          업로드된 이미지 파일
+     * @param convertToWebp true면 WebP로 변환, false면 원본 포맷 유지
+     * @param target        저장할 파일 경로 (존재하지 않아야 함)
+     */
+    public static void optimizeTo(final MultipartFile file, final boolean convertToWebp, final Path target) {
+        try {
+            BufferedImage original = decode(file);
+            int width = original.getWidth();
+            int height = original.getHeight();
+
+            // 이미 WebP이고 크기가 작으면 원본을 그대로 복사
+            if (convertToWebp && isWebp(file) && width <= DEFAULT_IMAGE_WIDTH && height <= DEFAULT_IMAGE_WIDTH) {
+                log.debug(IMAGE_OPTIMIZER_SKIP_WEBP_SAME_SIZE, file.getOriginalFilename());
+                try (InputStream input = file.getInputStream(); OutputStream output = openChannel(target)) {
+                    input.transferTo(output);
+                }
+                return;
+            }
+
+            ImmutableImage image = prepareImage(original, file.getOriginalFilename());
+            try (OutputStream output = openChannel(target)) {
+                if (convertToWebp) {
+                    image.forWriter(webpWriter()).write(output);
+                } else {
+                    writeAsFormat(image, resolveFormat(file), output);
+                }
+            }
+        } catch (IOException e) {
+            deleteQuietly(target);
+            String errorFormat = convertToWebp ? FORMAT_WEBP : "ORIGINAL";
+            log.error(IMAGE_OPTIMIZER_UNEXPECTED_ERROR, errorFormat, file.getOriginalFilename(), e.getMessage());
+            throw new GlobalException(IMAGE_PROCESSING_FAILED, file.getOriginalFilename() + " : " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            deleteQuietly(target);
+            throw e;
+        }
+    }
+
+    /**
+     * 한 번의 디코딩으로 반응형 변형(WebP)을 모두 생성하여 원본 옆에 저장한다.
+     * <p>
+     * 큰 폭부터 이전 결과를 다시 축소하므로 원본 해상도 축소는 한 번만 일어난다. 원본보다 넓은 변형은 만들지 않는다. 각 변형은 임시 파일에 쓴 뒤
+     * 이동하므로 기록 중인 파일이 서빙되지 않는다.
+     *
+     * @param source 원본 이미지 경로
+     * @return 생성된 변형별 경로
+     */
+    public static Map<ImageVariant, Path> generateVariants(final Path source) {
+        try {
+            ImmutableImage current = ImmutableImage.fromAwt(decodeForVariants(source));
+            Map<ImageVariant, Path> written = new EnumMap<>(ImageVariant.class);
+
+            for (ImageVariant variant : ImageVariant.largestFirst()) {
+                if (current.width < variant.getWidth()) {
+                    continue;
+                }
+                if (current.width > variant.getWidth()) {
+                    current = current.scaleToWidth(variant.getWidth());
+                }
+                Path target = source.resolveSibling(variant.fileName(source.getFileName().toString()));
+                writeWebpAtomically(current, target);
+                written.put(variant, target);
+            }
+            return written;
+        } catch (IOException e) {
+            log.error(IMAGE_OPTIMIZER_UNEXPECTED_ERROR, FORMAT_WEBP, source, e.getMessage());
+            throw new GlobalException(IMAGE_PROCESSING_FAILED, source + " : " + e.getMessage(), e);
+        }
+    }
+
     // WebP 변환 처리
     private static InputStream convertToWebp(MultipartFile file, ImmutableImage image, int width, int height) throws IOException {
         // 이미 WebP이고 크기가 작으면 변환 스킵
@@ -84,8 +174,19 @@ public final class ImageOptimizationUtils {
         return encodeAsFormat(image, format);
     }
 
-    // MultipartFile → BufferedImage 디코딩
+    // MultipartFile → BufferedImage 디코딩 (큰 이미지는 서브샘플링 디코딩 후 EXIF 방향 적용)
     private static BufferedImage decode(final MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            BufferedImage subsampled = decodeWithSubsampling(input, DEFAULT_IMAGE_WIDTH, false);
+            if (Objects.nonNull(subsampled)) {
+                try (InputStream metadataInput = file.getInputStream()) {
+                    return applyOrientation(subsampled, ImageMetadata.fromStream(metadataInput));
+                }
+            }
+        } catch (Exception e) {
+            log.debug(IMAGE_OPTIMIZER_SUBSAMPLING_FALLBACK, file.getOriginalFilename(), e.getMessage());
+        }
+
         try (InputStream input = file.getInputStream()) {
             return ImmutableImage.loader().fromStream(input).awt();
         } catch (Exception e) {
@@ -94,6 +195,101 @@ public final class ImageOptimizationUtils {
         }
     }
 
+    // 변형 생성용 디코딩 - 가장 넓은 변형 폭 기준으로 서브샘플링
+    private static BufferedImage decodeForVariants(final Path source) throws IOException {
+        int targetWidth = ImageVariant.largestFirst().get(0).getWidth();
+        try (InputStream input = Files.newInputStream(source)) {
+            BufferedImage subsampled = decodeWithSubsampling(input, targetWidth, true);
+            if (Objects.nonNull(subsampled)) {
+                return applyOrientation(subsampled, ImageMetadata.fromPath(source));
+            }
+        } catch (Exception e) {
+            log.debug(IMAGE_OPTIMIZER_SUBSAMPLING_FALLBACK, source, e.getMessage());
+        }
+        return ImmutableImage.loader().fromPath(source).awt();
+    }
+
+    /**
+     * 헤더에서 해상도만 먼저 읽고, 목표 크기의 2배 이상이면 정수배 서브샘플링으로 디코딩한다.
+     * 2배 여유를 두어 이후 리사이징 품질은 유지하면서 픽셀 버퍼 크기를 줄인다.
+     * <p>
+     * ImageIO 는 EXIF 방향을 적용하지 않으므로 호출 측에서 {@link #applyOrientation}을 적용해야 한다.
+     * 방향 적용 전에는 실제 가로 폭을 알 수 없어, 가로 폭 기준 비교는 짧은 변을 사용한다.
+     *
+     * @param targetLength 목표 크기
+     * @param widthOnly    true면 가로 폭(짧은 변), false면 긴 변 기준으로 비교
+     * @return ImageIO 리더가 없는 포맷(WebP 등)이거나 서브샘플링이 필요 없으면 null (scrimage 로더 사용)
+     */
+    private static BufferedImage decodeWithSubsampling(final InputStream input, final int targetLength,
+                                                       final boolean widthOnly) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            if (Objects.isNull(imageInput)) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int length = widthOnly ? Math.min(width, height) : Math.max(width, height);
+                int factor = length / (targetLength * SUBSAMPLING_HEADROOM);
+                if (factor <= 1) {
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // EXIF 방향(회전/반전)을 적용 - scrimage 로더와 같은 결과가 되도록 한다.
+    private static BufferedImage applyOrientation(final BufferedImage image, final ImageMetadata metadata) {
+        return OrientationTools.reorient(ImmutableImage.fromAwt(image), metadata).awt();
+    }
+
+    private static OutputStream openChannel(final Path target) throws IOException {
+        FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return Channels.newOutputStream(channel);
+    }
+
+    // 임시 파일에 기록한 뒤 대상 경로로 교체
+    private static void writeWebpAtomically(final ImmutableImage image, final Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream output = Channels.newOutputStream(
+                    FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))) {
+                image.forWriter(webpWriter()).write(output);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(final Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            log.warn(IMAGE_OPTIMIZER_CLEANUP_FAILED, target, e.getMessage());
+        }
+    }
+
+    private static WebpWriter webpWriter() {
+        return WebpWriter.DEFAULT
+                .withQ(WEBP_QUALITY)
+                .withM(WEBP_COMPRESSION_METHOD)
+                .withZ(WEBP_COMPRESSION_LEVEL);
+    }
+
     // WebP 포맷 여부 확인
     private static boolean isWebp(final MultipartFile file) {
         return MIME_TYPE_WEBP.equalsIgnoreCase(file.getContentType());
@@ -121,24 +317,25 @@ public final class ImageOptimizationUtils {
 
     // WebP 포맷으로 이미지 인코딩
     private static InputStream encodeAsWebp(final ImmutableImage image) throws IOException {
-        byte[] bytes = image.bytes(WebpWriter.DEFAULT
-                .withQ(WEBP_QUALITY)
-                .withM(WEBP_COMPRESSION_METHOD)
-                .withZ(WEBP_COMPRESSION_LEVEL));
+        byte[] bytes = image.bytes(webpWriter());
         return new ByteArrayInputStream(bytes);
     }
 
     // jpeg, png 포맷으로 이미지 인코딩
     private static InputStream encodeAsFormat(final ImmutableImage image, final String format) throws IOException {
-        BufferedImage bufferedImage = image.awt();
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            if (!ImageIO.write(bufferedImage, format.toLowerCase(), outputStream)) {
-                throw new GlobalException(INVALID_FILE_TYPE, format);
-            }
+            writeAsFormat(image, format, outputStream);
             return new ByteArrayInputStream(outputStream.toByteArray());
         }
     }
 
+    private static void writeAsFormat(final ImmutableImage image, final String format, final OutputStream output)
+            throws IOException {
+        if (!ImageIO.write(image.awt(), format.toLowerCase(), output)) {
+            throw new GlobalException(INVALID_FILE_TYPE, format);
+        }
+    }
+
     // MIME 타입에 따른 저장 포맷 확인
     private static String resolveFormat(final MultipartFile file) {
         String mime = file.getContentType();
@@ -0,0 +1,44 @@
+package com.a609.eatda.domain.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.domain.auth.config.PublicEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PublicEndpointTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/auth/sign-in", "/api/eaters", "/api/reviews/assets/callback"})
+    void 정확히_일치하는_공개_경로는_매칭된다(String path) {
+        assertThat(PublicEndpoint.matches(path)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/swagger-ui/index.html", "/v3/api-docs/swagger-config", "/webjars/swagger-ui/index.css"})
+    void 와일드카드_패턴_공개_경로는_매칭된다(String path) {
+        assertThat(PublicEndpoint.matches(path)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/reviews", "/api/reviews/assets/42", "/api/eaters/me"})
+    void 공개_경로가_아니면_매칭되지_않는다(String path) {
+        assertThat(PublicEndpoint.matches(path)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/reviews/assets/42/result",
+            "/api/menu-posters/assets/7/result",
+            "/api/events/assets/300/result"
+    })
+    void 에셋_결과_조회는_소유권_확인을_위해_인증을_거친다(String path) {
+        assertThat(PublicEndpoint.matches(path)).isFalse();
+    }
+
+    @Test
+    void 전체_경로_목록은_모든_엔드포인트를_포함한다() {
+        assertThat(PublicEndpoint.getAllPaths()).hasSize(PublicEndpoint.values().length);
+    }
+}
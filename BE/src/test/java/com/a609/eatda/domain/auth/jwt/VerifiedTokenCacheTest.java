@@ -0,0 +1,141 @@
+package com.a609.eatda.domain.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.domain.auth.jwt.AuthenticatedUser;
+import com.domain.auth.jwt.JwtUtils;
+import com.domain.auth.jwt.VerifiedTokenCache;
+import com.domain.user.constants.Role;
+import com.domain.user.repository.EaterRepository;
+import com.domain.user.repository.MakerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private JwtUtils jwtUtils;
+    @Mock
+    private MakerRepository makerRepository;
+    @Mock
+    private EaterRepository eaterRepository;
+    @Mock
+    private Claims claims;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(
+            new AuthenticatedUser(USER_ID, "eater@test.com", Role.EATER, null), "", List.of());
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtils, makerRepository, eaterRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("처음 보는 토큰은 검증 후 캐시하고, 같은 토큰은 검증 없이 캐시에서 반환한다")
+    void resolve_MissThenHit() {
+        givenVerifiedToken(System.currentTimeMillis() + 60_000);
+
+        Optional<Authentication> first = verifiedTokenCache.resolve(TOKEN);
+        Optional<Authentication> second = verifiedTokenCache.resolve(TOKEN);
+
+        assertThat(first).contains(authentication);
+        assertThat(second).contains(authentication);
+        verify(jwtUtils, times(1)).extractClaims(TOKEN);
+        assertThat(meterRegistry.counter("auth.token.cache.misses").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("auth.token.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰 원문 대신 SHA-256 해시를 캐시 키로 사용한다")
+    @SuppressWarnings("unchecked")
+    void resolve_KeysByTokenHash() {
+        givenVerifiedToken(System.currentTimeMillis() + 60_000);
+
+        verifiedTokenCache.resolve(TOKEN);
+
+        Cache<String, ?> cache = (Cache<String, ?>) ReflectionTestUtils.getField(verifiedTokenCache, "cache");
+        assertThat(cache.asMap().keySet()).singleElement()
+                .satisfies(key -> assertThat(key).doesNotContain(TOKEN).matches("[0-9a-f]{64}"));
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지난 항목은 사용하지 않고 다시 검증한다")
+    void resolve_Expired() throws InterruptedException {
+        givenVerifiedToken(System.currentTimeMillis() + 100);
+
+        verifiedTokenCache.resolve(TOKEN);
+        Thread.sleep(200);
+        verifiedTokenCache.resolve(TOKEN);
+
+        verify(jwtUtils, times(2)).extractClaims(TOKEN);
+        assertThat(meterRegistry.counter("auth.token.cache.hits").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰은 거부하고 캐시하지 않는다")
+    void resolve_DeletedUser() {
+        given(jwtUtils.extractClaims(TOKEN)).willReturn(claims);
+        given(jwtUtils.isAccessToken(claims)).willReturn(true);
+        given(jwtUtils.getAuthentication(claims)).willReturn(authentication);
+        given(eaterRepository.existsByIdAndDeletedFalse(USER_ID)).willReturn(false);
+
+        assertThat(verifiedTokenCache.resolve(TOKEN)).isEmpty();
+        assertThat(verifiedTokenCache.resolve(TOKEN)).isEmpty();
+
+        verify(jwtUtils, times(2)).extractClaims(TOKEN);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래된 항목을 제거하고 제거 횟수를 기록한다")
+    void resolve_EvictsBeyondMaximumSize() throws InterruptedException {
+        given(jwtUtils.extractClaims(anyString())).willReturn(claims);
+        given(jwtUtils.isAccessToken(claims)).willReturn(true);
+        given(jwtUtils.getAuthentication(claims)).willReturn(authentication);
+        given(eaterRepository.existsByIdAndDeletedFalse(USER_ID)).willReturn(true);
+        given(claims.getExpiration()).willReturn(new Date(System.currentTimeMillis() + 60_000));
+
+        for (int i = 0; i <= 10_100; i++) {
+            verifiedTokenCache.resolve(TOKEN + i);
+        }
+
+        // 용량 초과 제거는 Caffeine 유지 작업에서 비동기로 처리된다.
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (meterRegistry.counter("auth.token.cache.evictions").count() == 0
+                && System.currentTimeMillis() < deadline) {
+            verifiedTokenCache.resolve(TOKEN + 0);
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.counter("auth.token.cache.evictions").count()).isPositive();
+    }
+
+    private void givenVerifiedToken(final long expiresAtMillis) {
+        given(jwtUtils.extractClaims(TOKEN)).willReturn(claims);
+        given(jwtUtils.isAccessToken(claims)).willReturn(true);
+        given(jwtUtils.getAuthentication(claims)).willReturn(authentication);
+        given(eaterRepository.existsByIdAndDeletedFalse(USER_ID)).willReturn(true);
+        given(claims.getExpiration()).willReturn(new Date(expiresAtMillis));
+    }
+}
@@ -0,0 +1,86 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.domain.common.service.AssetOutboxDeadLetterHandler;
+import com.domain.common.service.AssetStatusCacheService;
+import com.domain.event.repository.EventAssetRepository;
+import com.domain.menu.repository.MenuPosterAssetRepository;
+import com.domain.review.repository.ReviewAssetRepository;
+import com.global.constants.Status;
+import com.global.notification.AssetCompletedEvent;
+import com.global.notification.AssetDomain;
+import com.global.redis.constants.RedisStreamKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AssetOutboxDeadLetterHandlerTest {
+
+    @Mock
+    private ReviewAssetRepository reviewAssetRepository;
+    @Mock
+    private EventAssetRepository eventAssetRepository;
+    @Mock
+    private MenuPosterAssetRepository menuPosterAssetRepository;
+    @Mock
+    private AssetStatusCacheService assetStatusCacheService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AssetOutboxDeadLetterHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new AssetOutboxDeadLetterHandler(reviewAssetRepository, eventAssetRepository,
+                menuPosterAssetRepository, assetStatusCacheService, eventPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("발행을 포기한 요청의 PENDING 에셋을 실패 처리하고 완료 이벤트를 발행한다")
+    void handle_FailsPendingAsset() {
+        given(menuPosterAssetRepository.updateStatusIfCurrent(List.of(3L), Status.PENDING, Status.FAIL))
+                .willReturn(1);
+
+        handler.handle(RedisStreamKey.MENU_POSTER, Map.of("menuPostAssetId", "3", "type", "IMAGE"));
+
+        verify(assetStatusCacheService).evict(AssetDomain.MENU_POSTER, 3L);
+        verify(eventPublisher).publishEvent(
+                new AssetCompletedEvent(AssetDomain.MENU_POSTER, 3L, Status.FAIL, "IMAGE", ""));
+        assertThat(meterRegistry.counter("stream.outbox.dead.letter.assets.failed", "domain", "MENU_POSTER")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 에셋은 상태와 캐시를 건드리지 않는다")
+    void handle_AlreadyCompleted() {
+        given(reviewAssetRepository.updateStatusIfCurrent(List.of(7L), Status.PENDING, Status.FAIL)).willReturn(0);
+
+        handler.handle(RedisStreamKey.REVIEW_ASSET, Map.of("reviewAssetId", "7"));
+
+        verify(assetStatusCacheService, never()).evict(AssetDomain.REVIEW, 7L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("에셋 생성 스트림이 아니면 무시한다")
+    void handle_NotAssetStream() {
+        handler.handle(RedisStreamKey.OCR_MENU, Map.of("id", "1"));
+
+        verifyNoInteractions(reviewAssetRepository, eventAssetRepository, menuPosterAssetRepository,
+                assetStatusCacheService, eventPublisher);
+    }
+}
@@ -0,0 +1,95 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.domain.common.service.AssetStatusCacheService;
+import com.domain.common.service.AssetStatusCacheService.CachedAssetStatus;
+import com.global.constants.Status;
+import com.global.notification.AssetDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AssetStatusCacheServiceTest {
+
+    private static final String KEY = "asset:event:1:status";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AssetStatusCacheService assetStatusCacheService;
+
+    @BeforeEach
+    void setUp() {
+        assetStatusCacheService = new AssetStatusCacheService(redisTemplate, meterRegistry);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 상태를 반환하고 DB 조회 회피 메트릭을 증가시킨다")
+    void get_Hit() {
+        given(hashOperations.entries(KEY)).willReturn(Map.of(
+                "status", "SUCCESS", "type", "IMAGE", "path", "events/1.webp", "thumbnail", "", "owner", "100"));
+
+        Optional<CachedAssetStatus> result = assetStatusCacheService.get(AssetDomain.EVENT, 1L);
+
+        assertThat(result).contains(new CachedAssetStatus(Status.SUCCESS, "IMAGE", "events/1.webp", null, 100L));
+        assertThat(meterRegistry.counter("asset.status.cache.db.reads.avoided", "domain", "EVENT").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 빈 값을 반환하고 미스 메트릭을 증가시킨다")
+    void get_Miss() {
+        given(hashOperations.entries(KEY)).willReturn(Map.of());
+
+        assertThat(assetStatusCacheService.get(AssetDomain.EVENT, 1L)).isEmpty();
+        assertThat(meterRegistry.counter("asset.status.cache.misses", "domain", "EVENT").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 해시를 저장한다")
+    void put_WritesHash() {
+        assetStatusCacheService.put(AssetDomain.EVENT, 1L,
+                new CachedAssetStatus(Status.PENDING, "IMAGE", null, null, 100L));
+
+        verify(hashOperations).putAll(eq(KEY), anyMap());
+    }
+
+    @Test
+    @DisplayName("조회 경로 보충은 완료 상태만 저장한다")
+    void backfill_TerminalOnly() {
+        assetStatusCacheService.backfill(AssetDomain.EVENT, 1L,
+                new CachedAssetStatus(Status.SUCCESS, "IMAGE", "events/1.webp", null, 100L));
+
+        verify(hashOperations).putAll(eq(KEY), anyMap());
+    }
+
+    @Test
+    @DisplayName("조회 경로 보충은 PENDING 을 저장하지 않아 이후 콜백 결과를 덮어쓰지 않는다")
+    void backfill_SkipsPending() {
+        assetStatusCacheService.backfill(AssetDomain.EVENT, 1L,
+                new CachedAssetStatus(Status.PENDING, "IMAGE", null, null, 100L));
+
+        verifyNoInteractions(hashOperations);
+    }
+}
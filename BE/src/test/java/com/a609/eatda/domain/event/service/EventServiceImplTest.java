@@ -14,6 +14,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.domain.auth.jwt.AuthenticatedUser;
+import com.domain.common.service.AssetStatusCacheService;
 import com.domain.event.dto.redis.EventAssetGenerateMessage;
 import com.domain.event.dto.request.EventAssetCreateRequest;
 import com.domain.event.dto.request.EventFinalizeRequest;
@@ -31,7 +33,6 @@ import com.domain.store.entity.Store;
 import com.domain.store.repository.StoreRepository;
 import com.domain.user.constants.Role;
 import com.domain.user.entity.User;
-import com.domain.user.repository.MakerRepository;
 import com.global.constants.AssetType;
 import com.global.constants.ErrorCode;
 import com.global.constants.PagingConstants;
@@ -40,6 +41,12 @@ import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
+import com.global.filestorage.ImageUploadExecutor;
+import com.global.notification.AssetCompletedEvent;
+import com.global.notification.AssetCompletionNotifier;
+import com.global.notification.AssetGenerationMetrics;
+import com.global.outbox.StreamOutboxService;
+import com.global.redis.admission.RedisStreamAdmissionControl;
 import com.global.redis.constants.RedisStreamKey;
 import java.time.LocalDate;
 import java.util.Collections;
@@ -52,12 +59,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,14 +82,28 @@ class EventServiceImplTest {
     @Mock
     private EventRepository eventRepository;
     @Mock
-    private MakerRepository makerRepository;
-    @Mock
     private EventAssetRepository eventAssetRepository;
     @Mock
     private FileStorageService fileStorageService;
     @Mock
     private EventAssetRedisPublisher eventAssetRedisPublisher;
     @Mock
+    private AssetCompletionNotifier assetCompletionNotifier;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private AssetStatusCacheService assetStatusCacheService;
+    @Mock
+    private StreamOutboxService streamOutboxService;
+    @Mock
+    private RedisStreamAdmissionControl redisStreamAdmissionControl;
+    @Mock
+    private AssetGenerationMetrics assetGenerationMetrics;
+    @Spy
+    private ImageUploadExecutor imageUploadExecutor = new ImageUploadExecutor(Runnable::run);
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    @Mock
     private User maker;
     @Mock
     private Store store;
@@ -90,11 +115,10 @@ class EventServiceImplTest {
     private final Long userId = 1L;
     private final Long storeId = 100L;
     private final Long assetId = 300L;
+    private final AuthenticatedUser principal = new AuthenticatedUser(userId, makerEmail, Role.MAKER, storeId);
 
     @BeforeEach
     void setUp() {
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
 
         given(maker.getId()).willReturn(userId);
         given(maker.getEmail()).willReturn(makerEmail);
@@ -106,6 +130,8 @@ class EventServiceImplTest {
         given(store.getLatitude()).willReturn(37.5);
         given(store.getLongitude()).willReturn(127.0);
         given(store.getMaker()).willReturn(maker);
+        given(storeRepository.getReferenceById(storeId)).willReturn(store);
+        given(storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, userId)).willReturn(true);
 
         given(event.getStore()).willReturn(store);
         given(event.getStartDate()).willReturn(LocalDate.parse("2025-12-20"));
@@ -147,8 +173,6 @@ class EventServiceImplTest {
                 List.of(mockFile)
         );
 
-        // given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(maker.getStores()).willReturn(List.of(store));
         given(eventRepository.save(any(Event.class))).willReturn(event);
         given(eventAssetRepository.save(any(EventAsset.class))).willReturn(eventAsset);
         given(fileStorageService.storeImage(
@@ -159,7 +183,7 @@ class EventServiceImplTest {
         )).willReturn("uploaded/path/image.jpg");
 
         // when
-        EventAssetRequestResponse response = eventService.requestEventAsset(request, makerEmail);
+        EventAssetRequestResponse response = eventService.requestEventAsset(request, principal);
 
         // then
         assertThat(response).isNotNull();
@@ -176,10 +200,11 @@ class EventServiceImplTest {
                 false // WebP 변환 적용 검증 X
         );
 
-        // Redis 메시지 발행 검증
+        // 아웃박스 메시지 저장 검증
         ArgumentCaptor<EventAssetGenerateMessage> messageCaptor =
                 ArgumentCaptor.forClass(EventAssetGenerateMessage.class);
-        verify(eventAssetRedisPublisher).publish(eq(RedisStreamKey.EVENT_ASSET), messageCaptor.capture());
+        verify(streamOutboxService).enqueue(eq(RedisStreamKey.EVENT_ASSET), eq(eventAssetRedisPublisher),
+                messageCaptor.capture());
 
         EventAssetGenerateMessage capturedMessage = messageCaptor.getValue();
         assertThat(capturedMessage.getEventAssetId()).isEqualTo(assetId);
@@ -189,8 +214,8 @@ class EventServiceImplTest {
         assertThat(capturedMessage.getReferenceImages()).hasSize(1);
     }
 
-    // @Test
-    @DisplayName("존재하지 않는 가게 - 예외 발생")
+    @Test
+    @DisplayName("존재하지 않거나 소유하지 않은 가게 - 예외 발생")
     void requestEventAsset_StoreNotFound() {
         // given
         MultipartFile mockFile = mock(MultipartFile.class);
@@ -200,10 +225,10 @@ class EventServiceImplTest {
                 List.of(mockFile)
         );
 
-        given(storeRepository.findById(storeId)).willReturn(Optional.empty());
+        given(storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, userId)).willReturn(false);
 
         // when & then
-        assertThatThrownBy(() -> eventService.requestEventAsset(request, makerEmail))
+        assertThatThrownBy(() -> eventService.requestEventAsset(request, principal))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORE_NOT_FOUND);
 
@@ -225,11 +250,8 @@ class EventServiceImplTest {
                 List.of(largeFile)
         );
 
-        //given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(maker.getStores()).willReturn(List.of(store));
-
         // when & then
-        assertThatThrownBy(() -> eventService.requestEventAsset(request, makerEmail))
+        assertThatThrownBy(() -> eventService.requestEventAsset(request, principal))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_TOO_LARGE);
 
@@ -255,7 +277,6 @@ class EventServiceImplTest {
                 List.of(file1, file2)
         );
 
-        given(maker.getStores()).willReturn(List.of(store));
         given(eventRepository.save(any(Event.class))).willReturn(event);
         given(eventAssetRepository.save(any(EventAsset.class))).willReturn(eventAsset);
         given(fileStorageService.storeEventAndMenuPosterImage(
@@ -273,14 +294,15 @@ class EventServiceImplTest {
         )).willReturn("uploaded/path/image2.jpg");
 
         // when
-        EventAssetRequestResponse response = eventService.requestEventAsset(request, makerEmail);
+        EventAssetRequestResponse response = eventService.requestEventAsset(request, principal);
 
         // then
         assertThat(response.eventAssetId()).isEqualTo(assetId);
 
         ArgumentCaptor<EventAssetGenerateMessage> messageCaptor =
                 ArgumentCaptor.forClass(EventAssetGenerateMessage.class);
-        verify(eventAssetRedisPublisher).publish(eq(RedisStreamKey.EVENT_ASSET), messageCaptor.capture());
+        verify(streamOutboxService).enqueue(eq(RedisStreamKey.EVENT_ASSET), eq(eventAssetRedisPublisher),
+                messageCaptor.capture());
         verify(fileStorageService).storeEventAndMenuPosterImage(file1, expectedPath, "image1.jpg", false);
         verify(fileStorageService).storeEventAndMenuPosterImage(file2, expectedPath, "image2.jpg", false);
         assertThat(messageCaptor.getValue().getReferenceImages())
@@ -307,6 +329,7 @@ class EventServiceImplTest {
         // then
         verify(eventAssetRepository).findById(assetId);
         verify(eventAsset).processCallback(Status.SUCCESS, "https://cdn.example.com/generated-asset.jpg");
+        verify(eventPublisher).publishEvent(any(AssetCompletedEvent.class));
     }
 
     @Test
@@ -383,7 +406,7 @@ class EventServiceImplTest {
                 .willReturn(Optional.of(eventAsset));
 
         // when
-        AssetResultResponse response = eventService.getEventAssetStatus(assetId, makerEmail);
+        AssetResultResponse response = eventService.getEventAssetStatus(assetId, userId);
 
         // then
         assertThat(response).isNotNull();
@@ -401,7 +424,7 @@ class EventServiceImplTest {
                 .willReturn(Optional.of(eventAsset));
 
         // when
-        AssetResultResponse response = eventService.getEventAssetStatus(assetId, makerEmail);
+        AssetResultResponse response = eventService.getEventAssetStatus(assetId, userId);
 
         // then
         assertThat(response).isNotNull();
@@ -420,7 +443,7 @@ class EventServiceImplTest {
                 .willReturn(Optional.of(eventAsset));
 
         // when & then
-        assertThatThrownBy(() -> eventService.getEventAssetStatus(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.getEventAssetStatus(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_URL_REQUIRED);
 
@@ -435,7 +458,7 @@ class EventServiceImplTest {
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> eventService.getEventAssetStatus(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.getEventAssetStatus(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_NOT_FOUND);
 
@@ -446,18 +469,13 @@ class EventServiceImplTest {
     @DisplayName("이벤트 에셋 상태 조회 - 권한 없음 (다른 사용자)")
     void getEventAssetStatus_Forbidden() {
         // given
-        String otherEmail = "other@example.com";
-        User requestUser = User.builder()
-                .email(otherEmail)
-                .build();
+        Long otherMakerId = 999L;
 
-        given(makerRepository.findByEmailAndDeletedFalse(otherEmail))
-                .willReturn(Optional.of(requestUser));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(eventAsset));
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, otherEmail))
+        assertThatThrownBy(() -> eventService.getEventAssetStatus(assetId, otherMakerId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
 
@@ -675,8 +693,6 @@ class EventServiceImplTest {
         Resource mockResource = mock(Resource.class);
 
         given(eventAsset.getPath()).willReturn("/uploads/events/asset123.webp");
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(eventAsset));
         given(fileStorageService.loadAsResource("/uploads/events/asset123.webp"))
@@ -685,13 +701,12 @@ class EventServiceImplTest {
         given(mockResource.isReadable()).willReturn(true);
 
         // when
-        Resource result = eventService.downloadEventAsset(assetId, makerEmail);
+        Resource result = eventService.downloadEventAsset(assetId, userId);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(mockResource);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verify(fileStorageService).loadAsResource("/uploads/events/asset123.webp");
         verify(mockResource).exists();
@@ -699,38 +714,32 @@ class EventServiceImplTest {
     }
 
     @Test
-    @DisplayName("이벤트 에셋 다운로드 - 사용자를 찾을 수 없음")
-    void downloadEventAsset_UserNotFound() {
+    @DisplayName("이벤트 에셋 다운로드 - 사용자 정보가 없음")
+    void downloadEventAsset_MakerIdMissing() {
         // given
-        String makerEmail = "notfound@example.com";
-
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.empty());
+        given(eventAssetRepository.findByIdWithStore(assetId))
+                .willReturn(Optional.of(eventAsset));
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, null))
                 .isInstanceOf(ApiException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED);
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
-        verifyNoInteractions(eventAssetRepository, fileStorageService);
+        verifyNoInteractions(fileStorageService);
     }
 
     @Test
     @DisplayName("이벤트 에셋 다운로드 - 에셋을 찾을 수 없음")
     void downloadEventAsset_AssetNotFound() {
         // given
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_NOT_FOUND);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verifyNoInteractions(fileStorageService);
     }
@@ -739,22 +748,16 @@ class EventServiceImplTest {
     @DisplayName("이벤트 에셋 다운로드 - 권한 없음 (다른 사용자)")
     void downloadEventAsset_Forbidden() {
         // given
-        String otherEmail = "other@example.com";
-        User requestUser = User.builder()
-                .email(otherEmail)
-                .build();
+        Long otherMakerId = 999L;
 
-        given(makerRepository.findByEmailAndDeletedFalse(otherEmail))
-                .willReturn(Optional.of(requestUser));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(eventAsset));
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, otherEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, otherMakerId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(otherEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verifyNoInteractions(fileStorageService);
     }
@@ -764,17 +767,14 @@ class EventServiceImplTest {
     void downloadEventAsset_AssetUrlEmpty() {
         // given
         given(eventAsset.getPath()).willReturn("");
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(eventAsset));
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_URL_REQUIRED);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verifyNoInteractions(fileStorageService);
     }
@@ -784,17 +784,14 @@ class EventServiceImplTest {
     void downloadEventAsset_AssetUrlNull() {
         // given
         given(eventAsset.getPath()).willReturn(null);
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(eventAsset));
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_URL_REQUIRED);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verifyNoInteractions(fileStorageService);
     }
@@ -806,8 +803,6 @@ class EventServiceImplTest {
         Resource mockResource = mock(Resource.class);
 
         given(eventAsset.getPath()).willReturn("/uploads/events/notfound.webp");
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(eventAsset));
         given(fileStorageService.loadAsResource("/uploads/events/notfound.webp"))
@@ -815,11 +810,10 @@ class EventServiceImplTest {
         given(mockResource.exists()).willReturn(false);  // 파일이 존재하지 않음
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_NOT_FOUND);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verify(fileStorageService).loadAsResource("/uploads/events/notfound.webp");
         verify(mockResource).exists();
@@ -829,7 +823,6 @@ class EventServiceImplTest {
     @DisplayName("이벤트 에셋 다운로드 - 파일을 읽을 수 없음")
     void downloadEventAsset_FileNotReadable() {
         // given
-        String makerEmail = "maker@example.com";
         User maker = User.builder().build();
         setFieldValue(maker, userId);
 
@@ -837,6 +830,7 @@ class EventServiceImplTest {
                 .name("테스트 가게")
                 .maker(maker)
                 .build();
+        setFieldValue(store, storeId);
 
         Event event = Event.builder()
                 .store(store)
@@ -849,8 +843,6 @@ class EventServiceImplTest {
 
         Resource mockResource = mock(Resource.class);
 
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(asset));
         given(fileStorageService.loadAsResource("/uploads/events/unreadable.webp"))
@@ -859,11 +851,10 @@ class EventServiceImplTest {
         given(mockResource.isReadable()).willReturn(false);  // 읽을 수 없음
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_NOT_FOUND);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verify(fileStorageService).loadAsResource("/uploads/events/unreadable.webp");
         verify(mockResource).exists();
@@ -878,6 +869,7 @@ class EventServiceImplTest {
                 .name("테스트 가게")
                 .maker(maker)
                 .build();
+        setFieldValue(store, storeId);
 
         Event event = Event.builder()
                 .store(store)
@@ -888,19 +880,16 @@ class EventServiceImplTest {
                 .path("/uploads/events/error.webp")
                 .build();
 
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventAssetRepository.findByIdWithStore(assetId))
                 .willReturn(Optional.of(asset));
         given(fileStorageService.loadAsResource("/uploads/events/error.webp"))
                 .willThrow(new RuntimeException("파일 시스템 오류"));
 
         // when & then
-        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, makerEmail))
+        assertThatThrownBy(() -> eventService.downloadEventAsset(assetId, userId))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_DOWNLOAD_ERROR);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verify(eventAssetRepository).findByIdWithStore(assetId);
         verify(fileStorageService).loadAsResource("/uploads/events/error.webp");
     }
@@ -954,15 +943,13 @@ class EventServiceImplTest {
         List<Event> events = List.of(event1, event2);
         List<EventAsset> assets = List.of(asset1, asset2);
 
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
-        given(eventRepository.findMyEventsWithCursor(eq(makerEmail), isNull(), any(PageRequest.class)))
+        given(eventRepository.findMyEventsWithCursor(eq(userId), isNull(), any(PageRequest.class)))
                 .willReturn(events);
         given(eventAssetRepository.findByEventIds(List.of(100L, 99L)))
                 .willReturn(assets);
 
         // when
-        List<MyEventResponse> responses = eventService.getMyEvents(null, makerEmail);
+        List<MyEventResponse> responses = eventService.getMyEvents(null, userId);
 
         // then
         assertThat(responses).hasSize(2);
@@ -978,8 +965,7 @@ class EventServiceImplTest {
         assertThat(response2.storeName()).isEqualTo("테스트 가게2");
         assertThat(response2.postUrl()).isEqualTo("/uploads/event2.webp");
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
-        verify(eventRepository).findMyEventsWithCursor(eq(makerEmail), isNull(), any(PageRequest.class));
+        verify(eventRepository).findMyEventsWithCursor(eq(userId), isNull(), any(PageRequest.class));
         verify(eventAssetRepository).findByEventIds(List.of(100L, 99L));
     }
 
@@ -1009,21 +995,19 @@ class EventServiceImplTest {
                 .status(Status.SUCCESS)
                 .build();
 
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
-        given(eventRepository.findMyEventsWithCursor(eq(makerEmail), eq(lastEventId), any(PageRequest.class)))
+        given(eventRepository.findMyEventsWithCursor(eq(userId), eq(lastEventId), any(PageRequest.class)))
                 .willReturn(List.of(event));
         given(eventAssetRepository.findByEventIds(List.of(45L)))
                 .willReturn(List.of(asset));
 
         // when
-        List<MyEventResponse> responses = eventService.getMyEvents(lastEventId, makerEmail);
+        List<MyEventResponse> responses = eventService.getMyEvents(lastEventId, userId);
 
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.getFirst().eventId()).isEqualTo(45L);
 
-        verify(eventRepository).findMyEventsWithCursor(eq(makerEmail), eq(lastEventId), any(PageRequest.class));
+        verify(eventRepository).findMyEventsWithCursor(eq(userId), eq(lastEventId), any(PageRequest.class));
     }
 
     @Test
@@ -1043,15 +1027,13 @@ class EventServiceImplTest {
                 .build();
         setFieldValue(event, 100L);
 
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
-        given(eventRepository.findMyEventsWithCursor(eq(makerEmail), isNull(), any(PageRequest.class)))
+        given(eventRepository.findMyEventsWithCursor(eq(userId), isNull(), any(PageRequest.class)))
                 .willReturn(List.of(event));
         given(eventAssetRepository.findByEventIds(List.of(100L)))
                 .willReturn(Collections.emptyList());  // 에셋 없음
 
         // when
-        List<MyEventResponse> responses = eventService.getMyEvents(null, makerEmail);
+        List<MyEventResponse> responses = eventService.getMyEvents(null, userId);
 
         // then
         assertThat(responses).hasSize(1);
@@ -1065,39 +1047,27 @@ class EventServiceImplTest {
     @DisplayName("내 이벤트 목록 조회 - 빈 결과")
     void getMyEvents_EmptyResult() {
         // given
-        String makerEmail = "maker@example.com";
-        User maker = User.builder().build();
-
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
-        given(eventRepository.findMyEventsWithCursor(eq(makerEmail), isNull(), any(PageRequest.class)))
+        given(eventRepository.findMyEventsWithCursor(eq(userId), isNull(), any(PageRequest.class)))
                 .willReturn(Collections.emptyList());
 
         // when
-        List<MyEventResponse> responses = eventService.getMyEvents(null, makerEmail);
+        List<MyEventResponse> responses = eventService.getMyEvents(null, userId);
 
         // then
         assertThat(responses).isEmpty();
 
-        verify(eventRepository).findMyEventsWithCursor(eq(makerEmail), isNull(), any(PageRequest.class));
+        verify(eventRepository).findMyEventsWithCursor(eq(userId), isNull(), any(PageRequest.class));
         verify(eventAssetRepository).findByEventIds(anyList());  // 이벤트가 없으므로 호출 안됨
     }
 
     @Test
-    @DisplayName("내 이벤트 목록 조회 - 사용자를 찾을 수 없음")
-    void getMyEvents_UserNotFound() {
-        // given
-        String makerEmail = "notfound@example.com";
-
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.empty());
-
+    @DisplayName("내 이벤트 목록 조회 - 사용자 정보가 없음")
+    void getMyEvents_MakerIdMissing() {
         // when & then
-        assertThatThrownBy(() -> eventService.getMyEvents(null, makerEmail))
+        assertThatThrownBy(() -> eventService.getMyEvents(null, null))
                 .isInstanceOf(ApiException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED);
 
-        verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
         verifyNoInteractions(eventRepository, eventAssetRepository);
     }
 
@@ -1134,15 +1104,13 @@ class EventServiceImplTest {
                 .status(Status.SUCCESS)
                 .build();
 
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
-        given(eventRepository.findMyEventsWithCursor(eq(makerEmail), isNull(), any(PageRequest.class)))
+        given(eventRepository.findMyEventsWithCursor(eq(userId), isNull(), any(PageRequest.class)))
                 .willReturn(List.of(event1, event2));
         given(eventAssetRepository.findByEventIds(List.of(100L, 99L)))
                 .willReturn(List.of(asset1));  // event1의 에셋만 반환
 
         // when
-        List<MyEventResponse> responses = eventService.getMyEvents(null, makerEmail);
+        List<MyEventResponse> responses = eventService.getMyEvents(null, userId);
 
         // then
         assertThat(responses).hasSize(2);
@@ -1154,16 +1122,11 @@ class EventServiceImplTest {
     @DisplayName("내 이벤트 목록 조회 - 페이지 크기 확인")
     void getMyEvents_PageSizeVerification() {
         // given
-        String makerEmail = "maker@example.com";
-        User maker = User.builder().build();
-
-        given(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                .willReturn(Optional.of(maker));
         given(eventRepository.findMyEventsWithCursor(any(), any(), any()))
                 .willReturn(Collections.emptyList());
 
         // when
-        eventService.getMyEvents(null, makerEmail);
+        eventService.getMyEvents(null, userId);
 
         // then - PageRequest 파라미터 검증
         ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
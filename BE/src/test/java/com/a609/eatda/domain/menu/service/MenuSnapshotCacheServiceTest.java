@@ -0,0 +1,154 @@
+package com.a609.eatda.domain.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.domain.menu.dto.redis.MenuRef;
+import com.domain.menu.entity.Menu;
+import com.domain.menu.repository.MenuRepository;
+import com.domain.menu.repository.MenuRepository.MenuModifiedAt;
+import com.domain.menu.service.MenuSnapshotCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotCacheServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private MenuRepository menuRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MenuSnapshotCacheService menuSnapshotCacheService;
+
+    @BeforeEach
+    void setUp() {
+        menuSnapshotCacheService = new MenuSnapshotCacheService(redisTemplate, menuRepository, new ObjectMapper(),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버전이 같은 캐시 메뉴는 엔티티 조회 없이 참조로 변환하고, 없는 메뉴만 DB 에서 읽어 적재한다")
+    void resolve_ReadThrough() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("menu:1:snapshot", "menu:2:snapshot"))).willReturn(Arrays.asList(
+                "{\"id\":1,\"version\":100,\"name\":\"떡볶이\",\"description\":null,\"imageUrl\":\"menus/1.webp\"}",
+                null));
+        given(menuRepository.findModifiedAtByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(modifiedAt(1L, 100L), modifiedAt(2L, 0L)));
+        given(menuRepository.findAllById(List.of(2L))).willReturn(List.of(menu(2L, "순대")));
+
+        List<MenuRef> refs = menuSnapshotCacheService.resolve(List.of(1L, 2L, 1L));
+
+        assertThat(refs).containsExactly(new MenuRef(1L, 100L), new MenuRef(2L, 0L));
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));  // TTL 연장 + 미스 적재
+        assertThat(meterRegistry.counter("menu.snapshot.cache.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("menu.snapshot.cache.misses").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("메뉴가 스냅샷 이후 수정되었으면 DB 에서 다시 읽어 스냅샷을 덮어쓴다")
+    void resolve_StaleSnapshot() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("menu:1:snapshot"))).willReturn(List.of(
+                "{\"id\":1,\"version\":100,\"name\":\"떡볶이\",\"description\":null,\"imageUrl\":\"menus/1.webp\"}"));
+        given(menuRepository.findModifiedAtByIdIn(List.of(1L))).willReturn(List.of(modifiedAt(1L, 0L)));
+        given(menuRepository.findAllById(List.of(1L))).willReturn(List.of(menu(1L, "로제 떡볶이")));
+
+        assertThat(menuSnapshotCacheService.resolve(List.of(1L))).containsExactly(new MenuRef(1L, 0L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));  // 다시 적재만 (TTL 연장 없음)
+        assertThat(meterRegistry.counter("menu.snapshot.cache.stale").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("menu.snapshot.cache.hits").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 메뉴는 캐시에 스냅샷이 남아 있어도 결과에서 뺀다")
+    void resolve_MissingMenu() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("menu:1:snapshot"))).willReturn(List.of(
+                "{\"id\":1,\"version\":100,\"name\":\"떡볶이\",\"description\":null,\"imageUrl\":\"menus/1.webp\"}"));
+        given(menuRepository.findModifiedAtByIdIn(List.of(1L))).willReturn(List.of());
+
+        assertThat(menuSnapshotCacheService.resolve(List.of(1L))).isEmpty();
+        verify(menuRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("캐시 조회가 실패하면 DB 에서 읽어 다시 적재한다")
+    void resolve_CacheFailure() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("menu:1:snapshot"))).willThrow(new RuntimeException("fail"));
+        given(menuRepository.findModifiedAtByIdIn(List.of(1L))).willReturn(List.of(modifiedAt(1L, 0L)));
+        given(menuRepository.findAllById(List.of(1L))).willReturn(List.of(menu(1L, "떡볶이")));
+
+        assertThat(menuSnapshotCacheService.resolve(List.of(1L))).containsExactly(new MenuRef(1L, 0L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("이미 조회한 메뉴는 DB 재조회 없이 적재하고 참조로 변환한다")
+    void cache_LoadedMenus() {
+        List<MenuRef> refs = menuSnapshotCacheService.cache(List.of(menu(3L, "김밥"), menu(4L, "라면")));
+
+        assertThat(refs).containsExactly(new MenuRef(3L, 0L), new MenuRef(4L, 0L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(menuRepository, never()).findAllById(any());
+    }
+
+    /**
+     * 수정 시각 조회 결과 - versionMillis 가 0 이면 생성/수정 시각이 없는 메뉴 (버전 0)
+     */
+    private MenuModifiedAt modifiedAt(final Long id, final long versionMillis) {
+        LocalDateTime updatedAt = versionMillis == 0 ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(versionMillis), ZoneOffset.UTC);
+        return new MenuModifiedAt() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return null;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+    private Menu menu(final Long id, final String name) {
+        Menu menu = Menu.builder()
+                .name(name)
+                .price(5_000)
+                .description(name + " 설명")
+                .imageUrl("menus/" + id + ".webp")
+                .build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+}
@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.domain.auth.jwt.AuthenticatedUser;
+import com.domain.common.service.AssetStatusCacheService;
 import com.domain.menu.dto.request.AdoptMenuPostersRequest;
 import com.domain.menu.dto.request.MenuPosterAssetCreateRequest;
 import com.domain.menu.dto.response.AdoptMenuPostersResponse;
@@ -18,6 +22,7 @@ import com.domain.menu.redis.MenuPosterAssetRedisPublisher;
 import com.domain.menu.repository.AdoptedMenuPosterRepository;
 import com.domain.menu.repository.MenuPosterAssetRepository;
 import com.domain.menu.repository.MenuPosterRepository;
+import com.domain.menu.service.MenuSnapshotCacheService;
 import com.domain.menu.service.impl.MenuPosterServiceImpl;
 import com.domain.menu.validator.MenuValidator;
 import com.domain.store.entity.Store;
@@ -26,7 +31,6 @@ import com.domain.user.constants.Provider;
 import com.domain.user.constants.Role;
 import com.domain.user.entity.User;
 import com.domain.user.repository.EaterRepository;
-import com.domain.user.repository.MakerRepository;
 import com.global.constants.AssetType;
 import com.global.constants.ErrorCode;
 import com.global.constants.Status;
@@ -34,6 +38,11 @@ import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
+import com.global.filestorage.ImageUploadExecutor;
+import com.global.notification.AssetCompletionNotifier;
+import com.global.notification.AssetGenerationMetrics;
+import com.global.outbox.StreamOutboxService;
+import com.global.redis.admission.RedisStreamAdmissionControl;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +52,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,8 +71,6 @@ class MenuPosterServiceImplTest {
     @Mock
     private EaterRepository eaterRepository;
     @Mock
-    private MakerRepository makerRepository;
-    @Mock
     private MenuPosterRepository menuPosterRepository;
     @Mock
     private MenuPosterAssetRepository menuPosterAssetRepository;
@@ -71,6 +82,24 @@ class MenuPosterServiceImplTest {
     private MenuPosterAssetRedisPublisher menuPosterAssetRedisPublisher;
     @Mock
     private FileStorageService fileStorageService;
+    @Mock
+    private AssetCompletionNotifier assetCompletionNotifier;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private AssetStatusCacheService assetStatusCacheService;
+    @Mock
+    private StreamOutboxService streamOutboxService;
+    @Mock
+    private RedisStreamAdmissionControl redisStreamAdmissionControl;
+    @Mock
+    private AssetGenerationMetrics assetGenerationMetrics;
+    @Mock
+    private MenuSnapshotCacheService menuSnapshotCacheService;
+    @Spy
+    private ImageUploadExecutor imageUploadExecutor = new ImageUploadExecutor(Runnable::run);
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
 
     @Mock
     private User testEater;
@@ -188,41 +217,23 @@ class MenuPosterServiceImplTest {
 //            verify(menuPosterAssetRedisPublisher).publish(any(), any());
 //        }
 
-        @Test
-        @DisplayName("실패 - 존재하지 않는 사용자")
-        void requestMenuPosterAsset_EaterNotFound() {
-            // Given
-            String eaterEmail = "nonexistent@test.com";
-            MenuPosterAssetCreateRequest request = new MenuPosterAssetCreateRequest(
-                    1L, "IMAGE", List.of(1L), "프롬프트", List.of(mock(MultipartFile.class))
-            );
-
-            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail))
-                    .thenReturn(Optional.empty());
-
-            // When & Then
-            assertThatThrownBy(() -> menuPosterService.requestMenuPosterAsset(request, eaterEmail))
-                    .isInstanceOf(ApiException.class)
-                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
-        }
-
         @Test
         @DisplayName("실패 - 존재하지 않는 매장")
         void requestMenuPosterAsset_StoreNotFound() {
             // Given
-            String eaterEmail = "eater@test.com";
+            AuthenticatedUser principal = new AuthenticatedUser(1L, "eater@test.com", Role.EATER, null);
             Long nonExistentStoreId = 999L;
             MenuPosterAssetCreateRequest request = new MenuPosterAssetCreateRequest(
                     nonExistentStoreId, "IMAGE", List.of(1L), "프롬프트", List.of(mock(MultipartFile.class))
             );
 
-            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail))
-                    .thenReturn(Optional.of(testEater));
+            when(eaterRepository.getReferenceById(principal.userId()))
+                    .thenReturn(testEater);
             when(storeRepository.findById(nonExistentStoreId))
                     .thenReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> menuPosterService.requestMenuPosterAsset(request, eaterEmail))
+            assertThatThrownBy(() -> menuPosterService.requestMenuPosterAsset(request, principal))
                     .isInstanceOf(ApiException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORE_NOT_FOUND);
         }
@@ -285,7 +296,7 @@ class MenuPosterServiceImplTest {
         @DisplayName("성공 - 성공 상태 에셋 조회")
         void getMenuPosterAssetStatus_Success() {
             // Given
-            String eaterEmail = "eater@test.com";
+            Long eaterId = 1L;
             Long assetId = 1L;
             testMenuPosterAsset = MenuPosterAsset.builder()
                     .menuPoster(testMenuPoster)
@@ -294,28 +305,25 @@ class MenuPosterServiceImplTest {
                     .status(Status.SUCCESS)
                     .build();
 
-            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail))
-                    .thenReturn(Optional.of(testEater));
             when(menuPosterAssetRepository.findById(assetId))
                     .thenReturn(Optional.of(testMenuPosterAsset));
-            doNothing().when(menuValidator).validatePosterOwnership(testEater, testMenuPosterAsset);
+            doNothing().when(menuValidator).validatePosterOwnership(eaterId, testMenuPosterAsset);
 
             // When
-            AssetResultResponse response = menuPosterService.getMenuPosterAssetStatus(assetId, eaterEmail);
+            AssetResultResponse response = menuPosterService.getMenuPosterAssetStatus(assetId, eaterId);
 
             // Then
             assertThat(response.type()).isEqualTo(AssetType.IMAGE);
             assertThat(response.path()).isEqualTo("asset-url");
-            verify(eaterRepository).findByEmailAndDeletedFalse(eaterEmail);
             verify(menuPosterAssetRepository).findById(assetId);
-            verify(menuValidator).validatePosterOwnership(testEater, testMenuPosterAsset);
+            verify(menuValidator).validatePosterOwnership(eaterId, testMenuPosterAsset);
         }
 
         @Test
         @DisplayName("성공 - 대기 상태 에셋 조회")
         void getMenuPosterAssetStatus_Pending() {
             // Given
-            String eaterEmail = "eater@test.com";
+            Long eaterId = 1L;
             Long assetId = 1L;
             testMenuPosterAsset = MenuPosterAsset.builder()
                     .menuPoster(testMenuPoster)
@@ -323,14 +331,12 @@ class MenuPosterServiceImplTest {
                     .status(Status.PENDING)
                     .build();
 
-            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail))
-                    .thenReturn(Optional.of(testEater));
             when(menuPosterAssetRepository.findById(assetId))
                     .thenReturn(Optional.of(testMenuPosterAsset));
-            doNothing().when(menuValidator).validatePosterOwnership(testEater, testMenuPosterAsset);
+            doNothing().when(menuValidator).validatePosterOwnership(eaterId, testMenuPosterAsset);
 
             // When
-            AssetResultResponse response = menuPosterService.getMenuPosterAssetStatus(assetId, eaterEmail);
+            AssetResultResponse response = menuPosterService.getMenuPosterAssetStatus(assetId, eaterId);
 
             // Then
             assertThat(response.type()).isEqualTo(AssetType.IMAGE);
@@ -341,7 +347,7 @@ class MenuPosterServiceImplTest {
         @DisplayName("실패 - 실패 상태 에셋 조회")
         void getMenuPosterAssetStatus_Failed() {
             // Given
-            String eaterEmail = "eater@test.com";
+            Long eaterId = 1L;
             Long assetId = 1L;
             testMenuPosterAsset = MenuPosterAsset.builder()
                     .menuPoster(testMenuPoster)
@@ -349,14 +355,12 @@ class MenuPosterServiceImplTest {
                     .status(Status.FAIL)
                     .build();
 
-            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail))
-                    .thenReturn(Optional.of(testEater));
             when(menuPosterAssetRepository.findById(assetId))
                     .thenReturn(Optional.of(testMenuPosterAsset));
-            doNothing().when(menuValidator).validatePosterOwnership(testEater, testMenuPosterAsset);
+            doNothing().when(menuValidator).validatePosterOwnership(eaterId, testMenuPosterAsset);
 
             // When & Then
-            assertThatThrownBy(() -> menuPosterService.getMenuPosterAssetStatus(assetId, eaterEmail))
+            assertThatThrownBy(() -> menuPosterService.getMenuPosterAssetStatus(assetId, eaterId))
                     .isInstanceOf(ApiException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_URL_REQUIRED);
         }
@@ -457,16 +461,14 @@ class MenuPosterServiceImplTest {
         @DisplayName("실패 - 존재하지 않는 포스터")
         void sendMenuPosterToMaker_PosterNotFound() {
             // Given
-            String eaterEmail = "eater@test.com";
+            Long eaterId = 1L;
             Long nonExistentPosterId = 999L;
 
-            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail))
-                    .thenReturn(Optional.of(testEater));
             when(menuPosterRepository.findById(nonExistentPosterId))
                     .thenReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> menuPosterService.sendMenuPosterToMaker(nonExistentPosterId, eaterEmail))
+            assertThatThrownBy(() -> menuPosterService.sendMenuPosterToMaker(nonExistentPosterId, eaterId))
                     .isInstanceOf(ApiException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MENU_POSTER_NOT_FOUND);
         }
@@ -480,15 +482,13 @@ class MenuPosterServiceImplTest {
         @DisplayName("성공 - 메뉴 포스터 채택")
         void adoptMenuPosters_Success() {
             // Given
-            String makerEmail = "maker@test.com";
+            Long makerId = 2L;
             Long storeId = 1L;
             List<Long> posterIds = List.of(1L, 2L);
             AdoptMenuPostersRequest request = new AdoptMenuPostersRequest(storeId, posterIds);
 
             List<MenuPoster> menuPosters = List.of(testMenuPoster);
 
-            when(makerRepository.findByEmailAndDeletedFalse(makerEmail))
-                    .thenReturn(Optional.of(testMaker));
             when(storeRepository.findById(storeId))
                     .thenReturn(Optional.of(testStore));
             when(menuPosterRepository.findAllById(posterIds))
@@ -498,38 +498,79 @@ class MenuPosterServiceImplTest {
             when(adoptedMenuPosterRepository.saveAll(anyList()))
                     .thenReturn(List.of());
 
-            doNothing().when(menuValidator).validateStoreOwnership(testMaker, testStore);
+            doNothing().when(menuValidator).validateStoreOwnership(makerId, testStore);
             doNothing().when(menuValidator).validateMenuPosterCount(posterIds);
             doNothing().when(menuValidator).validateMenuPostersExist(menuPosters, posterIds);
             doNothing().when(menuValidator).validateAllPostersSent(menuPosters);
             doNothing().when(menuValidator).validatePostersBelongToStore(menuPosters, storeId);
 
             // When
-            AdoptMenuPostersResponse response = menuPosterService.adoptMenuPosters(request, makerEmail);
+            AdoptMenuPostersResponse response = menuPosterService.adoptMenuPosters(request, makerId);
 
             // Then
             assertThat(response.storeId()).isEqualTo(storeId);
             assertThat(response.adoptedMenuPosterIds()).isEqualTo(posterIds);
-            verify(makerRepository).findByEmailAndDeletedFalse(makerEmail);
             verify(storeRepository).findById(storeId);
-            verify(menuValidator).validateStoreOwnership(testMaker, testStore);
+            verify(menuValidator).validateStoreOwnership(makerId, testStore);
             verify(adoptedMenuPosterRepository).saveAll(anyList());
         }
 
         @Test
-        @DisplayName("실패 - 존재하지 않는 메이커")
-        void adoptMenuPosters_MakerNotFound() {
+        @DisplayName("실패 - 매장 소유자가 아닌 메이커")
+        void adoptMenuPosters_NotStoreOwner() {
             // Given
-            String nonExistentMakerEmail = "nonexistent@test.com";
-            AdoptMenuPostersRequest request = new AdoptMenuPostersRequest(1L, List.of(1L));
+            Long otherMakerId = 999L;
+            Long storeId = 1L;
+            AdoptMenuPostersRequest request = new AdoptMenuPostersRequest(storeId, List.of(1L));
 
-            when(makerRepository.findByEmailAndDeletedFalse(nonExistentMakerEmail))
-                    .thenReturn(Optional.empty());
+            when(storeRepository.findById(storeId))
+                    .thenReturn(Optional.of(testStore));
+            doThrow(new ApiException(ErrorCode.FORBIDDEN))
+                    .when(menuValidator).validateStoreOwnership(otherMakerId, testStore);
 
             // When & Then
-            assertThatThrownBy(() -> menuPosterService.adoptMenuPosters(request, nonExistentMakerEmail))
+            assertThatThrownBy(() -> menuPosterService.adoptMenuPosters(request, otherMakerId))
                     .isInstanceOf(ApiException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
         }
     }
+
+    @Nested
+    @DisplayName("getReceivedMenuPosters 테스트")
+    class GetReceivedMenuPostersTest {
+
+        @Test
+        @DisplayName("성공 - 소유한 매장의 메뉴 포스터 조회")
+        void getReceivedMenuPosters_Success() {
+            // Given
+            Long makerId = 2L;
+            Long storeId = 1L;
+            List<MenuPoster> posters = List.of(mock(MenuPoster.class));
+
+            when(storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, makerId))
+                    .thenReturn(true);
+            when(menuPosterRepository.findByStoreIdAndStatus(storeId, Status.SUCCESS))
+                    .thenReturn(posters);
+
+            // When & Then
+            assertThat(menuPosterService.getReceivedMenuPosters(makerId, storeId)).isEqualTo(posters);
+        }
+
+        @Test
+        @DisplayName("실패 - 삭제되었거나 소유하지 않은 매장")
+        void getReceivedMenuPosters_StoreNotOwned() {
+            // Given
+            Long makerId = 2L;
+            Long storeId = 1L;
+
+            when(storeRepository.existsByIdAndMakerIdAndDeletedFalse(storeId, makerId))
+                    .thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> menuPosterService.getReceivedMenuPosters(makerId, storeId))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORE_NOT_FOUND);
+            verify(menuPosterRepository, never()).findByStoreIdAndStatus(storeId, Status.SUCCESS);
+        }
+    }
 }
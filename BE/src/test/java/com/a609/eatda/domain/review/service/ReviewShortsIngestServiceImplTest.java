@@ -0,0 +1,174 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.domain.review.event.ReviewShortsReceivedEvent;
+import com.domain.review.repository.ReviewAssetRepository;
+import com.domain.review.service.ReviewService;
+import com.domain.review.service.ReviewThumbnailService;
+import com.domain.review.service.impl.ReviewShortsIngestServiceImpl;
+import com.global.config.FileStorageProperties;
+import com.global.constants.ErrorCode;
+import com.global.constants.Status;
+import com.global.exception.GlobalException;
+import com.global.filestorage.FileStorageService;
+import com.global.filestorage.FileUrlResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewShortsIngestServiceImplTest {
+
+    private static final String SOURCE_URL = "https://cdn.example.com/results/abc123.mp4";
+    private static final String VIDEO_PATH = "/root/eatda/data/videos/data/f00d.mp4";
+
+    @Mock
+    private ReviewService reviewService;
+    @Mock
+    private ReviewAssetRepository reviewAssetRepository;
+    @Mock
+    private ReviewThumbnailService reviewThumbnailService;
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private FileUrlResolver fileUrlResolver;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private ReviewShortsIngestServiceImpl ingestService;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setBaseDir("/root/eatda");
+        meterRegistry = new SimpleMeterRegistry();
+        ingestService = new ReviewShortsIngestServiceImpl(reviewService, reviewAssetRepository,
+                reviewThumbnailService, fileStorageService, properties, fileUrlResolver, redisTemplate, meterRegistry,
+                queued::add);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(eq("lock:shorts:ingest:1"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+    }
+
+    @Test
+    void 영상을_한_번_내려받고_로컬_파일에서_썸네일을_추출한다() {
+        Path thumbnail = Path.of("/root/eatda/data/shorts/eater@test.com/thumbnail/abc123.jpg");
+        given(reviewAssetRepository.existsByIdAndStatus(1L, Status.PENDING)).willReturn(true);
+        given(fileStorageService.storeVideoFromUrl(SOURCE_URL, "data", "shorts")).willReturn(VIDEO_PATH);
+        given(reviewThumbnailService.extractThumbnail(eq(Path.of(VIDEO_PATH)), anyString(), eq("abc123")))
+                .willReturn(thumbnail);
+        given(fileUrlResolver.toPublicUrl(VIDEO_PATH)).willReturn("https://eatda/video.mp4");
+        given(fileUrlResolver.toPublicUrl(thumbnail.toString())).willReturn("https://eatda/thumb.jpg");
+
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+        runQueued();
+
+        verify(reviewService).completeShortsIngest(1L, "https://eatda/video.mp4", "https://eatda/thumb.jpg");
+        verify(reviewThumbnailService, never()).extractThumbnail(anyString(), anyString(), anyString());
+        assertThat(meterRegistry.get("review.shorts.ingest.latency").tag("outcome", "SUCCESS").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void URL에_파일명이_없으면_에셋_ID로_썸네일_이름을_정한다() {
+        String sourceUrl = "https://cdn.example.com/results/";
+        Path thumbnail = Path.of("/root/eatda/data/shorts/eater@test.com/thumbnail/shorts-1.jpg");
+        given(reviewAssetRepository.existsByIdAndStatus(1L, Status.PENDING)).willReturn(true);
+        given(fileStorageService.storeVideoFromUrl(sourceUrl, "data", "shorts")).willReturn(VIDEO_PATH);
+        given(reviewThumbnailService.extractThumbnail(eq(Path.of(VIDEO_PATH)), anyString(), eq("shorts-1")))
+                .willReturn(thumbnail);
+
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, sourceUrl, "eater@test.com"));
+        runQueued();
+
+        verify(reviewThumbnailService).extractThumbnail(eq(Path.of(VIDEO_PATH)), anyString(), eq("shorts-1"));
+    }
+
+    @Test
+    void 다운로드에_실패하면_에셋을_실패_처리한다() {
+        given(reviewAssetRepository.existsByIdAndStatus(1L, Status.PENDING)).willReturn(true);
+        given(fileStorageService.storeVideoFromUrl(SOURCE_URL, "data", "shorts"))
+                .willThrow(new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, SOURCE_URL));
+
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+        runQueued();
+
+        verify(reviewService).failShortsIngest(1L);
+        verify(reviewService, never()).completeShortsIngest(any(), any(), any());
+    }
+
+    @Test
+    void 처리_중인_에셋은_중복_제출하지_않는다() {
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    void 처리가_끝난_에셋은_다시_제출할_수_있다() {
+        given(reviewAssetRepository.existsByIdAndStatus(1L, Status.PENDING)).willReturn(true);
+        given(fileStorageService.storeVideoFromUrl(SOURCE_URL, "data", "shorts"))
+                .willThrow(new GlobalException(ErrorCode.FILE_DOWNLOAD_ERROR, SOURCE_URL));
+
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+        runQueued();
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+        runQueued();
+
+        verify(fileStorageService, times(2)).storeVideoFromUrl(SOURCE_URL, "data", "shorts");
+    }
+
+    @Test
+    void 다른_인스턴스가_점유한_에셋은_제출하지_않는다() {
+        given(valueOperations.setIfAbsent(eq("lock:shorts:ingest:1"), anyString(), any(Duration.class)))
+                .willReturn(false);
+
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+
+        assertThat(queued).isEmpty();
+        assertThat(meterRegistry.counter("review.shorts.ingest.claim.conflict").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 점유_후_이미_완료된_에셋은_다시_받지_않고_점유를_해제한다() {
+        given(reviewAssetRepository.existsByIdAndStatus(1L, Status.PENDING)).willReturn(false);
+
+        ingestService.submit(ReviewShortsReceivedEvent.of(1L, SOURCE_URL, "eater@test.com"));
+        runQueued();
+
+        verifyNoInteractions(fileStorageService);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:shorts:ingest:1")), anyString());
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = List.copyOf(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -6,7 +6,10 @@ import com.global.constants.ErrorCode;
 import com.global.dto.response.BaseResponse;
 import com.global.dto.response.ErrorResponse;
 import com.global.exception.GlobalExceptionHandler;
+import com.global.exception.RetryAfterException;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
@@ -66,6 +69,18 @@ public class GlobalExceptionHandlerTest {
                 .containsEntry("email", "이메일은 입력해야 하는데요.");
     }
 
+    @Test
+    void 과부하_예외는_Retry_After_헤더와_함께_응답한다() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        ResponseEntity<BaseResponse> response = handler.handleRetryAfterException(
+                new RetryAfterException(ErrorCode.AI_GENERATION_BUSY, Duration.ofSeconds(30)));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(((ErrorResponse) response.getBody()).code()).isEqualTo("AI_GENERATION_BUSY");
+    }
+
     static class Dummy {
         private String email;
 
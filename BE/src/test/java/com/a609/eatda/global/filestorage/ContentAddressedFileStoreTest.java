@@ -0,0 +1,168 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.global.config.FileStorageProperties;
+import com.global.filestorage.ContentAddressedFileStore;
+import com.global.filestorage.ContentAddressedFileStore.ContentWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+class ContentAddressedFileStoreTest {
+
+    @TempDir
+    Path baseDir;
+
+    private ContentAddressedFileStore store;
+    private AtomicInteger writeCount;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setBaseDir(baseDir.toString());
+        store = new ContentAddressedFileStore(properties);
+        writeCount = new AtomicInteger();
+    }
+
+    @Test
+    void 같은_원본을_다시_저장하면_처리하지_않고_링크만_추가한다() throws Exception {
+        MockMultipartFile file = image("same-bytes");
+        Path first = baseDir.resolve("menus/a/1.webp");
+        Path second = baseDir.resolve("menus/b/2.webp");
+
+        store.store(file, "webp", ".webp", first, upperCase(file));
+        store.store(file, "webp", ".webp", second, upperCase(file));
+
+        assertThat(writeCount.get()).isEqualTo(1);
+        assertThat(Files.readString(second)).isEqualTo("SAME-BYTES");
+        assertThat(Files.isSameFile(first, second)).isTrue();
+    }
+
+    @Test
+    void 처리_방식이_다르면_다시_처리한다() throws Exception {
+        MockMultipartFile file = image("same-bytes");
+
+        store.store(file, "webp", ".webp", baseDir.resolve("menus/1.webp"), upperCase(file));
+        store.store(file, "raw", ".jpg", baseDir.resolve("menus/2.jpg"), upperCase(file));
+
+        assertThat(writeCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 원본이_달라도_결과가_같으면_객체를_공유한다() throws Exception {
+        MockMultipartFile lower = image("content");
+        MockMultipartFile mixed = image("CoNtEnT");
+        Path first = baseDir.resolve("menus/1.webp");
+        Path second = baseDir.resolve("menus/2.webp");
+
+        store.store(lower, "webp", ".webp", first, upperCase(lower));
+        store.store(mixed, "webp", ".webp", second, upperCase(mixed));
+
+        assertThat(writeCount.get()).isEqualTo(2);
+        assertThat(Files.isSameFile(first, second)).isTrue();
+    }
+
+    @Test
+    void 요청_경로를_삭제해도_다른_참조는_유지된다() throws Exception {
+        MockMultipartFile file = image("shared");
+        Path first = baseDir.resolve("menus/1.webp");
+        Path second = baseDir.resolve("menus/2.webp");
+
+        store.store(file, "webp", ".webp", first, upperCase(file));
+        store.store(file, "webp", ".webp", second, upperCase(file));
+        Files.delete(first);
+
+        assertThat(Files.readString(second)).isEqualTo("SHARED");
+    }
+
+    @Test
+    void 참조가_모두_삭제된_객체와_인덱스_항목을_정리한다() throws Exception {
+        MockMultipartFile orphan = image("orphan");
+        MockMultipartFile shared = image("shared");
+        Path orphanPath = baseDir.resolve("menus/1.webp");
+        Path sharedPath = baseDir.resolve("menus/2.webp");
+        store.store(orphan, "webp", ".webp", orphanPath, upperCase(orphan));
+        store.store(shared, "webp", ".webp", sharedPath, upperCase(shared));
+        Files.delete(orphanPath);
+        ageStore();
+
+        assertThat(store.sweep()).isEqualTo(1);
+
+        assertThat(objects()).hasSize(1);
+        assertThat(Files.readString(sharedPath)).isEqualTo("SHARED");
+        store.store(orphan, "webp", ".webp", baseDir.resolve("menus/3.webp"), upperCase(orphan));
+        assertThat(writeCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 유예_시간_안의_객체는_참조가_없어도_지우지_않는다() throws Exception {
+        MockMultipartFile file = image("recent");
+        Path path = baseDir.resolve("menus/1.webp");
+        store.store(file, "webp", ".webp", path, upperCase(file));
+        Files.delete(path);
+
+        assertThat(store.sweep()).isZero();
+        assertThat(objects()).hasSize(1);
+    }
+
+    @Test
+    void 재사용해도_객체의_수정_시각은_바꾸지_않고_인덱스_항목으로_유예한다() throws Exception {
+        MockMultipartFile file = image("reused");
+        Path first = baseDir.resolve("menus/1.webp");
+        store.store(file, "webp", ".webp", first, upperCase(file));
+        ageStore();
+        FileTime aged = Files.getLastModifiedTime(first);
+
+        store.store(file, "webp", ".webp", baseDir.resolve("menus/2.webp"), upperCase(file));
+        Files.delete(first);
+        Files.delete(baseDir.resolve("menus/2.webp"));
+
+        assertThat(objects()).singleElement()
+                .satisfies(object -> assertThat(Files.getLastModifiedTime(object)).isEqualTo(aged));
+        assertThat(store.sweep()).isZero();
+        assertThat(objects()).hasSize(1);
+    }
+
+    private void ageStore() throws IOException {
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        for (Path path : Stream.concat(objects().stream(), files("data/images/.cas/index").stream()).toList()) {
+            Files.setLastModifiedTime(path, old);
+        }
+    }
+
+    private List<Path> objects() throws IOException {
+        return files("data/images/.cas/objects");
+    }
+
+    private List<Path> files(final String dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(baseDir.resolve(dir))) {
+            return paths.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private ContentWriter upperCase(final MockMultipartFile file) {
+        return target -> {
+            writeCount.incrementAndGet();
+            Files.writeString(target, contentOf(file).toUpperCase());
+        };
+    }
+
+    private static MockMultipartFile image(final String content) {
+        return new MockMultipartFile("file", "menu.jpg", "image/jpeg", content.getBytes());
+    }
+
+    private static String contentOf(final MockMultipartFile file) throws IOException {
+        return new String(file.getBytes());
+    }
+}
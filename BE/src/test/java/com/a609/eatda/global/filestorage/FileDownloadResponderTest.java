@@ -0,0 +1,65 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.global.config.FileStorageProperties;
+import com.global.filestorage.FileDownloadResponder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+class FileDownloadResponderTest {
+
+    @TempDir
+    Path baseDir;
+
+    private FileStorageProperties properties;
+    private FileDownloadResponder responder;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new FileStorageProperties();
+        properties.setBaseDir(baseDir.toString());
+        responder = new FileDownloadResponder(properties);
+
+        file = baseDir.resolve("data/images/events/1/poster.webp");
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[]{1, 2, 3, 4});
+    }
+
+    @Test
+    void 캐시_검증_헤더를_포함해_직접_전송한다() {
+        ResponseEntity<Resource> response = responder.attachment(
+                new FileSystemResource(file), "event_1", MediaType.APPLICATION_OCTET_STREAM);
+
+        HttpHeaders headers = response.getHeaders();
+        assertThat(response.getBody()).isNotNull();
+        assertThat(headers.getContentType()).isEqualTo(MediaType.valueOf("image/webp"));
+        assertThat(headers.getETag()).matches("\"[0-9a-f]+-4\"");
+        assertThat(headers.getLastModified()).isPositive();
+        assertThat(headers.getCacheControl()).contains("private");
+        assertThat(headers.getContentDisposition().getFilename()).isEqualTo("event_1.webp");
+        assertThat(headers.containsKey("X-Accel-Redirect")).isFalse();
+    }
+
+    @Test
+    void 내부_location이_설정되면_본문_없이_nginx에_넘긴다() {
+        properties.setAccelRedirectPrefix("/_protected/");
+
+        ResponseEntity<Resource> response = responder.attachment(
+                new FileSystemResource(file), "event_1", MediaType.APPLICATION_OCTET_STREAM);
+
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getFirst("X-Accel-Redirect"))
+                .isEqualTo("/_protected/data/images/events/1/poster.webp");
+        assertThat(response.getHeaders().getETag()).isNotNull();
+    }
+}
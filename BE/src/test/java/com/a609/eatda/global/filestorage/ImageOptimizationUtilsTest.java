@@ -2,25 +2,34 @@ package com.a609.eatda.global.filestorage;
 
 import static com.global.constants.ErrorCode.INVALID_FILE_TYPE;
 import static com.global.filestorage.constants.FileStorageConstants.DEFAULT_IMAGE_WIDTH;
+import static com.global.utils.ImageOptimizationUtils.generateVariants;
 import static com.global.utils.ImageOptimizationUtils.optimize;
+import static com.global.utils.ImageOptimizationUtils.optimizeTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 
 import com.global.exception.GlobalException;
+import com.global.filestorage.ImageVariant;
 import com.sksamuel.scrimage.ImmutableImage;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 import java.util.Objects;
 import javax.imageio.ImageIO;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.mock.web.MockMultipartFile;
@@ -129,6 +138,80 @@ class ImageOptimizationUtilsTest {
         assertThat(resizedRatio).isCloseTo(originalRatio, within(0.01));
     }
 
+    @ParameterizedTest(name = "이미지 파일({0}) → 대상 경로에 WebP로 직접 기록")
+    @ValueSource(strings = {
+            "cute.jpg",
+            "sleep.jpg",
+            "mongle.png"
+    })
+    void 최적화_결과를_대상_경로에_직접_기록한다(String fileName, @TempDir Path tempDir) throws Exception {
+        MockMultipartFile multipartFile = loadTestImage(fileName);
+        Path target = tempDir.resolve("result.webp");
+
+        optimizeTo(multipartFile, true, target);
+
+        ImmutableImage webpImg = ImmutableImage.loader().fromPath(target);
+        assertThat(Math.max(webpImg.width, webpImg.height)).isEqualTo(DEFAULT_IMAGE_WIDTH);
+    }
+
+    @Test
+    void 대상_경로_기록_시_원본_포맷을_유지할_수_있다(@TempDir Path tempDir) throws Exception {
+        MockMultipartFile multipartFile = loadTestImage("sleep.jpg");
+        Path target = tempDir.resolve("result.jpeg");
+
+        optimizeTo(multipartFile, false, target);
+
+        BufferedImage written = ImageIO.read(target.toFile());
+        assertThat(Math.max(written.getWidth(), written.getHeight())).isEqualTo(DEFAULT_IMAGE_WIDTH);
+    }
+
+    @Test
+    void 대상_경로_기록_실패_시_파일을_남기지_않는다(@TempDir Path tempDir) throws Exception {
+        MockMultipartFile fakeJpg = new MockMultipartFile(
+                "file", "fake.jpg", "image/jpeg", "이건 진짜 이미지가 아닙니다.".getBytes());
+        Path target = tempDir.resolve("result.webp");
+
+        assertThatThrownBy(() -> optimizeTo(fakeJpg, true, target))
+                .isInstanceOf(GlobalException.class)
+                .hasMessageContaining(INVALID_FILE_TYPE.getMessage());
+        assertThat(Files.exists(target)).isFalse();
+    }
+
+    @Test
+    void 원본_옆에_폭별_WebP_변형을_생성한다(@TempDir Path tempDir) throws Exception {
+        Path source = tempDir.resolve("origin.jpg");
+        try (InputStream input = loadTestImage("sleep.jpg").getInputStream()) {
+            Files.copy(input, source, StandardCopyOption.REPLACE_EXISTING);
+        }
+        int sourceWidth = ImageIO.read(source.toFile()).getWidth();
+
+        Map<ImageVariant, Path> variants = generateVariants(source);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (sourceWidth < variant.getWidth()) {
+                assertThat(variants).doesNotContainKey(variant);
+                continue;
+            }
+            Path path = variants.get(variant);
+            assertThat(path).isEqualTo(tempDir.resolve(variant.fileName("origin.jpg")));
+            assertThat(ImmutableImage.loader().fromPath(path).width).isEqualTo(variant.getWidth());
+        }
+    }
+
+    @Test
+    void 서브샘플링_디코딩_시에도_EXIF_방향을_적용한다(@TempDir Path tempDir) throws Exception {
+        // 가로 3000 x 세로 1000 이미지에 "시계 방향 90도 회전"(Orientation=6) 태그 추가
+        byte[] jpeg = withExifOrientation(encodeJpeg(new BufferedImage(3000, 1000, BufferedImage.TYPE_INT_RGB)), 6);
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "rotated.jpg", "image/jpeg", jpeg);
+        Path target = tempDir.resolve("result.webp");
+
+        optimizeTo(multipartFile, true, target);
+
+        ImmutableImage webpImg = ImmutableImage.loader().fromPath(target);
+        assertThat(webpImg.height).isEqualTo(DEFAULT_IMAGE_WIDTH);
+        assertThat(webpImg.width).isLessThan(webpImg.height);
+    }
+
     // ========== 유틸 메서드 ==========
 
     private MockMultipartFile loadTestImage(String name) throws IOException, URISyntaxException {
@@ -141,6 +224,29 @@ class ImageOptimizationUtilsTest {
         return new MockMultipartFile("file", file.getName(), contentType, new FileInputStream(file));
     }
 
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", output);
+        return output.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 담은 EXIF(APP1) 세그먼트를 삽입
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+        byte[] result = new byte[jpeg.length + exif.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(exif, 0, result, 2, exif.length);
+        System.arraycopy(jpeg, 2, result, 2 + exif.length, jpeg.length - 2);
+        return result;
+    }
+
     private byte[] toByteArray(InputStream input) throws IOException {
         return IOUtils.toByteArray(input);
     }
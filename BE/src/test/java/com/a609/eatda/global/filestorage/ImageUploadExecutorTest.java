@@ -0,0 +1,98 @@
+package com.a609.eatda.global.filestorage;
+
+import static com.global.constants.ErrorCode.INVALID_FILE_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.global.exception.GlobalException;
+import com.global.filestorage.ImageUploadExecutor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+class ImageUploadExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(3);
+    private final ImageUploadExecutor imageUploadExecutor = new ImageUploadExecutor(pool);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void 여러_파일을_동시에_처리하고_입력_순서대로_경로를_반환한다() {
+        List<MultipartFile> files = List.of(file("a.jpg"), file("b.jpg"), file("c.jpg"));
+        CountDownLatch allStarted = new CountDownLatch(files.size());
+
+        List<String> paths = imageUploadExecutor.uploadAll(files, file -> {
+            allStarted.countDown();
+            awaitQuietly(allStarted);
+            return "stored/" + file.getOriginalFilename();
+        });
+
+        assertThat(allStarted.getCount()).isZero();
+        assertThat(paths).containsExactly("stored/a.jpg", "stored/b.jpg", "stored/c.jpg");
+    }
+
+    @Test
+    void 하나라도_실패하면_원래_예외를_그대로_던진다() {
+        List<MultipartFile> files = List.of(file("ok.jpg"), file("fake.jpg"));
+
+        assertThatThrownBy(() -> imageUploadExecutor.uploadAll(files, file -> {
+            if (file.getOriginalFilename().startsWith("fake")) {
+                throw new GlobalException(INVALID_FILE_TYPE, file.getOriginalFilename());
+            }
+            return "stored/" + file.getOriginalFilename();
+        }))
+                .isInstanceOf(GlobalException.class)
+                .hasMessageContaining(INVALID_FILE_TYPE.getMessage());
+    }
+
+    @Test
+    void 하나라도_실패하면_이미_저장된_파일을_삭제한다(@TempDir Path dir) {
+        List<MultipartFile> files = List.of(file("ok.jpg"), file("fake.jpg"));
+        Path stored = dir.resolve("ok.jpg");
+
+        assertThatThrownBy(() -> imageUploadExecutor.uploadAll(files, file -> {
+            if (file.getOriginalFilename().startsWith("fake")) {
+                throw new GlobalException(INVALID_FILE_TYPE, file.getOriginalFilename());
+            }
+            writeQuietly(stored);
+            return stored.toString();
+        })).isInstanceOf(GlobalException.class);
+
+        assertThat(stored).doesNotExist();
+    }
+
+    private MockMultipartFile file(String name) {
+        return new MockMultipartFile("file", name, "image/jpeg", new byte[]{1});
+    }
+
+    private void writeQuietly(Path path) {
+        try {
+            Files.write(path, new byte[]{1});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.global.filestorage.ImageVariant;
+import com.global.filestorage.ImageVariantRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantRegistryTest {
+
+    private static final String FIRST = "https://eatda/data/images/a.jpg";
+    private static final String SECOND = "https://eatda/data/images/b.jpg";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private ImageVariantRegistry imageVariantRegistry;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantRegistry = new ImageVariantRegistry(redisTemplate);
+    }
+
+    @Test
+    void 생성된_변형을_폭별_집합에_기록한다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+
+        imageVariantRegistry.register(FIRST, List.of(ImageVariant.W480));
+
+        verify(setOperations).add("image:variants:480", FIRST);
+    }
+
+    @Test
+    void 삭제된_이미지의_변형_기록을_지운다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+
+        imageVariantRegistry.unregister(Arrays.asList(FIRST, null, FIRST));
+
+        verify(setOperations).remove("image:variants:480", FIRST);
+    }
+
+    @Test
+    void 변형_기록_삭제에_실패해도_예외를_던지지_않는다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.remove("image:variants:480", FIRST))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        imageVariantRegistry.unregister(List.of(FIRST));
+    }
+
+    @Test
+    void 페이지의_이미지를_한_번에_조회해_생성된_것만_반환한다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.isMember("image:variants:480", FIRST, SECOND))
+                .willReturn(Map.of(FIRST, true, SECOND, false));
+
+        assertThat(imageVariantRegistry.findGenerated(Arrays.asList(FIRST, null, SECOND, FIRST), ImageVariant.W480))
+                .containsExactly(FIRST);
+    }
+
+    @Test
+    void 조회할_이미지가_없으면_Redis를_호출하지_않는다() {
+        assertThat(imageVariantRegistry.findGenerated(Arrays.asList(null, null), ImageVariant.W480)).isEmpty();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void 조회에_실패하면_원본_URL을_쓰도록_빈_값을_반환한다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.isMember("image:variants:480", FIRST))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(imageVariantRegistry.findGenerated(List.of(FIRST), ImageVariant.W480)).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.global.filestorage.MediaProcessRunner;
+import com.global.filestorage.MediaProcessRunner.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MediaProcessRunnerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MediaProcessRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new MediaProcessRunner(meterRegistry, 2);
+    }
+
+    @Test
+    void 정상_종료하면_출력과_종료_코드를_돌려준다() throws Exception {
+        Result result = runner.run("test", List.of("sh", "-c", "echo hello"), Duration.ofSeconds(5));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.output()).isEqualTo("hello");
+        assertThat(meterRegistry.get("media.job.duration").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_종료_코드를_전달한다() throws Exception {
+        Result result = runner.run("test", List.of("sh", "-c", "echo broken >&2; exit 3"), Duration.ofSeconds(5));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.exitCode()).isEqualTo(3);
+        assertThat(result.output()).isEqualTo("broken");
+    }
+
+    @Test
+    void 제한_시간을_넘기면_프로세스를_종료한다() throws Exception {
+        long start = System.nanoTime();
+        Result result = runner.run("test", List.of("sleep", "10"), Duration.ofMillis(200));
+
+        assertThat(result.timedOut()).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("media.job.running").gauge().value()).isZero();
+    }
+}
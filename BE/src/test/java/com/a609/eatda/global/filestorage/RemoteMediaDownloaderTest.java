@@ -0,0 +1,111 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.global.config.FileStorageProperties;
+import com.global.constants.ErrorCode;
+import com.global.exception.GlobalException;
+import com.global.filestorage.RemoteMediaDownloader;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RemoteMediaDownloaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RemoteMediaDownloader downloader;
+
+    @BeforeEach
+    void setUp() {
+        downloader = new RemoteMediaDownloader(HttpClient.newHttpClient(), new FileStorageProperties());
+    }
+
+    @Test
+    void 본문을_파일에_기록한다() throws Exception {
+        Path target = tempDir.resolve("video.part");
+
+        long size = downloader.writeTo(new ByteArrayInputStream("0123456789".getBytes()), target, 0L, 100L);
+
+        assertThat(size).isEqualTo(10L);
+        assertThat(Files.readString(target)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void 이어받기면_기존_내용_뒤에_이어_쓴다() throws Exception {
+        Path target = tempDir.resolve("video.part");
+        Files.writeString(target, "01234");
+
+        downloader.writeTo(new ByteArrayInputStream("56789".getBytes()), target, 5L, 100L);
+
+        assertThat(Files.readString(target)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void 처음부터_받으면_이전_내용을_비운다() throws Exception {
+        Path target = tempDir.resolve("video.part");
+        Files.writeString(target, "stale-partial-content");
+
+        downloader.writeTo(new ByteArrayInputStream("fresh".getBytes()), target, 0L, 100L);
+
+        assertThat(Files.readString(target)).isEqualTo("fresh");
+    }
+
+    @Test
+    void 최대_크기를_넘으면_예외가_발생한다() {
+        Path target = tempDir.resolve("video.part");
+
+        assertThatThrownBy(() -> downloader.writeTo(
+                new ByteArrayInputStream("0123456789".getBytes()), target, 0L, 9L))
+                .isInstanceOf(GlobalException.class)
+                .hasMessageContaining(ErrorCode.FILE_TOO_LARGE.getMessage());
+    }
+
+    @Test
+    void 허용되지_않은_스킴은_거부한다() {
+        assertThatThrownBy(() -> downloader.resolve("file:///etc/passwd"))
+                .isInstanceOf(GlobalException.class);
+    }
+
+    @Test
+    void 다운로드가_끝난_호스트의_연결_허용량은_유지하지_않는다() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/video", exchange -> {
+            byte[] body = "video".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            int port = server.getAddress().getPort();
+            for (String host : List.of("127.0.0.1", "localhost")) {
+                URI uri = URI.create("http://" + host + ":" + port + "/video");
+                assertThat(downloader.fetch(uri, 0L, HttpResponse::statusCode)).isEqualTo(200);
+                assertThatThrownBy(() -> downloader.fetch(uri, 0L, response -> {
+                    throw new IOException("handler failed");
+                })).isInstanceOf(IOException.class);
+            }
+
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(downloader, "hostPermits")).isEmpty();
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+
+import com.global.exception.GlobalException;
+import com.global.filestorage.MediaProcessRunner;
+import com.global.filestorage.MediaProcessRunner.Result;
+import com.global.filestorage.VideoOptimizer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoOptimizerTest {
+
+    @Mock
+    private MediaProcessRunner mediaProcessRunner;
+
+    @TempDir
+    Path tempDir;
+
+    private VideoOptimizer videoOptimizer;
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        videoOptimizer = new VideoOptimizer(mediaProcessRunner);
+        input = Files.writeString(tempDir.resolve("input.part"), "video");
+        output = tempDir.resolve("output.mp4");
+    }
+
+    @Test
+    void 세로_영상은_가로를_목표_해상도로_맞춰_축소한다() throws Exception {
+        given(mediaProcessRunner.run(eq("probe"), anyList(), any())).willReturn(new Result(0, false,
+                "codec_name=h264|codec_type=video|width=1080|height=1920|pix_fmt=yuv420p|bit_rate=6000000"));
+        ArgumentCaptor<List<String>> command = ArgumentCaptor.captor();
+        given(mediaProcessRunner.run(startsWith("transcode"), command.capture(), any())).willAnswer(invocation -> {
+            Files.writeString(output, "optimized");
+            return new Result(0, false, "");
+        });
+
+        videoOptimizer.optimize(input, output);
+
+        assertThat(command.getValue()).containsSequence("-vf", "scale=720:-2");
+        assertThat(output).exists();
+    }
+
+    @Test
+    void 인코딩에_실패하면_출력_파일을_남기지_않는다() throws Exception {
+        given(mediaProcessRunner.run(eq("probe"), anyList(), any())).willReturn(new Result(1, false, "broken"));
+        given(mediaProcessRunner.run(startsWith("transcode"), anyList(), any())).willAnswer(invocation -> {
+            Files.writeString(output, "partial");
+            return new Result(1, false, "error");
+        });
+
+        assertThatThrownBy(() -> videoOptimizer.optimize(input, output)).isInstanceOf(GlobalException.class);
+        assertThat(output).doesNotExist();
+        assertThat(input).exists();
+    }
+}
@@ -0,0 +1,75 @@
+package com.a609.eatda.global.filestorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.global.filestorage.VideoProbe;
+import com.global.filestorage.VideoTranscodePlan;
+import org.junit.jupiter.api.Test;
+
+class VideoTranscodePlanTest {
+
+    @Test
+    void ffprobe_출력을_파싱한다() {
+        String output = """
+                codec_name=h264|codec_type=video|width=720|height=1280|pix_fmt=yuv420p|bit_rate=1500000
+                codec_name=aac|codec_type=audio|bit_rate=128000
+                """;
+
+        VideoProbe probe = VideoProbe.parse(output).orElseThrow();
+
+        assertThat(probe.videoCodec()).isEqualTo("h264");
+        assertThat(probe.width()).isEqualTo(720);
+        assertThat(probe.height()).isEqualTo(1280);
+        assertThat(probe.videoBitRate()).isEqualTo(1_500_000L);
+        assertThat(probe.audioCodec()).isEqualTo("aac");
+    }
+
+    @Test
+    void 비디오_스트림이_없으면_빈_값() {
+        assertThat(VideoProbe.parse("codec_name=aac|codec_type=audio|bit_rate=N/A")).isEmpty();
+    }
+
+    @Test
+    void 목표_형식이면_리먹스만_한다() {
+        VideoProbe probe = new VideoProbe("h264", "yuv420p", 406, 720, 1_200_000L, "aac");
+
+        assertThat(VideoTranscodePlan.of(probe)).isEqualTo(VideoTranscodePlan.REMUX);
+    }
+
+    @Test
+    void 오디오가_없어도_리먹스한다() {
+        VideoProbe probe = new VideoProbe("h264", "yuv420p", 720, 480, 0L, null);
+
+        assertThat(VideoTranscodePlan.of(probe)).isEqualTo(VideoTranscodePlan.REMUX);
+    }
+
+    @Test
+    void 짧은_변만_크면_축소_인코딩한다() {
+        VideoProbe probe = new VideoProbe("h264", "yuv420p", 1080, 1920, 6_000_000L, "aac");
+
+        assertThat(VideoTranscodePlan.of(probe)).isEqualTo(VideoTranscodePlan.SCALE);
+    }
+
+    @Test
+    void 세로_720p_영상은_짧은_변_기준으로_리먹스한다() {
+        VideoProbe probe = new VideoProbe("h264", "yuv420p", 720, 1280, 1_500_000L, "aac");
+
+        assertThat(VideoTranscodePlan.of(probe)).isEqualTo(VideoTranscodePlan.REMUX);
+    }
+
+    @Test
+    void 가로_1080p_영상은_축소_인코딩한다() {
+        VideoProbe probe = new VideoProbe("h264", "yuv420p", 1920, 1080, 4_000_000L, "aac");
+
+        assertThat(VideoTranscodePlan.of(probe)).isEqualTo(VideoTranscodePlan.SCALE);
+    }
+
+    @Test
+    void 코덱이_다르거나_정보가_없으면_전체_인코딩한다() {
+        assertThat(VideoTranscodePlan.of(new VideoProbe("hevc", "yuv420p", 720, 1280, 0L, "aac")))
+                .isEqualTo(VideoTranscodePlan.TRANSCODE);
+        assertThat(VideoTranscodePlan.of(new VideoProbe("h264", "yuv420p", 406, 720, 9_000_000L, "aac")))
+                .isEqualTo(VideoTranscodePlan.TRANSCODE);
+        assertThat(VideoTranscodePlan.of(null)).isEqualTo(VideoTranscodePlan.TRANSCODE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.a609.eatda.global.notification;
+
+import static com.global.redis.constants.RedisConstants.PUBSUB_ASSET_COMPLETION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.constants.AssetType;
+import com.global.constants.ErrorCode;
+import com.global.constants.Status;
+import com.global.exception.ApiException;
+import com.global.notification.AssetCompletedEvent;
+import com.global.notification.AssetCompletionNotifier;
+import com.global.notification.AssetDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class AssetCompletionNotifierTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AssetCompletionNotifier notifier;
+
+    private final AssetCompletedEvent completed =
+            AssetCompletedEvent.of(AssetDomain.EVENT, 1L, Status.SUCCESS, AssetType.IMAGE, "events/1.webp");
+
+    @BeforeEach
+    void setUp() {
+        notifier = new AssetCompletionNotifier(redisTemplate, listenerContainer, objectMapper);
+    }
+
+    @Test
+    @DisplayName("완료 이벤트는 Redis Pub/Sub 채널로 발행된다")
+    void publish_SendsToChannel() {
+        notifier.publish(completed);
+
+        verify(redisTemplate).convertAndSend(eq(PUBSUB_ASSET_COMPLETION), anyString());
+    }
+
+    @Test
+    @DisplayName("구독 중인 에셋의 완료 메시지를 수신하면 연결이 완료된다")
+    void onMessage_CompletesSubscriber() throws Exception {
+        SseEmitter emitter = notifier.subscribe(AssetDomain.EVENT, 1L, () -> null);
+
+        byte[] body = objectMapper.writeValueAsBytes(completed);
+        notifier.onMessage(new DefaultMessage(PUBSUB_ASSET_COMPLETION.getBytes(), body), null);
+
+        assertThat(emitter).isNotNull();
+        assertThatThrownBy(() -> emitter.send("after-complete"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("권한 검증 실패 시 예외가 그대로 전달된다")
+    void subscribe_PropagatesValidationFailure() {
+        assertThatThrownBy(() -> notifier.subscribe(AssetDomain.EVENT, 1L, () -> {
+            throw new ApiException(ErrorCode.FORBIDDEN);
+        }))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+    }
+}
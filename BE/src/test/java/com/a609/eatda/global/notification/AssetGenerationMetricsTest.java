@@ -0,0 +1,37 @@
+package com.a609.eatda.global.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.global.constants.Status;
+import com.global.notification.AssetDomain;
+import com.global.notification.AssetGenerationMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AssetGenerationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AssetGenerationMetrics metrics = new AssetGenerationMetrics(registry);
+
+    @Test
+    void 완료된_에셋의_생성_소요_시간을_도메인_상태별로_기록한다() {
+        metrics.recordCompleted(AssetDomain.REVIEW, Status.SUCCESS, LocalDateTime.now().minusSeconds(30));
+
+        Timer timer = registry.get("asset.generation.latency")
+                .tags("domain", "REVIEW", "status", "SUCCESS")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1L);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isBetween(29.0, 35.0);
+    }
+
+    @Test
+    void 대기_중이거나_생성_시각이_없으면_기록하지_않는다() {
+        metrics.recordCompleted(AssetDomain.EVENT, Status.PENDING, LocalDateTime.now());
+        metrics.recordCompleted(AssetDomain.EVENT, Status.FAIL, null);
+
+        assertThat(registry.find("asset.generation.latency").timers()).isEmpty();
+    }
+}
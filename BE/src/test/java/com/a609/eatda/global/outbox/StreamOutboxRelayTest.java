@@ -0,0 +1,153 @@
+package com.a609.eatda.global.outbox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.outbox.StreamOutbox;
+import com.global.outbox.StreamOutboxDeadLetterHandler;
+import com.global.outbox.StreamOutboxEnqueuedEvent;
+import com.global.outbox.StreamOutboxRelay;
+import com.global.outbox.StreamOutboxRepository;
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.publisher.RedisStreamFieldPublisher;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class StreamOutboxRelayTest {
+
+    @Mock
+    private StreamOutboxRepository streamOutboxRepository;
+    @Mock
+    private RedisStreamFieldPublisher fieldPublisher;
+    @Mock
+    private StreamOutboxDeadLetterHandler deadLetterHandler;
+
+    private StreamOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new StreamOutboxRelay(streamOutboxRepository, fieldPublisher, deadLetterHandler, new ObjectMapper());
+    }
+
+    @Test
+    void 커밋_이후_발행에_성공하면_아웃박스_행을_삭제한다() {
+        Map<String, String> fields = Map.of("eventAssetId", "1");
+        given(fieldPublisher.publishAsync(RedisStreamKey.EVENT_ASSET, fields))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        relay.onEnqueued(new StreamOutboxEnqueuedEvent(10L, RedisStreamKey.EVENT_ASSET, fields));
+
+        verify(streamOutboxRepository).deleteById(10L);
+    }
+
+    @Test
+    void 커밋_이후_발행에_실패하면_재발행을_위해_행을_남긴다() {
+        Map<String, String> fields = Map.of("eventAssetId", "1");
+        given(fieldPublisher.publishAsync(RedisStreamKey.EVENT_ASSET, fields))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("Redis 연결 실패")));
+
+        relay.onEnqueued(new StreamOutboxEnqueuedEvent(10L, RedisStreamKey.EVENT_ASSET, fields));
+
+        verify(streamOutboxRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void 점유한_메시지를_스트림별로_묶어_필드_순서대로_재발행하고_삭제한다() {
+        StreamOutbox first = outbox(1L, RedisStreamKey.MENU_POSTER,
+                "{\"menuPostAssetId\":\"3\",\"type\":\"IMAGE\"}");
+        StreamOutbox second = outbox(2L, RedisStreamKey.MENU_POSTER, "{\"menuPostAssetId\":\"4\"}");
+        StreamOutbox other = outbox(3L, RedisStreamKey.EVENT_ASSET, "{\"eventAssetId\":\"5\"}");
+        givenClaimed(first, other, second);
+
+        relay.relayPending();
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("menuPostAssetId", "3");
+        expected.put("type", "IMAGE");
+        verify(fieldPublisher).publishAll(RedisStreamKey.MENU_POSTER,
+                List.of(expected, Map.of("menuPostAssetId", "4")));
+        verify(fieldPublisher).publishAll(RedisStreamKey.EVENT_ASSET, List.of(Map.of("eventAssetId", "5")));
+        verify(streamOutboxRepository).deleteClaimed(eq(List.of(1L, 2L)), anyString());
+        verify(streamOutboxRepository).deleteClaimed(eq(List.of(3L)), anyString());
+    }
+
+    @Test
+    void 다른_발행자가_모두_점유했으면_발행하지_않는다() {
+        given(streamOutboxRepository.findClaimableIds(any(), anyInt(), any())).willReturn(List.of(1L));
+        given(streamOutboxRepository.claim(any(), anyString(), any(), any(), anyInt())).willReturn(0);
+
+        relay.relayPending();
+
+        verify(streamOutboxRepository, never()).findByClaimToken(any());
+        verifyNoInteractions(fieldPublisher);
+    }
+
+    @Test
+    void 재발행에_실패하면_시도_횟수와_오류를_기록하고_점유를_해제한다() {
+        StreamOutbox outbox = outbox(7L, RedisStreamKey.REVIEW_ASSET, "{\"reviewAssetId\":\"7\"}");
+        givenClaimed(outbox);
+        willThrow(new RuntimeException("Redis 연결 실패")).given(fieldPublisher).publishAll(any(), any());
+
+        relay.relayPending();
+
+        verify(streamOutboxRepository)
+                .releaseFailed(eq(List.of(7L)), anyString(), contains("Redis 연결 실패"), any());
+        verify(streamOutboxRepository, never()).deleteClaimed(any(), any());
+        verifyNoInteractions(deadLetterHandler);
+    }
+
+    @Test
+    void 최대_재시도를_넘긴_메시지는_대기_중인_작업을_실패_처리한다() {
+        StreamOutbox outbox = outbox(7L, RedisStreamKey.REVIEW_ASSET, "{\"reviewAssetId\":\"7\"}");
+        ReflectionTestUtils.setField(outbox, "attempts", 9);
+        givenClaimed(outbox);
+        willThrow(new RuntimeException("Redis 연결 실패")).given(fieldPublisher).publishAll(any(), any());
+
+        relay.relayPending();
+
+        verify(deadLetterHandler).handle(RedisStreamKey.REVIEW_ASSET, Map.of("reviewAssetId", "7"));
+    }
+
+    @Test
+    void 역직렬화할_수_없는_메시지는_바로_재발행_대상에서_제외한다() {
+        StreamOutbox outbox = outbox(8L, RedisStreamKey.EVENT_ASSET, "not-json");
+        givenClaimed(outbox);
+
+        relay.relayPending();
+
+        verify(streamOutboxRepository).markDead(eq(8L), anyString(), anyString(), eq(10));
+        verifyNoInteractions(fieldPublisher);
+    }
+
+    private void givenClaimed(final StreamOutbox... outboxes) {
+        List<Long> ids = Arrays.stream(outboxes).map(StreamOutbox::getId).toList();
+        given(streamOutboxRepository.findClaimableIds(any(), anyInt(), any())).willReturn(ids);
+        given(streamOutboxRepository.claim(eq(ids), anyString(), any(), any(), anyInt())).willReturn(ids.size());
+        given(streamOutboxRepository.findByClaimToken(anyString())).willReturn(List.of(outboxes));
+    }
+
+    private StreamOutbox outbox(final Long id, final RedisStreamKey streamKey, final String payload) {
+        StreamOutbox outbox = StreamOutbox.of(streamKey, payload);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -0,0 +1,148 @@
+package com.a609.eatda.global.redis.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import com.global.constants.ErrorCode;
+import com.global.exception.RetryAfterException;
+import com.global.redis.admission.RedisStreamAdmissionControl;
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.metrics.RedisStreamStats;
+import com.global.redis.metrics.RedisStreamStats.GroupStats;
+import com.global.redis.metrics.RedisStreamStatsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStreamAdmissionControlTest {
+
+    private static final RedisStreamKey STREAM = RedisStreamKey.REVIEW_ASSET;
+    private static final long LIMIT = (long) (STREAM.maxLen() * 0.8);
+
+    @Mock
+    private RedisStreamStatsCollector statsCollector;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    // Redis 공유 카운터 (키별)
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private RedisStreamAdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenAnswer(invocation ->
+                counter(invocation.<List<String>>getArgument(1).get(0)).incrementAndGet());
+        lenient().when(redisTemplate.delete(anyString())).thenAnswer(invocation ->
+                counters.remove(invocation.<String>getArgument(0)) != null);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.decrement(anyString())).thenAnswer(invocation ->
+                counter(invocation.getArgument(0)).decrementAndGet());
+
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new RedisStreamAdmissionControl(statsCollector, redisTemplate, meterRegistry);
+    }
+
+    @Test
+    void 측정_리스너로_등록된다() {
+        verify(statsCollector).addListener(any());
+    }
+
+    @Test
+    void 적체가_한도_미만이면_요청을_받고_적체에_더한다() {
+        admissionControl.onSample(STREAM, backlogOf(10));
+
+        admissionControl.admit(STREAM);
+
+        assertThat(admissionControl.backlog(STREAM)).isEqualTo(11L);
+        assertThat(meterRegistry.get("redis.stream.backlog").tag("stream", STREAM.value()).gauge().value())
+                .isEqualTo(11.0);
+    }
+
+    @Test
+    void 적체가_한도에_도달하면_Retry_After로_거절한다() {
+        admissionControl.onSample(STREAM, backlogOf(LIMIT));
+
+        assertThatThrownBy(() -> admissionControl.admit(STREAM))
+                .isInstanceOfSatisfying(RetryAfterException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_GENERATION_BUSY);
+                    assertThat(e.getRetryAfter()).isPositive();
+                });
+        assertThat(admissionControl.backlog(STREAM)).isEqualTo(LIMIT);
+        assertThat(meterRegistry.get("redis.stream.admission.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 측정_사이에_받은_요청도_한도에_반영한다() {
+        admissionControl.onSample(STREAM, backlogOf(LIMIT - 2));
+
+        admissionControl.admit(STREAM);
+        admissionControl.admit(STREAM);
+
+        assertThatThrownBy(() -> admissionControl.admit(STREAM)).isInstanceOf(RetryAfterException.class);
+    }
+
+    @Test
+    void 측정하면_이전에_받은_요청_수는_측정값으로_대체된다() {
+        admissionControl.onSample(STREAM, backlogOf(0));
+        admissionControl.admit(STREAM);
+        admissionControl.admit(STREAM);
+
+        admissionControl.onSample(STREAM, backlogOf(5));
+
+        assertThat(admissionControl.backlog(STREAM)).isEqualTo(5L);
+    }
+
+    @Test
+    void 다른_인스턴스가_받은_요청도_한도에_반영한다() {
+        RedisStreamAdmissionControl other = new RedisStreamAdmissionControl(statsCollector, redisTemplate,
+                new SimpleMeterRegistry());
+        admissionControl.onSample(STREAM, backlogOf(LIMIT - 2));
+        other.onSample(STREAM, backlogOf(LIMIT - 2));
+
+        other.admit(STREAM);
+        other.admit(STREAM);
+
+        assertThatThrownBy(() -> admissionControl.admit(STREAM)).isInstanceOf(RetryAfterException.class);
+        assertThat(counter("stream:admission:" + STREAM.value())).hasValue(2L);
+    }
+
+    @Test
+    void 공유_카운터를_쓸_수_없으면_측정값만으로_판단한다() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .willThrow(new IllegalStateException("Redis 연결 실패"));
+        admissionControl.onSample(STREAM, backlogOf(LIMIT - 1));
+
+        admissionControl.admit(STREAM);
+        admissionControl.onSample(STREAM, backlogOf(LIMIT));
+
+        assertThatThrownBy(() -> admissionControl.admit(STREAM)).isInstanceOf(RetryAfterException.class);
+    }
+
+    private AtomicLong counter(final String key) {
+        return counters.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private static RedisStreamStats backlogOf(final long undelivered) {
+        return new RedisStreamStats(undelivered, List.of(new GroupStats("ai", undelivered, 0)));
+    }
+}
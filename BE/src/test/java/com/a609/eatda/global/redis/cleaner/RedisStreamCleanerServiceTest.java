@@ -1,195 +1,112 @@
 package com.a609.eatda.global.redis.cleaner;
 
+import static com.global.redis.constants.RedisConstants.REDIS_XTRIM_EXPIRED_SCRIPT;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.global.redis.cleaner.RedisStreamCleanerService;
 import com.global.redis.constants.RedisStreamKey;
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Range;
-import org.springframework.data.redis.connection.Limit;
-import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StreamOperations;
 
 @ExtendWith(MockitoExtension.class)
 class RedisStreamCleanerServiceTest {
 
-    private static final String EXPIRE_AT = "expireAt";
-
-    @Mock
-    private RedisTemplate<String, Object> redisTemplate;
-
     @Mock
-    private ObjectMapper objectMapper;
+    private RedisTemplate<String, String> redisTemplate;
 
-    @InjectMocks
     private RedisStreamCleanerService cleanerService;
-
-    @Mock
-    private StreamOperations<String, Object, Object> streamOperations;
+    private List<List<String>> commands;
+    private String faultyKey;
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
-    }
-
-    @Test
-    void TTL이_만료된_모든_스트림의_메시지는_삭제된다() {
-        LocalDateTime expiredTime = LocalDateTime.now().minusMinutes(10);
-        RecordId recordId = RecordId.of("expired-1");
-
-        for (RedisStreamKey key : RedisStreamKey.values()) {
-            mockStreamRecords(key.value(), List.of(new MessageMock(recordId, expiredTime)));
-        }
-
-        cleanerService.cleanExpiredMessagesFromAllStreams();
-
-        for (RedisStreamKey key : RedisStreamKey.values()) {
-            verify(streamOperations).delete(eq(key.value()), eq(recordId));
-        }
+        cleanerService = new RedisStreamCleanerService(redisTemplate);
+        commands = new ArrayList<>();
+
+        // 보낸 명령을 문자열로 기록하는 커넥션
+        RedisConnection connection = mock(RedisConnection.class, invocation -> {
+            Object[] raw = invocation.getRawArguments();
+            List<String> command = new ArrayList<>();
+            command.add((String) raw[0]);
+            Arrays.stream((byte[][]) raw[1]).map(arg -> new String(arg, StandardCharsets.UTF_8)).forEach(command::add);
+            if (command.get(3).equals(faultyKey)) {
+                throw new RuntimeException("fail");
+            }
+            commands.add(command);
+            return 3L;
+        });
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
     }
 
     @Test
-    void TTL이_지난_메시지만_삭제된다() {
-        String key = RedisStreamKey.OCR_MENU.value();
-        LocalDateTime now = LocalDateTime.now();
-        MessageMock expired = new MessageMock(RecordId.of("expired-1"), now.minusMinutes(5));
-        MessageMock valid = new MessageMock(RecordId.of("not-expired-1"), now.plusMinutes(5));
-
-        mockStreamRecords(key, List.of(expired, valid));
-
+    void 보존_기간이_있는_모든_스트림을_정리_스크립트_한_번으로_정리한다() {
         cleanerService.cleanExpiredMessagesFromAllStreams();
 
-        verify(streamOperations).delete(eq(key), eq(expired.recordId));
-        verify(streamOperations, never()).delete(eq(key), eq(valid.recordId));
+        assertThat(commands).hasSize(retainedStreams().length);
+        assertThat(commands).allSatisfy(command -> {
+            assertThat(command.get(0)).isEqualTo("EVAL");
+            assertThat(command.get(1)).isEqualTo(REDIS_XTRIM_EXPIRED_SCRIPT);
+            assertThat(command.get(2)).isEqualTo("1");
+        });
+        assertThat(commands).extracting(command -> command.get(3))
+                .containsExactlyInAnyOrder(retainedStreams());
     }
 
     @Test
-    void TTL이_만료되지_않은_메시지는_삭제되지_않는다() {
-        String key = RedisStreamKey.EVENT_ASSET.value();
-        LocalDateTime now = LocalDateTime.now();
-
-        mockStreamRecords(key, List.of(
-                new MessageMock(RecordId.of("not-expired-1"), now.plusMinutes(5)),
-                new MessageMock(RecordId.of("not-expired-2"), now.plusMinutes(10))
-        ));
-
+    void 보존_기간이_없는_스트림은_정리하지_않는다() {
         cleanerService.cleanExpiredMessagesFromAllStreams();
 
-        verify(streamOperations, never()).delete(eq(key), any(RecordId.class));
+        assertThat(RedisStreamKey.TEST_RETRY.ttl().isPositive()).isFalse();
+        assertThat(commands).noneMatch(command -> command.get(3).equals(RedisStreamKey.TEST_RETRY.value()));
     }
 
     @Test
-    void 빈_레디스_스트림에_대해서는_메시지_삭제가_실행되지_않는다() {
-        String key = RedisStreamKey.MENU_POSTER.value();
-        when(streamOperations.range(eq(key), any(Range.class), any(Limit.class))).thenReturn(List.of());
-
+    void TTL의_두_배_이전의_ID를_경계로_사용한다() {
+        long before = Instant.now().toEpochMilli();
         cleanerService.cleanExpiredMessagesFromAllStreams();
-
-        verify(streamOperations).range(eq(key), any(Range.class), any(Limit.class));
-        verify(streamOperations, never()).delete(eq(key), any(RecordId.class));
-    }
-
-    @Test
-    void Redis_스트림에_있는_모든_만료_메시지가_삭제되어야_한다() {
-        LocalDateTime now = LocalDateTime.now();
-
-        for (RedisStreamKey key : RedisStreamKey.values()) {
-            mockStreamRecords(key.value(), List.of(
-                    new MessageMock(RecordId.of("expired-1"), now.minusMinutes(10)),
-                    new MessageMock(RecordId.of("not-expired-1"), now.plusMinutes(10))
-            ));
-        }
-
-        cleanerService.cleanExpiredMessagesFromAllStreams();
-
-        for (RedisStreamKey key : RedisStreamKey.values()) {
-            verify(streamOperations).delete(eq(key.value()), eq(RecordId.of("expired-1")));
-        }
+        long after = Instant.now().toEpochMilli();
+
+        RedisStreamKey key = RedisStreamKey.OCR_MENU;
+        String minId = commands.stream()
+                .filter(command -> command.get(3).equals(key.value()))
+                .findFirst().orElseThrow()
+                .get(4);
+
+        assertThat(minId).endsWith("-0");
+        long boundary = Long.parseLong(minId.substring(0, minId.indexOf('-')));
+        long retention = key.ttl().toMillis() * 2;
+        assertThat(boundary).isBetween(before - retention, after - retention);
     }
 
     @Test
     void 스트림_정리_중_발생한_오류는_다른_스트림_정리에_영향을_주지_않는다() {
-        String faultyKey = RedisStreamKey.OCR_MENU.value();
-        when(streamOperations.range(eq(faultyKey), any(Range.class), any(Limit.class)))
-                .thenThrow(new RuntimeException("fail"));
+        faultyKey = RedisStreamKey.OCR_MENU.value();
 
         cleanerService.cleanExpiredMessagesFromAllStreams();
 
-        verify(streamOperations).range(eq(faultyKey), any(Range.class), any(Limit.class));
+        assertThat(commands).hasSize(retainedStreams().length - 1);
+        assertThat(commands).noneMatch(command -> command.get(3).equals(faultyKey));
     }
 
-    @Test
-    void 잘못된_메시지_형식은_삭제되지_않는다() {
-        String key = RedisStreamKey.OCR_MENU.value();
-        RecordId recordId = RecordId.of("bad-1");
-
-        // expireAt에 잘못된 문자열을 갖는 메시지를 넣어 테스트
-        Map<String, Object> body = Map.of(EXPIRE_AT, "invalid");
-        mockRawStreamRecord(key, recordId, body);
-
-        cleanerService.cleanExpiredMessagesFromAllStreams();
-
-        verify(streamOperations, never()).delete(eq(key), any(RecordId.class));
+    private static String[] retainedStreams() {
+        return Arrays.stream(RedisStreamKey.values())
+                .filter(key -> key.ttl().isPositive())
+                .map(RedisStreamKey::value)
+                .toArray(String[]::new);
     }
-
-    @Test
-    void expireAt_필드가_없으면_메시지는_삭제되지_않는다() {
-        String key = RedisStreamKey.OCR_MENU.value();
-        RecordId recordId = RecordId.of("no-expire-field");
-
-        // expireAt 필드 없이 메시지 생성
-        Map<String, Object> body = Map.of("otherField", "value");
-        mockRawStreamRecord(key, recordId, body);
-
-        cleanerService.cleanExpiredMessagesFromAllStreams();
-
-        verify(streamOperations, never()).delete(eq(key), any(RecordId.class));
-    }
-
-    /**
-     * key에 대한 Redis Stream 메시지를 목 처리.
-     */
-    private void mockStreamRecords(String key, List<MessageMock> messages) {
-        List<MapRecord<String, Object, Object>> records = messages.stream()
-                .map(msg -> {
-                    Map<String, Object> body = Map.of(EXPIRE_AT, msg.time.toString());
-                    @SuppressWarnings("unchecked")
-                    MapRecord<String, Object, Object> record = (MapRecord<String, Object, Object>)
-                            (MapRecord<?, ?, ?>) MapRecord.create(key, body).withId(msg.recordId);
-                    return record;
-                })
-                .collect(Collectors.toList());
-
-        when(streamOperations.range(eq(key), any(Range.class), any(Limit.class))).thenReturn(records);
-    }
-
-    /**
-     * 만료 시간 필드가 잘못된 형식인 경우 mock.
-     */
-    private void mockRawStreamRecord(String key, RecordId id, Map<String, Object> body) {
-        @SuppressWarnings("unchecked")
-        MapRecord<String, Object, Object> record = (MapRecord<String, Object, Object>)
-                (MapRecord<?, ?, ?>) MapRecord.create(key, body).withId(id);
-
-        when(streamOperations.range(eq(key), any(Range.class), any(Limit.class)))
-                .thenReturn(List.of(record));
-    }
-
-    private record MessageMock(RecordId recordId, LocalDateTime time) {}
 }
@@ -0,0 +1,170 @@
+package com.a609.eatda.global.redis.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.global.redis.consumer.RedisStreamConsumerContainer;
+import com.global.redis.consumer.RedisStreamMessageHandler;
+import com.global.redis.consumer.RedisStreamSubscription;
+import com.global.redis.constants.RedisStreamKey;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStreamConsumerContainerTest {
+
+    private static final RedisStreamKey STREAM = RedisStreamKey.REVIEW_ASSET;
+    private static final String GROUP = "backend";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private RedisStreamConsumerContainer container;
+    private List<Long> requestedCounts;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        container = new RedisStreamConsumerContainer(redisTemplate);
+        requestedCounts = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        container.stop();
+    }
+
+    @Test
+    void 처리에_성공한_메시지는_ACK한다() {
+        String id = freshId(0);
+        stubReads(List.of(record(id)));
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        start((recordId, fields) -> handled.add(recordId.getValue() + ":" + fields.get("reviewAssetId")), 8);
+
+        verify(streamOperations, timeout(2_000)).acknowledge(STREAM.value(), GROUP, id);
+        assertThat(handled).containsExactly(id + ":1");
+    }
+
+    @Test
+    void 처리에_실패한_메시지는_ACK하지_않는다() throws Exception {
+        stubReads(List.of(record(freshId(0))));
+        CountDownLatch failed = new CountDownLatch(1);
+
+        start((id, fields) -> {
+            failed.countDown();
+            throw new IllegalStateException("fail");
+        }, 8);
+
+        assertThat(failed.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(String[].class));
+    }
+
+    @Test
+    void 동시_처리_한도만큼만_읽는다() throws Exception {
+        stubReads(List.of(record(freshId(0)), record(freshId(1))));
+        CountDownLatch release = new CountDownLatch(1);
+
+        start((id, fields) -> release.await(), 2);
+
+        Thread.sleep(300);
+        verify(streamOperations, times(1))
+                .read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class));
+        assertThat(requestedCounts).containsExactly(2L);
+
+        release.countDown();
+        verify(streamOperations, timeout(2_000)).acknowledge(eq(STREAM.value()), eq(GROUP), any(String[].class));
+    }
+
+    @Test
+    void 중지_후_다시_시작하면_메시지를_처리한다() {
+        String first = freshId(0);
+        String second = freshId(1);
+        List<MapRecord<String, Object, Object>> reads = new CopyOnWriteArrayList<>(List.of(record(first)));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenAnswer(invocation -> {
+                    if (!reads.isEmpty()) {
+                        return List.of(reads.remove(0));
+                    }
+                    Thread.sleep(50);
+                    return List.of();
+                });
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        start((recordId, fields) -> handled.add(recordId.getValue()), 8);
+        verify(streamOperations, timeout(2_000)).acknowledge(STREAM.value(), GROUP, first);
+        container.stop();
+
+        reads.add(record(second));
+        container.start();
+
+        verify(streamOperations, timeout(2_000)).acknowledge(STREAM.value(), GROUP, second);
+        assertThat(handled).containsExactly(first, second);
+    }
+
+    private void start(final RedisStreamMessageHandler handler, final int concurrency) {
+        container.register(RedisStreamSubscription.of(STREAM, GROUP, handler).withConcurrency(concurrency));
+        container.start();
+    }
+
+    /**
+     * 지금 추가된 메시지의 ID
+     */
+    private static String freshId(final int sequence) {
+        return System.currentTimeMillis() + "-" + sequence;
+    }
+
+    /**
+     * 첫 읽기에 주어진 메시지를 돌려주고, 이후에는 블로킹 읽기처럼 잠시 기다렸다가 빈 결과를 돌려준다.
+     */
+    private void stubReads(final List<MapRecord<String, Object, Object>> first) {
+        AtomicBoolean delivered = new AtomicBoolean();
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenAnswer(invocation -> {
+                    requestedCounts.add(invocation.<StreamReadOptions>getArgument(1).getCount());
+                    if (delivered.compareAndSet(false, true)) {
+                        return first;
+                    }
+                    Thread.sleep(50);
+                    return List.of();
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapRecord<String, Object, Object> record(final String id) {
+        return (MapRecord<String, Object, Object>) (MapRecord<?, ?, ?>) StreamRecords
+                .newRecord()
+                .in(STREAM.value())
+                .withId(RecordId.of(id))
+                .ofMap(Map.of("reviewAssetId", "1"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.a609.eatda.global.redis.handler;
 
 import static com.global.redis.constants.RetryFailReason.TIMEOUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -16,6 +17,7 @@ import java.time.Duration;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class RedisStreamRetryHandlerTest {
 
@@ -32,13 +34,19 @@ class RedisStreamRetryHandlerTest {
     }
 
     @Test
-    void 재시도_조건을_만족하면_retryPublisher가_호출된다() {
+    void 재시도_조건을_만족하면_retryPublisher_지연_큐에_예약된다() {
         DummyMessage originalMessage = new DummyMessage(2, Instant.now(), TIMEOUT);
+        ArgumentCaptor<DummyMessage> captor = ArgumentCaptor.forClass(DummyMessage.class);
 
         handler.handleRetry(originalMessage);
 
-        verify(retryPublisher, times(1)).publish(eq(RedisStreamKey.TEST_RETRY), any(DummyMessage.class));
+        verify(retryPublisher, times(1)).publishAt(eq(RedisStreamKey.TEST_RETRY), captor.capture(), any(Instant.class));
+        verify(retryPublisher, never()).publish(any(), any());
         verify(dlqPublisher, never()).publish(any(), any());
+
+        // 예약 시각은 메시지의 nextRetryAt 과 같다.
+        verify(retryPublisher).publishAt(any(), any(), eq(captor.getValue().getNextRetryAt()));
+        assertEquals(3, captor.getValue().getRetryCount());
     }
 
     @Test
@@ -47,6 +55,7 @@ class RedisStreamRetryHandlerTest {
         handler.handleRetry(message);
         verify(dlqPublisher, times(1)).publish(eq(RedisStreamKey.TEST_DLQ), eq(message));
         verify(retryPublisher, never()).publish(any(), any());
+        verify(retryPublisher, never()).publishAt(any(), any(), any());
     }
 
     @Test
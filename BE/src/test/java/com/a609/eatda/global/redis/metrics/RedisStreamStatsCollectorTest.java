@@ -0,0 +1,126 @@
+package com.a609.eatda.global.redis.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.metrics.RedisStreamStats;
+import com.global.redis.metrics.RedisStreamStatsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisStreamStatsCollectorTest {
+
+    private static final RedisStreamKey STREAM = RedisStreamKey.REVIEW_ASSET;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisStreamStatsCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        collector = new RedisStreamStatsCollector(redisTemplate, meterRegistry);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        when(connection.execute(eq("XLEN"), any(byte[].class))).thenReturn(0L);
+    }
+
+    @Test
+    void 스트림_길이와_group별_lag_pending을_게이지로_노출한다() {
+        when(connection.execute(eq("XLEN"), argThat(key -> isStream(key)))).thenReturn(120L);
+        when(connection.execute(eq("XINFO"), any(byte[].class), argThat(key -> isStream(key))))
+                .thenReturn(List.of(group("ai", 7L, 3L)));
+
+        collector.collect();
+
+        assertThat(gauge("redis.stream.length", null)).isEqualTo(120.0);
+        assertThat(gauge("redis.stream.group.lag", "ai")).isEqualTo(7.0);
+        assertThat(gauge("redis.stream.group.pending", "ai")).isEqualTo(3.0);
+        assertThat(collector.latest(STREAM).backlog()).isEqualTo(10L);
+    }
+
+    @Test
+    void lag를_알_수_없으면_스트림_길이를_적체_상한으로_쓴다() {
+        when(connection.execute(eq("XLEN"), argThat(key -> isStream(key)))).thenReturn(50L);
+        when(connection.execute(eq("XINFO"), any(byte[].class), argThat(key -> isStream(key))))
+                .thenReturn(List.of(group("ai", null, 4L)));
+
+        collector.collect();
+
+        assertThat(collector.latest(STREAM).backlog()).isEqualTo(54L);
+    }
+
+    @Test
+    void 측정_결과를_리스너에_전달한다() {
+        when(connection.execute(eq("XLEN"), argThat(key -> isStream(key)))).thenReturn(2L);
+        when(connection.execute(eq("XINFO"), any(byte[].class), argThat(key -> isStream(key))))
+                .thenReturn(List.of());
+        List<RedisStreamStats> received = new ArrayList<>();
+        collector.addListener((streamKey, stats) -> {
+            if (streamKey == STREAM) {
+                received.add(stats);
+            }
+        });
+
+        collector.collect();
+
+        assertThat(received).containsExactly(new RedisStreamStats(2L, List.of()));
+    }
+
+    @Test
+    void 측정에_실패하면_이전_값을_유지한다() {
+        when(connection.execute(eq("XLEN"), argThat(key -> isStream(key)))).thenReturn(9L);
+        when(connection.execute(eq("XINFO"), any(byte[].class), argThat(key -> isStream(key))))
+                .thenReturn(List.of());
+        collector.collect();
+
+        when(connection.execute(eq("XLEN"), argThat(key -> isStream(key))))
+                .thenThrow(new RuntimeException("redis down"));
+        collector.collect();
+
+        assertThat(gauge("redis.stream.length", null)).isEqualTo(9.0);
+        assertThat(collector.latest(STREAM).length()).isEqualTo(9L);
+    }
+
+    private double gauge(final String name, final String group) {
+        var search = meterRegistry.get(name).tag("stream", STREAM.value());
+        return (group == null ? search : search.tag("group", group)).gauge().value();
+    }
+
+    private static boolean isStream(final byte[] key) {
+        return key != null && Arrays.equals(key, STREAM.value().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Object> group(final String name, final Long lag, final long pending) {
+        List<Object> info = new ArrayList<>(List.of(
+                "name".getBytes(StandardCharsets.UTF_8), name.getBytes(StandardCharsets.UTF_8),
+                "pending".getBytes(StandardCharsets.UTF_8), pending,
+                "lag".getBytes(StandardCharsets.UTF_8)));
+        info.add(lag);
+        return info;
+    }
+}
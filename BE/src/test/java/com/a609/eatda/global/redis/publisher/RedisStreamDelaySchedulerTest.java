@@ -0,0 +1,70 @@
+package com.a609.eatda.global.redis.publisher;
+
+import static com.global.redis.constants.RedisConstants.STREAM_DELAY_MOVE_BATCH_SIZE;
+import static com.global.redis.constants.RedisConstants.STREAM_DELAY_MOVE_MAX_ROUNDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.global.redis.constants.RedisStreamKey;
+import com.global.redis.publisher.RedisStreamDelayQueue;
+import com.global.redis.publisher.RedisStreamDelayScheduler;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisStreamDelaySchedulerTest {
+
+    @Mock
+    private RedisStreamDelayQueue delayQueue;
+
+    private RedisStreamDelayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RedisStreamDelayScheduler(delayQueue);
+        when(delayQueue.moveDue(any(), any(Instant.class), anyInt())).thenReturn(0L);
+    }
+
+    @Test
+    void 만기_메시지가_묶음_크기보다_적으면_한_번만_옮긴다() {
+        when(delayQueue.moveDue(eq(RedisStreamKey.REVIEW_ASSET), any(Instant.class), anyInt())).thenReturn(3L);
+
+        scheduler.moveDueMessages();
+
+        verify(delayQueue, times(1))
+                .moveDue(eq(RedisStreamKey.REVIEW_ASSET), any(Instant.class), eq(STREAM_DELAY_MOVE_BATCH_SIZE));
+    }
+
+    @Test
+    void 묶음이_가득_차면_주기당_최대_횟수까지만_옮긴다() {
+        when(delayQueue.moveDue(eq(RedisStreamKey.REVIEW_ASSET), any(Instant.class), anyInt()))
+                .thenReturn((long) STREAM_DELAY_MOVE_BATCH_SIZE);
+
+        scheduler.moveDueMessages();
+
+        verify(delayQueue, times(STREAM_DELAY_MOVE_MAX_ROUNDS))
+                .moveDue(eq(RedisStreamKey.REVIEW_ASSET), any(Instant.class), eq(STREAM_DELAY_MOVE_BATCH_SIZE));
+    }
+
+    @Test
+    void 한_스트림_이동이_실패해도_다른_스트림은_옮긴다() {
+        when(delayQueue.moveDue(eq(RedisStreamKey.REVIEW_ASSET), any(Instant.class), anyInt()))
+                .thenThrow(new RuntimeException("redis down"));
+
+        scheduler.moveDueMessages();
+
+        verify(delayQueue).moveDue(eq(RedisStreamKey.MENU_POSTER), any(Instant.class), anyInt());
+        verify(delayQueue).moveDue(eq(RedisStreamKey.EVENT_ASSET), any(Instant.class), anyInt());
+    }
+}
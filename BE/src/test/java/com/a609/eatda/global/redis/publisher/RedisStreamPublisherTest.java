@@ -1,20 +1,34 @@
 package com.a609.eatda.global.redis.publisher;
 
+import static com.global.redis.constants.RedisStreamKey.EVENT_ASSET;
 import static com.global.redis.constants.RedisStreamKey.MENU_POSTER;
 import static com.global.redis.constants.RedisStreamKey.REVIEW_ASSET;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.global.redis.constants.RedisStreamKey;
 import com.global.redis.constants.RetryFailReason;
 import com.global.redis.dto.RedisRetryableMessage;
+import com.global.redis.publisher.RedisStreamDelayQueue;
+import com.global.redis.publisher.RedisStreamFieldPublisher;
 import com.global.redis.publisher.RedisStreamPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,28 +50,20 @@ class RedisStreamPublisherTest {
     @Mock
     RedisTemplate<String, Object> redisTemplate;
 
-    @Mock
-    ObjectMapper objectMapper;
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
+    RedisStreamFieldPublisher fieldPublisher;
     DummyPublisher publisher;
 
     static Stream<Arguments> exceptionScenarios() {
         return Stream.of(
-                Arguments.of("payload 직렬화 실패", (Consumer<RedisStreamPublisherTest>) test -> {
-                    when(test.objectMapper.convertValue(any(), any(TypeReference.class)))
-                            .thenThrow(new IllegalArgumentException("fail"));
-                }, RuntimeException.class),
-
                 Arguments.of("Redis 연결 실패", (Consumer<RedisStreamPublisherTest>) test -> {
-                    when(test.objectMapper.convertValue(any(), any(TypeReference.class)))
-                            .thenReturn(Map.of("name", "value"));
                     when(test.redisTemplate.execute(any(RedisCallback.class)))
                             .thenThrow(new RedisConnectionFailureException("fail"));
                 }, RuntimeException.class),
 
                 Arguments.of("Lua 스크립트 실행 실패", (Consumer<RedisStreamPublisherTest>) test -> {
-                    when(test.objectMapper.convertValue(any(), any(TypeReference.class)))
-                            .thenReturn(Map.of("name", "value"));
                     when(test.redisTemplate.execute(any(RedisCallback.class)))
                             .thenThrow(new RuntimeException("Lua script failed"));
                 }, RuntimeException.class)
@@ -66,26 +72,44 @@ class RedisStreamPublisherTest {
 
     @BeforeEach
     void setUp() {
-        publisher = new DummyPublisher(redisTemplate, objectMapper);
+        fieldPublisher = new RedisStreamFieldPublisher(redisTemplate, new SimpleMeterRegistry());
+        publisher = new DummyPublisher(fieldPublisher, new RedisStreamDelayQueue(redisTemplate), objectMapper);
     }
 
     @Test
     void 직렬화_실패시_RuntimeException_발생한다() {
-        DummyPayload payload = new DummyPayload("bad", 0);
-
-        when(objectMapper.convertValue(any(), any(TypeReference.class)))
-                .thenThrow(new IllegalArgumentException("fail"));
+        DummyPayload payload = new DummyPayload(DummyPayload.BROKEN, 0);
 
         assertThrows(RuntimeException.class,
                 () -> publisher.publishToStreamWithMaxLenPublic(REVIEW_ASSET, payload));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void 필드를_Jackson_규칙대로_직렬화한다() {
+        Instant requestedAt = Instant.parse("2025-09-01T12:00:00Z");
+        SchemaPayload payload = new SchemaPayload(7L, RetryFailReason.TIMEOUT, List.of("a.webp", "b.webp"),
+                List.of(new SchemaPayload.Item(1L, "떡볶이")), requestedAt, null);
+
+        SchemaPublisher schemaPublisher =
+                new SchemaPublisher(fieldPublisher, new RedisStreamDelayQueue(redisTemplate), objectMapper);
+        Map<String, String> fields = schemaPublisher.toStreamFields(REVIEW_ASSET, payload);
+
+        assertThat(fields)
+                .containsEntry("id", "7")
+                .containsEntry("reason", "TIMEOUT")
+                .containsEntry("referenceImages", "[\"a.webp\",\"b.webp\"]")
+                .containsEntry("menu", "[{\"id\":1,\"name\":\"떡볶이\"}]")
+                .containsEntry("requestedAt", "2025-09-01T12:00:00Z")
+                .doesNotContainKey("note");
+        assertThat(List.copyOf(fields.keySet()))
+                .containsExactly("id", "reason", "referenceImages", "menu", "requestedAt");
     }
 
     @Test
     void Redis_스크립트가_정상_호출된다() {
         DummyPayload payload = new DummyPayload("name", 42);
 
-        when(objectMapper.convertValue(any(), any(TypeReference.class)))
-                .thenAnswer(invocation -> Map.of("name", "name", "value", 42));
         when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
             RedisCallback<?> callback = invocation.getArgument(0);
             RedisConnection connection = mock(RedisConnection.class);
@@ -100,6 +124,27 @@ class RedisStreamPublisherTest {
         publisher.publishToStreamWithMaxLenPublic(MENU_POSTER, payload);
     }
 
+    @Test
+    void 발행_결과와_메시지_크기를_스트림별_메트릭으로_기록한다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        fieldPublisher = new RedisStreamFieldPublisher(redisTemplate, registry);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenReturn("1-0")
+                .thenThrow(new RedisConnectionFailureException("fail"));
+
+        fieldPublisher.publish(REVIEW_ASSET, Map.of("id", "7"));
+        assertThrows(RuntimeException.class, () -> fieldPublisher.publish(REVIEW_ASSET, Map.of("id", "8")));
+
+        assertThat(registry.get("redis.stream.published").tags("stream", REVIEW_ASSET.value(), "outcome", "success")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("redis.stream.published").tags("stream", REVIEW_ASSET.value(), "outcome", "failure")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("redis.stream.publish.latency").tags("stream", REVIEW_ASSET.value(), "outcome", "success")
+                .timer().count()).isEqualTo(1L);
+        assertThat(registry.get("redis.stream.payload.size").tag("stream", REVIEW_ASSET.value())
+                .summary().totalAmount()).isEqualTo(6.0);  // "id" + "7", "id" + "8"
+    }
+
     @ParameterizedTest(name = "{index}: {0}")
     @MethodSource("exceptionScenarios")
     void publishToStreamWithMaxLen_예외_상황_테스트(String name,
@@ -110,6 +155,7 @@ class RedisStreamPublisherTest {
         RedisStreamKey key = mock(RedisStreamKey.class);
         when(key.value()).thenReturn("stream.key");
         when(key.maxLen()).thenReturn(1000L);
+        when(key.ttl()).thenReturn(Duration.ofMinutes(5));
 
         assertThrows(expectedException, () -> publisher.publishToStreamWithMaxLenPublic(key, payload));
     }
@@ -118,23 +164,84 @@ class RedisStreamPublisherTest {
     void payload_field_직렬화_실패시_RuntimeException_발생한다() {
         DummyPayload payload = new DummyPayload("name", 42);
 
-        when(objectMapper.convertValue(any(), any(TypeReference.class)))
-                .thenReturn(Map.of("name", new Object() {
-                    @Override
-                    public String toString() {
-                        return "\uDC00"; // 직렬화 실패 유도
-                    }
-                }));
-
         RedisStreamKey validKey = mock(RedisStreamKey.class);
 
         assertThrows(RuntimeException.class,
                 () -> publisher.publishToStreamWithMaxLenPublic(validKey, payload));
     }
 
+    @Test
+    void publishAll은_하나의_파이프라인으로_발행한다() {
+        RedisConnection connection = stubConnection();
+
+        publisher.publishAll(MENU_POSTER, List.of(new DummyPayload("a", 1), new DummyPayload("b", 2),
+                new DummyPayload("c", 3)));
+
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+        verify(connection).openPipeline();
+        verify(connection).closePipeline();
+    }
+
+    @Test
+    void publishAsync는_짧은_시간의_요청을_묶어서_발행한다() {
+        RedisConnection connection = stubConnection();
+
+        CompletableFuture<?>[] futures = IntStream.range(0, 5)
+                .mapToObj(i -> publisher.publishAsync(REVIEW_ASSET, new DummyPayload("name", i)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).orTimeout(5, TimeUnit.SECONDS).join();
+
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+        verify(connection).openPipeline();
+    }
+
+    @Test
+    void publishAsync_발행_실패는_future로_전달된다() {
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("fail"));
+
+        CompletableFuture<Void> future = publisher.publishAsync(EVENT_ASSET, new DummyPayload("name", 42));
+
+        assertThrows(CompletionException.class, () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    void close는_대기_중인_묶음을_발행하고_이후_요청은_바로_발행한다() {
+        stubConnection();
+
+        CompletableFuture<Void> pending = publisher.publishAsync(REVIEW_ASSET, new DummyPayload("name", 1));
+        fieldPublisher.close();
+
+        assertThat(pending).isCompleted();
+        CompletableFuture<Void> afterClose = publisher.publishAsync(REVIEW_ASSET, new DummyPayload("name", 2));
+        assertThat(afterClose).isCompleted();
+        verify(redisTemplate, times(2)).execute(any(RedisCallback.class));
+    }
+
+    private RedisConnection stubConnection() {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        return connection;
+    }
+
     // ====== 테스트용 payload & publisher ======
 
     record DummyPayload(String name, int value) implements RedisRetryableMessage {
+
+        static final String BROKEN = "broken";
+
+        @Override
+        public String name() {
+            if (BROKEN.equals(name)) {
+                throw new IllegalStateException("직렬화 실패 유도");
+            }
+            return name;
+        }
+
         @Override
         public Instant getExpireAt() {
             return Instant.now().plusSeconds(300);
@@ -156,9 +263,49 @@ class RedisStreamPublisherTest {
         }
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record SchemaPayload(Long id, RetryFailReason reason, List<String> referenceImages, List<Item> menu,
+                         Instant requestedAt, String note) implements RedisRetryableMessage {
+
+        record Item(Long id, String name) {
+        }
+
+        @Override
+        @JsonIgnore
+        public Instant getExpireAt() {
+            return null;
+        }
+
+        @Override
+        @JsonIgnore
+        public int getRetryCount() {
+            return 0;
+        }
+
+        @Override
+        @JsonIgnore
+        public Instant getNextRetryAt() {
+            return null;
+        }
+
+        @Override
+        @JsonIgnore
+        public RetryFailReason getRetryFailReason() {
+            return null;
+        }
+    }
+
+    static class SchemaPublisher extends RedisStreamPublisher<SchemaPayload> {
+        SchemaPublisher(RedisStreamFieldPublisher fieldPublisher, RedisStreamDelayQueue delayQueue,
+                        ObjectMapper objectMapper) {
+            super(fieldPublisher, delayQueue, objectMapper);
+        }
+    }
+
     static class DummyPublisher extends RedisStreamPublisher<DummyPayload> {
-        DummyPublisher(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
-            super(redisTemplate, objectMapper);
+        DummyPublisher(RedisStreamFieldPublisher fieldPublisher, RedisStreamDelayQueue delayQueue,
+                       ObjectMapper objectMapper) {
+            super(fieldPublisher, delayQueue, objectMapper);
         }
 
         /**
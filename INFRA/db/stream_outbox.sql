@@ -0,0 +1,23 @@
+-- Redis Stream 발행 대기 메시지 (트랜잭션 아웃박스) - com.global.outbox.StreamOutbox
+--
+-- prod 는 ddl-auto: validate 라 테이블을 만들지 않는다. 배포 전에 prod DB 에 먼저 적용한다.
+-- 컬럼 타입은 Hibernate(MySQLDialect)가 엔티티에서 생성하는 DDL 과 같게 맞춘다.
+-- stream_key 는 RedisStreamKey 이름을 저장하므로, 상수를 추가하면 enum 목록도 ALTER 해야 한다.
+CREATE TABLE IF NOT EXISTS stream_outbox
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    stream_key    ENUM ('REVIEW_ASSET','MENU_POSTER','EVENT_ASSET','OCR_VERIFICATION','OCR_MENU','TEST_RETRY','TEST_DLQ') NOT NULL,
+    payload       TEXT         NOT NULL,
+    attempts      INTEGER      NOT NULL,
+    last_error    VARCHAR(500),
+    claim_token   VARCHAR(36),
+    claimed_until DATETIME(6)  NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 재발행 스케줄러의 점유 대상 조회 (claimed_until < now)
+CREATE INDEX idx_stream_outbox_claimed_until ON stream_outbox (claimed_until);
+
+-- 점유한 행 조회/삭제/해제 (claim_token = :token)
+CREATE INDEX idx_stream_outbox_claim_token ON stream_outbox (claim_token);
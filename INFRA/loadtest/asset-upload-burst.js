@@ -0,0 +1,127 @@
+// 에셋 생성 요청 버스트 부하 테스트 (k6)
+//
+// 이미지 여러 장을 포함한 리뷰 에셋 생성 요청을 짧은 구간에 몰아서 보내고,
+// 같은 구간의 Hikari 커넥션 점유를 /actuator/prometheus 에서 1초마다 직접 수집한다.
+// 실행이 끝나면 요청 지연/실패율과 커넥션 점유 최대·p95 를 SUMMARY_OUT(JSON)에 기록한다.
+// 아웃박스 적용 전후 커밋에서 같은 조건으로 실행해 두 결과 파일을 비교한다.
+//
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<eater access token> \
+//              -e STORE_ID=1 -e MENU_IDS=1,2 -e IMAGE=./sample.jpg \
+//              -e SUMMARY_OUT=./result-outbox.json asset-upload-burst.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const IMAGE_COUNT = Number(__ENV.IMAGE_COUNT || 5);
+const HIKARI_POOL = __ENV.HIKARI_POOL || 'HikariPool-1';
+const SUMMARY_OUT = __ENV.SUMMARY_OUT || './asset-upload-burst-summary.json';
+const image = open(__ENV.IMAGE || './sample.jpg', 'b');
+
+const hikariActive = new Trend('hikari_connections_active');
+const hikariPending = new Trend('hikari_connections_pending');
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-arrival-rate',
+            exec: 'requestAsset',
+            startRate: 1,
+            timeUnit: '1s',
+            preAllocatedVUs: 50,
+            stages: [
+                { target: 20, duration: '10s' },
+                { target: 20, duration: '40s' },
+                { target: 0, duration: '10s' },
+            ],
+        },
+        hikari: {
+            executor: 'constant-arrival-rate',
+            exec: 'sampleHikari',
+            rate: 1,
+            timeUnit: '1s',
+            duration: '60s',
+            preAllocatedVUs: 1,
+        },
+    },
+    thresholds: {
+        'http_reqs{scenario:burst}': ['count>0'],
+        'http_req_failed{scenario:burst}': ['rate<0.01'],
+        'http_req_duration{scenario:burst}': ['p(95)<2000'],
+        // 커넥션 대기가 생기면 요청 스레드가 풀을 기다리고 있다는 뜻이다.
+        hikari_connections_pending: ['max<1'],
+    },
+    summaryTrendStats: ['avg', 'p(95)', 'max'],
+};
+
+export function requestAsset() {
+    const body = {
+        storeId: __ENV.STORE_ID || '1',
+        type: 'IMAGE',
+        prompt: '부하 테스트',
+    };
+    (__ENV.MENU_IDS || '1').split(',').forEach((id, i) => {
+        body[`menuIds[${i}]`] = id;
+    });
+    for (let i = 0; i < IMAGE_COUNT; i++) {
+        body[`image[${i}]`] = http.file(image, `load-${i}.jpg`, 'image/jpeg');
+    }
+
+    const res = http.post(`${BASE_URL}/api/reviews/assets`, body, {
+        headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+    });
+    check(res, { 'requested': (r) => r.status === 200 });
+}
+
+export function sampleHikari() {
+    const res = http.get(`${BASE_URL}/actuator/prometheus`, { tags: { name: 'prometheus' } });
+    if (res.status !== 200) {
+        return;
+    }
+    const active = readGauge(res.body, 'hikaricp_connections_active');
+    const pending = readGauge(res.body, 'hikaricp_connections_pending');
+    if (active !== null) {
+        hikariActive.add(active);
+    }
+    if (pending !== null) {
+        hikariPending.add(pending);
+    }
+}
+
+// Prometheus 텍스트 포맷에서 대상 풀의 게이지 값을 읽는다.
+function readGauge(body, name) {
+    const line = body.split('\n').find((l) => l.startsWith(`${name}{`) && l.includes(`pool="${HIKARI_POOL}"`));
+    if (!line) {
+        return null;
+    }
+    const value = Number(line.substring(line.lastIndexOf(' ') + 1));
+    return Number.isNaN(value) ? null : value;
+}
+
+function trendValues(data, name) {
+    const metric = data.metrics[name];
+    return metric ? metric.values : null;
+}
+
+export function handleSummary(data) {
+    // 시나리오별 서브 메트릭은 threshold 를 건 경우에만 요약에 포함된다.
+    const reqs = data.metrics['http_reqs{scenario:burst}'];
+    const failed = data.metrics['http_req_failed{scenario:burst}'];
+    const summary = {
+        baseUrl: BASE_URL,
+        imageCount: IMAGE_COUNT,
+        requests: reqs ? reqs.values.count : 0,
+        httpReqDuration: trendValues(data, 'http_req_duration{scenario:burst}'),
+        httpReqFailedRate: failed ? failed.values.rate : null,
+        hikariActive: trendValues(data, 'hikari_connections_active'),
+        hikariPending: trendValues(data, 'hikari_connections_pending'),
+        thresholdsPassed: Object.values(data.metrics)
+            .every((metric) => !metric.thresholds
+                || Object.values(metric.thresholds).every((threshold) => threshold.ok)),
+    };
+
+    return {
+        [SUMMARY_OUT]: JSON.stringify(summary, null, 2),
+        stdout: `${JSON.stringify(summary, null, 2)}\n`,
+    };
+}